@@ -0,0 +1,35 @@
+CREATE TABLE jamendo_import_jobs
+(
+    jamendo_import_job_id BIGINT       NOT NULL AUTO_INCREMENT COMMENT 'Jamendo 적재 작업 고유 식별자',
+    job_type              VARCHAR(32)  NOT NULL COMMENT '적재 작업 종류 (INIT, DAILY, MONTHLY)',
+    status                VARCHAR(32)  NOT NULL COMMENT '적재 작업 상태',
+    start_date            DATE         NOT NULL COMMENT '수집 시작일',
+    end_date              DATE         NOT NULL COMMENT '수집 종료일',
+    max_page              INT          NOT NULL COMMENT '최대 수집 페이지 수',
+    page_count            INT          NOT NULL DEFAULT 0 COMMENT '저장한 페이지 수',
+    song_count            BIGINT       NOT NULL DEFAULT 0 COMMENT '처리한 음원 수',
+    inserted_row_count    BIGINT       NOT NULL DEFAULT 0 COMMENT '새로 저장한 아티스트, 앨범, 음원 행 수',
+    updated_row_count     BIGINT       NOT NULL DEFAULT 0 COMMENT '변경한 아티스트, 앨범, 음원 행 수',
+    skipped_row_count     BIGINT       NOT NULL DEFAULT 0 COMMENT '원본 해시가 같아 쓰기를 생략한 행 수',
+    error_message         VARCHAR(500) NULL COMMENT '실패 사유',
+    finished_at           DATETIME     NULL COMMENT '종료 시점',
+    created_at            DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시점',
+    modified_at           DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시점 (페이지 저장마다 갱신)',
+
+    PRIMARY KEY (jamendo_import_job_id)
+) CHARACTER SET utf8mb4
+  COLLATE utf8mb4_general_ci;
+
+CREATE TABLE jamendo_import_job_ranges
+(
+    jamendo_import_job_range_id BIGINT      NOT NULL AUTO_INCREMENT COMMENT '수집 기간 체크포인트 고유 식별자',
+    jamendo_import_job_id       BIGINT      NOT NULL COMMENT 'Jamendo 적재 작업 고유 식별자',
+    date_between                VARCHAR(21) NOT NULL COMMENT '수집 기간 (Jamendo datebetween)',
+    last_page                   INT         NOT NULL DEFAULT 0 COMMENT '마지막으로 커밋된 페이지',
+    completed                   TINYINT(1)  NOT NULL DEFAULT 0 COMMENT '수집 완료 여부, 0: 진행 중 / 1: 완료',
+
+    PRIMARY KEY (jamendo_import_job_range_id),
+
+    UNIQUE KEY uk_jamendo_import_job_ranges_job_id_date_between (jamendo_import_job_id, date_between)
+) CHARACTER SET utf8mb4
+  COLLATE utf8mb4_general_ci;
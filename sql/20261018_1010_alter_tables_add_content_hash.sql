@@ -0,0 +1,8 @@
+ALTER TABLE artists
+    ADD COLUMN content_hash BIGINT NULL COMMENT '마지막으로 적재한 Jamendo 원본 해시';
+
+ALTER TABLE albums
+    ADD COLUMN content_hash BIGINT NULL COMMENT '마지막으로 적재한 Jamendo 원본 해시';
+
+ALTER TABLE songs
+    ADD COLUMN content_hash BIGINT NULL COMMENT '마지막으로 적재한 Jamendo 원본 해시 (아티스트, 장르 관계 포함)';
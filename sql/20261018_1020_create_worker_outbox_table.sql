@@ -0,0 +1,20 @@
+CREATE TABLE worker_outbox
+(
+    worker_outbox_id BIGINT       NOT NULL AUTO_INCREMENT COMMENT 'Worker 요청 outbox 고유 식별자',
+    song_id          BIGINT       NOT NULL COMMENT '음원 고유 식별자',
+    job_type         VARCHAR(20)  NOT NULL COMMENT '요청 종류 (DOWNLOAD, TRANSCODE)',
+    status           VARCHAR(20)  NOT NULL COMMENT '요청 상태 (PENDING, DEAD)',
+    attempt_count    INT          NOT NULL DEFAULT 0 COMMENT '전송 실패 횟수',
+    next_attempt_at  DATETIME     NOT NULL COMMENT '다음 전송 시점 (전송 중이면 임대 만료 시점)',
+    claim_token      VARCHAR(36)  NULL COMMENT '전송 중인 묶음 식별자',
+    last_error       VARCHAR(500) NULL COMMENT '마지막 전송 실패 사유',
+    created_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시점',
+    modified_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시점',
+
+    PRIMARY KEY (worker_outbox_id),
+
+    UNIQUE KEY uk_worker_outbox_song_id_job_type (song_id, job_type),
+
+    KEY idx_worker_outbox_status_next_attempt_at (status, next_attempt_at)
+) CHARACTER SET utf8mb4
+  COLLATE utf8mb4_general_ci;
@@ -0,0 +1 @@
+CREATE INDEX idx_worker_outbox_claim_token ON worker_outbox (claim_token);
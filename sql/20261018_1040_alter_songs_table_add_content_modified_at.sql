@@ -0,0 +1,8 @@
+ALTER TABLE songs
+    ADD COLUMN content_modified_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '내용 수정 시점 (좋아요 수, 재생 수 변경 제외, 추천, 검색 인덱스 변경분 갱신 기준)';
+
+UPDATE songs
+SET content_modified_at = modified_at,
+    modified_at         = modified_at;
+
+CREATE INDEX idx_songs_content_modified_at ON songs (content_modified_at);
@@ -0,0 +1,16 @@
+ALTER TABLE artists
+    ADD COLUMN content_modified_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '내용 수정 시점 (좋아요 수 변경 제외, 검색 인덱스 변경분 갱신 기준)';
+
+ALTER TABLE albums
+    ADD COLUMN content_modified_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '내용 수정 시점 (좋아요 수 변경 제외, 검색 인덱스 변경분 갱신 기준)';
+
+UPDATE artists
+SET content_modified_at = modified_at,
+    modified_at         = modified_at;
+
+UPDATE albums
+SET content_modified_at = modified_at,
+    modified_at         = modified_at;
+
+CREATE INDEX idx_artists_content_modified_at ON artists (content_modified_at);
+CREATE INDEX idx_albums_content_modified_at ON albums (content_modified_at);
@@ -0,0 +1,11 @@
+CREATE TABLE jamendo_import_job_lock
+(
+    lock_id   BIGINT   NOT NULL COMMENT '잠금 행 식별자 (1 한 행만 사용)',
+    locked_at DATETIME NOT NULL COMMENT '마지막 작업 시작, 재개 시점',
+
+    PRIMARY KEY (lock_id)
+) CHARACTER SET utf8mb4
+  COLLATE utf8mb4_general_ci;
+
+INSERT INTO jamendo_import_job_lock (lock_id, locked_at)
+VALUES (1, NOW());
@@ -0,0 +1,57 @@
+package com.example.peachmusic.benchmark;
+
+import com.example.peachmusic.domain.song.dto.SongFeatureDto;
+import com.example.peachmusic.domain.song.recommend.CosineSimilarity;
+import com.example.peachmusic.domain.song.recommend.FeatureVectorizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문자열 Map 기반 코사인 유사도 (역색인 도입 전 전체 후보 순회 방식의 기준값)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CosineSimilarityBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private List<Map<String, Double>> songVectorList;
+    private Map<String, Double> userVector;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FeatureVectorizer featureVectorizer = new FeatureVectorizer();
+        List<SongFeatureDto> catalog = SyntheticCatalog.create(catalogSize);
+
+        songVectorList = new ArrayList<>(catalogSize);
+        for (SongFeatureDto songFeatureDto : catalog) {
+            songVectorList.add(featureVectorizer.vectorizeSongMap(songFeatureDto));
+        }
+        userVector = featureVectorizer.vectorizeUserMap(catalog.subList(0, 50));
+    }
+
+    @Benchmark
+    public double computeOne() {
+        cursor = cursor + 1 == catalogSize ? 0 : cursor + 1;
+        return CosineSimilarity.compute(userVector, songVectorList.get(cursor));
+    }
+
+    // 사용자 1명 추천 시 전체 카탈로그 순회 비용
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    public double scanCatalog() {
+        double sum = 0.0;
+        for (Map<String, Double> songVector : songVectorList) {
+            sum += CosineSimilarity.compute(userVector, songVector);
+        }
+        return sum;
+    }
+}
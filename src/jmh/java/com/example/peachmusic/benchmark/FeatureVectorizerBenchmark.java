@@ -0,0 +1,48 @@
+package com.example.peachmusic.benchmark;
+
+import com.example.peachmusic.domain.song.dto.SongFeatureDto;
+import com.example.peachmusic.domain.song.recommend.FeatureVectorizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FeatureVectorizer 문자열 Map 벡터화 (인덱스 적재, 프로필 재계산 경로)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FeatureVectorizerBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int catalogSize;
+
+    // 사용자 한 명의 Seed 수
+    @Param({"50", "1000"})
+    public int seedCount;
+
+    private final FeatureVectorizer featureVectorizer = new FeatureVectorizer();
+    private List<SongFeatureDto> catalog;
+    private List<SongFeatureDto> seedList;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = SyntheticCatalog.create(catalogSize);
+        seedList = catalog.subList(catalogSize - seedCount, catalogSize);
+    }
+
+    @Benchmark
+    public Map<String, Double> vectorizeSongMap() {
+        // 같은 곡 반복으로 캐시에 머무르지 않도록 카탈로그 순회
+        cursor = cursor + 1 == catalogSize ? 0 : cursor + 1;
+        return featureVectorizer.vectorizeSongMap(catalog.get(cursor));
+    }
+
+    @Benchmark
+    public Map<String, Double> vectorizeUserMap() {
+        return featureVectorizer.vectorizeUserMap(seedList);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.peachmusic.benchmark;
+
+import com.example.peachmusic.common.model.KeysetResponse;
+import com.example.peachmusic.common.model.NextCursor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키셋 페이징 응답 생성 (목록 API 공통 경로)
+ * - KeysetResponse.of가 전달받은 목록을 수정하므로 매 호출 페이지를 복사 (복사 비용 포함)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class KeysetResponseBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int catalogSize;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private List<Long> songIdList;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        songIdList = new ArrayList<>(catalogSize);
+        for (long songId = catalogSize; songId > 0; songId--) {
+            songIdList.add(songId);
+        }
+    }
+
+    @Benchmark
+    public KeysetResponse<Long> of() {
+        // 조회 쿼리처럼 size + 1건을 담은 페이지
+        if (cursor + pageSize + 1 > catalogSize) {
+            cursor = 0;
+        }
+        List<Long> content = new ArrayList<>(songIdList.subList(cursor, cursor + pageSize + 1));
+        cursor += pageSize;
+
+        return KeysetResponse.of(content, pageSize, last -> new NextCursor(last, null));
+    }
+}
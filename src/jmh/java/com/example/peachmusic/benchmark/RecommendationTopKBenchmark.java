@@ -0,0 +1,93 @@
+package com.example.peachmusic.benchmark;
+
+import com.example.peachmusic.domain.song.dto.SongFeatureDto;
+import com.example.peachmusic.domain.song.recommend.FeatureDictionary;
+import com.example.peachmusic.domain.song.recommend.FeatureIndexSnapshot;
+import com.example.peachmusic.domain.song.recommend.FeatureVectorizer;
+import com.example.peachmusic.domain.song.recommend.InvertedIndexScorer;
+import com.example.peachmusic.domain.song.recommend.SparseFeatureVector;
+import com.example.peachmusic.domain.song.recommend.TopKSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 상위 50곡 선택 경로
+ * - findTopSongIdList: RecommendationService가 사용하는 역색인 점수 계산 + top-K 전체
+ * - topKSelector / priorityQueue: 점수 목록에서 상위 50개만 고르는 단계 (PriorityQueue는 이전 getTopSongIdList 방식)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RecommendationTopKBenchmark {
+
+    private static final int LIMIT = InvertedIndexScorer.RECOMMEND_LIMIT;
+
+    @Param({"10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private final InvertedIndexScorer invertedIndexScorer = new InvertedIndexScorer();
+    private FeatureIndexSnapshot snapshot;
+    private double[] userVector;
+    private List<Long> seedSongIdList;
+    private double[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FeatureVectorizer featureVectorizer = new FeatureVectorizer();
+        FeatureDictionary featureDictionary = new FeatureDictionary();
+        Map<Long, SparseFeatureVector> vectorMap = new HashMap<>(catalogSize * 2);
+
+        List<SongFeatureDto> catalog = SyntheticCatalog.create(catalogSize);
+        for (SongFeatureDto songFeatureDto : catalog) {
+            vectorMap.put(songFeatureDto.getSongId(), featureVectorizer.vectorizeSong(songFeatureDto, featureDictionary));
+        }
+        snapshot = FeatureIndexSnapshot.of(vectorMap, featureDictionary);
+
+        seedSongIdList = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        // 카탈로그는 음원 ID 1번부터 순서대로 생성
+        Map<String, Double> userVectorMap = featureVectorizer.vectorizeUserMap(catalog.subList(0, seedSongIdList.size()));
+        userVector = featureVectorizer.vectorizeProfile(userVectorMap, featureDictionary, snapshot.getFeatureCount());
+
+        SplittableRandom random = new SplittableRandom(7);
+        scores = new double[catalogSize];
+        for (int i = 0; i < catalogSize; i++) {
+            scores[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public List<Long> findTopSongIdList() {
+        return invertedIndexScorer.findTopSongIdList(snapshot, userVector, seedSongIdList, LIMIT);
+    }
+
+    @Benchmark
+    public int[] topKSelector() {
+        TopKSelector selector = new TopKSelector(LIMIT);
+        for (int slot = 0; slot < scores.length; slot++) {
+            selector.offer(slot, scores[slot]);
+        }
+        return selector.drainDescending();
+    }
+
+    @Benchmark
+    public List<Long> priorityQueue() {
+        PriorityQueue<double[]> heap = new PriorityQueue<>(Comparator.comparingDouble((double[] entry) -> entry[1]));
+        for (int slot = 0; slot < scores.length; slot++) {
+            heap.offer(new double[]{slot, scores[slot]});
+            if (heap.size() > LIMIT) {
+                heap.poll();
+            }
+        }
+        return heap.stream()
+                .sorted(Comparator.comparingDouble((double[] entry) -> entry[1]).reversed())
+                .map(entry -> (long) entry[0])
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.peachmusic.benchmark;
+
+import com.example.peachmusic.domain.song.dto.SongFeatureDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 가상 음원 카탈로그
+ * - 시드 고정으로 매 실행 같은 데이터 생성
+ * - 장르/태그/악기 분포는 Jamendo 적재 데이터와 비슷한 규모로 설정
+ */
+public final class SyntheticCatalog {
+
+    public static final int GENRE_COUNT = 100;
+    private static final int TAG_COUNT = 500;
+    private static final int INSTRUMENT_COUNT = 60;
+    private static final String[] SPEEDS = {"verylow", "low", "normal", "high", "veryhigh"};
+
+    private SyntheticCatalog() {
+    }
+
+    public static List<SongFeatureDto> create(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<SongFeatureDto> catalog = new ArrayList<>(size);
+
+        for (long songId = 1; songId <= size; songId++) {
+            catalog.add(new SongFeatureDto(songId, genreList(random), SPEEDS[random.nextInt(SPEEDS.length)],
+                    tokens(random, "tag", TAG_COUNT, 2 + random.nextInt(4)),
+                    tokens(random, "inst", INSTRUMENT_COUNT, 1 + random.nextInt(3))));
+        }
+        return catalog;
+    }
+
+    private static List<String> genreList(SplittableRandom random) {
+        List<String> genreList = new ArrayList<>(2);
+        genreList.add("genre" + random.nextInt(GENRE_COUNT));
+        // 약 30%는 장르 2개
+        if (random.nextInt(10) < 3) {
+            genreList.add("genre" + random.nextInt(GENRE_COUNT));
+        }
+        return genreList;
+    }
+
+    private static String tokens(SplittableRandom random, String prefix, int bound, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(prefix).append(random.nextInt(bound));
+        }
+        return builder.toString();
+    }
+}
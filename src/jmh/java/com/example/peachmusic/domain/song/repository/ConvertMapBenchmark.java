@@ -0,0 +1,50 @@
+package com.example.peachmusic.domain.song.repository;
+
+import com.example.peachmusic.benchmark.SyntheticCatalog;
+import com.example.peachmusic.domain.song.dto.SongFeatureDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QTuple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.peachmusic.domain.genre.entity.QGenre.genre;
+import static com.example.peachmusic.domain.song.entity.QSong.song;
+
+/**
+ * RecommendationRepositoryImpl.convertMap (song x genre 조인 행 -> 음원별 Feature)
+ * - 추천 인덱스 적재 시 5,000곡 단위로 호출되는 경로, 카탈로그 전체를 한 번에 변환하는 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ConvertMapBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private List<Tuple> rowList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        QTuple projection = Projections.tuple(song.songId, genre.genreName, song.speed, song.vartags, song.instruments);
+        rowList = new ArrayList<>(catalogSize * 2);
+
+        // 조인 결과처럼 장르 수만큼 행 생성
+        for (SongFeatureDto songFeatureDto : SyntheticCatalog.create(catalogSize)) {
+            for (String genreName : songFeatureDto.getGenreNameList()) {
+                rowList.add(projection.newInstance(songFeatureDto.getSongId(), genreName,
+                        songFeatureDto.getSpeed(), songFeatureDto.getVartags(), songFeatureDto.getInstruments()));
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Long, SongFeatureDto> convertMap() {
+        return RecommendationRepositoryImpl.convertMap(rowList);
+    }
+}
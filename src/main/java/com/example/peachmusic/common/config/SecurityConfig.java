@@ -46,6 +46,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/login", "/signup", "/search/**", "/charts", "/mypage", "/playlists/**", "/recommend", "/likes/**", "/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/worker/**").permitAll() // Worker 공유 토큰으로 확인
                         .requestMatchers("/admin/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/artists/**", "/albums/**", "/songs/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/songs/ranking/**").permitAll()
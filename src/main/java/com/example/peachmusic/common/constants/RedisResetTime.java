@@ -1,8 +0,0 @@
-package com.example.peachmusic.common.constants;
-
-public final class RedisResetTime {
-    private RedisResetTime() {
-    }
-
-    public static final int RESET_DATE = 7;
-}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.peachmusic.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기차트 집계 기간
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChartWindow {
+    DAY("24h", 24),
+    WEEK("7d", 24 * 7),
+    MONTH("30d", 24 * 30);
+
+    private final String key;
+    private final int hours;
+}
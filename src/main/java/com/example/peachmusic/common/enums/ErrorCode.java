@@ -23,8 +23,10 @@ public enum ErrorCode {
     JAMENDO_INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "시작 날짜는 종료 날짜보다 이전이어야 합니다."),
     MISSING_CURSOR_PARAMETER(HttpStatus.BAD_REQUEST, "정렬 기준에 필요한 커서 파라미터가 누락되었습니다."),
     UNSUPPORTED_SORT_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 방식입니다"),
+    WORKER_RESULT_STREAMING_KEY_REQUIRED(HttpStatus.BAD_REQUEST, "처리 완료 결과에는 스트리밍 키가 필요합니다."),
 
     // 401
+    WORKER_CALLBACK_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Worker 인증에 실패했습니다."),
 
     // 403
     AUTH_AUTHORIZATION_REQUIRED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
@@ -37,6 +39,7 @@ public enum ErrorCode {
     ALBUM_NOT_FOUND(HttpStatus.NOT_FOUND, "앨범을 찾을 수 없습니다."),
     SONG_NOT_FOUND(HttpStatus.NOT_FOUND, "음원을 찾을 수 없습니다."),
     PLAYLIST_NOT_FOUND(HttpStatus.NOT_FOUND, "플레이리스트가 존재하지 않습니다."),
+    JAMENDO_IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "적재 작업을 찾을 수 없습니다."),
 
     // 409
     USER_EXIST_EMAIL(HttpStatus.CONFLICT, "이미 존재하는 이메일 입니다."),
@@ -48,6 +51,9 @@ public enum ErrorCode {
     SONG_EXIST_NAME(HttpStatus.CONFLICT, "해당 앨범에 이미 동일한 제목의 음원이 존재합니다."),
     LIKE_CONFLICT(HttpStatus.CONFLICT, "요청이 많아 잠시 후 다시 시도해주세요."),
     ALREADY_IN_REQUESTED_STATE(HttpStatus.CONFLICT, "이미 요청한 상태로 설정되어 있습니다."),
+    JAMENDO_IMPORT_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "이미 진행 중인 적재 작업이 있습니다."),
+    JAMENDO_IMPORT_JOB_NOT_CANCELABLE(HttpStatus.CONFLICT, "진행 중인 적재 작업만 취소할 수 있습니다."),
+    JAMENDO_IMPORT_JOB_NOT_RESUMABLE(HttpStatus.CONFLICT, "실패하거나 취소된 적재 작업만 재개할 수 있습니다."),
 
     // 500
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
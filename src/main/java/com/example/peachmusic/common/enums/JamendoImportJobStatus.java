@@ -0,0 +1,21 @@
+package com.example.peachmusic.common.enums;
+
+public enum JamendoImportJobStatus {
+
+    // 적재 중
+    RUNNING,
+
+    // 취소 요청됨 (진행 중인 페이지까지 저장 후 중단)
+    CANCEL_REQUESTED,
+
+    // 취소됨
+    CANCELED,
+
+    // 실패 (마지막 저장 페이지부터 재개 가능)
+    FAILED,
+
+    // 완료
+    COMPLETED
+
+    ;
+}
@@ -0,0 +1,15 @@
+package com.example.peachmusic.common.enums;
+
+public enum JamendoImportJobType {
+
+    // 관리자 요청 초기 적재
+    INIT,
+
+    // 매일 정기 적재
+    DAILY,
+
+    // 월 1회 정합성 동기화
+    MONTHLY
+
+    ;
+}
@@ -0,0 +1,11 @@
+package com.example.peachmusic.common.enums;
+
+/**
+ * 자동완성 후보 종류
+ */
+public enum SearchSuggestionType {
+    ARTIST,
+    ALBUM,
+    SONG,
+    KEYWORD
+}
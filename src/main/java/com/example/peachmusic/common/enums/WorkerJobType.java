@@ -0,0 +1,12 @@
+package com.example.peachmusic.common.enums;
+
+public enum WorkerJobType {
+
+    // url -> mp3 다운로드 (다운로드 후 형 변환까지 Worker에서 진행)
+    DOWNLOAD,
+
+    // mp3 -> m3u8, ts 형 변환
+    TRANSCODE
+
+    ;
+}
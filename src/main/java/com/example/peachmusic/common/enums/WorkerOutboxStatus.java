@@ -0,0 +1,12 @@
+package com.example.peachmusic.common.enums;
+
+public enum WorkerOutboxStatus {
+
+    // 전송 대기 (실패 시 next_attempt_at 이후 재전송)
+    PENDING,
+
+    // 최대 재시도 횟수 초과, 관리자 재요청 시 다시 PENDING
+    DEAD
+
+    ;
+}
@@ -0,0 +1,134 @@
+package com.example.peachmusic.common.redis;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.peachmusic.common.redis.SlidingWindowAggregator.BUCKET_FORMAT;
+import static com.example.peachmusic.common.redis.SlidingWindowAggregator.CURSOR_SUFFIX;
+import static com.example.peachmusic.common.redis.SlidingWindowAggregator.MAX_CATCH_UP_BUCKETS;
+import static com.example.peachmusic.common.redis.SlidingWindowAggregator.SUBTRACT_SCRIPT;
+
+/**
+ * 조각(slice)별 슬라이딩 윈도우 집계 (장르별, 아티스트별 차트 등)
+ * - SlidingWindowAggregator와 같은 방식을 조각마다 따로 유지 ({bucketKeyPrefix}{slice}:yyyyMMddHH, {windowKeyPrefix}{slice}:{window})
+ * - 시간마다 기록된 조각 목록({bucketKeyPrefix}slices:yyyyMMddHH)을 남겨 만료 시 그 조각만 차감 -> 갱신 비용은 재생된 음원 수에 비례
+ * - 조각마다 cursor를 두어 차감 도중 실패 후 재실행해도 같은 버킷을 두 번 빼지 않음 (버킷 TTL로 만료 -> 더 이상 재생되지 않는 조각의 키가 남지 않음)
+ */
+public class SlicedWindowAggregator {
+
+    private static final String SLICES_KEY = "slices:";
+    private static final String DRIVER_CURSOR_KEY = "cursor:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String bucketKeyPrefix;
+    private final String windowKeyPrefix;
+    private final Map<String, Integer> windowHoursMap;
+    private final Duration bucketTtl;
+
+    /**
+     * @param windowHoursMap 윈도우 이름 -> 길이(시간)
+     */
+    public SlicedWindowAggregator(RedisTemplate<String, String> redisTemplate, String bucketKeyPrefix, String windowKeyPrefix, Map<String, Integer> windowHoursMap) {
+        this.redisTemplate = redisTemplate;
+        this.bucketKeyPrefix = bucketKeyPrefix;
+        this.windowKeyPrefix = windowKeyPrefix;
+        this.windowHoursMap = windowHoursMap;
+        int maxHours = windowHoursMap.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        this.bucketTtl = Duration.ofHours(maxHours + 2L);
+    }
+
+    /**
+     * 조각별 멤버 증가분 일괄 기록 (한 번의 파이프라인)
+     * @param sliceDeltaMap 조각 -> (멤버 -> 증가분)
+     */
+    public void incrementAll(Map<String, ? extends Map<String, ? extends Number>> sliceDeltaMap, LocalDateTime now) {
+        if (sliceDeltaMap.isEmpty()) {
+            return;
+        }
+
+        String bucketId = BUCKET_FORMAT.format(now);
+        String slicesKey = bucketKeyPrefix + SLICES_KEY + bucketId;
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                sliceDeltaMap.forEach((slice, deltaMap) -> {
+                    String bucketKey = bucketKeyPrefix + slice + ":" + bucketId;
+                    deltaMap.forEach((member, delta) -> {
+                        ops.opsForZSet().incrementScore(bucketKey, member, delta.doubleValue());
+                        for (String window : windowHoursMap.keySet()) {
+                            ops.opsForZSet().incrementScore(windowKey(slice, window), member, delta.doubleValue());
+                        }
+                    });
+                    ops.expire(bucketKey, bucketTtl);
+                    ops.opsForSet().add(slicesKey, slice);
+                });
+                ops.expire(slicesKey, bucketTtl);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 윈도우 밖으로 밀려난 버킷 차감 (해당 시간에 기록된 조각만)
+     * - cursor가 없으면(최초 실행) 현재 시점부터 집계한 것으로 보고 cursor만 설정
+     * @return 차감한 멤버 수
+     */
+    public long expireBuckets(LocalDateTime now) {
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        long subtracted = 0;
+
+        for (Map.Entry<String, Integer> entry : windowHoursMap.entrySet()) {
+            String window = entry.getKey();
+            String driverCursorKey = windowKeyPrefix + DRIVER_CURSOR_KEY + window;
+            LocalDateTime expiredUntil = currentHour.minusHours(entry.getValue());
+
+            String cursor = redisTemplate.opsForValue().get(driverCursorKey);
+            if (cursor == null) {
+                redisTemplate.opsForValue().setIfAbsent(driverCursorKey, BUCKET_FORMAT.format(expiredUntil));
+                continue;
+            }
+
+            LocalDateTime bucketHour = LocalDateTime.parse(cursor, BUCKET_FORMAT).plusHours(1);
+            LocalDateTime catchUpFrom = expiredUntil.minusHours(MAX_CATCH_UP_BUCKETS);
+            if (bucketHour.isBefore(catchUpFrom)) {
+                bucketHour = catchUpFrom;
+            }
+
+            for (; !bucketHour.isAfter(expiredUntil); bucketHour = bucketHour.plusHours(1)) {
+                String bucketId = BUCKET_FORMAT.format(bucketHour);
+                Set<String> sliceSet = redisTemplate.opsForSet().members(bucketKeyPrefix + SLICES_KEY + bucketId);
+
+                if (sliceSet != null) {
+                    for (String slice : sliceSet) {
+                        String windowKey = windowKey(slice, window);
+                        Long count = redisTemplate.execute(SUBTRACT_SCRIPT, List.of(windowKey, bucketKeyPrefix + slice + ":" + bucketId, windowKey + CURSOR_SUFFIX), bucketId, String.valueOf(bucketTtl.toSeconds()));
+                        subtracted += count == null ? 0 : count;
+                    }
+                }
+                redisTemplate.opsForValue().set(driverCursorKey, bucketId);
+            }
+        }
+        return subtracted;
+    }
+
+    public Set<TypedTuple<String>> findTop(String slice, String window, int size) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(windowKey(slice, window), 0, size - 1L);
+    }
+
+    public String windowKey(String slice, String window) {
+        return windowKeyPrefix + slice + ":" + window;
+    }
+}
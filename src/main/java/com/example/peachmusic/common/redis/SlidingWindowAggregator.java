@@ -0,0 +1,181 @@
+package com.example.peachmusic.common.redis;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis ZSET 기반 슬라이딩 윈도우 집계
+ * - 1시간 단위 버킷({bucketKeyPrefix}yyyyMMddHH)과 윈도우별 누적 ZSET({windowKeyPrefix}{window})을 함께 유지
+ * - 기록 시 버킷과 모든 윈도우에 같은 값을 더함 -> 윈도우 조회는 즉시 최신
+ * - 윈도우 밖으로 밀려난 버킷만 윈도우에서 빼므로 갱신 비용은 만료 버킷의 멤버 수에 비례 (전체 멤버 수와 무관)
+ *
+ * 도메인마다 버킷, 윈도우 키와 윈도우 길이를 지정해 생성해서 사용
+ */
+public class SlidingWindowAggregator {
+
+    static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    static final String CURSOR_SUFFIX = ":cursor";
+    // 서버가 오래 멈춰 있었을 때 한 번에 따라잡을 최대 버킷 수
+    static final int MAX_CATCH_UP_BUCKETS = 24 * 31;
+
+    /**
+     * 만료 버킷 차감 (원자적, 같은 버킷을 두 번 빼지 않음 -> 여러 서버가 동시에 실행해도 안전)
+     * KEYS: window, bucket, cursor / ARGV: bucketId, cursor TTL(초)
+     * - cursor는 버킷보다 늦게 만료되므로 만료 후 다시 실행돼도 빼낼 버킷이 남아 있지 않음
+     */
+    static final RedisScript<Long> SUBTRACT_SCRIPT = new DefaultRedisScript<>("""
+            local cursor = redis.call('GET', KEYS[3])
+            if cursor and tonumber(cursor) >= tonumber(ARGV[1]) then return 0 end
+            local entries = redis.call('ZRANGE', KEYS[2], 0, -1, 'WITHSCORES')
+            for i = 1, #entries, 2 do
+              redis.call('ZINCRBY', KEYS[1], string.format('%.17g', -tonumber(entries[i + 1])), entries[i])
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', 0)
+            redis.call('SET', KEYS[3], ARGV[1], 'EX', ARGV[2])
+            return #entries / 2
+            """, Long.class);
+
+    /**
+     * 윈도우 상위 N개를 조회용 ZSET으로 교체 (원자적, 읽는 쪽은 항상 완성된 목록만 봄)
+     * KEYS: window, dest / ARGV: size
+     */
+    private static final RedisScript<Long> STORE_TOP_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+            redis.call('DEL', KEYS[2])
+            for i = 1, #entries, 2 do
+              redis.call('ZADD', KEYS[2], entries[i + 1], entries[i])
+            end
+            return #entries / 2
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String bucketKeyPrefix;
+    private final String windowKeyPrefix;
+    private final Map<String, Integer> windowHoursMap;
+    private final Duration bucketTtl;
+
+    /**
+     * @param windowHoursMap 윈도우 이름 -> 길이(시간)
+     */
+    public SlidingWindowAggregator(RedisTemplate<String, String> redisTemplate, String bucketKeyPrefix, String windowKeyPrefix, Map<String, Integer> windowHoursMap) {
+        this.redisTemplate = redisTemplate;
+        this.bucketKeyPrefix = bucketKeyPrefix;
+        this.windowKeyPrefix = windowKeyPrefix;
+        this.windowHoursMap = windowHoursMap;
+        // 가장 긴 윈도우에서 빠질 때까지 버킷 유지
+        int maxHours = windowHoursMap.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        this.bucketTtl = Duration.ofHours(maxHours + 2L);
+    }
+
+    /**
+     * 파이프라인/트랜잭션 안에서 다른 명령과 함께 기록할 때 사용
+     */
+    public void increment(RedisOperations<String, String> ops, String member, double delta, LocalDateTime now) {
+        String bucketKey = bucketKey(now);
+        ops.opsForZSet().incrementScore(bucketKey, member, delta);
+        ops.expire(bucketKey, bucketTtl);
+        for (String window : windowHoursMap.keySet()) {
+            ops.opsForZSet().incrementScore(windowKey(window), member, delta);
+        }
+    }
+
+    /**
+     * 여러 멤버 일괄 기록 (한 번의 파이프라인)
+     */
+    public void incrementAll(Map<String, ? extends Number> deltaMap, LocalDateTime now) {
+        if (deltaMap.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                deltaMap.forEach((member, delta) -> increment(ops, member, delta.doubleValue(), now));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 윈도우 밖으로 밀려난 버킷 차감
+     * - 윈도우별 cursor(마지막으로 뺀 버킷) 다음 버킷부터 차감
+     * - cursor가 없으면(최초 실행) 현재 시점부터 집계한 것으로 보고 cursor만 설정
+     * @return 차감한 멤버 수
+     */
+    public long expireBuckets(LocalDateTime now) {
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        long subtracted = 0;
+
+        for (Map.Entry<String, Integer> entry : windowHoursMap.entrySet()) {
+            String windowKey = windowKey(entry.getKey());
+            String cursorKey = windowKey + CURSOR_SUFFIX;
+            // 이 시각 이하의 버킷은 윈도우 밖
+            LocalDateTime expiredUntil = currentHour.minusHours(entry.getValue());
+
+            String cursor = redisTemplate.opsForValue().get(cursorKey);
+            if (cursor == null) {
+                redisTemplate.opsForValue().setIfAbsent(cursorKey, BUCKET_FORMAT.format(expiredUntil));
+                continue;
+            }
+
+            LocalDateTime bucketHour = LocalDateTime.parse(cursor, BUCKET_FORMAT).plusHours(1);
+            LocalDateTime catchUpFrom = expiredUntil.minusHours(MAX_CATCH_UP_BUCKETS);
+            if (bucketHour.isBefore(catchUpFrom)) {
+                bucketHour = catchUpFrom;
+            }
+
+            for (; !bucketHour.isAfter(expiredUntil); bucketHour = bucketHour.plusHours(1)) {
+                String bucketId = BUCKET_FORMAT.format(bucketHour);
+                Long count = redisTemplate.execute(SUBTRACT_SCRIPT, List.of(windowKey, bucketKeyPrefix + bucketId, cursorKey), bucketId, String.valueOf(bucketTtl.toSeconds()));
+                subtracted += count == null ? 0 : count;
+            }
+        }
+        return subtracted;
+    }
+
+    /**
+     * 윈도우를 상위 capacity개만 남기고 정리 (멤버 종류가 끝없이 늘어나는 도메인용)
+     * - 잘려 나간 멤버는 이후 만료 차감에서 0 이하가 되어 제거되므로 하위권 점수만 근사치가 됨
+     * @return 제거한 멤버 수
+     */
+    public long trimWindow(String window, long capacity) {
+        Long removed = redisTemplate.opsForZSet().removeRange(windowKey(window), 0, -capacity - 1);
+        return removed == null ? 0 : removed;
+    }
+
+    /**
+     * 윈도우 상위 size개를 destKey에 저장 (윈도우 전체 대신 상위 목록만 조회하도록)
+     * @return 저장한 멤버 수
+     */
+    public long storeTop(String window, int size, String destKey) {
+        Long stored = redisTemplate.execute(STORE_TOP_SCRIPT, List.of(windowKey(window), destKey), String.valueOf(size));
+        return stored == null ? 0 : stored;
+    }
+
+    public Set<TypedTuple<String>> findTop(String window, int size) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(windowKey(window), 0, size - 1L);
+    }
+
+    public String windowKey(String window) {
+        return windowKeyPrefix + window;
+    }
+
+    private String bucketKey(LocalDateTime now) {
+        return bucketKeyPrefix + BUCKET_FORMAT.format(now);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -23,6 +24,10 @@ public class Album extends BaseEntity {
     @Column(name = "jamendo_album_id", unique = true)
     private Long jamendoAlbumId;
 
+    // 마지막으로 적재한 Jamendo 원본 데이터 해시 (같으면 재적재 시 쓰기 생략)
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @Column(name = "album_name", nullable = false)
     private String albumName;
 
@@ -38,6 +43,10 @@ public class Album extends BaseEntity {
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
 
+    // 검색 인덱스 변경분 갱신 기준 (modified_at과 달리 좋아요 수 변경으로는 바뀌지 않음)
+    @Column(name = "content_modified_at", nullable = false)
+    private LocalDateTime contentModifiedAt;
+
     public Album(String albumName, LocalDate albumReleaseDate) {
         this.albumName = albumName;
         this.albumReleaseDate = albumReleaseDate;
@@ -65,4 +74,10 @@ public class Album extends BaseEntity {
     public void updateAlbumImage(String albumImage) {
         this.albumImage = albumImage;
     }
+
+    @PrePersist
+    @PreUpdate
+    private void touchContent() {
+        this.contentModifiedAt = LocalDateTime.now();
+    }
 }
@@ -52,7 +52,7 @@ public interface AlbumRepository extends JpaRepository<Album, Long>, AlbumCustom
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update Album a
-        set a.isDeleted = true
+        set a.isDeleted = true, a.contentModifiedAt = local datetime
         where a.isDeleted = false
         and a.albumId in :albumIdList
         """)
@@ -61,7 +61,7 @@ public interface AlbumRepository extends JpaRepository<Album, Long>, AlbumCustom
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update Album a
-        set a.isDeleted = false
+        set a.isDeleted = false, a.contentModifiedAt = local datetime
         where a.isDeleted = true
         and a.albumId in :albumIdList
         """)
@@ -17,9 +17,11 @@ import com.example.peachmusic.domain.artist.entity.Artist;
 import com.example.peachmusic.domain.artist.repository.ArtistRepository;
 import com.example.peachmusic.domain.artistalbum.entity.ArtistAlbum;
 import com.example.peachmusic.domain.artistalbum.repository.ArtistAlbumRepository;
+import com.example.peachmusic.domain.search.index.SearchIndexDirtyEvent;
 import com.example.peachmusic.domain.song.entity.Song;
 import com.example.peachmusic.domain.song.repository.SongRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,6 +39,7 @@ public class AlbumAdminService {
     private final ArtistAlbumRepository artistAlbumRepository;
     private final SongRepository songRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 앨범 생성 기능 (관리자 전용)
@@ -141,6 +144,7 @@ public class AlbumAdminService {
                 .toList();
 
         artistAlbumRepository.saveAll(artistAlbumList);
+        eventPublisher.publishEvent(new SearchIndexDirtyEvent(List.of(albumId), List.of())); // 매핑 교체는 albums.content_modified_at에 반영되지 않으므로 직접 표시
 
         List<ArtistSummaryDto> dtoList = toArtistSummaryList(artistAlbumList);
 
@@ -94,7 +94,7 @@ public class AlbumService {
      * @param word 검색어
      * @return 앨범 검색 응답 DTO 리스트
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = "${search.query.db-timeout-seconds:1}")
     public List<AlbumSearchResponseDto> searchAlbumList(String word) {
         return albumRepository.findAlbumListByWord(null, word, PREVIEW_SIZE, PUBLIC_VIEW, LIKE, DESC); // 좋아요 많은 순
     }
@@ -11,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -51,6 +52,14 @@ public class Artist extends BaseEntity {
     @Column(name = "jamendo_artist_id", unique = true)
     private Long jamendoArtistId;
 
+    // 마지막으로 적재한 Jamendo 원본 데이터 해시 (같으면 재적재 시 쓰기 생략)
+    @Column(name = "content_hash")
+    private Long contentHash;
+
+    // 검색 인덱스 변경분 갱신 기준 (modified_at과 달리 좋아요 수 변경으로는 바뀌지 않음)
+    @Column(name = "content_modified_at", nullable = false)
+    private LocalDateTime contentModifiedAt;
+
     public Artist(String artistName, String profileImage, String country, ArtistType artistType, LocalDate debutDate, String bio) {
         this.artistName = artistName;
         this.profileImage = profileImage;
@@ -86,4 +95,10 @@ public class Artist extends BaseEntity {
     public void updateProfileImage(String profileImage) {
         this.profileImage = profileImage;
     }
+
+    @PrePersist
+    @PreUpdate
+    private void touchContent() {
+        this.contentModifiedAt = LocalDateTime.now();
+    }
 }
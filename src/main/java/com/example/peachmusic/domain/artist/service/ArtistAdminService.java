@@ -17,8 +17,10 @@ import com.example.peachmusic.domain.artist.dto.response.ArtistSearchResponseDto
 import com.example.peachmusic.domain.artist.dto.response.ArtistUpdateResponseDto;
 import com.example.peachmusic.domain.artist.repository.ArtistRepository;
 import com.example.peachmusic.domain.artistalbum.repository.ArtistAlbumRepository;
+import com.example.peachmusic.domain.search.index.SearchIndexRebuildRequestedEvent;
 import com.example.peachmusic.domain.song.repository.SongRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,6 +38,7 @@ public class ArtistAdminService {
     private final ArtistAlbumRepository artistAlbumRepository;
     private final FileStorageService fileStorageService;
     private final AlbumRepository albumRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 아티스트 생성 기능 (관리자 전용)
@@ -90,6 +93,7 @@ public class ArtistAdminService {
         Artist foundArtist = artistService.findActiveArtistOrThrow(artistId);
 
         foundArtist.updateArtistInfo(requestDto);
+        eventPublisher.publishEvent(new SearchIndexRebuildRequestedEvent()); // 아티스트 이름은 앨범, 음원 검색 대상에도 포함
 
         return ArtistUpdateResponseDto.from(foundArtist);
     }
@@ -136,6 +140,7 @@ public class ArtistAdminService {
         List<Long> relatedAlbumIdList = artistAlbumRepository.findDistinctAlbumIdListByArtistId(artistId);
 
         foundArtist.delete();
+        eventPublisher.publishEvent(new SearchIndexRebuildRequestedEvent()); // 참여한 앨범, 음원 여러 개의 표시 정보가 함께 바뀌므로 전체 재적재
 
         if (relatedAlbumIdList.isEmpty()) {
             return;
@@ -167,6 +172,7 @@ public class ArtistAdminService {
         }
 
         foundArtist.restore();
+        eventPublisher.publishEvent(new SearchIndexRebuildRequestedEvent());
 
         List<Long> relatedAlbumIdList = artistAlbumRepository.findDistinctAlbumIdListByArtistId(artistId);
 
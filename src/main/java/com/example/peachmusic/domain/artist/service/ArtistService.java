@@ -83,7 +83,7 @@ public class ArtistService {
      * @param word 검색어
      * @return 아티스트 검색 응답 DTO 리스트
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = "${search.query.db-timeout-seconds:1}")
     public List<ArtistSearchResponseDto> searchArtistList(String word) {
         return artistRepository.findArtistListByWord(null, word, PREVIEW_SIZE, PUBLIC_VIEW, LIKE, DESC);
     }
@@ -1,10 +1,12 @@
 package com.example.peachmusic.domain.openapi.jamendo.controller;
 
 import com.example.peachmusic.common.model.CommonResponse;
+import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoImportJobResponseDto;
 import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoInitRequestDto;
-import com.example.peachmusic.domain.openapi.jamendo.service.JamendoSongService;
+import com.example.peachmusic.domain.openapi.jamendo.service.JamendoImportJobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,13 +15,38 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api")
 public class JamendoApiController {
 
-    private final JamendoSongService jamendoSongService;
+    private final JamendoImportJobService jamendoImportJobService;
 
     @PostMapping("/admin/openapi/jamendo")
-    public ResponseEntity<CommonResponse<Void>> importInitJamendo(
+    public ResponseEntity<CommonResponse<Long>> importInitJamendo(
             @Valid @RequestBody JamendoInitRequestDto request
     ) {
-        jamendoSongService.importInitJamendo(request);
-        return ResponseEntity.ok(CommonResponse.success("기간 : " + request.getStartDate() + " - " + request.getEndDate() + " 데이터 적재 성공"));
+        Long jobId = jamendoImportJobService.startInitImport(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(CommonResponse.success("기간 : " + request.getStartDate() + " - " + request.getEndDate() + " 데이터 적재 작업이 시작되었습니다.", jobId));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/admin/openapi/jamendo/jobs/{jobId}")
+    public ResponseEntity<CommonResponse<JamendoImportJobResponseDto>> getImportJob(
+            @PathVariable("jobId") Long jobId
+    ) {
+        JamendoImportJobResponseDto responseDto = jamendoImportJobService.getImportJob(jobId);
+        return ResponseEntity.ok(CommonResponse.success("적재 작업 조회 성공", responseDto));
+    }
+
+    @PostMapping("/admin/openapi/jamendo/jobs/{jobId}/cancel")
+    public ResponseEntity<CommonResponse<Void>> cancelImportJob(
+            @PathVariable("jobId") Long jobId
+    ) {
+        jamendoImportJobService.cancelImportJob(jobId);
+        return ResponseEntity.ok(CommonResponse.success("적재 작업 취소 요청 성공"));
+    }
+
+    @PostMapping("/admin/openapi/jamendo/jobs/{jobId}/resume")
+    public ResponseEntity<CommonResponse<Void>> resumeImportJob(
+            @PathVariable("jobId") Long jobId
+    ) {
+        jamendoImportJobService.resumeImportJob(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CommonResponse.success("적재 작업이 재개되었습니다."));
+    }
+}
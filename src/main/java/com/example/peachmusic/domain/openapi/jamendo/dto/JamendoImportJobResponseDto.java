@@ -0,0 +1,40 @@
+package com.example.peachmusic.domain.openapi.jamendo.dto;
+
+import com.example.peachmusic.common.enums.JamendoImportJobStatus;
+import com.example.peachmusic.common.enums.JamendoImportJobType;
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJob;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class JamendoImportJobResponseDto {
+
+    private final Long jobId;
+    private final JamendoImportJobType jobType;
+    private final JamendoImportJobStatus status;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int maxPage;
+    private final int pageCount;
+    private final long songCount;
+    private final long insertedRowCount;
+    private final long updatedRowCount;
+    private final long skippedRowCount;
+    private final long totalRangeCount;
+    private final long completedRangeCount;
+    private final String errorMessage;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final LocalDateTime finishedAt;
+
+    public static JamendoImportJobResponseDto from(JamendoImportJob job, long totalRangeCount, long completedRangeCount) {
+        return new JamendoImportJobResponseDto(job.getJobId(), job.getJobType(), job.getStatus(), job.getStartDate(), job.getEndDate(),
+                job.getMaxPage(), job.getPageCount(), job.getSongCount(),
+                job.getInsertedRowCount(), job.getUpdatedRowCount(), job.getSkippedRowCount(), totalRangeCount, completedRangeCount,
+                job.getErrorMessage(), job.getCreatedAt(), job.getModifiedAt(), job.getFinishedAt());
+    }
+}
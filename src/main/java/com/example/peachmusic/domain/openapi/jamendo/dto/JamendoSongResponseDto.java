@@ -1,14 +0,0 @@
-package com.example.peachmusic.domain.openapi.jamendo.dto;
-
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.Data;
-
-import java.util.List;
-
-@Data
-@JsonIgnoreProperties(ignoreUnknown = true)
-public class JamendoSongResponseDto {
-    @JsonProperty("results")
-    private List<JamendoSongDto> results;
-}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.example.peachmusic.domain.openapi.jamendo.entity;
+
+import com.example.peachmusic.common.enums.JamendoImportJobStatus;
+import com.example.peachmusic.common.enums.JamendoImportJobType;
+import com.example.peachmusic.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Jamendo 적재 작업
+ * - 진행 상황(page_count, song_count, 행 수, modified_at)과 상태 변경은 페이지 저장 트랜잭션에서 JDBC 조건부 UPDATE로 반영
+ * - modified_at은 페이지를 저장할 때마다 갱신되므로 오래 갱신되지 않은 RUNNING 작업은 서버가 중단된 작업
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "jamendo_import_jobs")
+public class JamendoImportJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "jamendo_import_job_id")
+    private Long jobId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "job_type", nullable = false)
+    private JamendoImportJobType jobType;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JamendoImportJobStatus status = JamendoImportJobStatus.RUNNING;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "max_page", nullable = false)
+    private int maxPage;
+
+    @Column(name = "page_count", nullable = false)
+    private int pageCount = 0;
+
+    @Column(name = "song_count", nullable = false)
+    private long songCount = 0L;
+
+    // 아티스트, 앨범, 음원 행 수 (skipped: 원본 해시가 같아 쓰기를 생략한 행)
+    @Column(name = "inserted_row_count", nullable = false)
+    private long insertedRowCount = 0L;
+
+    @Column(name = "updated_row_count", nullable = false)
+    private long updatedRowCount = 0L;
+
+    @Column(name = "skipped_row_count", nullable = false)
+    private long skippedRowCount = 0L;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public JamendoImportJob(JamendoImportJobType jobType, LocalDate startDate, LocalDate endDate, int maxPage) {
+        this.jobType = jobType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.maxPage = maxPage;
+    }
+}
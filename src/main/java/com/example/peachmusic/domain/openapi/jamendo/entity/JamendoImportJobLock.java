@@ -0,0 +1,27 @@
+package com.example.peachmusic.domain.openapi.jamendo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 작업 시작, 재개 직렬화용 잠금 행 (lock_id = 1 한 행만 사용)
+ * - 시작, 재개 트랜잭션은 이 행을 먼저 잠근 뒤 실행 중인 작업을 확인 -> 동시 요청이 함께 확인을 통과하지 않음
+ * - 행은 JamendoImportJobJdbcRepository.lockJobStart가 없으면 만들고 잠금
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "jamendo_import_job_lock")
+public class JamendoImportJobLock {
+
+    @Id
+    @Column(name = "lock_id")
+    private Long lockId;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+}
@@ -0,0 +1,40 @@
+package com.example.peachmusic.domain.openapi.jamendo.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 적재 작업의 수집 기간별 체크포인트
+ * - last_page: 마지막으로 커밋된 페이지 (재개 시 다음 페이지부터 수집)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "jamendo_import_job_ranges",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"jamendo_import_job_id", "date_between"}))
+public class JamendoImportJobRange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "jamendo_import_job_range_id")
+    private Long rangeId;
+
+    @Column(name = "jamendo_import_job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "date_between", nullable = false, length = 21)
+    private String dateBetween;
+
+    @Column(name = "last_page", nullable = false)
+    private int lastPage = 0;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed = false;
+
+    public JamendoImportJobRange(Long jobId, String dateBetween) {
+        this.jobId = jobId;
+        this.dateBetween = dateBetween;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.peachmusic.domain.openapi.jamendo.event;
+
+/**
+ * Jamendo 적재 완료 (커밋 후 검색 인덱스 등 메모리 인덱스 재적재용)
+ * @param songCount 적재된 음원 수
+ */
+public record JamendoImportCompletedEvent(int songCount) {
+}
@@ -0,0 +1,7 @@
+package com.example.peachmusic.domain.openapi.jamendo.event;
+
+/**
+ * Jamendo 적재 작업 시작, 재개 (커밋 후 실행 스레드에 전달)
+ */
+public record JamendoImportJobStartedEvent(Long jobId) {
+}
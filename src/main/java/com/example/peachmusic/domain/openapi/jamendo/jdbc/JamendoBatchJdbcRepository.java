@@ -2,290 +2,387 @@ package com.example.peachmusic.domain.openapi.jamendo.jdbc;
 
 import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Jamendo 페이지 일괄 저장
+ * 1. 아티스트, 앨범, 음원은 저장된 내부 ID와 원본 해시를 캐시에서 찾고, 없는 것만 IN 조회로 확인
+ * 2. 원본 해시가 같은 행은 쓰기 생략, 새로 생기거나 바뀐 행만 upsert (월간 동기화의 쓰기량을 실제 변경량으로 제한)
+ * 3. 음원, 관계 테이블은 확인한 내부 ID로 바로 저장 -> 행마다 부모 테이블을 조인하지 않음
+ * 4. 관계는 다중 행 INSERT IGNORE ... VALUES 한 문장으로 저장 (ID 순서로 정렬해 잠금 순서 고정)
+ * - upsert도 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 문장을 직접 만들어 전송 (드라이버 설정 rewriteBatchedStatements에 의존하지 않음)
+ */
 @Repository
 @RequiredArgsConstructor
 public class JamendoBatchJdbcRepository {
 
+    // 다중 행 INSERT 한 문장의 최대 행 수 (max_allowed_packet, 자리표시자 65535개 제한 여유)
+    private static final int MULTI_ROW_CHUNK_SIZE = 1000;
+    private static final long ID_CACHE_MAX_SIZE = 200_000L;
+    // 한 작업 안에서 반복되는 아티스트, 앨범은 캐시로 확인하고, 다음 작업(일간 동기화)은 DB 상태로 다시 비교
+    private static final Duration ID_CACHE_TTL = Duration.ofHours(1);
+
     private final JdbcTemplate jdbcTemplate;
 
-    public void upsertSongs(List<SongRow> songs) {
-        if (songs.isEmpty()) {
-            return;
-        }
+    private final JamendoIdCache<Long, JamendoRowState> artistStateCache = new JamendoIdCache<>(ID_CACHE_MAX_SIZE, ID_CACHE_TTL);
+    private final JamendoIdCache<Long, JamendoRowState> albumStateCache = new JamendoIdCache<>(ID_CACHE_MAX_SIZE, ID_CACHE_TTL);
+    private final JamendoIdCache<Long, JamendoRowState> songStateCache = new JamendoIdCache<>(ID_CACHE_MAX_SIZE, ID_CACHE_TTL);
+    private final JamendoIdCache<String, Long> genreIdCache = new JamendoIdCache<>(ID_CACHE_MAX_SIZE, ID_CACHE_TTL);
+
+    /**
+     * albumIdMap에 없는 앨범의 음원은 저장하지 않음
+     */
+    public JamendoUpsertResult upsertSongs(List<SongRow> rows, Map<Long, Long> albumIdMap) {
+        List<SongRow> songRows = rows.stream()
+                .filter(s -> albumIdMap.containsKey(s.jamendoAlbumId()))
+                .toList();
+
+        return upsertChanged(songRows, SongRow::jamendoSongId, SongRow::contentHash, songStateCache,
+                "songs", "jamendo_song_id", "song_id", songs -> writeSongs(songs, albumIdMap));
+    }
 
+    /**
+     * - audio는 새 음원에만 저장 (Worker 처리 후 스트리밍 키로 바뀌므로 재적재 시 덮어쓰지 않음, Jamendo 원본 URL은 트랙 ID로 정해져 바뀌지 않음)
+     */
+    private void writeSongs(List<SongRow> songs, Map<Long, Long> albumIdMap) {
         String insertSQL = """
                     INSERT INTO songs (
                         jamendo_song_id, album_id, name, duration, license_ccurl,
                         position, audio, vocalinstrumental, lang, speed,
-                        instruments, vartags, like_count, release_date
+                        instruments, vartags, like_count, release_date, content_hash, content_modified_at
                     )
-                    SELECT
-                        ?, a.album_id, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, a.album_release_date
-                    FROM albums a
-                    WHERE a.jamendo_album_id = ?
+                """;
+        String rowValues = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, CURRENT_TIMESTAMP)";
+        String updateSQL = """
                     ON DUPLICATE KEY UPDATE
                         name = VALUES(name),
                         duration = VALUES(duration),
                         license_ccurl = VALUES(license_ccurl),
                         position = VALUES(position),
-                        audio = VALUES(audio),
                         vocalinstrumental = VALUES(vocalinstrumental),
                         lang = VALUES(lang),
                         speed = VALUES(speed),
                         instruments = VALUES(instruments),
                         vartags = VALUES(vartags),
                         release_date = VALUES(release_date),
+                        content_hash = VALUES(content_hash),
+                        content_modified_at = CURRENT_TIMESTAMP,
                         modified_at = CURRENT_TIMESTAMP
                 """;
 
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
-
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                SongRow s = songs.get(i);
-                ps.setLong(1, s.jamendoSongId());
-                ps.setString(2, s.name());
-                ps.setLong(3, s.duration());
-                ps.setString(4, s.licenseCcurl());
-                ps.setLong(5, s.position());
-                ps.setString(6, s.audio());
-                ps.setString(7, s.vocalInstrumental());
-                ps.setString(8, s.lang());
-                ps.setString(9, s.speed());
-                ps.setString(10, s.instruments());
-                ps.setString(11, s.vartags());
-                ps.setLong(12, s.jamendoAlbumId());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return songs.size();
-            }
-        });
+        upsertMultiRow(insertSQL, rowValues, updateSQL, songs, s -> new Object[]{
+                s.jamendoSongId(), albumIdMap.get(s.jamendoAlbumId()), s.name(), s.duration(), s.licenseCcurl(),
+                s.position(), s.audio(), s.vocalInstrumental(), s.lang(), s.speed(),
+                s.instruments(), s.vartags(), s.releaseDate(), s.contentHash()});
     }
 
-    public void insertArtistSongs(List<ArtistSongRow> rows) {
-        if (rows.isEmpty()) {
-            return;
-        }
-
-        String insertSQL = """
-                    INSERT IGNORE INTO artist_songs (artist_id, song_id)
-                    SELECT
-                        ar.artist_id,
-                        s.song_id
-                    FROM artists ar
-                    JOIN songs s
-                    WHERE ar.jamendo_artist_id = ?
-                      AND s.jamendo_song_id = ?
-                """;
-
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
-
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                ArtistSongRow r = rows.get(i);
-                ps.setLong(1, r.jamendoArtistId());
-                ps.setLong(2, r.jamendoSongId());
+    public void insertArtistSongs(List<ArtistSongRow> rows, Map<Long, Long> artistIdMap, Map<Long, Long> songIdMap) {
+        TreeSet<IdPair> pairSet = new TreeSet<>();
+        for (ArtistSongRow r : rows) {
+            Long artistId = artistIdMap.get(r.jamendoArtistId());
+            Long songId = songIdMap.get(r.jamendoSongId());
+            if (artistId != null && songId != null) {
+                pairSet.add(new IdPair(artistId, songId));
             }
-
-            @Override
-            public int getBatchSize() {
-                return rows.size();
-            }
-        });
-    }
-
-    public void insertArtistAlbums(List<ArtistAlbumRow> rows) {
-        if (rows.isEmpty()) {
-            return;
         }
 
-        String insertSQL = """
-                    INSERT IGNORE INTO artist_albums (artist_id, album_id)
-                    SELECT
-                        ar.artist_id,
-                        al.album_id
-                    FROM artists ar
-                    JOIN albums al
-                    WHERE ar.jamendo_artist_id = ?
-                      AND al.jamendo_album_id = ?
-                """;
-
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
-
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                ArtistAlbumRow r = rows.get(i);
-                ps.setLong(1, r.jamendoArtistId());
-                ps.setLong(2, r.jamendoAlbumId());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return rows.size();
-            }
-        });
+        insertIgnorePairs("artist_songs", "artist_id", "song_id", pairSet);
     }
 
-    public void insertSongGenres(List<SongGenreRow> rows) {
-        if (rows.isEmpty()) {
-            return;
+    public void insertArtistAlbums(List<ArtistAlbumRow> rows, Map<Long, Long> artistIdMap, Map<Long, Long> albumIdMap) {
+        TreeSet<IdPair> pairSet = new TreeSet<>();
+        for (ArtistAlbumRow r : rows) {
+            Long artistId = artistIdMap.get(r.jamendoArtistId());
+            Long albumId = albumIdMap.get(r.jamendoAlbumId());
+            if (artistId != null && albumId != null) {
+                pairSet.add(new IdPair(artistId, albumId));
+            }
         }
 
-        String insertSQL = """
-                    INSERT IGNORE INTO song_genres (song_id, genre_id)
-                    SELECT
-                        s.song_id, g.genre_id
-                    FROM songs s
-                    JOIN genres g ON g.genre_name = ?
-                    WHERE s.jamendo_song_id = ?
-                """;
-
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
+        insertIgnorePairs("artist_albums", "artist_id", "album_id", pairSet);
+    }
 
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                SongGenreRow r = rows.get(i);
-                ps.setString(1, r.genreName());
-                ps.setLong(2, r.jamendoSongId());
+    public void insertSongGenres(List<SongGenreRow> rows, Map<Long, Long> songIdMap, Map<String, Long> genreIdMap) {
+        TreeSet<IdPair> pairSet = new TreeSet<>();
+        for (SongGenreRow r : rows) {
+            Long songId = songIdMap.get(r.jamendoSongId());
+            Long genreId = genreIdMap.get(r.genreName());
+            if (songId != null && genreId != null) {
+                pairSet.add(new IdPair(songId, genreId));
             }
+        }
 
-            @Override
-            public int getBatchSize() {
-                return rows.size();
-            }
-        });
+        insertIgnorePairs("song_genres", "song_id", "genre_id", pairSet);
     }
 
-    public void upsertArtists(List<ArtistRow> rows) {
-        if (rows.isEmpty()) {
-            return;
-        }
+    public JamendoUpsertResult upsertArtists(List<ArtistRow> rows) {
+        return upsertChanged(rows, ArtistRow::jamendoArtistId, ArtistRow::contentHash, artistStateCache,
+                "artists", "jamendo_artist_id", "artist_id", this::writeArtists);
+    }
 
+    private void writeArtists(List<ArtistRow> artists) {
         String insertSQL = """
                     INSERT INTO artists
-                    (artist_name, jamendo_artist_id, like_count)
-                    VALUES (?, ?, 0)
+                    (artist_name, jamendo_artist_id, like_count, content_hash, content_modified_at)
+                """;
+        String rowValues = "(?, ?, 0, ?, CURRENT_TIMESTAMP)";
+        String updateSQL = """
                     ON DUPLICATE KEY UPDATE
                         artist_name = VALUES(artist_name),
+                        content_hash = VALUES(content_hash),
+                        content_modified_at = CURRENT_TIMESTAMP,
                         modified_at = CURRENT_TIMESTAMP
                 """;
 
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
-
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                ArtistRow r = rows.get(i);
-                ps.setString(1, r.artistName());
-                ps.setLong(2, r.jamendoArtistId());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return rows.size();
-            }
-        });
+        upsertMultiRow(insertSQL, rowValues, updateSQL, artists, r -> new Object[]{
+                r.artistName(), r.jamendoArtistId(), r.contentHash()});
     }
 
-    public void upsertAlbums(List<AlbumRow> rows) {
-        if (rows.isEmpty()) {
-            return;
-        }
+    public JamendoUpsertResult upsertAlbums(List<AlbumRow> rows) {
+        return upsertChanged(rows, AlbumRow::jamendoAlbumId, AlbumRow::contentHash, albumStateCache,
+                "albums", "jamendo_album_id", "album_id", this::writeAlbums);
+    }
 
+    private void writeAlbums(List<AlbumRow> albums) {
         String insertSQL = """
                     INSERT INTO albums
-                    (album_name, album_release_date, album_image, jamendo_album_id, like_count)
-                    VALUES (?, ?, ?, ?, 0)
+                    (album_name, album_release_date, album_image, jamendo_album_id, like_count, content_hash, content_modified_at)
+                """;
+        String rowValues = "(?, ?, ?, ?, 0, ?, CURRENT_TIMESTAMP)";
+        String updateSQL = """
                     ON DUPLICATE KEY UPDATE
                         album_name = VALUES(album_name),
                         album_release_date = VALUES(album_release_date),
                         album_image = VALUES(album_image),
+                        content_hash = VALUES(content_hash),
+                        content_modified_at = CURRENT_TIMESTAMP,
                         modified_at = CURRENT_TIMESTAMP
                 """;
 
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
+        upsertMultiRow(insertSQL, rowValues, updateSQL, albums, r -> new Object[]{
+                r.albumName(), r.albumReleaseDate(), r.albumImage(), r.jamendoAlbumId(), r.contentHash()});
+    }
 
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                AlbumRow r = rows.get(i);
-                ps.setString(1, r.albumName());
-                ps.setObject(2, r.albumReleaseDate()); // LocalDate
-                ps.setString(3, r.albumImage());
-                ps.setLong(4, r.jamendoAlbumId());
-            }
+    /**
+     * 장르 이름은 바뀌지 않으므로 캐시에 없는 장르만 저장
+     * @return genreName -> genreId
+     */
+    public Map<String, Long> upsertGenres(List<GenreRow> rows) {
+        List<String> genreNameList = distinct(rows, GenreRow::genreName).stream().map(GenreRow::genreName).toList();
 
-            @Override
-            public int getBatchSize() {
-                return rows.size();
-            }
-        });
+        if (genreNameList.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> cachedIdMap = genreIdCache.getAllPresent(genreNameList);
+        List<String> newGenreNameList = genreNameList.stream().filter(name -> !cachedIdMap.containsKey(name)).toList();
+
+        if (newGenreNameList.isEmpty()) {
+            return cachedIdMap;
+        }
+
+        upsertMultiRow("INSERT INTO genres (genre_name)", "(?)", "ON DUPLICATE KEY UPDATE genre_name = VALUES(genre_name)",
+                newGenreNameList, name -> new Object[]{name});
+
+        return resolveGenreIds(genreNameList);
     }
 
-    public void upsertGenres(List<GenreRow> rows) {
-        if (rows.isEmpty()) {
+    public void upsertSongProgressingStatus(List<SongProgressingStatusRow> rows, Map<Long, Long> songIdMap) {
+        List<SongProgressingStatusRow> statusRows = rows.stream()
+                .filter(r -> songIdMap.containsKey(r.jamendoSongId()))
+                .toList();
+
+        if (statusRows.isEmpty()) {
             return;
         }
 
-        String insertSQL = """
-                    INSERT INTO genres (genre_name)
-                    VALUES (?)
-                    ON DUPLICATE KEY UPDATE
-                        genre_name = VALUES(genre_name)
-                """;
+        upsertMultiRow("INSERT INTO song_progressing_status (song_id, progressing_status)", "(?, ?)",
+                "ON DUPLICATE KEY UPDATE progressing_status = VALUES(progressing_status)",
+                statusRows, r -> new Object[]{songIdMap.get(r.jamendoSongId()), r.progressingStatus()});
+    }
+
+    /**
+     * 원본 해시가 바뀐 행만 저장
+     * - 저장된 상태(내부 ID, 원본 해시)는 캐시에 없는 것만 IN 조회
+     * - 새로 저장된 행의 내부 ID만 다시 조회하고, 저장한 행의 상태는 커밋 후 캐시에 반영
+     */
+    private <R> JamendoUpsertResult upsertChanged(List<R> rows, Function<R, Long> keyMapper, ToLongFunction<R> hashMapper,
+                                                  JamendoIdCache<Long, JamendoRowState> stateCache,
+                                                  String table, String keyColumn, String idColumn, Consumer<List<R>> writer) {
+        List<R> distinctRows = distinct(rows, keyMapper);
+
+        if (distinctRows.isEmpty()) {
+            return JamendoUpsertResult.EMPTY;
+        }
 
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
+        List<Long> keyList = distinctRows.stream().map(keyMapper).toList();
+        Map<Long, JamendoRowState> stateMap = new HashMap<>(stateCache.getAllPresent(keyList));
+        List<Long> missingKeyList = keyList.stream().filter(key -> !stateMap.containsKey(key)).toList();
 
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                GenreRow r = rows.get(i);
-                ps.setString(1, r.genreName());
+        Map<Long, JamendoRowState> foundStateMap = findStates(table, keyColumn, idColumn, missingKeyList);
+        stateCache.putAllAfterCommit(foundStateMap);
+        stateMap.putAll(foundStateMap);
+
+        Map<Long, Long> idMap = new HashMap<>();
+        List<R> insertRows = new ArrayList<>();
+        List<R> updateRows = new ArrayList<>();
+
+        for (R row : distinctRows) {
+            JamendoRowState state = stateMap.get(keyMapper.apply(row));
+
+            if (state == null) {
+                insertRows.add(row);
+                continue;
             }
+            idMap.put(keyMapper.apply(row), state.id());
+            if (!state.isSame(hashMapper.applyAsLong(row))) {
+                updateRows.add(row);
+            }
+        }
+
+        List<R> writeRows = new ArrayList<>(insertRows);
+        writeRows.addAll(updateRows);
 
-            @Override
-            public int getBatchSize() {
-                return rows.size();
+        if (!writeRows.isEmpty()) {
+            writer.accept(writeRows);
+        }
+
+        findStates(table, keyColumn, idColumn, insertRows.stream().map(keyMapper).toList())
+                .forEach((key, state) -> idMap.put(key, state.id()));
+
+        Map<Long, JamendoRowState> writtenStateMap = new HashMap<>();
+        for (R row : writeRows) {
+            Long id = idMap.get(keyMapper.apply(row));
+            if (id != null) {
+                writtenStateMap.put(keyMapper.apply(row), new JamendoRowState(id, hashMapper.applyAsLong(row)));
             }
-        });
+        }
+        stateCache.putAllAfterCommit(writtenStateMap);
+
+        Set<Long> insertedIdSet = insertRows.stream().map(keyMapper).filter(idMap::containsKey).collect(Collectors.toSet());
+
+        return new JamendoUpsertResult(idMap, writtenStateMap.keySet(), insertedIdSet,
+                new JamendoUpsertCount(insertRows.size(), updateRows.size(), distinctRows.size() - writeRows.size()));
     }
 
-    public void upsertSongProgressingStatus(List<SongProgressingStatusRow> rows) {
-        if (rows.isEmpty()) {
-            return;
+    private Map<Long, JamendoRowState> findStates(String table, String keyColumn, String idColumn, List<Long> keyList) {
+        Map<Long, JamendoRowState> stateMap = new HashMap<>();
+
+        for (List<Long> chunk : chunk(keyList)) {
+            String inClause = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT " + keyColumn + ", " + idColumn + ", content_hash FROM " + table + " WHERE " + keyColumn + " IN (" + inClause + ")",
+                    rs -> {
+                        stateMap.put(rs.getLong(keyColumn), new JamendoRowState(rs.getLong(idColumn), rs.getObject("content_hash", Long.class)));
+                    }, chunk.toArray());
         }
+        return stateMap;
+    }
 
-        String insertSQL = """
-                INSERT INTO song_progressing_status (song_id, progressing_status)
-                SELECT
-                s.song_id,
-                ?
-                FROM songs s
-                WHERE s.jamendo_song_id = ?
-                ON DUPLICATE KEY UPDATE
-                progressing_status = VALUES(progressing_status)
-                """;
+    /**
+     * 장르 이름 -> 장르 ID (캐시에 없는 것만 IN 조회 후 커밋 시 캐시에 반영)
+     * - genre_name 비교는 대소문자를 구분하지 않으므로(collation) 조회 결과도 같은 기준으로 매칭
+     */
+    private Map<String, Long> resolveGenreIds(List<String> genreNameList) {
+        Map<String, Long> idMap = new HashMap<>(genreIdCache.getAllPresent(genreNameList));
+        List<String> missingNameList = genreNameList.stream().filter(name -> !idMap.containsKey(name)).toList();
 
-        jdbcTemplate.batchUpdate(insertSQL, new BatchPreparedStatementSetter() {
+        if (missingNameList.isEmpty()) {
+            return idMap;
+        }
 
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                SongProgressingStatusRow r = rows.get(i);
-                ps.setString(1, r.progressingStatus());
-                ps.setLong(2, r.jamendoSongId());
+        Map<String, Long> foundIdMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (List<String> chunk : chunk(missingNameList)) {
+            String inClause = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT genre_name, genre_id FROM genres WHERE genre_name IN (" + inClause + ")",
+                    rs -> {
+                        foundIdMap.put(rs.getString("genre_name"), rs.getLong("genre_id"));
+                    }, chunk.toArray());
+        }
+
+        Map<String, Long> resolvedIdMap = new HashMap<>();
+        for (String name : missingNameList) {
+            Long id = foundIdMap.get(name);
+            if (id != null) {
+                resolvedIdMap.put(name, id);
             }
+        }
+
+        genreIdCache.putAllAfterCommit(resolvedIdMap);
+        idMap.putAll(resolvedIdMap);
+        return idMap;
+    }
 
-            @Override
-            public int getBatchSize() {
-                return rows.size();
+    /**
+     * 다중 행 INSERT IGNORE (한 문장에 MULTI_ROW_CHUNK_SIZE 행씩)
+     */
+    private void insertIgnorePairs(String table, String leftColumn, String rightColumn, Collection<IdPair> pairs) {
+        for (List<IdPair> chunk : chunk(new ArrayList<>(pairs))) {
+            String values = String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)"));
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i * 2] = chunk.get(i).left();
+                args[i * 2 + 1] = chunk.get(i).right();
             }
-        });
+
+            jdbcTemplate.update("INSERT IGNORE INTO " + table + " (" + leftColumn + ", " + rightColumn + ") VALUES " + values, args);
+        }
+    }
+
+    /**
+     * 다중 행 INSERT ... ON DUPLICATE KEY UPDATE (한 문장에 MULTI_ROW_CHUNK_SIZE 행씩)
+     * @param rowValues 한 행의 VALUES 항목 (예: "(?, ?, 0)")
+     * @param argMapper 행 -> rowValues의 자리표시자 순서대로 값
+     */
+    private <T> void upsertMultiRow(String insertSQL, String rowValues, String updateSQL, List<T> rows, Function<T, Object[]> argMapper) {
+        for (List<T> chunk : chunk(rows)) {
+            String values = String.join(", ", Collections.nCopies(chunk.size(), rowValues));
+            List<Object> args = new ArrayList<>();
+            chunk.forEach(row -> Collections.addAll(args, argMapper.apply(row)));
+
+            jdbcTemplate.update(insertSQL + " VALUES " + values + " " + updateSQL, args.toArray());
+        }
+    }
+
+    /**
+     * 같은 키의 행은 마지막 행만 남김 (한 배치에서 같은 행을 여러 번 갱신하지 않도록)
+     */
+    private <T, K> List<T> distinct(List<T> rows, Function<T, K> keyMapper) {
+        Map<K, T> rowMap = new LinkedHashMap<>();
+        rows.forEach(row -> rowMap.put(keyMapper.apply(row), row));
+        return new ArrayList<>(rowMap.values());
+    }
+
+    private <T> List<List<T>> chunk(List<T> list) {
+        List<List<T>> chunkList = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += MULTI_ROW_CHUNK_SIZE) {
+            chunkList.add(list.subList(from, Math.min(from + MULTI_ROW_CHUNK_SIZE, list.size())));
+        }
+        return chunkList;
+    }
+
+    private record IdPair(long left, long right) implements Comparable<IdPair> {
+
+        @Override
+        public int compareTo(IdPair other) {
+            int compared = Long.compare(left, other.left);
+            return compared != 0 ? compared : Long.compare(right, other.right);
+        }
     }
-}
\ No newline at end of file
+}
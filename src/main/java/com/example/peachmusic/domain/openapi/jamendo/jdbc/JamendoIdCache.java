@@ -0,0 +1,50 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Jamendo ID(장르는 이름) -> 내부 ID(아티스트, 앨범, 음원은 원본 해시 포함) 캐시
+ * - 아티스트, 앨범, 음원은 soft delete만 하므로 한 번 저장된 매핑은 바뀌지 않음
+ * - 원본 해시는 Jamendo 적재에서만 변경되지만, 작업마다 다른 인스턴스에서 실행될 수 있음
+ *   -> 다른 인스턴스가 바꾼 해시를 계속 믿지 않도록 크기와 함께 만료 시간도 제한 (만료 후 IN 조회로 다시 확인)
+ * - 롤백된 INSERT의 ID가 남지 않도록 트랜잭션 안에서는 커밋 후에 반영
+ */
+final class JamendoIdCache<K, V> {
+
+    private final Cache<K, V> cache;
+
+    JamendoIdCache(long maxSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    Map<K, V> getAllPresent(Collection<K> keys) {
+        return cache.getAllPresent(keys);
+    }
+
+    void putAllAfterCommit(Map<K, V> idMap) {
+        if (idMap.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.putAll(idMap);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.putAll(idMap);
+            }
+        });
+    }
+}
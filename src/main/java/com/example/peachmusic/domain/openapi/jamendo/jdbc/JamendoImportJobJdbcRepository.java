@@ -0,0 +1,111 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc;
+
+import com.example.peachmusic.common.enums.JamendoImportJobStatus;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 작업 체크포인트, 상태 변경
+ * - 모든 상태 변경은 현재 상태를 조건으로 거는 UPDATE -> 동시에 취소, 재개 요청이 와도 한 쪽만 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class JamendoImportJobJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업 시작, 재개 잠금 (트랜잭션 종료까지 유지)
+     * - INSERT ... ON DUPLICATE KEY UPDATE는 기존 행에 바로 배타 잠금을 걸어 잠금 행 생성과 잠금을 한 번에 수행
+     * - 트랜잭션의 첫 조회보다 먼저 호출해야 이후 조회가 앞선 요청의 커밋 결과를 읽음
+     */
+    public void lockJobStart() {
+        jdbcTemplate.update("""
+                    INSERT INTO jamendo_import_job_lock (lock_id, locked_at)
+                    VALUES (1, ?)
+                    ON DUPLICATE KEY UPDATE locked_at = VALUES(locked_at)
+                """, LocalDateTime.now());
+    }
+
+    /**
+     * 페이지 저장과 같은 트랜잭션에서 체크포인트와 진행 상황 반영
+     * @return 작업이 RUNNING이 아니면(취소 요청) false -> 호출한 쪽에서 롤백
+     */
+    public boolean saveCheckpoint(Long jobId, JamendoPage page, int songCount, JamendoUpsertCount upsertCount) {
+        int updated = jdbcTemplate.update("""
+                    UPDATE jamendo_import_jobs
+                    SET page_count = page_count + ?, song_count = song_count + ?,
+                        inserted_row_count = inserted_row_count + ?, updated_row_count = updated_row_count + ?,
+                        skipped_row_count = skipped_row_count + ?, modified_at = ?
+                    WHERE jamendo_import_job_id = ? AND status = ?
+                """, page.isEmpty() ? 0 : 1, songCount,
+                upsertCount.insertedCount(), upsertCount.updatedCount(), upsertCount.skippedCount(),
+                LocalDateTime.now(), jobId, JamendoImportJobStatus.RUNNING.name());
+
+        if (updated == 0) {
+            return false;
+        }
+
+        jdbcTemplate.update("""
+                    UPDATE jamendo_import_job_ranges
+                    SET last_page = GREATEST(last_page, ?), completed = ?
+                    WHERE jamendo_import_job_id = ? AND date_between = ?
+                """, page.page(), page.lastPage(), jobId, page.dateBetween());
+        return true;
+    }
+
+    /**
+     * 진행 중인 작업 종료 (RUNNING, CANCEL_REQUESTED -> status)
+     */
+    public int finish(Long jobId, JamendoImportJobStatus status, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update("""
+                    UPDATE jamendo_import_jobs
+                    SET status = ?, error_message = ?, finished_at = ?, modified_at = ?
+                    WHERE jamendo_import_job_id = ? AND status IN (?, ?)
+                """, status.name(), errorMessage, now, now, jobId,
+                JamendoImportJobStatus.RUNNING.name(), JamendoImportJobStatus.CANCEL_REQUESTED.name());
+    }
+
+    /**
+     * 취소 요청 (RUNNING -> CANCEL_REQUESTED, 실행 스레드가 다음 페이지 저장 시점에 확인)
+     */
+    public int requestCancel(Long jobId) {
+        return jdbcTemplate.update("""
+                    UPDATE jamendo_import_jobs
+                    SET status = ?, modified_at = ?
+                    WHERE jamendo_import_job_id = ? AND status = ?
+                """, JamendoImportJobStatus.CANCEL_REQUESTED.name(), LocalDateTime.now(), jobId, JamendoImportJobStatus.RUNNING.name());
+    }
+
+    /**
+     * 실행 중인 서버가 없는 작업 바로 취소 (staleBefore 이후로 진행 상황이 갱신되지 않은 작업)
+     */
+    public int cancelStale(Long jobId, LocalDateTime staleBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update("""
+                    UPDATE jamendo_import_jobs
+                    SET status = ?, finished_at = ?, modified_at = ?
+                    WHERE jamendo_import_job_id = ? AND status IN (?, ?) AND modified_at < ?
+                """, JamendoImportJobStatus.CANCELED.name(), now, now, jobId,
+                JamendoImportJobStatus.RUNNING.name(), JamendoImportJobStatus.CANCEL_REQUESTED.name(), staleBefore);
+    }
+
+    /**
+     * 재개 (FAILED, CANCELED 또는 실행 중인 서버가 없는 RUNNING -> RUNNING)
+     */
+    public int resume(Long jobId, LocalDateTime staleBefore) {
+        return jdbcTemplate.update("""
+                    UPDATE jamendo_import_jobs
+                    SET status = ?, error_message = NULL, finished_at = NULL, modified_at = ?
+                    WHERE jamendo_import_job_id = ?
+                      AND (status IN (?, ?) OR (status IN (?, ?) AND modified_at < ?))
+                """, JamendoImportJobStatus.RUNNING.name(), LocalDateTime.now(), jobId,
+                JamendoImportJobStatus.FAILED.name(), JamendoImportJobStatus.CANCELED.name(),
+                JamendoImportJobStatus.RUNNING.name(), JamendoImportJobStatus.CANCEL_REQUESTED.name(), staleBefore);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc;
+
+/**
+ * 저장된 행의 내부 ID와 마지막으로 적재한 원본 해시 (해시가 없으면 null)
+ */
+record JamendoRowState(long id, Long contentHash) {
+
+    boolean isSame(long contentHash) {
+        return this.contentHash != null && this.contentHash == contentHash;
+    }
+}
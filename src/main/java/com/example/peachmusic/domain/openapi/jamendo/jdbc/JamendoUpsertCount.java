@@ -0,0 +1,13 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc;
+
+/**
+ * upsert 결과 행 수 (skipped: 원본 해시가 같아 쓰기를 생략한 행)
+ */
+public record JamendoUpsertCount(int insertedCount, int updatedCount, int skippedCount) {
+
+    public static final JamendoUpsertCount EMPTY = new JamendoUpsertCount(0, 0, 0);
+
+    public JamendoUpsertCount plus(JamendoUpsertCount other) {
+        return new JamendoUpsertCount(insertedCount + other.insertedCount, updatedCount + other.updatedCount, skippedCount + other.skippedCount);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @param idMap Jamendo ID -> 내부 ID (쓰기를 생략한 행 포함)
+ * @param writtenIdSet 새로 저장되거나 변경된 행의 Jamendo ID
+ * @param insertedIdSet 그중 새로 저장된 행의 Jamendo ID
+ */
+public record JamendoUpsertResult(Map<Long, Long> idMap, Set<Long> writtenIdSet, Set<Long> insertedIdSet, JamendoUpsertCount count) {
+
+    public static final JamendoUpsertResult EMPTY = new JamendoUpsertResult(Map.of(), Set.of(), Set.of(), JamendoUpsertCount.EMPTY);
+}
@@ -7,4 +7,9 @@ public record AlbumRow(
         String albumName,
         LocalDate albumReleaseDate,
         String albumImage
-) {}
+) {
+
+    public long contentHash() {
+        return JamendoContentHash.of(jamendoAlbumId, albumName, albumReleaseDate, albumImage);
+    }
+}
@@ -3,4 +3,9 @@ package com.example.peachmusic.domain.openapi.jamendo.jdbc.row;
 public record ArtistRow(
         Long jamendoArtistId,
         String artistName
-) {}
\ No newline at end of file
+) {
+
+    public long contentHash() {
+        return JamendoContentHash.of(jamendoArtistId, artistName);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc.row;
+
+/**
+ * Jamendo 원본 데이터 변경 감지용 64비트 해시 (FNV-1a)
+ * - 값 사이에 구분자를 넣어 ("ab", "c")와 ("a", "bc")를 구분하고, null은 빈 문자열과 다르게 처리
+ */
+public final class JamendoContentHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '\u001f';
+    private static final char NULL_MARKER = '\u0000';
+
+    private JamendoContentHash() {
+    }
+
+    public static long of(Object... values) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Object value : values) {
+            if (value == null) {
+                hash = mix(hash, NULL_MARKER);
+            } else {
+                String text = value.toString();
+                for (int i = 0; i < text.length(); i++) {
+                    hash = mix(hash, text.charAt(i));
+                }
+            }
+            hash = mix(hash, SEPARATOR);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, char c) {
+        hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        return (hash ^ (c & 0xff)) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc.row;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 페이지의 테이블별 저장 행 (수집 스레드가 응답을 읽으며 채우고, 저장 후 비워서 재사용)
+ * - 목록은 페이지 크기만큼 미리 할당 -> 페이지마다 목록을 새로 만들거나 늘리지 않음
+ * - songRows, artistSongRows, artistAlbumRows는 같은 순서 (i번째가 같은 음원)
+ */
+@Getter
+public final class JamendoPageBuffer {
+
+    // 음원당 평균 장르 수보다 넉넉하게
+    private static final int GENRES_PER_SONG = 3;
+    // 페이지당 로그에 남길 orphan 음원 수
+    private static final int ORPHAN_SAMPLE_SIZE = 5;
+
+    private final List<ArtistRow> artistRows;
+    private final List<AlbumRow> albumRows;
+    private final List<SongRow> songRows;
+    private final List<ArtistSongRow> artistSongRows;
+    private final List<ArtistAlbumRow> artistAlbumRows;
+    private final List<GenreRow> genreRows;
+    private final List<SongGenreRow> songGenreRows;
+    private final List<OrphanSongRow> orphanSamples = new ArrayList<>(ORPHAN_SAMPLE_SIZE);
+
+    private int trackCount;       // 응답의 음원 수 (필터링 전)
+    private int orphanSkipCount;  // 앨범 ID 없는 orphan 음원 스킵 수
+
+    public JamendoPageBuffer(int pageSize) {
+        this.artistRows = new ArrayList<>(pageSize);
+        this.albumRows = new ArrayList<>(pageSize);
+        this.songRows = new ArrayList<>(pageSize);
+        this.artistSongRows = new ArrayList<>(pageSize);
+        this.artistAlbumRows = new ArrayList<>(pageSize);
+        this.genreRows = new ArrayList<>(pageSize * GENRES_PER_SONG);
+        this.songGenreRows = new ArrayList<>(pageSize * GENRES_PER_SONG);
+    }
+
+    public void addTrack() {
+        trackCount++;
+    }
+
+    public void addOrphan(Long jamendoSongId, Long jamendoAlbumId, Long jamendoArtistId) {
+        orphanSkipCount++;
+        if (orphanSamples.size() < ORPHAN_SAMPLE_SIZE) {
+            orphanSamples.add(new OrphanSongRow(jamendoSongId, jamendoAlbumId, jamendoArtistId));
+        }
+    }
+
+    public boolean isEmpty() {
+        return trackCount == 0;
+    }
+
+    public void clear() {
+        artistRows.clear();
+        albumRows.clear();
+        songRows.clear();
+        artistSongRows.clear();
+        artistAlbumRows.clear();
+        genreRows.clear();
+        songGenreRows.clear();
+        orphanSamples.clear();
+        trackCount = 0;
+        orphanSkipCount = 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc.row;
+
+/**
+ * 앨범이 없어 저장하지 않은 음원 (로그 표본용)
+ */
+public record OrphanSongRow(
+        Long jamendoSongId,
+        Long jamendoAlbumId,
+        Long jamendoArtistId
+) {}
@@ -1,5 +1,10 @@
 package com.example.peachmusic.domain.openapi.jamendo.jdbc.row;
 
+import java.time.LocalDate;
+
+/**
+ * @param contentHash 음원 컬럼과 아티스트, 장르 관계까지 포함한 원본 해시 (같으면 음원과 관계 저장 생략)
+ */
 public record SongRow(
         Long jamendoSongId,
         Long jamendoAlbumId,
@@ -12,5 +17,7 @@ public record SongRow(
         String lang,
         String speed,
         String instruments,
-        String vartags
+        String vartags,
+        LocalDate releaseDate,
+        long contentHash
 ) {}
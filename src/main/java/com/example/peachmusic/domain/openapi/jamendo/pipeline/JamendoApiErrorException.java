@@ -0,0 +1,18 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+import lombok.Getter;
+
+/**
+ * Jamendo가 HTTP 200으로 돌려준 오류 응답 (headers.status != success, 요청 한도 초과, 잘못된 client_id 등)
+ * - 빈 results와 함께 오므로 음원 0건(기간 끝)으로 처리하지 않고 수집 실패로 전달
+ */
+@Getter
+public class JamendoApiErrorException extends RuntimeException {
+
+    private final String code;
+
+    public JamendoApiErrorException(String status, String code, String errorMessage) {
+        super("Jamendo API 오류 응답 - status=" + status + ", code=" + code + ", message=" + errorMessage);
+        this.code = code;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.JamendoPageBuffer;
+import com.example.peachmusic.domain.openapi.jamendo.service.JamendoApiService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Jamendo 음원 수집 파이프라인 (수집 스레드 여러 개 -> 제한된 대기열 -> 호출 스레드에서 저장)
+ * 1. 기간을 range-days일 단위로 나누고(splitDateRange), 수집 스레드들이 나눈 기간을 하나씩 가져가 페이지 끝까지 조회
+ * 2. 모든 수집 스레드가 하나의 토큰 버킷을 공유 -> 전체 요청 속도는 rate-per-second 이하
+ * 3. 대기열이 가득 차면 수집 스레드가 대기 -> 저장이 느려도 메모리에 페이지가 쌓이지 않음
+ *    - 페이지 버퍼는 (대기열 + 수집 스레드 + 저장 1)개만 만들어 저장이 끝나면 재사용 -> 페이지마다 행 목록을 새로 만들지 않음
+ * 4. 저장은 호출 스레드에서 실행 -> 호출한 쪽 트랜잭션 안에서 저장되고, 조회와 저장이 번갈아가지 않고 겹쳐서 진행
+ * - 기간을 나눠 조회하므로 한 기간의 offset은 전체 기간을 한 번에 조회할 때보다 훨씬 작음
+ * - 페이지 조회(jamendo.import.fetch.duration), 저장(jamendo.import.save.duration) 시간을 따로 기록 -> 병목 구간 확인
+ */
+@Slf4j
+@Component
+public class JamendoFetchPipeline {
+
+    private static final long POLL_MILLIS = 200L;
+
+    private final JamendoApiService jamendoApiService;
+    private final int fetcherCount;
+    private final int queueSize;
+    private final int rangeDays;
+    private final int pageSize;
+    private final double requestsPerSecond;
+    private final Timer fetchTimer;
+    private final Timer saveTimer;
+
+    public JamendoFetchPipeline(JamendoApiService jamendoApiService, MeterRegistry meterRegistry,
+                                @Value("${jamendo.import.fetchers:4}") int fetcherCount,
+                                @Value("${jamendo.import.queue-size:16}") int queueSize,
+                                @Value("${jamendo.import.range-days:7}") int rangeDays,
+                                @Value("${jamendo.import.page-size:200}") int pageSize,
+                                @Value("${jamendo.import.rate-per-second:8}") double requestsPerSecond) {
+        this.jamendoApiService = jamendoApiService;
+        this.fetcherCount = fetcherCount;
+        this.queueSize = queueSize;
+        this.rangeDays = rangeDays;
+        this.pageSize = pageSize;
+        this.requestsPerSecond = requestsPerSecond;
+
+        this.fetchTimer = Timer.builder("jamendo.import.fetch.duration")
+                .description("Jamendo 페이지 조회, 파싱 시간 (수집 스레드별)")
+                .register(meterRegistry);
+        this.saveTimer = Timer.builder("jamendo.import.save.duration")
+                .description("Jamendo 페이지 저장 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기간별 음원을 페이지 단위로 수집해 pageConsumer에 전달
+     * - 기간끼리의 페이지 순서는 보장하지 않음 (같은 기간 안에서는 순서대로)
+     * - 수집 또는 저장 중 예외가 나면 나머지 수집을 중단하고 예외를 그대로 던짐
+     * @param maxPage 전체 기간에 걸친 최대 조회 페이지 수
+     * @param pageConsumer 호출 스레드에서 실행
+     * @return 전달한 페이지 수 (기간 종료 알림 제외)
+     */
+    public int run(List<JamendoFetchRange> rangeList, int maxPage, Consumer<JamendoPage> pageConsumer) {
+        Queue<JamendoFetchRange> rangeQueue = new ConcurrentLinkedQueue<>(rangeList);
+        BlockingQueue<JamendoPage> pageQueue = new ArrayBlockingQueue<>(queueSize);
+        AtomicInteger remainingPage = new AtomicInteger(maxPage);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(requestsPerSecond);
+
+        int fetchers = Math.max(1, Math.min(fetcherCount, rangeQueue.size()));
+        BlockingQueue<JamendoPageBuffer> bufferPool = new ArrayBlockingQueue<>(queueSize + fetchers + 1);
+        for (int i = 0; i < queueSize + fetchers + 1; i++) {
+            bufferPool.add(new JamendoPageBuffer(pageSize));
+        }
+        CountDownLatch fetchDone = new CountDownLatch(fetchers);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(fetchers, runnable -> {
+            Thread thread = new Thread(runnable, "jamendo-fetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < fetchers; i++) {
+            executor.execute(() -> {
+                try {
+                    fetchRanges(rangeQueue, pageQueue, bufferPool, remainingPage, rateLimiter, failure);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    fetchDone.countDown();
+                }
+            });
+        }
+
+        int pageCount = 0;
+        try {
+            while (true) {
+                throwIfFailed(failure);
+
+                JamendoPage page = pageQueue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (page != null) {
+                    saveTimer.record(() -> pageConsumer.accept(page));
+                    if (!page.isEmpty()) {
+                        pageCount++;
+                    }
+                    if (page.rows() != null) {
+                        bufferPool.add(page.rows());
+                    }
+                    continue;
+                }
+                // 수집 스레드는 대기열에 넣은 뒤 종료를 알리므로, 모두 끝났는데 비어 있으면 남은 페이지 없음
+                if (fetchDone.getCount() == 0 && pageQueue.isEmpty()) {
+                    break;
+                }
+            }
+            throwIfFailed(failure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Jamendo 수집 대기 중 중단되었습니다.", e);
+        } finally {
+            // 저장 실패 시 대기열에서 기다리는 수집 스레드도 함께 종료
+            executor.shutdownNow();
+        }
+        return pageCount;
+    }
+
+    private void fetchRanges(Queue<JamendoFetchRange> rangeQueue, BlockingQueue<JamendoPage> pageQueue, BlockingQueue<JamendoPageBuffer> bufferPool,
+                             AtomicInteger remainingPage, TokenBucketRateLimiter rateLimiter,
+                             AtomicReference<RuntimeException> failure) throws InterruptedException {
+        JamendoFetchRange range;
+        while ((range = rangeQueue.poll()) != null) {
+            String dateBetween = range.dateBetween();
+
+            for (int page = range.startPage(); failure.get() == null; page++) {
+                if (remainingPage.getAndDecrement() <= 0) {
+                    log.warn("[Jamendo] 최대 페이지 수에 도달하여 수집을 중단합니다. datebetween={}", dateBetween);
+                    return;
+                }
+
+                rateLimiter.acquire();
+                JamendoPageBuffer buffer = bufferPool.take();
+                buffer.clear();
+                int trackCount;
+                Timer.Sample sample = Timer.start();
+                try {
+                    trackCount = jamendoApiService.fetchSongs(page, pageSize, dateBetween, buffer);
+                    sample.stop(fetchTimer);
+                } catch (RuntimeException e) {
+                    bufferPool.add(buffer);
+                    throw e;
+                }
+
+                if (trackCount == 0) {
+                    bufferPool.add(buffer);
+                    pageQueue.put(new JamendoPage(dateBetween, page - 1, null, true));
+                    break;
+                }
+
+                // 마지막 페이지면 다음 기간으로
+                boolean lastPage = trackCount < pageSize;
+                pageQueue.put(new JamendoPage(dateBetween, page, buffer, lastPage));
+                if (lastPage) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void throwIfFailed(AtomicReference<RuntimeException> failure) {
+        RuntimeException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * 기간을 range-days일 단위로 나눈 Jamendo datebetween 목록
+     */
+    public List<String> splitDateRange(LocalDate startDate, LocalDate endDate) {
+        return splitDateRange(startDate, endDate, rangeDays);
+    }
+
+    /**
+     * 기간을 days일 단위로 나눈 Jamendo datebetween 목록 (양 끝 포함, 겹치지 않음)
+     */
+    public static List<String> splitDateRange(LocalDate startDate, LocalDate endDate, int days) {
+        List<String> rangeList = new ArrayList<>();
+        for (LocalDate from = startDate; !from.isAfter(endDate); from = from.plusDays(days)) {
+            LocalDate to = from.plusDays(days - 1L);
+            rangeList.add(from + "_" + (to.isAfter(endDate) ? endDate : to));
+        }
+        return rangeList;
+    }
+}
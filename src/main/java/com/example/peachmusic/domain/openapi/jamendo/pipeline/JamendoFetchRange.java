@@ -0,0 +1,8 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+/**
+ * 수집할 기간과 시작 페이지 (재개 시 마지막으로 저장한 다음 페이지부터)
+ * @param dateBetween Jamendo datebetween (yyyy-MM-dd_yyyy-MM-dd)
+ */
+public record JamendoFetchRange(String dateBetween, int startPage) {
+}
@@ -0,0 +1,17 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.JamendoPageBuffer;
+
+/**
+ * 수집된 페이지
+ * - 한 기간의 페이지는 순서대로 전달됨
+ * - 마지막 페이지가 꽉 차 있었다면 rows 없이 기간 종료만 알림 (page는 마지막으로 받은 페이지)
+ * @param rows 테이블별 저장 행 (pageConsumer가 끝나면 다음 페이지에 재사용되므로 참조를 보관하지 않음)
+ * @param lastPage 이 기간의 마지막 페이지 여부
+ */
+public record JamendoPage(String dateBetween, int page, JamendoPageBuffer rows, boolean lastPage) {
+
+    public boolean isEmpty() {
+        return rows == null || rows.isEmpty();
+    }
+}
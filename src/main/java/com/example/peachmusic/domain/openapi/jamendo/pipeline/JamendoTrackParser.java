@@ -0,0 +1,279 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.*;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jamendo /tracks 응답 스트리밍 파싱
+ * - 음원 객체를 DTO로 만들지 않고 필드를 읽는 즉시 재사용 필드에 담고, 음원 끝에서 저장할 행만 버퍼에 추가
+ * - orphan(앨범 없음) 음원은 행을 만들지 않고, 영어가 아니거나 음원 정보가 부족한 음원은 아티스트, 앨범 행만 추가
+ * - 사용하지 않는 필드는 값을 만들지 않고 건너뜀
+ */
+@Component
+public class JamendoTrackParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * @return 응답의 음원 수 (필터링 전, 마지막 페이지 판단용)
+     * @throws JamendoApiErrorException headers.status가 success가 아닌 경우
+     */
+    public int parse(InputStream body, JamendoPageBuffer buffer) throws IOException {
+        TrackFields track = new TrackFields();
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Jamendo 응답이 JSON 객체가 아닙니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if ("headers".equals(fieldName) && token == JsonToken.START_OBJECT) {
+                    checkHeaders(parser);
+                    continue;
+                }
+
+                if (!"results".equals(fieldName) || token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    track.clear();
+                    readTrack(parser, track);
+                    addRows(track, buffer);
+                }
+            }
+        }
+        return buffer.getTrackCount();
+    }
+
+    /**
+     * 오류 응답도 HTTP 200 + 빈 results로 오므로 headers.status로 판단 (headers가 없으면 성공으로 간주)
+     */
+    private void checkHeaders(JsonParser parser) throws IOException {
+        String status = null;
+        String code = null;
+        String errorMessage = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "status" -> status = readText(parser);
+                case "code" -> code = readText(parser);
+                case "error_message" -> errorMessage = readText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (status != null && !"success".equals(status)) {
+            throw new JamendoApiErrorException(status, code, errorMessage);
+        }
+    }
+
+    private void readTrack(JsonParser parser, TrackFields track) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "id" -> track.songId = readLong(parser);
+                case "name" -> track.songName = readText(parser);
+                case "duration" -> track.duration = readLong(parser);
+                case "license_ccurl" -> track.licenseCcurl = readText(parser);
+                case "position" -> track.position = readLong(parser);
+                case "releasedate" -> track.releaseDate = readDate(parser);
+                case "audio" -> track.audio = readText(parser);
+                case "artist_id" -> track.artistId = readLong(parser);
+                case "artist_name" -> track.artistName = readText(parser);
+                case "album_id" -> track.albumId = readLong(parser);
+                case "album_name" -> track.albumName = readText(parser);
+                case "album_image" -> track.albumImage = readText(parser);
+                case "musicinfo" -> readMusicInfo(parser, track);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readMusicInfo(JsonParser parser, TrackFields track) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "vocalinstrumental" -> track.vocalInstrumental = readText(parser);
+                case "lang" -> track.lang = readText(parser);
+                case "speed" -> track.speed = readText(parser);
+                case "tags" -> readTags(parser, track);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readTags(JsonParser parser, TrackFields track) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "genres" -> readTextList(parser, track.genres);
+                case "instruments" -> readTextList(parser, track.instruments);
+                case "vartags" -> readTextList(parser, track.moods);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 음원 하나를 테이블별 행으로 추가 (기존 DTO 기반 적재와 같은 필터)
+     */
+    private void addRows(TrackFields track, JamendoPageBuffer buffer) {
+        buffer.addTrack();
+
+        // 앨범 정보가 없는 orphan 음원은 FK 정합성 보장을 위해서 적재에서 제외
+        if (track.songId == null || track.albumId == null) {
+            buffer.addOrphan(track.songId, track.albumId, track.artistId);
+            return;
+        }
+
+        buffer.getArtistRows().add(new ArtistRow(track.artistId, track.artistName));
+        buffer.getAlbumRows().add(new AlbumRow(track.albumId, track.albumName, track.releaseDate, track.albumImage));
+
+        if (!"en".equalsIgnoreCase(track.lang) || track.speed == null || track.instruments.isEmpty() || track.moods.isEmpty()) {
+            return;
+        }
+
+        Long duration = track.duration != null ? track.duration : 0L;
+        Long position = track.position != null ? track.position : 0L;
+        String instruments = String.join(",", track.instruments);
+        String vartags = String.join(",", track.moods);
+
+        // 음원 컬럼 + 관계(아티스트, 장르)
+        long contentHash = JamendoContentHash.of(track.songId, track.albumId, track.artistId,
+                track.songName, duration, track.licenseCcurl, position, track.audio,
+                track.vocalInstrumental, track.lang, track.speed, instruments, vartags, track.releaseDate,
+                track.genres);
+
+        buffer.getSongRows().add(new SongRow(track.songId, track.albumId, track.songName, duration, track.licenseCcurl,
+                position, track.audio, track.vocalInstrumental, track.lang, track.speed, instruments, vartags,
+                track.releaseDate, contentHash));
+        buffer.getArtistSongRows().add(new ArtistSongRow(track.artistId, track.songId));
+        buffer.getArtistAlbumRows().add(new ArtistAlbumRow(track.artistId, track.albumId));
+
+        for (String genre : track.genres) {
+            if (genre.isBlank()) continue;
+            buffer.getGenreRows().add(new GenreRow(genre));
+            buffer.getSongGenreRows().add(new SongGenreRow(track.songId, genre));
+        }
+    }
+
+    private String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return token == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    /**
+     * 숫자 또는 숫자 문자열 (Jamendo는 ID를 문자열로 응답)
+     */
+    private Long readLong(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        String text = readText(parser);
+        return text == null || text.isBlank() ? null : Long.valueOf(text.trim());
+    }
+
+    private LocalDate readDate(JsonParser parser) throws IOException {
+        String text = readText(parser);
+        return text == null || text.isBlank() ? null : LocalDate.parse(text.trim());
+    }
+
+    private void readTextList(JsonParser parser, List<String> list) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                list.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 음원 하나의 필드 (페이지 내 모든 음원이 재사용)
+     */
+    private static final class TrackFields {
+
+        private Long songId;
+        private String songName;
+        private Long duration;
+        private String licenseCcurl;
+        private Long position;
+        private LocalDate releaseDate;
+        private String audio;
+        private Long artistId;
+        private String artistName;
+        private Long albumId;
+        private String albumName;
+        private String albumImage;
+        private String vocalInstrumental;
+        private String lang;
+        private String speed;
+        private final List<String> genres = new ArrayList<>();
+        private final List<String> instruments = new ArrayList<>();
+        private final List<String> moods = new ArrayList<>();
+
+        private void clear() {
+            songId = null;
+            songName = null;
+            duration = null;
+            licenseCcurl = null;
+            position = null;
+            releaseDate = null;
+            audio = null;
+            artistId = null;
+            artistName = null;
+            albumId = null;
+            albumName = null;
+            albumImage = null;
+            vocalInstrumental = null;
+            lang = null;
+            speed = null;
+            genres.clear();
+            instruments.clear();
+            moods.clear();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 요청 속도 제한
+ * - 초당 permitsPerSecond개씩 토큰이 차고 최대 permitsPerSecond개까지 모아 둠 (순간 몰림 허용)
+ * - 토큰이 없으면 다음 토큰 시각을 예약하고 락 밖에서 대기 -> 여러 스레드가 순서대로 나눠 가짐
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1.0, permitsPerSecond);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 (없으면 생길 때까지 대기)
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens / permitsPerNano);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.peachmusic.domain.openapi.jamendo.repository;
+
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJobRange;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JamendoImportJobRangeRepository extends JpaRepository<JamendoImportJobRange, Long> {
+
+    List<JamendoImportJobRange> findAllByJobIdAndCompletedFalseOrderByRangeIdAsc(Long jobId);
+
+    long countByJobId(Long jobId);
+
+    long countByJobIdAndCompletedTrue(Long jobId);
+}
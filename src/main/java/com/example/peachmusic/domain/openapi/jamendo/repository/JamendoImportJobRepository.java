@@ -0,0 +1,13 @@
+package com.example.peachmusic.domain.openapi.jamendo.repository;
+
+import com.example.peachmusic.common.enums.JamendoImportJobStatus;
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface JamendoImportJobRepository extends JpaRepository<JamendoImportJob, Long> {
+
+    boolean existsByStatusInAndModifiedAtAfter(Collection<JamendoImportJobStatus> statuses, LocalDateTime modifiedAt);
+}
@@ -1,23 +1,30 @@
 package com.example.peachmusic.domain.openapi.jamendo.service;
 
-import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoSongResponseDto;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.JamendoPageBuffer;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoTrackParser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
 @Service
 @RequiredArgsConstructor
 public class JamendoApiService {
 
     private final RestClient jamendoRestClient;
+    private final JamendoTrackParser jamendoTrackParser;
 
     @Value("${jamendo.api.key}")
     private String clientId;
 
-    public JamendoSongResponseDto fetchSongs(int page, int limit, String datebetween) {
+    /**
+     * 음원 한 페이지를 조회해 응답 스트림을 읽으면서 buffer에 저장할 행 추가
+     * @return 응답의 음원 수 (필터링 전)
+     */
+    public int fetchSongs(int page, int limit, String datebetween, JamendoPageBuffer buffer) {
 
-        JamendoSongResponseDto response = jamendoRestClient.get()
+        Integer trackCount = jamendoRestClient.get()
                 .uri(uriBuilder -> {
                     uriBuilder
                             .path("/tracks")
@@ -34,9 +41,14 @@ public class JamendoApiService {
 
                             return uriBuilder.build();
                 })
-                .retrieve()
-                .body(JamendoSongResponseDto.class);
-
-        return response;
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new RestClientResponseException("Jamendo API 응답 오류", response.getStatusCode(),
+                                response.getStatusText(), response.getHeaders(), null, null);
+                    }
+                    return jamendoTrackParser.parse(response.getBody(), buffer);
+                });
+
+        return trackCount == null ? 0 : trackCount;
     }
-}
\ No newline at end of file
+}
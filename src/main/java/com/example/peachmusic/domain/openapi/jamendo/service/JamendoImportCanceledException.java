@@ -0,0 +1,11 @@
+package com.example.peachmusic.domain.openapi.jamendo.service;
+
+/**
+ * 페이지 저장 시점에 작업이 취소 요청된 상태 -> 해당 페이지 트랜잭션 롤백 후 수집 중단
+ */
+class JamendoImportCanceledException extends RuntimeException {
+
+    JamendoImportCanceledException(Long jobId) {
+        super("Jamendo 적재 작업이 취소되었습니다. jobId=" + jobId);
+    }
+}
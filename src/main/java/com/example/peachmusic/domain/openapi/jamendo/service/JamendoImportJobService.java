@@ -0,0 +1,226 @@
+package com.example.peachmusic.domain.openapi.jamendo.service;
+
+import com.example.peachmusic.common.enums.ErrorCode;
+import com.example.peachmusic.common.enums.JamendoImportJobStatus;
+import com.example.peachmusic.common.enums.JamendoImportJobType;
+import com.example.peachmusic.common.exception.CustomException;
+import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoImportJobResponseDto;
+import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoInitRequestDto;
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJob;
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJobRange;
+import com.example.peachmusic.domain.openapi.jamendo.event.JamendoImportCompletedEvent;
+import com.example.peachmusic.domain.openapi.jamendo.event.JamendoImportJobStartedEvent;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.JamendoImportJobJdbcRepository;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoFetchPipeline;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoFetchRange;
+import com.example.peachmusic.domain.openapi.jamendo.repository.JamendoImportJobRangeRepository;
+import com.example.peachmusic.domain.openapi.jamendo.repository.JamendoImportJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Jamendo 적재 작업 관리
+ * 1. 요청 시 작업과 수집 기간별 체크포인트만 저장하고 작업 ID 반환 -> 적재는 커밋 후 백그라운드 스레드에서 실행
+ * 2. 페이지마다 음원과 체크포인트를 한 트랜잭션으로 커밋 -> 실패해도 저장된 페이지는 유지되고 커넥션은 페이지 저장 동안만 사용
+ * 3. 실패, 취소된 작업은 기간별 마지막 커밋 페이지 다음부터 재개 (남은 페이지 수도 이어서 적용)
+ * - 서버가 중단되어 RUNNING으로 남은 작업은 STALE_AFTER 동안 진행 상황이 없으면 재개, 취소 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JamendoImportJobService {
+
+    private static final int INIT_MAX_PAGE = 10000;
+    private static final int DAILY_MAX_PAGE = 1000;
+    private static final int MONTHLY_MAX_PAGE = 2000;
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    // 페이지 저장 간격보다 충분히 길게 설정
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+    private static final List<JamendoImportJobStatus> ACTIVE_STATUSES = List.of(JamendoImportJobStatus.RUNNING, JamendoImportJobStatus.CANCEL_REQUESTED);
+
+    private final JamendoImportJobRepository importJobRepository;
+    private final JamendoImportJobRangeRepository importJobRangeRepository;
+    private final JamendoImportJobJdbcRepository importJobJdbcRepository;
+    private final JamendoFetchPipeline jamendoFetchPipeline;
+    private final JamendoSongService jamendoSongService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 작업은 한 번에 하나씩 실행 -> 범위가 커져도 수집 스레드, 대기열, 커넥션 사용량은 일정
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jamendo-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Jamendo 음원 초기 적재 작업 시작
+     */
+    @Transactional
+    public Long startInitImport(JamendoInitRequestDto request) {
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            throw new CustomException(ErrorCode.JAMENDO_INVALID_DATE_RANGE);
+        }
+        return createJob(JamendoImportJobType.INIT, request.getStartDate(), request.getEndDate(), INIT_MAX_PAGE);
+    }
+
+    /**
+     * Jamendo 음원 정기 적재(일간 동기화) 작업 시작
+     */
+    @Transactional
+    public Long startDailyImport() {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        return createJob(JamendoImportJobType.DAILY, today.minusDays(1), today, DAILY_MAX_PAGE);
+    }
+
+    /**
+     * Jamendo 정합성 동기화 (최근 6개월) 작업 시작
+     */
+    @Transactional
+    public Long startMonthlySync() {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        return createJob(JamendoImportJobType.MONTHLY, today.minusMonths(6), today, MONTHLY_MAX_PAGE);
+    }
+
+    @Transactional(readOnly = true)
+    public JamendoImportJobResponseDto getImportJob(Long jobId) {
+        JamendoImportJob job = findImportJob(jobId);
+        return JamendoImportJobResponseDto.from(job,
+                importJobRangeRepository.countByJobId(jobId), importJobRangeRepository.countByJobIdAndCompletedTrue(jobId));
+    }
+
+    /**
+     * 작업 취소
+     * - 실행 중이면 취소 요청만 기록하고, 실행 스레드가 다음 페이지 저장 시점에 롤백 후 중단
+     * - 실행 중인 서버가 없는 작업은 바로 취소
+     */
+    @Transactional
+    public void cancelImportJob(Long jobId) {
+        findImportJob(jobId);
+
+        if (importJobJdbcRepository.cancelStale(jobId, staleBefore()) > 0) {
+            return;
+        }
+        if (importJobJdbcRepository.requestCancel(jobId) == 0) {
+            throw new CustomException(ErrorCode.JAMENDO_IMPORT_JOB_NOT_CANCELABLE);
+        }
+    }
+
+    /**
+     * 실패, 취소된 작업 재개
+     */
+    @Transactional
+    public void resumeImportJob(Long jobId) {
+        importJobJdbcRepository.lockJobStart();
+        findImportJob(jobId);
+        validateNoActiveJob();
+
+        if (importJobJdbcRepository.resume(jobId, staleBefore()) == 0) {
+            throw new CustomException(ErrorCode.JAMENDO_IMPORT_JOB_NOT_RESUMABLE);
+        }
+        eventPublisher.publishEvent(new JamendoImportJobStartedEvent(jobId));
+    }
+
+    /**
+     * 작업, 체크포인트 저장이 커밋된 뒤 실행 (커밋 전에 실행 스레드가 조회하지 않도록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleJobStarted(JamendoImportJobStartedEvent event) {
+        executor.execute(() -> runImportJob(event.jobId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 작업은 FAILED로 남고, 재개하면 마지막 커밋 페이지 다음부터 이어서 적재
+        executor.shutdownNow();
+    }
+
+    private Long createJob(JamendoImportJobType jobType, LocalDate startDate, LocalDate endDate, int maxPage) {
+        importJobJdbcRepository.lockJobStart();
+        validateNoActiveJob();
+
+        JamendoImportJob job = importJobRepository.save(new JamendoImportJob(jobType, startDate, endDate, maxPage));
+        Long jobId = job.getJobId();
+
+        List<JamendoImportJobRange> rangeList = jamendoFetchPipeline.splitDateRange(startDate, endDate).stream()
+                .map(dateBetween -> new JamendoImportJobRange(jobId, dateBetween))
+                .toList();
+        importJobRangeRepository.saveAll(rangeList);
+
+        eventPublisher.publishEvent(new JamendoImportJobStartedEvent(jobId));
+        return jobId;
+    }
+
+    /**
+     * 적재 실행 (실행 스레드)
+     * - 페이지 저장(JamendoSongService.savePage)마다 별도 트랜잭션으로 커밋
+     */
+    private void runImportJob(Long jobId) {
+        JamendoImportJob job = importJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        List<JamendoFetchRange> rangeList = importJobRangeRepository.findAllByJobIdAndCompletedFalseOrderByRangeIdAsc(jobId).stream()
+                .map(range -> new JamendoFetchRange(range.getDateBetween(), range.getLastPage() + 1))
+                .toList();
+        int remainingPage = job.getMaxPage() - job.getPageCount();
+        long start = System.currentTimeMillis();
+
+        try {
+            int pageCount = jamendoFetchPipeline.run(rangeList, remainingPage, page -> jamendoSongService.savePage(jobId, page));
+            importJobJdbcRepository.finish(jobId, JamendoImportJobStatus.COMPLETED, null);
+            log.info("=== Jamendo 적재 완료 === jobId={}, 기간: {}, 페이지: {}, {}ms", jobId, rangeList.size(), pageCount, System.currentTimeMillis() - start);
+        } catch (JamendoImportCanceledException e) {
+            importJobJdbcRepository.finish(jobId, JamendoImportJobStatus.CANCELED, null);
+            log.info("=== Jamendo 적재 취소 === jobId={}", jobId);
+        } catch (RuntimeException e) {
+            log.error("=== Jamendo 적재 실패 === jobId={}", jobId, e);
+            importJobJdbcRepository.finish(jobId, JamendoImportJobStatus.FAILED, abbreviate(e.toString()));
+        } finally {
+            // 중단되더라도 커밋된 페이지만큼 검색 인덱스, 캐시 재적재
+            JamendoImportJob finished = importJobRepository.findById(jobId).orElse(job);
+            log.info("Jamendo 적재 행 수 - jobId={}, inserted={}, updated={}, skipped={}",
+                    jobId, finished.getInsertedRowCount(), finished.getUpdatedRowCount(), finished.getSkippedRowCount());
+            eventPublisher.publishEvent(new JamendoImportCompletedEvent((int) finished.getSongCount()));
+        }
+    }
+
+    private JamendoImportJob findImportJob(Long jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.JAMENDO_IMPORT_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 진행 상황이 갱신되고 있는 작업이 있으면 새 작업 시작, 재개 불가
+     * - 시작, 재개 잠금(lockJobStart)을 잡은 뒤 호출 -> 동시 요청은 앞선 요청의 커밋 후 확인
+     */
+    private void validateNoActiveJob() {
+        if (importJobRepository.existsByStatusInAndModifiedAtAfter(ACTIVE_STATUSES, staleBefore())) {
+            throw new CustomException(ErrorCode.JAMENDO_IMPORT_JOB_ALREADY_RUNNING);
+        }
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minus(STALE_AFTER);
+    }
+
+    private String abbreviate(String message) {
+        return message.length() <= ERROR_MESSAGE_LENGTH ? message : message.substring(0, ERROR_MESSAGE_LENGTH);
+    }
+}
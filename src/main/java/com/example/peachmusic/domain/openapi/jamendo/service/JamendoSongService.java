@@ -1,200 +1,106 @@
 package com.example.peachmusic.domain.openapi.jamendo.service;
 
-import com.example.peachmusic.common.enums.ErrorCode;
 import com.example.peachmusic.common.enums.ProgressingStatus;
-import com.example.peachmusic.common.exception.CustomException;
-import com.example.peachmusic.domain.openapi.jamendo.dto.*;
+import com.example.peachmusic.common.enums.WorkerJobType;
 import com.example.peachmusic.domain.openapi.jamendo.jdbc.JamendoBatchJdbcRepository;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.JamendoImportJobJdbcRepository;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.JamendoUpsertCount;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.JamendoUpsertResult;
 import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.*;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoPage;
+import com.example.peachmusic.domain.worker.jdbc.WorkerOutboxJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JamendoSongService {
 
-    private final JamendoApiService jamendoApiService;
     private final JamendoBatchJdbcRepository batchJdbcRepository;
-
-    private static final int INIT_MAX_PAGE = 10000;
-    private static final int DAILY_MAX_PAGE = 1000;
-    private static final int MONTHLY_MAX_PAGE = 2000;
-
-    // 앨범 ID 없는 음원 스킵 로그 샘플 5개
-    private static final int ORPHAN_LOG_LIMIT = 5;
+    private final JamendoImportJobJdbcRepository importJobJdbcRepository;
+    private final WorkerOutboxJdbcRepository workerOutboxJdbcRepository;
 
     /**
-     * Jamendo 음원 초기 적재
+     * 수집된 페이지 저장 (페이지마다 한 트랜잭션)
+     * - 음원 저장과 체크포인트(기간별 마지막 페이지, 작업 진행 상황)를 함께 커밋 -> 재개 시 커밋된 다음 페이지부터 수집
+     * - 작업이 취소 요청된 상태면 이 페이지는 롤백하고 JamendoImportCanceledException
      */
     @Transactional
-    public void importInitJamendo(JamendoInitRequestDto request) {
-        if (request.getStartDate().isAfter(request.getEndDate())) {
-            throw new CustomException(ErrorCode.JAMENDO_INVALID_DATE_RANGE);
-        }
-        String dateBetween = request.getStartDate() + "_" + request.getEndDate();
-        importJamendoByDateRange(INIT_MAX_PAGE, dateBetween);
-    }
-
-    /**
-     * Jamendo 음원 매일 3시 정기 적재(일간 동기화)
-     */
-    @Transactional
-    public void importScheduledJamendo() {
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDate yesterday = today.minusDays(1);
-        String dateBetween = yesterday + "_" + today;
-        importJamendoByDateRange(DAILY_MAX_PAGE, dateBetween);
-    }
+    public void savePage(Long jobId, JamendoPage page) {
+        PageWriteResult result = page.isEmpty() ? PageWriteResult.EMPTY : saveRows(page.rows());
 
-    /**
-     * Jamendo 월 1회 정합성 동기화 (최근 6개월)
-     */
-    @Transactional
-    public void importJamendoMonthlySync() {
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDate oneMonthAgo = today.minusMonths(6);
-        String dateBetween = oneMonthAgo + "_" + today;
-        importJamendoByDateRange(MONTHLY_MAX_PAGE, dateBetween);
+        if (!importJobJdbcRepository.saveCheckpoint(jobId, page, result.songCount(), result.upsertCount())) {
+            throw new JamendoImportCanceledException(jobId);
+        }
     }
 
     /**
-     * Jamendo 적재 핵심 로직
+     * 페이지 단위로 일괄 저장 (행은 수집 스레드가 응답을 읽으면서 필터링, 변환해 둠 - JamendoTrackParser)
+     * - 원본 해시가 같은 아티스트, 앨범, 음원은 쓰기 생략
+     * - 음원 해시는 아티스트, 장르까지 포함하므로 변경되지 않은 음원의 관계도 다시 저장하지 않음
+     * - 새로 저장된 음원만 NOT_READY로 두고 Worker 다운로드 요청을 outbox에 함께 적재 (제목, 태그 변경 등은 다시 내려받지 않음)
      */
-    public void importJamendoByDateRange(int maxPage, String dateBetween) {
-        int limit = 200;        // Jamendo API 한 페이지당 조회 개수
-        int successCount = 0;   // 처리된 음원 수
-        int orphanSkipCount = 0;// 앨범 ID 없는 orphan 음원 스킵 수
-        int orphanLogCount = 0; // orphan 로그 샘플 카운트
-
-        // Jamendo API 페이지 단위로 반복
-        for (int page = 1; page <= maxPage; page++) {
-            JamendoSongResponseDto response = jamendoApiService.fetchSongs(page, limit, dateBetween);
-            List<JamendoSongDto> results = response.getResults();
-
-            if (results == null || results.isEmpty()) {
-                break;
-            }
-
-            List<ArtistRow> artistRowList = new ArrayList<>(); // 부모 테이블
-            List<AlbumRow> albumRowList = new ArrayList<>();
-            List<GenreRow> genreRowList = new ArrayList<>();
-            List<SongRow> songList = new ArrayList<>();
-
-            List<ArtistSongRow> artistSongRowList = new ArrayList<>();
-            List<ArtistAlbumRow> artistAlbumRowList = new ArrayList<>();
-            List<SongGenreRow> songGenreRowList = new ArrayList<>();
-
-            // 페이지 단위로 음원 처리
-            for (JamendoSongDto dto : results) {
-
-                Long jamendoSongId = dto.getJamendoSongId();
-
-                // 앨범 정보가 없는 orphan 음원은 FK 정합성 보장을 위해서 적재에서 제외
-                if (jamendoSongId == null || dto.getJamendoAlbumId() == null) {
-                    orphanSkipCount++;
-                    // 중복 스킵 샘플 로그
-                    if (orphanLogCount < ORPHAN_LOG_LIMIT) {
-                        log.warn(
-                                "[Jamendo Skip] orphan song(no album) - songId={}, albumId={}, artistId={}",
-                                dto.getJamendoSongId(),
-                                dto.getJamendoAlbumId(),
-                                dto.getJamendoArtistId()
-                        );
-                        orphanLogCount++;
-                    }
-                    continue;
-                }
-
-                Long jamendoArtistId = dto.getJamendoArtistId();
-                Long jamendoAlbumId = dto.getJamendoAlbumId();
-
-                artistRowList.add(new ArtistRow(jamendoArtistId, dto.getJamendoArtistName()));
-                albumRowList.add(new AlbumRow(jamendoAlbumId, dto.getJamendoAlbumName(), dto.getJamendoAlbumReleaseDate(), dto.getJamendoAlbumImage()));
-
-                JamendoMusicInfoDto musicInfo = dto.getJamendoMusicInfo();
-                JamendoTagDto tags = (musicInfo != null) ? musicInfo.getTags() : null;
-
-                if (musicInfo == null || musicInfo.getLang() == null || !"en".equalsIgnoreCase(musicInfo.getLang()) || musicInfo.getSpeed() == null || tags == null || tags.getInstruments() == null || tags.getInstruments().isEmpty() || tags.getMoods() == null || tags.getMoods().isEmpty()) {
-                    continue;
-                }
-
-                songList.add(toSongRowList(dto, musicInfo, tags));
-                artistSongRowList.add(new ArtistSongRow(jamendoArtistId, jamendoSongId));
-                artistAlbumRowList.add(new ArtistAlbumRow(jamendoArtistId, jamendoAlbumId));
+    private PageWriteResult saveRows(JamendoPageBuffer rows) {
+        if (rows.getOrphanSkipCount() > 0) {
+            log.warn("[Jamendo Skip] orphan song(no album) {}건, 예: {}", rows.getOrphanSkipCount(), rows.getOrphanSamples());
+        }
 
-                if (tags.getGenres() != null) {
-                    for (String genre : tags.getGenres()) {
-                        if (genre == null || genre.isBlank()) continue;
-                        genreRowList.add(new GenreRow(genre));
-                        songGenreRowList.add(new SongGenreRow(jamendoSongId, genre));
-                    }
-                }
-                successCount++;
+        // 외부 API 기준 데이터 -> 변경 가능해서 upsert(ON DUPLICATE KEY UPDATE) 사용, 저장 후 내부 ID 확인
+        JamendoUpsertResult artistResult = batchJdbcRepository.upsertArtists(rows.getArtistRows());
+        JamendoUpsertResult albumResult = batchJdbcRepository.upsertAlbums(rows.getAlbumRows());
+        Map<String, Long> genreIdMap = batchJdbcRepository.upsertGenres(rows.getGenreRows());
+        JamendoUpsertResult songResult = batchJdbcRepository.upsertSongs(rows.getSongRows(), albumResult.idMap());
+
+        Set<Long> writtenSongIdSet = songResult.writtenIdSet();
+        Set<Long> insertedSongIdSet = songResult.insertedIdSet();
+        Map<Long, Long> artistIdMap = artistResult.idMap();
+        Map<Long, Long> songIdMap = songResult.idMap();
+
+        List<SongRow> songRows = rows.getSongRows();
+        List<SongProgressingStatusRow> songProgressingStatusRows = new ArrayList<>(insertedSongIdSet.size());
+        List<ArtistSongRow> artistSongRows = new ArrayList<>(writtenSongIdSet.size());
+        List<ArtistAlbumRow> artistAlbumRows = new ArrayList<>(writtenSongIdSet.size());
+
+        for (int i = 0; i < songRows.size(); i++) {
+            Long jamendoSongId = songRows.get(i).jamendoSongId();
+            if (!writtenSongIdSet.contains(jamendoSongId)) {
+                continue;
             }
-
-            List<SongProgressingStatusRow> songProgressingStatusRows = songList.stream()
-                    .map(song -> new SongProgressingStatusRow(
-                            song.jamendoSongId(),
-                            ProgressingStatus.NOT_READY.name()
-                    ))
-                    .toList();
-
-            // 외부 API 기준 데이터 -> 변경 가능해서 upsert(ON DUPLICATE KEY UPDATE) 사용
-            batchJdbcRepository.upsertArtists(artistRowList);
-            batchJdbcRepository.upsertAlbums(albumRowList);
-            batchJdbcRepository.upsertGenres(genreRowList);
-            batchJdbcRepository.upsertSongs(songList);
-            batchJdbcRepository.upsertSongProgressingStatus(songProgressingStatusRows);
-
-            // 관계는 상태가 아니라 존재여부여서 insert ignore
-            batchJdbcRepository.insertArtistSongs(artistSongRowList);
-            batchJdbcRepository.insertArtistAlbums(artistAlbumRowList);
-            batchJdbcRepository.insertSongGenres(songGenreRowList);
-
-            // 마지막 페이지면 종료
-            if (results.size() < limit) {
-                break;
+            if (insertedSongIdSet.contains(jamendoSongId)) {
+                songProgressingStatusRows.add(new SongProgressingStatusRow(jamendoSongId, ProgressingStatus.NOT_READY.name()));
             }
+            artistSongRows.add(rows.getArtistSongRows().get(i));
+            artistAlbumRows.add(rows.getArtistAlbumRows().get(i));
         }
-        log.info("=== Jamendo 적재 완료 ===");
-        log.info("성공: {}, orphan 스킵(앨범 없음): {}", successCount, orphanSkipCount);
+        batchJdbcRepository.upsertSongProgressingStatus(songProgressingStatusRows, songIdMap);
+        // 새 음원 다운로드 요청 (페이지와 같은 트랜잭션, 전송은 WorkerOutboxDispatcher가 묶어서)
+        workerOutboxJdbcRepository.enqueue(WorkerJobType.DOWNLOAD,
+                songProgressingStatusRows.stream().map(r -> songIdMap.get(r.jamendoSongId())).filter(Objects::nonNull).toList());
+
+        // 관계는 상태가 아니라 존재여부여서 insert ignore
+        batchJdbcRepository.insertArtistSongs(artistSongRows, artistIdMap, songIdMap);
+        batchJdbcRepository.insertArtistAlbums(artistAlbumRows, artistIdMap, albumResult.idMap());
+        batchJdbcRepository.insertSongGenres(
+                rows.getSongGenreRows().stream().filter(r -> writtenSongIdSet.contains(r.jamendoSongId())).toList(), songIdMap, genreIdMap);
+
+        return new PageWriteResult(songRows.size(), artistResult.count().plus(albumResult.count()).plus(songResult.count()));
     }
 
     /**
-     * 음악 엔티티 생성 전용 메서드(DTO -> Song 변환 담당)
+     * 페이지 저장 결과
+     * @param songCount 처리된 음원 수
      */
-    private SongRow toSongRowList(JamendoSongDto dto, JamendoMusicInfoDto info, JamendoTagDto tags) {
-        return new SongRow(
-                dto.getJamendoSongId(),
-                dto.getJamendoAlbumId(),
-                dto.getJamendoSongName(),
-                dto.getJamendoDuration() != null ? dto.getJamendoDuration() : 0L,
-                dto.getJamendoLicenseCcurl(),
-                dto.getJamendoPosition() != null ? dto.getJamendoPosition() : 0L,
-                dto.getJamendoAudioUrl(),
-                info != null ? info.getVocalInstrumental() : null,
-                info != null ? info.getLang() : null,
-                info != null ? info.getSpeed() : null,
-                tags != null ? joinList(tags.getInstruments()) : null,
-                tags != null ? joinList(tags.getMoods()) : null
-        );
-    }
+    private record PageWriteResult(int songCount, JamendoUpsertCount upsertCount) {
 
-    /**
-     * List<String> → 악기 / 분위기 문자열 변환
-     */
-    private String joinList(List<String> list) {
-        if (list == null || list.isEmpty()) {
-            return "";
-        }
-        return String.join(",", list);
+        private static final PageWriteResult EMPTY = new PageWriteResult(0, JamendoUpsertCount.EMPTY);
     }
-}
\ No newline at end of file
+}
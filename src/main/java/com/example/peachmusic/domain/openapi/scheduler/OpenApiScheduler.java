@@ -1,6 +1,7 @@
 package com.example.peachmusic.domain.openapi.scheduler;
 
-import com.example.peachmusic.domain.openapi.jamendo.service.JamendoSongService;
+import com.example.peachmusic.common.exception.CustomException;
+import com.example.peachmusic.domain.openapi.jamendo.service.JamendoImportJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,18 +12,26 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class OpenApiScheduler {
 
-    private final JamendoSongService jamendoSongService;
+    private final JamendoImportJobService jamendoImportJobService;
 
     /**
      * Jamendo 음원 매일 3시 정기 적재
      */
     @Scheduled(cron = "0 0 3 * * ?")
     public void importScheduledJamendo() {
-        jamendoSongService.importScheduledJamendo();
+        try {
+            jamendoImportJobService.startDailyImport();
+        } catch (CustomException e) {
+            log.warn("Jamendo 정기 적재를 시작하지 못했습니다. - {}", e.getMessage());
+        }
     }
 
     @Scheduled(cron = "0 30 3 1 * ?")
     public void importJamendoMonthlySync() {
-        jamendoSongService.importJamendoMonthlySync();
+        try {
+            jamendoImportJobService.startMonthlySync();
+        } catch (CustomException e) {
+            log.warn("Jamendo 정합성 동기화를 시작하지 못했습니다. - {}", e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
@@ -14,9 +14,11 @@ import com.example.peachmusic.domain.playlist.dto.response.PlaylistUpdateRespons
 import com.example.peachmusic.domain.playlist.entity.Playlist;
 import com.example.peachmusic.domain.playlist.repository.PlaylistRepository;
 import com.example.peachmusic.domain.playlistsong.repository.PlaylistSongRepository;
+import com.example.peachmusic.domain.song.recommend.RecommendSeedChangedEvent;
 import com.example.peachmusic.domain.user.entity.User;
 import com.example.peachmusic.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,6 +34,7 @@ public class PlaylistService {
     private final PlaylistSongRepository playlistSongRepository;
     private final FileStorageService fileStorageService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 플레이리스트 생성
@@ -131,10 +134,18 @@ public class PlaylistService {
             throw new CustomException(ErrorCode.AUTH_AUTHORIZATION_REQUIRED);
         }
 
+        List<Long> removedSongIdList = playlistSongRepository.findAllByPlaylist(findPlaylist).stream()
+                .map(playlistSong -> playlistSong.getSong().getSongId())
+                .toList();
+
         playlistSongRepository.deleteAllByPlaylist(findPlaylist);
 
         playlistRepository.delete(findPlaylist);
 
+        if (!removedSongIdList.isEmpty()) {
+            eventPublisher.publishEvent(RecommendSeedChangedEvent.removed(authUser.getUserId(), removedSongIdList));
+        }
+
     }
 
     private String storePlaylistImage(MultipartFile playlistImage, Long playlistId) {
@@ -15,9 +15,11 @@ import com.example.peachmusic.domain.playlistsong.dto.response.PlaylistSongDelet
 import com.example.peachmusic.domain.playlistsong.entity.PlaylistSong;
 import com.example.peachmusic.domain.playlistsong.repository.PlaylistSongRepository;
 import com.example.peachmusic.domain.song.entity.Song;
+import com.example.peachmusic.domain.song.recommend.RecommendSeedChangedEvent;
 import com.example.peachmusic.domain.song.repository.SongRepository;
 import com.example.peachmusic.domain.songlike.repository.SongLikeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,7 @@ public class PlaylistSongService {
     private final SongRepository songRepository;
     private final SongLikeRepository songLikeRepository;
     private final ArtistSongRepository artistSongRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 플레이리스트 음원 조회
@@ -109,6 +112,10 @@ public class PlaylistSongService {
 
         playlistSongRepository.saveAll(playlistSongList);
 
+        if (!validSongIdList.isEmpty()) {
+            eventPublisher.publishEvent(RecommendSeedChangedEvent.added(userId, validSongIdList));
+        }
+
         return PlaylistSongAddResponseDto.from(findPlaylist.getPlaylistId(), validSongIdList, validSongIdList.size());
 
     }
@@ -141,6 +148,10 @@ public class PlaylistSongService {
 
         playlistSongRepository.deletePlaylistSongByPlaylist_PlaylistIdAndSong_SongId(findPlaylist.getPlaylistId(), validSongIdList);
 
+        if (!validSongIdList.isEmpty()) {
+            eventPublisher.publishEvent(RecommendSeedChangedEvent.removed(userId, validSongIdList));
+        }
+
         return PlaylistSongDeleteSongResponseDto.from(findPlaylist, validSongIdList);
 
     }
@@ -3,6 +3,8 @@ package com.example.peachmusic.domain.search.controller;
 import com.example.peachmusic.common.model.CommonResponse;
 import com.example.peachmusic.domain.search.dto.SearchPopularResponseDto;
 import com.example.peachmusic.domain.search.dto.SearchPreviewResponseDto;
+import com.example.peachmusic.domain.search.dto.SearchSuggestionResponseDto;
+import com.example.peachmusic.domain.search.service.AutocompleteService;
 import com.example.peachmusic.domain.search.service.SearchHistoryService;
 import com.example.peachmusic.domain.search.service.SearchService;
 import jakarta.validation.constraints.NotBlank;
@@ -21,6 +23,7 @@ public class SearchController {
 
     private final SearchHistoryService searchHistoryService;
     private final SearchService searchService;
+    private final AutocompleteService autocompleteService;
 
     /**
      * 통합 검색 - 미리보기
@@ -44,4 +47,19 @@ public class SearchController {
         List<SearchPopularResponseDto> result = searchHistoryService.searchPopular();
         return ResponseEntity.ok(CommonResponse.success("인기 검색어가 조회되었습니다.", result));
     }
+
+    /**
+     * 검색어 자동완성 (입력 중 호출, 검색어 랭킹에 기록하지 않음)
+     * @param word 입력 중인 검색어
+     * @param size 후보 수 (최대 20)
+     * @return 자동완성 후보 목록
+     */
+    @GetMapping("/search/autocomplete")
+    public ResponseEntity<CommonResponse<List<SearchSuggestionResponseDto>>> autocomplete(
+            @NotBlank(message = "검색어를 입력해주세요.") @RequestParam String word,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<SearchSuggestionResponseDto> result = autocompleteService.suggest(word, size);
+        return ResponseEntity.ok(CommonResponse.success("자동완성 후보가 조회되었습니다.", result));
+    }
 }
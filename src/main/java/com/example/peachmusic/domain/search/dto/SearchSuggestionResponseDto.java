@@ -0,0 +1,11 @@
+package com.example.peachmusic.domain.search.dto;
+
+import com.example.peachmusic.common.enums.SearchSuggestionType;
+import com.example.peachmusic.domain.search.index.AutocompleteIndex;
+
+public record SearchSuggestionResponseDto(String text, SearchSuggestionType type) {
+
+    public static SearchSuggestionResponseDto from(AutocompleteIndex.Suggestion suggestion) {
+        return new SearchSuggestionResponseDto(suggestion.text(), suggestion.type());
+    }
+}
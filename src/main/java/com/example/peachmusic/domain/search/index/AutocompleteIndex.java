@@ -0,0 +1,256 @@
+package com.example.peachmusic.domain.search.index;
+
+import com.example.peachmusic.common.enums.SearchSuggestionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 자동완성용 불변 prefix 인덱스
+ * - 정규화한 후보 문자열을 정렬된 배열로 보관 -> 입력으로 시작하는 후보는 이분 탐색으로 찾은 연속 구간
+ * - 구간 최댓값 트리(문서 번호 배열)로 구간 안 가중치 상위 K개를 O(K log N)에 선택 (짧은 입력으로 구간이 커져도 일정)
+ * - 노드 객체 없이 배열만 사용하므로 trie보다 메모리가 작음
+ * - 갱신 주기가 다른 후보(카테고리별 이름, 인기 검색어)는 인덱스를 나눠 만들고 조회 시 suggest(indexList, ...)로 합침
+ */
+public final class AutocompleteIndex {
+
+    public static final AutocompleteIndex EMPTY = of(List.of());
+
+    private final String[] keys;                 // 정규화한 후보 (정렬)
+    private final String[] texts;                // 표시용 원문
+    private final SearchSuggestionType[] types;
+    private final double[] weights;
+    private final int leafStart;
+    private final int[] maxTree;                 // 구간 내 가중치 최대 후보 번호 (없으면 -1)
+
+    private AutocompleteIndex(String[] keys, String[] texts, SearchSuggestionType[] types, double[] weights) {
+        this.keys = keys;
+        this.texts = texts;
+        this.types = types;
+        this.weights = weights;
+
+        int leafStart = 1;
+        while (leafStart < keys.length) {
+            leafStart <<= 1;
+        }
+        this.leafStart = leafStart;
+        this.maxTree = new int[leafStart * 2];
+        Arrays.fill(maxTree, -1);
+        for (int i = 0; i < keys.length; i++) {
+            maxTree[leafStart + i] = i;
+        }
+        for (int node = leafStart - 1; node >= 1; node--) {
+            maxTree[node] = better(maxTree[node * 2], maxTree[node * 2 + 1]);
+        }
+    }
+
+    /**
+     * 같은 문자열(정규화 기준) 후보는 가중치를 합치고 표시 문자열, 종류는 가중치가 큰 쪽을 사용
+     */
+    public static AutocompleteIndex of(List<Candidate> candidateList) {
+        Map<String, Candidate> mergedMap = new HashMap<>(candidateList.size() * 2);
+
+        for (Candidate candidate : candidateList) {
+            String key = normalize(candidate.text());
+            if (key.isEmpty()) {
+                continue;
+            }
+            mergedMap.merge(key, candidate, (previous, current) -> {
+                Candidate top = previous.weight() >= current.weight() ? previous : current;
+                return new Candidate(top.text(), top.type(), previous.weight() + current.weight());
+            });
+        }
+
+        String[] keys = mergedMap.keySet().toArray(String[]::new);
+        Arrays.sort(keys);
+
+        String[] texts = new String[keys.length];
+        SearchSuggestionType[] types = new SearchSuggestionType[keys.length];
+        double[] weights = new double[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Candidate candidate = mergedMap.get(keys[i]);
+            texts[i] = candidate.text().trim();
+            types[i] = candidate.type();
+            weights[i] = candidate.weight();
+        }
+
+        return new AutocompleteIndex(keys, texts, types, weights);
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * prefix로 시작하는 후보 중 가중치 상위 limit개
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        List<Suggestion> result = new ArrayList<>();
+        for (int index : findTopIndexList(normalize(prefix), limit)) {
+            result.add(new Suggestion(texts[index], types[index]));
+        }
+        return result;
+    }
+
+    /**
+     * 여러 인덱스의 prefix 후보를 합쳐 가중치 상위 limit개 (한 인덱스로 만든 결과와 동일)
+     * - 같은 문자열(정규화 기준)은 인덱스별 가중치를 합치고 표시 문자열, 종류는 of와 같은 규칙으로 선택
+     * - 인덱스마다 상위 n개씩 모아 합산, 모으지 못한 후보의 합산 가중치 상한(인덱스별 n번째 가중치의 합)보다
+     *   limit번째 합산 가중치가 작으면 n을 두 배로 늘려 다시 모음 (가중치는 0 이상)
+     */
+    public static List<Suggestion> suggest(List<AutocompleteIndex> indexList, String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        for (int fetchSize = limit; ; fetchSize *= 2) {
+            Map<String, Candidate> mergedMap = new HashMap<>();
+            double unseenWeightBound = 0.0;
+            boolean exhausted = true;
+
+            for (AutocompleteIndex index : indexList) {
+                List<Integer> topIndexList = index.findTopIndexList(key, fetchSize);
+                for (int position : topIndexList) {
+                    mergedMap.computeIfAbsent(index.keys[position], candidateKey -> merge(indexList, candidateKey));
+                }
+                // 상위 n개보다 후보가 적은 인덱스는 모든 후보를 이미 모음
+                if (topIndexList.size() == fetchSize) {
+                    unseenWeightBound += index.weights[topIndexList.get(fetchSize - 1)];
+                    exhausted = false;
+                }
+            }
+
+            List<Candidate> topCandidateList = mergedMap.values().stream()
+                    .sorted(Comparator.comparingDouble(Candidate::weight).reversed())
+                    .limit(limit)
+                    .toList();
+
+            if (exhausted || (topCandidateList.size() == limit && topCandidateList.get(limit - 1).weight() >= unseenWeightBound)) {
+                return topCandidateList.stream()
+                        .map(candidate -> new Suggestion(candidate.text(), candidate.type()))
+                        .toList();
+            }
+        }
+    }
+
+    private static Candidate merge(List<AutocompleteIndex> indexList, String key) {
+        Candidate merged = null;
+
+        for (AutocompleteIndex index : indexList) {
+            int position = index.find(key);
+            if (position < 0) {
+                continue;
+            }
+            Candidate current = new Candidate(index.texts[position], index.types[position], index.weights[position]);
+            if (merged == null) {
+                merged = current;
+                continue;
+            }
+            Candidate top = merged.weight() >= current.weight() ? merged : current;
+            merged = new Candidate(top.text(), top.type(), merged.weight() + current.weight());
+        }
+        return merged;
+    }
+
+    /**
+     * prefix(정규화 완료)로 시작하는 후보 번호를 가중치 내림차순으로 최대 limit개
+     */
+    private List<Integer> findTopIndexList(String key, int limit) {
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(key);
+        int to = prefixEnd(from, key);
+        if (from == to) {
+            return List.of();
+        }
+
+        // 구간을 덮는 트리 노드부터 시작해 가중치가 큰 노드를 먼저 펼침
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Comparator.comparingDouble((Integer node) -> weights[maxTree[node]]).reversed());
+        for (int low = from + leafStart, high = to - 1 + leafStart; low <= high; low >>= 1, high >>= 1) {
+            if ((low & 1) == 1) {
+                heap.add(low++);
+            }
+            if ((high & 1) == 0) {
+                heap.add(high--);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>(limit);
+        while (!heap.isEmpty() && result.size() < limit) {
+            int node = heap.poll();
+            if (node >= leafStart) {
+                result.add(node - leafStart);
+                continue;
+            }
+            for (int child = node * 2; child <= node * 2 + 1; child++) {
+                if (maxTree[child] >= 0) {
+                    heap.add(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int better(int left, int right) {
+        if (left < 0) {
+            return right;
+        }
+        if (right < 0) {
+            return left;
+        }
+        return weights[right] > weights[left] ? right : left;
+    }
+
+    // 정규화한 문자열과 같은 후보 번호 (없으면 -1)
+    private int find(String key) {
+        int position = lowerBound(key);
+        return position < keys.length && keys[position].equals(key) ? position : -1;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int prefixEnd(int from, String prefix) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record Candidate(String text, SearchSuggestionType type, double weight) {
+    }
+
+    public record Suggestion(String text, SearchSuggestionType type) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.peachmusic.domain.search.index;
+
+/**
+ * 인덱스 적재 단위
+ * @param text 검색 대상 문자열 (이름 + 아티스트 이름)
+ * @param document 검색 결과로 그대로 반환할 응답 DTO
+ */
+public record SearchEntry<T>(Long id, Long likeCount, String text, T document) {
+}
@@ -0,0 +1,224 @@
+package com.example.peachmusic.domain.search.index;
+
+import com.example.peachmusic.domain.album.dto.response.AlbumSearchResponseDto;
+import com.example.peachmusic.domain.artist.dto.response.ArtistSearchResponseDto;
+import com.example.peachmusic.domain.openapi.jamendo.event.JamendoImportCompletedEvent;
+import com.example.peachmusic.domain.search.jdbc.SearchIndexJdbcRepository;
+import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 통합 검색 미리보기용 메모리 역색인 (아티스트, 앨범, 음원 이름 + 아티스트 이름)
+ * 1. 서버 시작 시 공개 상태의 전체 아티스트, 앨범, 음원을 적재
+ * 2. content_modified_at 기준 변경분 + 관리자 수정으로 표시된 항목만 30초마다 갱신
+ * 3. Jamendo 적재 커밋 후, 그리고 10분마다 전체 재적재 (좋아요 수, 재생 수는 content_modified_at을 바꾸지 않으므로 순위 점수는 전체 재적재로 반영)
+ * 4. 검색 요청은 불변 스냅샷만 읽으므로 DB 조회가 없음
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+    // 앱 서버와 DB 서버의 시각 차이, 같은 초에 수정된 행을 놓치지 않기 위한 여유 시간
+    private static final long MODIFIED_AT_OVERLAP_SECONDS = 60;
+
+    private final Category<ArtistSearchResponseDto> artistCategory;
+    private final Category<AlbumSearchResponseDto> albumCategory;
+    private final Category<SongSearchResponseDto> songCategory;
+
+    private volatile SearchIndexSnapshot snapshot = SearchIndexSnapshot.EMPTY;
+    private volatile boolean rebuildRequested;
+    private LocalDateTime lastRefreshedAt;
+
+    public SearchIndex(SearchIndexJdbcRepository searchIndexJdbcRepository) {
+        this.artistCategory = new Category<>(searchIndexJdbcRepository::findArtistEntryListAfter, searchIndexJdbcRepository::findArtistEntryList, searchIndexJdbcRepository::findArtistIdListModifiedAfter);
+        this.albumCategory = new Category<>(searchIndexJdbcRepository::findAlbumEntryListAfter, searchIndexJdbcRepository::findAlbumEntryList, searchIndexJdbcRepository::findAlbumIdListModifiedAfter);
+        this.songCategory = new Category<>(searchIndexJdbcRepository::findSongEntryListAfter, searchIndexJdbcRepository::findSongEntryList, searchIndexJdbcRepository::findSongIdListModifiedAfter);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    public SearchIndexSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * content_modified_at만으로 감지되지 않는 변경(참여 아티스트 교체 등)을 다음 갱신에 반영
+     */
+    public void markArtistDirty(Long artistId) {
+        artistCategory.dirtyIdSet.add(artistId);
+    }
+
+    public void markAlbumDirty(Long albumId) {
+        albumCategory.dirtyIdSet.add(albumId);
+    }
+
+    public void markSongDirty(Long songId) {
+        songCategory.dirtyIdSet.add(songId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDirty(SearchIndexDirtyEvent event) {
+        event.albumIdList().forEach(this::markAlbumDirty);
+        event.songIdList().forEach(this::markSongDirty);
+    }
+
+    /**
+     * 다른 항목 여러 개에 영향을 주는 변경(아티스트 이름 변경, 아티스트 삭제로 인한 앨범 일괄 삭제 등)은 다음 갱신에서 전체 재적재
+     */
+    public void requestRebuild() {
+        rebuildRequested = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleRebuildRequested(SearchIndexRebuildRequestedEvent event) {
+        requestRebuild();
+    }
+
+    /**
+     * 전체 재적재
+     */
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+
+        rebuildRequested = false;
+        artistCategory.loadAll();
+        albumCategory.loadAll();
+        songCategory.loadAll();
+
+        snapshot = new SearchIndexSnapshot(true, artistCategory.toSection(), albumCategory.toSection(), songCategory.toSection());
+        lastRefreshedAt = startedAt;
+
+        log.info("검색 인덱스 적재 완료 - artists={}, albums={}, songs={}, {}ms",
+                snapshot.artists().size(), snapshot.albums().size(), snapshot.songs().size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 변경분 갱신
+     */
+    @Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+    public synchronized void refresh() {
+        // 초기 적재 전
+        if (lastRefreshedAt == null) {
+            return;
+        }
+
+        if (rebuildRequested) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastRefreshedAt.minusSeconds(MODIFIED_AT_OVERLAP_SECONDS);
+
+        boolean artistChanged = artistCategory.refresh(since);
+        boolean albumChanged = albumCategory.refresh(since);
+        boolean songChanged = songCategory.refresh(since);
+
+        if (artistChanged || albumChanged || songChanged) {
+            SearchIndexSnapshot current = snapshot;
+            snapshot = new SearchIndexSnapshot(true,
+                    artistChanged ? artistCategory.toSection() : current.artists(),
+                    albumChanged ? albumCategory.toSection() : current.albums(),
+                    songChanged ? songCategory.toSection() : current.songs());
+        }
+
+        lastRefreshedAt = startedAt;
+    }
+
+    /**
+     * Jamendo 적재는 페이지마다 커밋되며 오래 실행되어 content_modified_at이 갱신 기준 시각보다 앞설 수 있으므로 작업 종료 후 전체 재적재
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleJamendoImportCompleted(JamendoImportCompletedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 카테고리별 적재 상태 (갱신 스레드에서만 접근, dirtyIdSet 제외)
+     */
+    private static final class Category<T> {
+
+        private final Map<Long, SearchEntry<T>> entryMap = new HashMap<>();
+        private final Set<Long> dirtyIdSet = ConcurrentHashMap.newKeySet();
+        private final BiFunction<Long, Integer, List<SearchEntry<T>>> pageLoader;
+        private final Function<Collection<Long>, List<SearchEntry<T>>> idLoader;
+        private final Function<LocalDateTime, List<Long>> modifiedIdLoader;
+
+        private Category(BiFunction<Long, Integer, List<SearchEntry<T>>> pageLoader,
+                         Function<Collection<Long>, List<SearchEntry<T>>> idLoader,
+                         Function<LocalDateTime, List<Long>> modifiedIdLoader) {
+            this.pageLoader = pageLoader;
+            this.idLoader = idLoader;
+            this.modifiedIdLoader = modifiedIdLoader;
+        }
+
+        private void loadAll() {
+            entryMap.clear();
+            dirtyIdSet.clear();
+
+            Long lastId = 0L;
+            while (true) {
+                List<SearchEntry<T>> entryList = pageLoader.apply(lastId, LOAD_PAGE_SIZE);
+                entryList.forEach(entry -> entryMap.put(entry.id(), entry));
+
+                if (entryList.size() < LOAD_PAGE_SIZE) {
+                    break;
+                }
+                lastId = entryList.get(entryList.size() - 1).id();
+            }
+        }
+
+        private boolean refresh(LocalDateTime since) {
+            Set<Long> changedIdSet = new HashSet<>(modifiedIdLoader.apply(since));
+
+            Iterator<Long> dirtyIterator = dirtyIdSet.iterator();
+            while (dirtyIterator.hasNext()) {
+                changedIdSet.add(dirtyIterator.next());
+                dirtyIterator.remove();
+            }
+
+            if (changedIdSet.isEmpty()) {
+                return false;
+            }
+
+            List<Long> changedIdList = new ArrayList<>(changedIdSet);
+            for (int from = 0; from < changedIdList.size(); from += LOAD_PAGE_SIZE) {
+                List<Long> chunk = changedIdList.subList(from, Math.min(from + LOAD_PAGE_SIZE, changedIdList.size()));
+                // 조회되지 않은 항목(삭제, 비공개)은 인덱스에서 제거
+                chunk.forEach(entryMap::remove);
+                idLoader.apply(chunk).forEach(entry -> entryMap.put(entry.id(), entry));
+            }
+            return true;
+        }
+
+        private SearchIndexSection<T> toSection() {
+            return SearchIndexSection.of(entryMap.values());
+        }
+    }
+}
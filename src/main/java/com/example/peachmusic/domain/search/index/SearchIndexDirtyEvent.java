@@ -0,0 +1,12 @@
+package com.example.peachmusic.domain.search.index;
+
+import java.util.List;
+
+/**
+ * content_modified_at만으로 감지되지 않는 변경 -> 커밋 후 검색 인덱스의 다음 갱신 대상으로 표시
+ * - 커밋 전에 표시하면 갱신 스레드가 커밋 전 데이터를 읽고 표시를 소진할 수 있음
+ * @param albumIdList 다시 읽을 앨범
+ * @param songIdList 다시 읽을 음원
+ */
+public record SearchIndexDirtyEvent(List<Long> albumIdList, List<Long> songIdList) {
+}
@@ -0,0 +1,7 @@
+package com.example.peachmusic.domain.search.index;
+
+/**
+ * 다른 항목 여러 개에 영향을 주는 변경 -> 커밋 후 검색 인덱스의 다음 갱신에서 전체 재적재
+ */
+public record SearchIndexRebuildRequestedEvent() {
+}
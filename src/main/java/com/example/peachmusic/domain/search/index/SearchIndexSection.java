@@ -0,0 +1,235 @@
+package com.example.peachmusic.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * 카테고리(아티스트, 앨범, 음원) 하나의 불변 역색인
+ * - 문서 번호 = 좋아요 많은 순 순위 -> posting을 번호순으로 병합하면 앞에서부터 좋아요 순 결과
+ * - 토큰을 정렬해 두어 검색 단어로 시작하는 토큰 범위를 이분 탐색으로 찾음 (짧은 단어도 전체 스캔 없음)
+ * - 한두 글자 단어는 시작하는 토큰이 많아 요청마다 병합하면 토큰 수만큼 커서를 만들게 되므로, 적재 시 상위 문서 번호를 미리 병합
+ */
+public final class SearchIndexSection<T> {
+
+    private static final Comparator<SearchEntry<?>> RANK_ORDER = Comparator
+            .comparing((SearchEntry<?> entry) -> entry.likeCount() == null ? 0L : entry.likeCount()).reversed()
+            .thenComparing(SearchEntry::id, Comparator.reverseOrder());
+
+    // 이 길이 이하의 접두사만 미리 병합
+    private static final int SHORT_PREFIX_LENGTH = 2;
+    // 시작하는 토큰이 이보다 많은 접두사만 미리 병합 (적으면 요청 시 병합 비용도 작음)
+    private static final int PRECOMPUTE_MIN_TOKENS = 64;
+    // 접두사별로 미리 병합해 두는 문서 수 (여러 단어 검색에서 걸러지는 문서 여유 포함)
+    private static final int TOP_POSTING_SIZE = 64;
+
+    private final Object[] documents;
+    private final String[][] documentTokens; // 문서별 정렬된 토큰 (두 번째 단어부터 포함 여부 확인용)
+    private final String[] tokens;           // 전체 토큰 (정렬)
+    private final int[][] postings;          // 토큰별 문서 번호 (오름차순)
+    private final Map<String, int[]> topPostings; // 짧은 접두사별 상위 문서 번호 (오름차순, 최대 TOP_POSTING_SIZE개)
+
+    private SearchIndexSection(Object[] documents, String[][] documentTokens, String[] tokens, int[][] postings) {
+        this.documents = documents;
+        this.documentTokens = documentTokens;
+        this.tokens = tokens;
+        this.postings = postings;
+        this.topPostings = buildTopPostings(tokens, postings);
+    }
+
+    public static <T> SearchIndexSection<T> of(Collection<SearchEntry<T>> entries) {
+        List<SearchEntry<T>> rankedList = new ArrayList<>(entries);
+        rankedList.sort(RANK_ORDER);
+
+        Object[] documents = new Object[rankedList.size()];
+        String[][] documentTokens = new String[rankedList.size()][];
+        Map<String, List<Integer>> postingMap = new HashMap<>();
+
+        for (int i = 0; i < rankedList.size(); i++) {
+            SearchEntry<T> entry = rankedList.get(i);
+            String[] distinctTokens = new TreeSet<>(Arrays.asList(SearchTokenizer.tokenize(entry.text()))).toArray(String[]::new);
+
+            documents[i] = entry.document();
+            documentTokens[i] = distinctTokens;
+            for (String token : distinctTokens) {
+                postingMap.computeIfAbsent(token, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        String[] tokens = postingMap.keySet().toArray(String[]::new);
+        Arrays.sort(tokens);
+        int[][] postings = new int[tokens.length][];
+        for (int i = 0; i < tokens.length; i++) {
+            postings[i] = postingMap.get(tokens[i]).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new SearchIndexSection<>(documents, documentTokens, tokens, postings);
+    }
+
+    public static <T> SearchIndexSection<T> empty() {
+        return new SearchIndexSection<>(new Object[0], new String[0][], new String[0], new int[0][]);
+    }
+
+    public int size() {
+        return documents.length;
+    }
+
+    /**
+     * 전체 문서 (좋아요 많은 순, 읽기 전용)
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getDocumentList() {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(documents));
+    }
+
+    /**
+     * 모든 검색 단어로 시작하는 토큰을 가진 문서를 좋아요 많은 순으로 limit개 조회
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> search(String[] words, int limit) {
+        if (words.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // 토큰 범위가 가장 좁은 단어로 후보를 만들고 나머지 단어는 문서 토큰에서 확인
+        int driver = -1;
+        int driverFrom = 0;
+        int driverTo = 0;
+        for (int i = 0; i < words.length; i++) {
+            int from = lowerBound(tokens, words[i]);
+            int to = prefixEnd(tokens, from, words[i]);
+            if (from == to) {
+                return List.of();
+            }
+            if (driver < 0 || to - from < driverTo - driverFrom) {
+                driver = i;
+                driverFrom = from;
+                driverTo = to;
+            }
+        }
+
+        // 미리 병합한 상위 문서로 limit을 채우면 그대로 반환, 모자라고 잘린 목록이면 전체 병합
+        int[] topPosting = topPostings.get(words[driver]);
+        if (topPosting != null) {
+            List<T> result = new ArrayList<>(limit);
+            for (int i = 0; i < topPosting.length && result.size() < limit; i++) {
+                if (matchesOthers(topPosting[i], words, driver)) {
+                    result.add((T) documents[topPosting[i]]);
+                }
+            }
+            if (result.size() == limit || topPosting.length < TOP_POSTING_SIZE) {
+                return result;
+            }
+        }
+
+        // posting 병합 (문서 번호 오름차순 = 좋아요 순), {문서 번호, 토큰 번호, posting 위치}
+        PriorityQueue<int[]> heap = new PriorityQueue<>(driverTo - driverFrom, Comparator.comparingInt(cursor -> cursor[0]));
+        for (int t = driverFrom; t < driverTo; t++) {
+            heap.add(new int[]{postings[t][0], t, 0});
+        }
+
+        List<T> result = new ArrayList<>(limit);
+        int lastDocument = -1;
+
+        while (!heap.isEmpty() && result.size() < limit) {
+            int[] cursor = heap.poll();
+            int document = cursor[0];
+
+            if (document != lastDocument) {
+                lastDocument = document;
+                if (matchesOthers(document, words, driver)) {
+                    result.add((T) documents[document]);
+                }
+            }
+
+            int[] posting = postings[cursor[1]];
+            if (++cursor[2] < posting.length) {
+                cursor[0] = posting[cursor[2]];
+                heap.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    private boolean matchesOthers(int document, String[] words, int driver) {
+        String[] docTokens = documentTokens[document];
+        for (int i = 0; i < words.length; i++) {
+            if (i == driver) {
+                continue;
+            }
+            int from = lowerBound(docTokens, words[i]);
+            if (from == docTokens.length || !docTokens[from].startsWith(words[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 시작하는 토큰이 많은 짧은 접두사별 상위 문서 번호 (각 posting의 앞부분만 모아 정렬)
+     * - 같은 접두사로 시작하는 토큰은 정렬 순서상 연속이므로 토큰을 한 번씩만 훑음
+     */
+    private static Map<String, int[]> buildTopPostings(String[] tokens, int[][] postings) {
+        Map<String, int[]> topPostings = new HashMap<>();
+
+        for (int length = 1; length <= SHORT_PREFIX_LENGTH; length++) {
+            int from = 0;
+            while (from < tokens.length) {
+                if (tokens[from].length() < length) {
+                    from++;
+                    continue;
+                }
+                String prefix = tokens[from].substring(0, length);
+                int to = prefixEnd(tokens, from, prefix);
+
+                if (to - from > PRECOMPUTE_MIN_TOKENS) {
+                    topPostings.put(prefix, IntStream.range(from, to)
+                            .flatMap(t -> Arrays.stream(postings[t], 0, Math.min(TOP_POSTING_SIZE, postings[t].length)))
+                            .sorted()
+                            .distinct()
+                            .limit(TOP_POSTING_SIZE)
+                            .toArray());
+                }
+                from = to;
+            }
+        }
+        return topPostings;
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // prefix로 시작하는 토큰은 정렬 순서상 연속
+    private static int prefixEnd(String[] sorted, int from, String prefix) {
+        int low = from;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.peachmusic.domain.search.index;
+
+import com.example.peachmusic.domain.album.dto.response.AlbumSearchResponseDto;
+import com.example.peachmusic.domain.artist.dto.response.ArtistSearchResponseDto;
+import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
+
+/**
+ * 통합 검색 인덱스 불변 스냅샷
+ */
+public record SearchIndexSnapshot(boolean loaded,
+                                  SearchIndexSection<ArtistSearchResponseDto> artists,
+                                  SearchIndexSection<AlbumSearchResponseDto> albums,
+                                  SearchIndexSection<SongSearchResponseDto> songs) {
+
+    public static final SearchIndexSnapshot EMPTY = new SearchIndexSnapshot(false, SearchIndexSection.empty(), SearchIndexSection.empty(), SearchIndexSection.empty());
+}
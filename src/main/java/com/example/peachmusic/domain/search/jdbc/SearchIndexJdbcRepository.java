@@ -0,0 +1,124 @@
+package com.example.peachmusic.domain.search.jdbc;
+
+import com.example.peachmusic.common.enums.ProgressingStatus;
+import com.example.peachmusic.domain.album.dto.response.AlbumSearchResponseDto;
+import com.example.peachmusic.domain.artist.dto.response.ArtistSearchResponseDto;
+import com.example.peachmusic.domain.search.index.SearchEntry;
+import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 통합 검색 인덱스 적재용 조회
+ * - 미리보기와 같은 조건(공개 상태)의 아티스트, 앨범, 음원만 조회
+ * - id 기준 페이지 조회(전체 적재)와 id 목록 조회(변경분 갱신) 제공
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexJdbcRepository {
+
+    private static final String ARTIST_SQL = """
+            SELECT a.artist_id, a.artist_name, a.profile_image, a.like_count
+              FROM artists a
+             WHERE a.is_deleted = 0 AND %s
+             ORDER BY a.artist_id
+            """;
+
+    private static final String ALBUM_SQL = """
+            SELECT a.album_id, a.album_name, GROUP_CONCAT(ar.artist_name) AS artist_names, a.album_release_date, a.album_image, a.like_count
+              FROM albums a
+              JOIN artist_albums aa ON aa.album_id = a.album_id
+              JOIN artists ar ON ar.artist_id = aa.artist_id
+             WHERE a.is_deleted = 0
+               AND EXISTS (SELECT 1 FROM songs s WHERE s.album_id = a.album_id AND s.is_deleted = 0 AND s.streaming_status = 1)
+               AND %s
+             GROUP BY a.album_id
+             ORDER BY a.album_id
+            """;
+
+    private static final String SONG_SQL = """
+            SELECT s.song_id, s.name, GROUP_CONCAT(ar.artist_name) AS artist_names, al.album_name, s.release_date, al.album_image, s.like_count, s.play_count, ps.progressing_status
+              FROM songs s
+              JOIN artist_songs ast ON ast.song_id = s.song_id
+              JOIN artists ar ON ar.artist_id = ast.artist_id
+              JOIN albums al ON al.album_id = s.album_id
+              LEFT JOIN song_progressing_status ps ON ps.song_id = s.song_id
+             WHERE s.is_deleted = 0 AND s.streaming_status = 1 AND %s
+             GROUP BY s.song_id
+             ORDER BY s.song_id
+            """;
+
+    private static final RowMapper<SearchEntry<ArtistSearchResponseDto>> ARTIST_MAPPER = (rs, rowNum) -> {
+        ArtistSearchResponseDto dto = new ArtistSearchResponseDto(rs.getLong("artist_id"), rs.getString("artist_name"), rs.getString("profile_image"), rs.getLong("like_count"), false, false);
+        return new SearchEntry<>(dto.getArtistId(), dto.getLikeCount(), dto.getArtistName(), dto);
+    };
+
+    private static final RowMapper<SearchEntry<AlbumSearchResponseDto>> ALBUM_MAPPER = (rs, rowNum) -> {
+        AlbumSearchResponseDto dto = new AlbumSearchResponseDto(rs.getLong("album_id"), rs.getString("album_name"), rs.getString("artist_names"), toLocalDate(rs.getDate("album_release_date")), rs.getString("album_image"), rs.getLong("like_count"), false, false);
+        return new SearchEntry<>(dto.getAlbumId(), dto.getLikeCount(), dto.getAlbumName() + " " + dto.getArtistName(), dto);
+    };
+
+    private static final RowMapper<SearchEntry<SongSearchResponseDto>> SONG_MAPPER = (rs, rowNum) -> {
+        String progressingStatus = rs.getString("progressing_status");
+        SongSearchResponseDto dto = new SongSearchResponseDto(rs.getLong("song_id"), rs.getString("name"), rs.getString("artist_names"), rs.getString("album_name"), toLocalDate(rs.getDate("release_date")), rs.getString("album_image"), rs.getLong("like_count"), false, rs.getLong("play_count"), false, progressingStatus == null ? null : ProgressingStatus.valueOf(progressingStatus));
+        return new SearchEntry<>(dto.getSongId(), dto.getLikeCount(), dto.getName() + " " + dto.getArtistName(), dto);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SearchEntry<ArtistSearchResponseDto>> findArtistEntryListAfter(Long lastId, int size) {
+        return jdbcTemplate.query(ARTIST_SQL.formatted("a.artist_id > ?") + " LIMIT ?", ARTIST_MAPPER, lastId, size);
+    }
+
+    public List<SearchEntry<ArtistSearchResponseDto>> findArtistEntryList(Collection<Long> idList) {
+        return jdbcTemplate.query(ARTIST_SQL.formatted("a.artist_id IN (" + placeholders(idList) + ")"), ARTIST_MAPPER, idList.toArray());
+    }
+
+    public List<SearchEntry<AlbumSearchResponseDto>> findAlbumEntryListAfter(Long lastId, int size) {
+        return jdbcTemplate.query(ALBUM_SQL.formatted("a.album_id > ?") + " LIMIT ?", ALBUM_MAPPER, lastId, size);
+    }
+
+    public List<SearchEntry<AlbumSearchResponseDto>> findAlbumEntryList(Collection<Long> idList) {
+        return jdbcTemplate.query(ALBUM_SQL.formatted("a.album_id IN (" + placeholders(idList) + ")"), ALBUM_MAPPER, idList.toArray());
+    }
+
+    public List<SearchEntry<SongSearchResponseDto>> findSongEntryListAfter(Long lastId, int size) {
+        return jdbcTemplate.query(SONG_SQL.formatted("s.song_id > ?") + " LIMIT ?", SONG_MAPPER, lastId, size);
+    }
+
+    public List<SearchEntry<SongSearchResponseDto>> findSongEntryList(Collection<Long> idList) {
+        return jdbcTemplate.query(SONG_SQL.formatted("s.song_id IN (" + placeholders(idList) + ")"), SONG_MAPPER, idList.toArray());
+    }
+
+    /**
+     * 내용이 바뀐 항목 ID (content_modified_at 인덱스 사용, 좋아요 수, 재생 수 변경은 포함하지 않음)
+     */
+    public List<Long> findArtistIdListModifiedAfter(LocalDateTime modifiedAt) {
+        return jdbcTemplate.queryForList("SELECT artist_id FROM artists WHERE content_modified_at >= ?", Long.class, modifiedAt);
+    }
+
+    public List<Long> findAlbumIdListModifiedAfter(LocalDateTime modifiedAt) {
+        return jdbcTemplate.queryForList("SELECT album_id FROM albums WHERE content_modified_at >= ?", Long.class, modifiedAt);
+    }
+
+    public List<Long> findSongIdListModifiedAfter(LocalDateTime modifiedAt) {
+        return jdbcTemplate.queryForList("SELECT song_id FROM songs WHERE content_modified_at >= ?", Long.class, modifiedAt);
+    }
+
+    private static String placeholders(Collection<Long> idList) {
+        return String.join(", ", Collections.nCopies(idList.size(), "?"));
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.peachmusic.domain.search.rank;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch - 고정 메모리(depth * width)로 검색어별 횟수 근사
+ * - 추정치는 실제 횟수 이상 (과대 추정만 발생, 오차 상한 = 전체 횟수 * e / width, 확률 1 - e^-depth)
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int widthMask;
+    private final long[][] table;
+
+    /**
+     * @param width 2의 거듭제곱
+     */
+    CountMinSketch(int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two: " + width);
+        }
+        this.depth = depth;
+        this.widthMask = width - 1;
+        this.table = new long[depth][width];
+    }
+
+    /**
+     * 횟수 추가 후 추정치 반환 (conservative update - 현재 최솟값보다 작은 칸만 올려 과대 추정을 줄임)
+     */
+    long add(String term, long count) {
+        long[] hashes = hash(term);
+        int[] indexes = new int[depth];
+        long estimate = Long.MAX_VALUE;
+
+        for (int i = 0; i < depth; i++) {
+            indexes[i] = index(hashes, i);
+            estimate = Math.min(estimate, table[i][indexes[i]]);
+        }
+
+        long updated = estimate + count;
+        for (int i = 0; i < depth; i++) {
+            if (table[i][indexes[i]] < updated) {
+                table[i][indexes[i]] = updated;
+            }
+        }
+        return updated;
+    }
+
+    long estimate(String term) {
+        long[] hashes = hash(term);
+        long estimate = Long.MAX_VALUE;
+
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, table[i][index(hashes, i)]);
+        }
+        return estimate;
+    }
+
+    void clear() {
+        for (long[] row : table) {
+            Arrays.fill(row, 0L);
+        }
+    }
+
+    // 두 해시의 선형 결합으로 행마다 다른 위치 (Kirsch-Mitzenmacher)
+    private int index(long[] hashes, int row) {
+        return (int) ((hashes[0] + row * hashes[1]) & widthMask);
+    }
+
+    private static long[] hash(String term) {
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x9e3779b97f4a7c15L;
+        for (byte b : term.getBytes(StandardCharsets.UTF_8)) {
+            h1 = (h1 ^ b) * 0x100000001b3L;
+            h2 = Long.rotateLeft(h2 ^ b, 31) * 0xbf58476d1ce4e5b9L;
+        }
+        return new long[]{mix(h1), mix(h2) | 1L};
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53ec3c5L;
+        return h ^ (h >>> 33);
+    }
+}
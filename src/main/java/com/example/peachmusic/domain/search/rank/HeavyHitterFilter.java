@@ -0,0 +1,143 @@
+package com.example.peachmusic.domain.search.rank;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 시간대별 인기 검색어 후보 필터 (Count-Min Sketch + 상위 capacity개 추적)
+ * 1. 모든 검색어는 Sketch에만 누적 (검색어 종류와 무관한 고정 메모리)
+ * 2. 두 번 이상 검색됐고 Sketch 추정치가 추적 중인 최소 횟수보다 큰 검색어만 후보로 들여보냄 (가득 차면 최소 후보를 내보냄)
+ * 3. 후보가 된 검색어만 Redis 시간 버킷에 기록 -> 오타, 한 번뿐인 검색어는 Redis에 쌓이지 않음
+ * - Redis에는 "추정치 - 이미 기록한 횟수"만 더하므로 후보가 되기 전 횟수도 함께 반영됨
+ * - 서버마다 따로 집계하므로 여러 서버에 고르게 나뉜 중간 순위 검색어는 빠질 수 있음
+ */
+@Component
+public class HeavyHitterFilter {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 16; // 4 * 65536 * 8B = 2MB
+    // 한 시간에 한 번뿐인 검색어는 후보로 들이지 않음
+    private static final long MIN_ADMIT_COUNT = 2L;
+    // 후보에서 밀려난 검색어의 기록 횟수 보관 수 (다시 후보가 될 때 중복 기록 방지)
+    private static final int EVICTED_MEMORY_FACTOR = 4;
+
+    private final int capacity;
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+    private final Map<String, Candidate> candidateMap = new HashMap<>();
+    private final TreeSet<Candidate> candidateSet = new TreeSet<>(Comparator.comparingLong(Candidate::getEstimate).thenComparing(Candidate::getTerm));
+    private final Map<String, Long> evictedWrittenMap;
+    private LocalDateTime currentHour;
+
+    public HeavyHitterFilter(@Value("${search.rank.sketch.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+        int evictedCapacity = capacity * EVICTED_MEMORY_FACTOR;
+        this.evictedWrittenMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > evictedCapacity;
+            }
+        };
+    }
+
+    /**
+     * 검색 횟수를 반영하고 Redis에 더할 증가분 반환 (후보 검색어만)
+     * - 시간대가 바뀌면 새로 집계
+     */
+    public synchronized Map<String, Long> offer(Map<String, Long> termCountMap, LocalDateTime now) {
+        LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS);
+        if (!hour.equals(currentHour)) {
+            reset(hour);
+        }
+
+        for (Map.Entry<String, Long> entry : termCountMap.entrySet()) {
+            String term = entry.getKey();
+            long estimate = sketch.add(term, entry.getValue());
+
+            Candidate candidate = candidateMap.get(term);
+            if (candidate != null) {
+                candidateSet.remove(candidate);
+                candidate.estimate = estimate;
+                candidateSet.add(candidate);
+                continue;
+            }
+
+            if (estimate < MIN_ADMIT_COUNT) {
+                continue;
+            }
+
+            if (candidateMap.size() >= capacity) {
+                Candidate min = candidateSet.first();
+                if (estimate <= min.estimate) {
+                    continue;
+                }
+                candidateSet.pollFirst();
+                candidateMap.remove(min.term);
+                evictedWrittenMap.put(min.term, min.written);
+            }
+
+            Long written = evictedWrittenMap.remove(term);
+            candidate = new Candidate(term, estimate, written == null ? 0L : written);
+            candidateMap.put(term, candidate);
+            candidateSet.add(candidate);
+        }
+
+        // 이전 반영 실패로 되돌린 증가분도 함께 포함되도록 후보 전체 확인 (최대 capacity개)
+        Map<String, Long> deltaMap = new HashMap<>();
+        for (Candidate candidate : candidateMap.values()) {
+            if (candidate.estimate > candidate.written) {
+                deltaMap.put(candidate.term, candidate.estimate - candidate.written);
+                candidate.written = candidate.estimate;
+            }
+        }
+        return deltaMap;
+    }
+
+    /**
+     * Redis 반영에 실패한 증가분을 기록하지 않은 것으로 되돌림 (다음 offer의 증가분에 다시 포함)
+     */
+    public synchronized void revert(Map<String, Long> deltaMap) {
+        deltaMap.forEach((term, delta) -> {
+            Candidate candidate = candidateMap.get(term);
+            if (candidate != null) {
+                candidate.written = Math.max(0L, candidate.written - delta);
+            }
+        });
+    }
+
+    private void reset(LocalDateTime hour) {
+        currentHour = hour;
+        sketch.clear();
+        candidateMap.clear();
+        candidateSet.clear();
+        evictedWrittenMap.clear();
+    }
+
+    private static final class Candidate {
+
+        private final String term;
+        private long estimate;
+        private long written;
+
+        private Candidate(String term, long estimate, long written) {
+            this.term = term;
+            this.estimate = estimate;
+            this.written = written;
+        }
+
+        private String getTerm() {
+            return term;
+        }
+
+        private long getEstimate() {
+            return estimate;
+        }
+    }
+}
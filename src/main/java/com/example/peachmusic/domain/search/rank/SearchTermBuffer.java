@@ -0,0 +1,47 @@
+package com.example.peachmusic.domain.search.rank;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색어 횟수 메모리 버퍼
+ * 1. 검색 요청마다 Redis 쓰기 없이 검색어별 횟수만 누적
+ * 2. SearchTermFlusher가 주기적으로 꺼내 인기 검색어 후보만 시간별 검색어 랭킹에 한 번에 반영
+ * 3. 검색어는 종류가 끝이 없으므로 꺼낼 때 엔트리를 제거 (merge / remove는 키 단위로 원자적이라 동시 증가분 유실 없음)
+ */
+@Component
+public class SearchTermBuffer {
+
+    // 한 주기에 모을 최대 검색어 종류 수, 초과분은 버림 (무작위 검색어 폭주 시 메모리 보호)
+    static final int MAX_TERM_COUNT = 50_000;
+
+    private final ConcurrentHashMap<String, Long> countMap = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 1회 기록
+     */
+    public void record(String word) {
+        if (countMap.size() >= MAX_TERM_COUNT && !countMap.containsKey(word)) {
+            return;
+        }
+        countMap.merge(word, 1L, Long::sum);
+    }
+
+    /**
+     * 누적된 검색 횟수를 꺼내고 비움
+     */
+    public Map<String, Long> drain() {
+        Map<String, Long> drainedMap = new HashMap<>();
+
+        for (String word : countMap.keySet()) {
+            Long count = countMap.remove(word);
+            if (count != null) {
+                drainedMap.put(word, count);
+            }
+        }
+        return drainedMap;
+    }
+}
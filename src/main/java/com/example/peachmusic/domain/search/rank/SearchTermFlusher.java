@@ -0,0 +1,92 @@
+package com.example.peachmusic.domain.search.rank;
+
+import com.example.peachmusic.domain.search.service.SearchHistoryService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchTermFlusher {
+
+    // 검색어 랭킹에 올리지 않는 길이 (검색창 입력이 아닌 요청으로 판단)
+    private static final int MAX_TERM_LENGTH = 50;
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private final SearchTermBuffer searchTermBuffer;
+    private final HeavyHitterFilter heavyHitterFilter;
+    private final SearchHistoryService searchHistoryService;
+
+    /**
+     * 버퍼에 누적된 검색 횟수를 현재 시간대 검색어 랭킹에 일괄 반영
+     * - 같은 검색어로 정규화되는 입력은 하나로 합쳐서 반영
+     * - 인기 검색어 후보(HeavyHitterFilter)에 든 검색어만 Redis에 기록
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS) // 직전 반영이 끝나고 1초 뒤 실행
+    public void flush() {
+
+        Map<String, Long> drainedMap = searchTermBuffer.drain();
+
+        if (drainedMap.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> termCountMap = new HashMap<>();
+        drainedMap.forEach((word, count) -> {
+            String term = normalize(word);
+            if (term != null) {
+                termCountMap.merge(term, count, Long::sum);
+            }
+        });
+
+        if (termCountMap.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> deltaMap = heavyHitterFilter.offer(termCountMap, now);
+
+        if (deltaMap.isEmpty()) {
+            return;
+        }
+
+        try {
+            searchHistoryService.addSearchCountMap(deltaMap, now);
+        } catch (RuntimeException e) {
+            // 횟수는 이미 Sketch에 반영됐으므로 버퍼가 아닌 필터의 기록 횟수를 되돌려 다음 주기에 재시도
+            heavyHitterFilter.revert(deltaMap);
+            log.warn("검색어 랭킹 반영 실패, 다음 주기에 재시도합니다. termCount={}", deltaMap.size(), e);
+        }
+    }
+
+    /**
+     * 서버 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 검색어 정규화 (NFC, 연속 공백 하나로)
+     * @return 랭킹에 올리지 않을 검색어면 null
+     */
+    static String normalize(String word) {
+        String term = WHITESPACE_PATTERN.matcher(Normalizer.normalize(word, Normalizer.Form.NFC)).replaceAll(" ").trim();
+
+        if (term.isEmpty() || term.length() > MAX_TERM_LENGTH || term.chars().anyMatch(Character::isISOControl)) {
+            return null;
+        }
+        return term;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.peachmusic.domain.search.service;
+
+import com.example.peachmusic.common.enums.SearchSuggestionType;
+import com.example.peachmusic.domain.album.dto.response.AlbumSearchResponseDto;
+import com.example.peachmusic.domain.artist.dto.response.ArtistSearchResponseDto;
+import com.example.peachmusic.domain.search.dto.SearchSuggestionResponseDto;
+import com.example.peachmusic.domain.search.index.AutocompleteIndex;
+import com.example.peachmusic.domain.search.index.SearchIndex;
+import com.example.peachmusic.domain.search.index.SearchIndexSection;
+import com.example.peachmusic.domain.search.index.SearchIndexSnapshot;
+import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검색어 자동완성
+ * - 검색 인덱스의 아티스트, 앨범, 음원 이름(좋아요 수)과 인기 검색어(검색 횟수)로 만든 메모리 인덱스에서만 조회
+ * - 검색어 랭킹에 기록하지 않고 DB, Redis 조회도 없음 -> 입력마다 호출해도 인기 검색어가 오염되지 않음
+ * - 이름 인덱스는 카테고리별로 나눠 검색 인덱스의 해당 구역이 교체된 경우에만 다시 생성 (Jamendo 적재 후 재적재 포함)
+ * - 인기 검색어(최대 1,000개)는 별도의 작은 인덱스로 두고 조회 시 이름 인덱스와 합침 -> 검색 횟수 변경으로 이름을 다시 정렬하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    public static final int MAX_SUGGESTION_SIZE = 20;
+    private static final int POPULAR_KEYWORD_SIZE = 1000;
+    // 인기 검색어는 실제 사용자가 입력한 문자열이므로 같은 빈도의 이름보다 우선
+    private static final double KEYWORD_WEIGHT = 2.0;
+
+    private final SearchIndex searchIndex;
+    private final SearchHistoryService searchHistoryService;
+
+    private volatile List<AutocompleteIndex> indexList = List.of();
+
+    // 갱신 스레드에서만 접근
+    private SearchIndexSection<ArtistSearchResponseDto> lastArtistSection;
+    private SearchIndexSection<AlbumSearchResponseDto> lastAlbumSection;
+    private SearchIndexSection<SongSearchResponseDto> lastSongSection;
+    private Map<String, Double> lastKeywordScoreMap = Map.of();
+    private AutocompleteIndex artistIndex = AutocompleteIndex.EMPTY;
+    private AutocompleteIndex albumIndex = AutocompleteIndex.EMPTY;
+    private AutocompleteIndex songIndex = AutocompleteIndex.EMPTY;
+    private AutocompleteIndex keywordIndex = AutocompleteIndex.EMPTY;
+
+    /**
+     * 자동완성 후보 조회
+     */
+    public List<SearchSuggestionResponseDto> suggest(String word, int size) {
+        return AutocompleteIndex.suggest(indexList, word, Math.min(size, MAX_SUGGESTION_SIZE)).stream()
+                .map(SearchSuggestionResponseDto::from)
+                .toList();
+    }
+
+    @Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+    public synchronized void refresh() {
+        SearchIndexSnapshot snapshot = searchIndex.getSnapshot();
+        if (!snapshot.loaded()) {
+            return;
+        }
+
+        boolean changed = false;
+
+        // 검색 인덱스는 바뀐 카테고리의 구역만 새로 만들므로 참조 비교로 변경 여부 판단
+        if (snapshot.artists() != lastArtistSection) {
+            artistIndex = buildNameIndex(snapshot.artists(), SearchSuggestionType.ARTIST, ArtistSearchResponseDto::getArtistName, ArtistSearchResponseDto::getLikeCount);
+            lastArtistSection = snapshot.artists();
+            changed = true;
+        }
+        if (snapshot.albums() != lastAlbumSection) {
+            albumIndex = buildNameIndex(snapshot.albums(), SearchSuggestionType.ALBUM, AlbumSearchResponseDto::getAlbumName, AlbumSearchResponseDto::getLikeCount);
+            lastAlbumSection = snapshot.albums();
+            changed = true;
+        }
+        if (snapshot.songs() != lastSongSection) {
+            songIndex = buildNameIndex(snapshot.songs(), SearchSuggestionType.SONG, SongSearchResponseDto::getName, SongSearchResponseDto::getLikeCount);
+            lastSongSection = snapshot.songs();
+            changed = true;
+        }
+
+        try {
+            Map<String, Double> keywordScoreMap = searchHistoryService.findPopularKeywordScoreMap(POPULAR_KEYWORD_SIZE);
+            if (!keywordScoreMap.equals(lastKeywordScoreMap)) {
+                keywordIndex = AutocompleteIndex.of(keywordScoreMap.entrySet().stream()
+                        .map(entry -> new AutocompleteIndex.Candidate(entry.getKey(), SearchSuggestionType.KEYWORD, KEYWORD_WEIGHT * Math.log1p(entry.getValue())))
+                        .toList());
+                lastKeywordScoreMap = keywordScoreMap;
+                changed = true;
+            }
+        } catch (DataAccessException e) {
+            log.warn("자동완성 인기 검색어 조회 실패, 이전 값 사용", e);
+        }
+
+        if (changed) {
+            indexList = List.of(artistIndex, albumIndex, songIndex, keywordIndex);
+        }
+    }
+
+    private <T> AutocompleteIndex buildNameIndex(SearchIndexSection<T> section, SearchSuggestionType type,
+                                                 Function<T, String> nameGetter, Function<T, Long> likeCountGetter) {
+        return AutocompleteIndex.of(section.getDocumentList().stream()
+                .map(document -> new AutocompleteIndex.Candidate(nameGetter.apply(document), type, likeWeight(likeCountGetter.apply(document))))
+                .toList());
+    }
+
+    private double likeWeight(Long likeCount) {
+        return Math.log1p(likeCount == null ? 0 : likeCount);
+    }
+}
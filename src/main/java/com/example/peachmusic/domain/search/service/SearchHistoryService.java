@@ -1,55 +1,64 @@
 package com.example.peachmusic.domain.search.service;
 
+import com.example.peachmusic.common.redis.SlidingWindowAggregator;
 import com.example.peachmusic.domain.search.dto.SearchPopularResponseDto;
-import lombok.RequiredArgsConstructor;
+import com.example.peachmusic.domain.search.rank.SearchTermBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SearchHistoryService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final SearchTermBuffer searchTermBuffer;
+    private final SlidingWindowAggregator searchRankAggregator;
+    private final int topK;
+    private final long windowCapacity;
+
     private static final int TOP_RANK_LIMIT = 10;
     private static final String SEARCH_RANK_KEY = "search:rank:";
+    private static final String SEARCH_HOURLY_KEY = "search:rank:hour:";
+    private static final String SEARCH_WINDOW_KEY = "search:rank:window:";
+    private static final String LAST_24_HOURS = "last24hours";
+
+    public SearchHistoryService(RedisTemplate<String, String> redisTemplate, SearchTermBuffer searchTermBuffer,
+                                @Value("${search.rank.top-k:1000}") int topK,
+                                @Value("${search.rank.window-capacity:50000}") long windowCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.searchTermBuffer = searchTermBuffer;
+        this.topK = topK;
+        this.windowCapacity = windowCapacity;
+        this.searchRankAggregator = new SlidingWindowAggregator(redisTemplate, SEARCH_HOURLY_KEY, SEARCH_WINDOW_KEY, Map.of(LAST_24_HOURS, 24));
+    }
 
     /**
      * 검색어 랭킹 기록
-     * - Redis zset 사용하여 날짜+시간마다 검색어 횟수 기록
-     * - TTL을 설정하여 24시간 뒤면 삭제됨
+     * - 요청 스레드에서는 메모리 버퍼에만 누적, SearchTermFlusher가 주기적으로 Redis에 반영
      * @param word 검색어
      */
     public void recordSearchRank(String word) {
-
-        // 매 시간마다 검색어 랭킹 기록
-        String key = SEARCH_RANK_KEY + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH"));
-
-        if (!redisTemplate.hasKey(key)) {
-            redisTemplate.opsForZSet().add(key, word, 1);
-            redisTemplate.expire(key, 24, TimeUnit.HOURS); // 24시간 뒤면 삭제
-        } else {
-            redisTemplate.opsForZSet().incrementScore(key, word, 1);
-        }
+        searchTermBuffer.record(word);
     }
 
     /**
-     * 검색어가 인기 검색어 TOP 10에 저장되어 있는지 여부
+     * 검색어별 누적 횟수를 시간 버킷과 최근 24시간 윈도우에 반영 (한 번의 파이프라인으로 반영)
      */
-    public boolean isPopularKeyword(String word) {
-
-        String key = SEARCH_RANK_KEY + "last24hours";
-        Long rank = redisTemplate.opsForZSet().reverseRank(key, word);
-
-        return rank != null && rank < TOP_RANK_LIMIT;
+    public void addSearchCountMap(Map<String, Long> termCountMap, LocalDateTime now) {
+        searchRankAggregator.incrementAll(termCountMap, now);
     }
 
     /**
@@ -57,7 +66,7 @@ public class SearchHistoryService {
      */
     public List<SearchPopularResponseDto> searchPopular() {
 
-        String key = SEARCH_RANK_KEY + "last24hours";
+        String key = SEARCH_RANK_KEY + LAST_24_HOURS;
         Set<TypedTuple<String>> tupleSet = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, TOP_RANK_LIMIT-1);
 
         if (tupleSet == null || tupleSet.isEmpty()) {
@@ -73,31 +82,39 @@ public class SearchHistoryService {
         return result;
     }
 
-    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.MINUTES) // 30분마다 스케줄러 실행
-    public void updateLast24HourSearchRank() {
+    /**
+     * 최근 24시간 인기 검색어 상위 size개와 검색 횟수 (자동완성 가중치용, 최대 top-K개)
+     */
+    public Map<String, Double> findPopularKeywordScoreMap(int size) {
 
-        String key = SEARCH_RANK_KEY + "last24hours";
+        String key = SEARCH_RANK_KEY + LAST_24_HOURS;
+        Set<TypedTuple<String>> tupleSet = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, size - 1L);
 
-        List<String> keyList = getLast24HourSearchRankKeyList();
+        Map<String, Double> scoreMap = new LinkedHashMap<>();
+        if (tupleSet != null) {
+            tupleSet.forEach(tuple -> scoreMap.put(tuple.getValue(), tuple.getScore()));
+        }
+        return scoreMap;
+    }
 
-        redisTemplate.opsForZSet().unionAndStore(keyList.get(0), keyList.subList(1, keyList.size()), key);
-        redisTemplate.expire(key, 35, TimeUnit.MINUTES);
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES) // 직전 갱신이 끝나고 1분 뒤 실행
+    public void refreshLast24HourSearchRank() {
+        try {
+            refreshLast24HourSearchRank(LocalDateTime.now());
+        } catch (DataAccessException e) {
+            // 다음 주기에 밀린 버킷까지 함께 차감
+            log.warn("최근 24시간 인기 검색어 갱신 실패", e);
+        }
     }
 
     /**
-     * 지난 24시간 전까지의 key 묶기
+     * 최근 24시간 인기 검색어 갱신
+     * - 윈도우는 반영 시점마다 이미 더해져 있으므로 24시간 밖으로 밀려난 시간 버킷만 차감
+     * - 윈도우는 상위 window-capacity개만 유지, 조회용 last24hours에는 상위 top-K개만 저장
      */
-    private List<String> getLast24HourSearchRankKeyList() {
-        List<String> keyList = new ArrayList<>();
-
-        LocalDateTime now = LocalDateTime.now();
-
-        for (int i = 0; i < 24; i++) {
-            LocalDateTime time = now.minusHours(i);
-            String key = SEARCH_RANK_KEY + time.format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HH"));
-            keyList.add(key);
-        }
-        return keyList;
+    public void refreshLast24HourSearchRank(LocalDateTime now) {
+        searchRankAggregator.expireBuckets(now);
+        searchRankAggregator.trimWindow(LAST_24_HOURS, windowCapacity);
+        searchRankAggregator.storeTop(LAST_24_HOURS, topK, SEARCH_RANK_KEY + LAST_24_HOURS);
     }
-
 }
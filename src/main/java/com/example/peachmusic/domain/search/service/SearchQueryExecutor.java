@@ -0,0 +1,72 @@
+package com.example.peachmusic.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 통합 검색 카테고리별 DB 조회 병렬 실행
+ * - 카테고리마다 별도 스레드(별도 트랜잭션, 커넥션)에서 실행 -> 응답 시간은 가장 느린 조회 하나에 맞춰짐
+ * - 제한 시간을 넘긴 카테고리는 빈 결과로 대체해 나머지 결과만 응답
+ *   (응답만 포기하고 쿼리는 계속 실행되므로 각 조회 트랜잭션에 search.query.db-timeout-seconds 제한 시간을 걸어 DB에서도 중단)
+ * - 스레드, 대기열 수를 제한하고 대기열이 가득 차면 요청 스레드에서 직접 실행 (커넥션 풀 고갈 방지)
+ */
+@Slf4j
+@Component
+public class SearchQueryExecutor {
+
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+
+    public SearchQueryExecutor(@Value("${search.query.threads:16}") int threads,
+                               @Value("${search.query.queue-size:256}") int queueSize,
+                               @Value("${search.query.timeout-ms:500}") long timeoutMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-query-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 조회 시작 (제한 시간을 넘기면 TimeoutException으로 완료)
+     */
+    public <T> CompletableFuture<List<T>> submit(Supplier<List<T>> query) {
+        return CompletableFuture.supplyAsync(query, executor).orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 조회 결과 (제한 시간 초과, 실패 시 빈 목록)
+     * @param category 로그용 카테고리 이름
+     */
+    public <T> List<T> getOrEmpty(CompletableFuture<List<T>> future, String category) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("통합 검색 {} 조회 실패, 빈 결과로 응답 - {}", category, e.getCause() == null ? e.toString() : e.getCause().toString());
+            return List.of();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -5,16 +5,16 @@ import com.example.peachmusic.domain.album.service.AlbumService;
 import com.example.peachmusic.domain.artist.dto.response.ArtistSearchResponseDto;
 import com.example.peachmusic.domain.artist.service.ArtistService;
 import com.example.peachmusic.domain.search.dto.SearchPreviewResponseDto;
+import com.example.peachmusic.domain.search.index.SearchIndexSnapshot;
+import com.example.peachmusic.domain.search.index.SearchIndex;
+import com.example.peachmusic.domain.search.index.SearchTokenizer;
 import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
 import com.example.peachmusic.domain.song.service.SongService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import static com.example.peachmusic.common.constants.SearchViewSize.PREVIEW_SIZE;
 
 @Service
 @RequiredArgsConstructor
@@ -24,72 +24,52 @@ public class SearchService {
     private final ArtistService artistService;
     private final AlbumService albumService;
     private final SongService songService;
-
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate<String, String> redisTemplate;
-    private static final String SEARCH_RESULT_KEY = "search:result:";
+    private final SearchIndex searchIndex;
+    private final SearchQueryExecutor searchQueryExecutor;
 
     /**
      * 통합 검색 - 미리보기
+     * - 메모리 검색 인덱스에서 조회 (서버 시작 직후 적재 전이면 DB)
      * @param word 검색어
      * @return 검색 응답 DTO
      */
-    @Transactional(readOnly = true)
     public SearchPreviewResponseDto searchPreview(String word) {
 
         word = word.trim();
         searchHistoryService.recordSearchRank(word); // 검색어 랭킹 기록
 
-        String key = SEARCH_RESULT_KEY + word;
-
-        SearchPreviewResponseDto cachedResult = getCachedResult(key);
-        if (cachedResult != null) {
-            return cachedResult;
+        SearchIndexSnapshot snapshot = searchIndex.getSnapshot();
+        if (snapshot.loaded()) {
+            return createIndexSearchResult(snapshot, word);
         }
 
-        SearchPreviewResponseDto result = createSearchResult(word); // DB 조회
-
-        boolean isPopular = searchHistoryService.isPopularKeyword(word);
-        if (isPopular) {
-            saveCacheResult(key, result);
-        }
-
-        return result;
+        return createSearchResult(word); // DB 조회
     }
 
     /**
-     * Redis에서 검색 결과 조회
+     * 검색 인덱스에서 검색 결과 조회 (단어마다 해당 단어로 시작하는 토큰 포함, 좋아요 많은 순)
      */
-    private SearchPreviewResponseDto getCachedResult(String key) {
-        try {
-            String cached = redisTemplate.opsForValue().get(key);
-            return cached == null ? null :objectMapper.readValue(cached, SearchPreviewResponseDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Redis 조회 실패: ", e);
-        }
-    }
+    private SearchPreviewResponseDto createIndexSearchResult(SearchIndexSnapshot snapshot, String word) {
+        String[] words = SearchTokenizer.tokenize(word);
 
+        return SearchPreviewResponseDto.of(word,
+                snapshot.artists().search(words, PREVIEW_SIZE),
+                snapshot.albums().search(words, PREVIEW_SIZE),
+                snapshot.songs().search(words, PREVIEW_SIZE));
+    }
 
     /**
      * DB에서 검색 결과 조회
+     * - 아티스트, 앨범, 음원 조회를 동시에 실행 (각각 별도 트랜잭션), 제한 시간을 넘긴 카테고리는 빈 결과
      */
     private SearchPreviewResponseDto createSearchResult(String word) {
-        List<ArtistSearchResponseDto> artistList = artistService.searchArtistList(word);
-        List<AlbumSearchResponseDto> albumList = albumService.searchAlbumList(word);
-        List<SongSearchResponseDto> songList = songService.searchSongList(word);
-
-        return SearchPreviewResponseDto.of(word, artistList, albumList, songList);
-    }
-
-    /**
-     * Redis에 검색 결과 저장
-     */
-    private void saveCacheResult(String key, SearchPreviewResponseDto result) {
-        try {
-            String json = objectMapper.writeValueAsString(result);
-            redisTemplate.opsForValue().set(key, json, 5, TimeUnit.MINUTES);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Redis 저장 실패: ", e);
-        }
+        CompletableFuture<List<ArtistSearchResponseDto>> artistFuture = searchQueryExecutor.submit(() -> artistService.searchArtistList(word));
+        CompletableFuture<List<AlbumSearchResponseDto>> albumFuture = searchQueryExecutor.submit(() -> albumService.searchAlbumList(word));
+        CompletableFuture<List<SongSearchResponseDto>> songFuture = searchQueryExecutor.submit(() -> songService.searchSongList(word));
+
+        return SearchPreviewResponseDto.of(word,
+                searchQueryExecutor.getOrEmpty(artistFuture, "artist"),
+                searchQueryExecutor.getOrEmpty(albumFuture, "album"),
+                searchQueryExecutor.getOrEmpty(songFuture, "song"));
     }
 }
@@ -1,12 +1,15 @@
 package com.example.peachmusic.domain.song.controller;
 
+import com.example.peachmusic.common.enums.ChartWindow;
 import com.example.peachmusic.common.model.CommonResponse;
 import com.example.peachmusic.domain.song.dto.response.RankingResponseDto;
 import com.example.peachmusic.domain.song.service.RankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -20,8 +23,27 @@ public class RankingController {
 
     @GetMapping("/songs/ranking/Top100")
     public ResponseEntity<CommonResponse<List<RankingResponseDto>>> findTop100Music(
+            @RequestParam(defaultValue = "WEEK") ChartWindow window
     ) {
-        List<RankingResponseDto> result = rankingService.findMusicTop100();
+        List<RankingResponseDto> result = rankingService.findMusicTop100(window);
         return ResponseEntity.ok(CommonResponse.success("조회 완료했습니다.", result));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/songs/ranking/genres/{genreId}/Top50")
+    public ResponseEntity<CommonResponse<List<RankingResponseDto>>> findGenreTop50Music(
+            @PathVariable Long genreId,
+            @RequestParam(defaultValue = "WEEK") ChartWindow window
+    ) {
+        List<RankingResponseDto> result = rankingService.findGenreTop50(genreId, window);
+        return ResponseEntity.ok(CommonResponse.success("조회 완료했습니다.", result));
+    }
+
+    @GetMapping("/songs/ranking/artists/{artistId}")
+    public ResponseEntity<CommonResponse<List<RankingResponseDto>>> findArtistTopMusic(
+            @PathVariable Long artistId,
+            @RequestParam(defaultValue = "WEEK") ChartWindow window
+    ) {
+        List<RankingResponseDto> result = rankingService.findArtistTopSongs(artistId, window);
+        return ResponseEntity.ok(CommonResponse.success("조회 완료했습니다.", result));
+    }
+}
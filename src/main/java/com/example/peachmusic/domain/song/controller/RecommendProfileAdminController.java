@@ -0,0 +1,36 @@
+package com.example.peachmusic.domain.song.controller;
+
+import com.example.peachmusic.common.model.CommonResponse;
+import com.example.peachmusic.domain.song.dto.response.UserProfileConsistencyResponseDto;
+import com.example.peachmusic.domain.song.recommend.UserProfileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class RecommendProfileAdminController {
+
+    private final UserProfileService userProfileService;
+
+    /**
+     * 추천 사용자 프로필 전체 재계산 API
+     */
+    @PostMapping("/admin/recommend/profiles/rebuild")
+    public ResponseEntity<CommonResponse<Void>> rebuildUserProfile() {
+        userProfileService.rebuildAll();
+        return ResponseEntity.ok(CommonResponse.success("추천 프로필 재계산이 완료되었습니다."));
+    }
+
+    /**
+     * 추천 사용자 프로필 정합성 검증 API
+     */
+    @GetMapping("/admin/recommend/profiles/consistency")
+    public ResponseEntity<CommonResponse<UserProfileConsistencyResponseDto>> checkUserProfileConsistency(
+            @RequestParam(defaultValue = "100") int sampleSize
+    ) {
+        UserProfileConsistencyResponseDto responseDto = userProfileService.checkConsistency(sampleSize);
+        return ResponseEntity.ok(CommonResponse.success("추천 프로필 정합성 검증이 완료되었습니다.", responseDto));
+    }
+}
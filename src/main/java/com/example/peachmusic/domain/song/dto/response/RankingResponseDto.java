@@ -1,8 +1,8 @@
 package com.example.peachmusic.domain.song.dto.response;
 
+import com.example.peachmusic.domain.song.ranking.SongMeta;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 
 @Getter
 @RequiredArgsConstructor
@@ -11,16 +11,12 @@ public class RankingResponseDto {
     private final String title;
     private final Long score;
     private final Long id;
+    private final String artistName;
+    private final String albumImage;
 
 
-    // Tuple을 사용하여 RankingResponseDto를 생성하는 메서드
-    public static RankingResponseDto of(TypedTuple<String> tuple) {
-
-        String[] values = tuple.getValue().split(":");
-        String title = values[0];
-        Long id =  Long.valueOf(values[1]);
-
-        return new RankingResponseDto(title, tuple.getScore().longValue(), id);
-
+    // 차트 점수와 메타데이터 캐시로 RankingResponseDto를 생성하는 메서드
+    public static RankingResponseDto of(SongMeta songMeta, Double score) {
+        return new RankingResponseDto(songMeta.name(), score.longValue(), songMeta.songId(), songMeta.artistNames(), songMeta.albumImage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.example.peachmusic.domain.song.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UserProfileConsistencyResponseDto {
+
+    private final int checkedCount;
+    private final int notBuiltCount;
+    // Seed 집합, 참조 수, 벡터 반영 여부가 DB, 추천 인덱스와 다른 프로필 수
+    private final int seedMismatchCount;
+    // DB 기준 전체 재계산 벡터와의 코사인 유사도가 기준 미만인 프로필 수
+    private final int vectorMismatchCount;
+    private final double minCosine;
+
+    public static UserProfileConsistencyResponseDto of(int checkedCount, int notBuiltCount, int seedMismatchCount, int vectorMismatchCount, double minCosine) {
+        return new UserProfileConsistencyResponseDto(checkedCount, notBuiltCount, seedMismatchCount, vectorMismatchCount, minCosine);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -27,6 +28,10 @@ public class Song extends BaseEntity {
     @Column(name = "jamendo_song_id", unique = true)
     private Long jamendoSongId;
 
+    // 마지막으로 적재한 Jamendo 원본 데이터 해시 (같으면 재적재 시 쓰기 생략)
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @Column(name = "name", nullable = false)
     private String name;
 
@@ -72,6 +77,10 @@ public class Song extends BaseEntity {
     @Column(name = "play_count", nullable = false)
     private Long playCount = 0L;
 
+    // 추천, 검색 인덱스 변경분 갱신 기준 (modified_at과 달리 좋아요 수, 재생 수 변경으로는 바뀌지 않음)
+    @Column(name = "content_modified_at", nullable = false)
+    private LocalDateTime contentModifiedAt;
+
     public Song(Album album, String name, Long duration, String licenseCcurl, Long position, String audio, String vocalinstrumental, String lang, String speed, String instruments, String vartags) {
         this.album = album;
         this.name = name;
@@ -113,7 +122,9 @@ public class Song extends BaseEntity {
         this.audio = audio;
     }
 
-    public void addPlayCount() {
-        this.playCount++;
+    @PrePersist
+    @PreUpdate
+    private void touchContent() {
+        this.contentModifiedAt = LocalDateTime.now();
     }
 }
@@ -0,0 +1,8 @@
+package com.example.peachmusic.domain.song.event;
+
+/**
+ * 관리자가 음원을 생성, 수정, 파일 교체, 삭제, 복구함 -> 커밋 후 추천 인덱스 등 메모리, 캐시에 반영
+ * - 커밋 전에 반영하면 다른 스레드의 갱신이 커밋 전 데이터를 읽고 표시를 소진할 수 있으므로 @TransactionalEventListener로 수신
+ */
+public record SongChangedEvent(Long songId) {
+}
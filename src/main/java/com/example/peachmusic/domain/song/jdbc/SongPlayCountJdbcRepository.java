@@ -0,0 +1,63 @@
+package com.example.peachmusic.domain.song.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class SongPlayCountJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // UPDATE 한 번에 반영할 음원 수
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * 재생 수 일괄 반영
+     * - UPDATE songs SET play_count = play_count + CASE song_id WHEN ? THEN ? ... END WHERE song_id IN (...)
+     * - 여러 서버가 동시에 반영해도 데드락이 나지 않도록 song_id 오름차순으로 갱신
+     * - 청크 일부만 반영되면 재시도 시 중복 집계되므로 전체를 하나의 트랜잭션으로 처리
+     */
+    @Transactional
+    public void addPlayCountMap(Map<Long, Long> playCountMap) {
+        if (playCountMap.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entryList = new ArrayList<>(new TreeMap<>(playCountMap).entrySet());
+
+        for (int from = 0; from < entryList.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, entryList.size());
+            updateChunk(entryList.subList(from, to));
+        }
+    }
+
+    private void updateChunk(List<Map.Entry<Long, Long>> chunk) {
+
+        StringBuilder sql = new StringBuilder("UPDATE songs SET play_count = play_count + CASE song_id");
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+
+        for (Map.Entry<Long, Long> entry : chunk) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+
+        sql.append(" ELSE 0 END WHERE song_id IN (");
+
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(chunk.get(i).getKey());
+        }
+        sql.append(")");
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
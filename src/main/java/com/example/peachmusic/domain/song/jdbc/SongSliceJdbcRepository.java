@@ -0,0 +1,48 @@
+package com.example.peachmusic.domain.song.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차트 조각(장르, 아티스트) 매핑 조회
+ * - 음원 여러 곡의 장르, 아티스트 ID를 한 번에 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class SongSliceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, List<Long>> findGenreIdMap(Collection<Long> songIdList) {
+        return findIdMap("SELECT song_id, genre_id AS slice_id FROM song_genres WHERE song_id IN ", songIdList);
+    }
+
+    public Map<Long, List<Long>> findArtistIdMap(Collection<Long> songIdList) {
+        return findIdMap("SELECT song_id, artist_id AS slice_id FROM artist_songs WHERE song_id IN ", songIdList);
+    }
+
+    private Map<Long, List<Long>> findIdMap(String sql, Collection<Long> songIdList) {
+        Map<Long, List<Long>> idMap = new HashMap<>();
+
+        if (songIdList.isEmpty()) {
+            return idMap;
+        }
+
+        String inClause = String.join(", ", Collections.nCopies(songIdList.size(), "?"));
+
+        jdbcTemplate.query(sql + "(" + inClause + ")",
+                rs -> {
+                    idMap.computeIfAbsent(rs.getLong("song_id"), songId -> new ArrayList<>()).add(rs.getLong("slice_id"));
+                }, songIdList.toArray());
+
+        return idMap;
+    }
+}
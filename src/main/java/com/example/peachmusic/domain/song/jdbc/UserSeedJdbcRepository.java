@@ -0,0 +1,65 @@
+package com.example.peachmusic.domain.song.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 사용자 프로필 재계산용 Seed 조회
+ * - 사용자 여러 명의 Seed를 한 번에 조회 (프로필 일괄 재계산)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSeedJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findUserIdListAfter(Long lastUserId, int size) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?", Long.class, lastUserId, size);
+    }
+
+    // 정합성 검증 대상 - 임의 위치부터 연속된 사용자 (ORDER BY RAND() 전체 정렬 회피)
+    public List<Long> findSampleUserIdList(int size) {
+        return jdbcTemplate.queryForList("""
+                SELECT user_id FROM users
+                 WHERE user_id >= (SELECT FLOOR(RAND() * MAX(user_id)) FROM users)
+                 ORDER BY user_id LIMIT ?
+                """, Long.class, size);
+    }
+
+    /**
+     * 사용자별 Seed 음원 ID 목록 (좋아요 -> 플레이리스트 순, 각각 추가된 순서)
+     * - 같은 음원이 좋아요와 플레이리스트에 모두 있으면 중복 포함 (프로필의 참조 수 계산용)
+     */
+    public Map<Long, List<Long>> findSeedSongIdMap(List<Long> userIdList) {
+        Map<Long, List<Long>> seedSongIdMap = new LinkedHashMap<>();
+
+        if (userIdList.isEmpty()) {
+            return seedSongIdMap;
+        }
+
+        userIdList.forEach(userId -> seedSongIdMap.put(userId, new ArrayList<>()));
+
+        String inClause = String.join(", ", Collections.nCopies(userIdList.size(), "?"));
+        Object[] args = userIdList.toArray();
+
+        jdbcTemplate.query("SELECT user_id, song_id FROM song_likes WHERE user_id IN (" + inClause + ") ORDER BY user_id, song_like_id",
+                rs -> {
+                    seedSongIdMap.get(rs.getLong("user_id")).add(rs.getLong("song_id"));
+                }, args);
+
+        jdbcTemplate.query("SELECT p.user_id, ps.song_id FROM playlist_songs ps JOIN playlists p ON p.playlist_id = ps.playlist_id"
+                        + " WHERE p.user_id IN (" + inClause + ") ORDER BY p.user_id, ps.playlist_song_id",
+                rs -> {
+                    seedSongIdMap.get(rs.getLong("user_id")).add(rs.getLong("song_id"));
+                }, args);
+
+        return seedSongIdMap;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.peachmusic.domain.song.playcount;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 음원 재생 수 메모리 버퍼
+ * 1. 재생 요청마다 락/DB 갱신 없이 songId별 LongAdder에 누적
+ * 2. PlayCountFlusher가 주기적으로 누적분을 꺼내 DB에 일괄 반영
+ * 3. 엔트리는 제거하지 않고 0으로만 초기화 -> 동시 증가분 유실 없음 (최대 크기 = 재생된 음원 수)
+ */
+@Component
+public class PlayCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> playCountMap = new ConcurrentHashMap<>();
+
+    /**
+     * 재생 1회 기록
+     */
+    public void record(Long songId) {
+        playCountMap.computeIfAbsent(songId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 누적된 재생 수를 꺼내고 0으로 초기화
+     * - sumThenReset은 셀 단위로 원자적으로 교체하므로 동시에 들어온 증가분은 다음 drain에 포함된다
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drainedMap = new HashMap<>();
+
+        playCountMap.forEach((songId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                drainedMap.put(songId, count);
+            }
+        });
+        return drainedMap;
+    }
+
+    /**
+     * DB 반영에 실패한 누적분을 다시 버퍼에 되돌림
+     */
+    public void restore(Map<Long, Long> drainedMap) {
+        drainedMap.forEach((songId, count) -> playCountMap.computeIfAbsent(songId, id -> new LongAdder()).add(count));
+    }
+}
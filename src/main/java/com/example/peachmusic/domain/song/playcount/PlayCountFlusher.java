@@ -0,0 +1,61 @@
+package com.example.peachmusic.domain.song.playcount;
+
+import com.example.peachmusic.domain.song.jdbc.SongPlayCountJdbcRepository;
+import com.example.peachmusic.domain.song.service.RankingService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayCountFlusher {
+
+    private final PlayCountBuffer playCountBuffer;
+    private final SongPlayCountJdbcRepository songPlayCountJdbcRepository;
+    private final RankingService rankingService;
+
+    /**
+     * 버퍼에 누적된 재생 수를 songs.play_count에 일괄 반영
+     * - DB 반영에 성공한 증가분으로만 장르별, 아티스트별 차트를 기록 (재생 1건당 한 번만 집계)
+     */
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS) // 직전 반영이 끝나고 5초 뒤 실행
+    public void flush() {
+
+        Map<Long, Long> drainedMap = playCountBuffer.drain();
+
+        if (drainedMap.isEmpty()) {
+            return;
+        }
+
+        try {
+            songPlayCountJdbcRepository.addPlayCountMap(drainedMap);
+        } catch (RuntimeException e) {
+            // 실패한 누적분은 버퍼로 되돌려 다음 주기에 재시도 (차트는 DB 반영 성공 후에만 기록하므로 중복 집계되지 않음)
+            playCountBuffer.restore(drainedMap);
+            log.warn("재생 수 반영 실패, 다음 주기에 재시도합니다. songCount={}", drainedMap.size(), e);
+            return;
+        }
+
+        try {
+            rankingService.recordSlicedPlays(drainedMap, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // 차트는 되돌리지 않음 (재시도 시 DB 재생 수가 중복 집계되지 않도록)
+            log.warn("조각별 차트 기록 실패 - songCount={}", drainedMap.size(), e);
+        }
+    }
+
+    /**
+     * 서버 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.peachmusic.domain.song.playcount;
+
+import com.example.peachmusic.domain.search.index.SearchIndexDirtyEvent;
+import com.example.peachmusic.domain.song.event.SongChangedEvent;
+import com.example.peachmusic.domain.song.repository.SongRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 재생용 음원 파일 키 캐시 (song:audio:<songId>)
+ * - 재생마다 songs 행을 읽지 않도록 파일 키만 보관, 없는 음원만 DB에서 파일 키 컬럼만 조회 후 채움
+ * - 관리자 변경과 Worker 변환 완료는 커밋 후 삭제, Jamendo 재적재로 바뀐 파일 키는 TTL로 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class SongAudioCache {
+
+    private static final String SONG_AUDIO_KEY = "song:audio:";
+    private static final Duration AUDIO_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SongRepository songRepository;
+
+    /**
+     * 음원 파일 키 조회 (DB에도 없는 음원은 빈 값)
+     */
+    public Optional<String> find(Long songId) {
+        String key = SONG_AUDIO_KEY + songId;
+
+        String audio = redisTemplate.opsForValue().get(key);
+        if (audio != null) {
+            return Optional.of(audio);
+        }
+
+        Optional<String> loaded = songRepository.findAudioBySongId(songId);
+        loaded.ifPresent(value -> redisTemplate.opsForValue().set(key, value, AUDIO_TTL));
+        return loaded;
+    }
+
+    public void evict(Long songId) {
+        redisTemplate.delete(SONG_AUDIO_KEY + songId);
+    }
+
+    /**
+     * 관리자 파일 교체, 삭제, 복구 (커밋 전에 지우면 다른 요청이 이전 파일 키로 다시 채울 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSongChanged(SongChangedEvent event) {
+        evict(event.songId());
+    }
+
+    /**
+     * Worker 변환 완료 -> 스트리밍 키로 교체된 음원
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDirty(SearchIndexDirtyEvent event) {
+        if (event.songIdList().isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(event.songIdList().stream().map(songId -> SONG_AUDIO_KEY + songId).toList());
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.peachmusic.domain.song.ranking;
+
+/**
+ * 차트 표시용 음원 메타데이터
+ */
+public record SongMeta(Long songId, String name, String artistNames, String albumImage) {
+}
@@ -0,0 +1,117 @@
+package com.example.peachmusic.domain.song.ranking;
+
+import com.example.peachmusic.domain.song.event.SongChangedEvent;
+import com.example.peachmusic.domain.song.repository.SongRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차트 표시용 음원 메타데이터 캐시 (song:meta:<songId> 해시)
+ * - 차트 ZSET은 음원 ID만 저장하고 제목, 아티스트, 앨범 이미지는 여기서 조회
+ * - 100곡을 파이프라인 HMGET 한 번으로 조회, 없는 음원만 DB에서 한 번에 조회 후 채움
+ */
+@Component
+@RequiredArgsConstructor
+public class SongMetaCache {
+
+    private static final String SONG_META_KEY = "song:meta:";
+    private static final List<Object> FIELD_LIST = List.of("name", "artists", "albumImage");
+    // 앨범 이미지, 아티스트 이름 변경은 무효화하지 않으므로 TTL로 반영
+    private static final Duration META_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SongRepository songRepository;
+
+    /**
+     * 음원 ID 목록의 메타데이터 조회 (DB에도 없는 음원은 결과에서 제외)
+     */
+    public Map<Long, SongMeta> findAll(List<Long> songIdList) {
+        if (songIdList.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> resultList = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                songIdList.forEach(songId -> ops.opsForHash().multiGet(SONG_META_KEY + songId, FIELD_LIST));
+                return null;
+            }
+        });
+
+        Map<Long, SongMeta> songMetaMap = new HashMap<>(songIdList.size() * 2);
+        List<Long> missSongIdList = new ArrayList<>();
+
+        for (int i = 0; i < songIdList.size(); i++) {
+            Long songId = songIdList.get(i);
+            List<?> values = (List<?>) resultList.get(i);
+
+            if (values == null || values.get(0) == null) {
+                missSongIdList.add(songId);
+                continue;
+            }
+            songMetaMap.put(songId, new SongMeta(songId, (String) values.get(0), (String) values.get(1), (String) values.get(2)));
+        }
+
+        if (!missSongIdList.isEmpty()) {
+            List<SongMeta> loadedList = songRepository.findSongMetaList(missSongIdList);
+            loadedList.forEach(songMeta -> songMetaMap.put(songMeta.songId(), songMeta));
+            putAll(loadedList);
+        }
+
+        return songMetaMap;
+    }
+
+    public void evict(Long songId) {
+        redisTemplate.delete(SONG_META_KEY + songId);
+    }
+
+    /**
+     * 제목, 앨범 변경 시 차트 표시 정보 갱신 (커밋 전에 지우면 다른 요청이 이전 값으로 다시 채울 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSongChanged(SongChangedEvent event) {
+        evict(event.songId());
+    }
+
+    private void putAll(List<SongMeta> songMetaList) {
+        if (songMetaList.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (SongMeta songMeta : songMetaList) {
+                    String key = SONG_META_KEY + songMeta.songId();
+                    Map<String, String> fieldMap = new HashMap<>();
+                    fieldMap.put("name", songMeta.name());
+                    fieldMap.put("artists", nullToEmpty(songMeta.artistNames()));
+                    fieldMap.put("albumImage", nullToEmpty(songMeta.albumImage()));
+                    ops.opsForHash().putAll(key, fieldMap);
+                    ops.expire(key, META_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.peachmusic.domain.song.ranking;
+
+import java.util.List;
+
+/**
+ * 음원이 속한 차트 조각 (장르, 아티스트)
+ */
+public record SongSlice(List<Long> genreIdList, List<Long> artistIdList) {
+}
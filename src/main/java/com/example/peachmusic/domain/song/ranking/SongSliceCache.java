@@ -0,0 +1,62 @@
+package com.example.peachmusic.domain.song.ranking;
+
+import com.example.peachmusic.domain.song.event.SongChangedEvent;
+import com.example.peachmusic.domain.song.jdbc.SongSliceJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 음원 -> 장르, 아티스트 매핑 로컬 캐시
+ * - 재생 수 반영 주기마다 재생된 음원의 매핑이 필요하므로 없는 음원만 DB에서 한 번에 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class SongSliceCache {
+
+    // 아티스트 참여 정보 변경은 무효화하지 않으므로 TTL로 반영
+    private static final Duration SLICE_TTL = Duration.ofHours(1);
+    private static final long MAX_SIZE = 200_000L;
+
+    private final SongSliceJdbcRepository songSliceJdbcRepository;
+    private final Cache<Long, SongSlice> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(SLICE_TTL)
+            .build();
+
+    public Map<Long, SongSlice> findAll(Collection<Long> songIdList) {
+        return cache.getAll(songIdList, this::load);
+    }
+
+    public void evict(Long songId) {
+        cache.invalidate(songId);
+    }
+
+    /**
+     * 장르 교체 후의 재생은 새 장르 차트에 집계 (커밋 전에 지우면 반영 주기가 이전 장르로 다시 채울 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSongChanged(SongChangedEvent event) {
+        evict(event.songId());
+    }
+
+    private Map<Long, SongSlice> load(Set<? extends Long> songIdSet) {
+        List<Long> songIdList = List.copyOf(songIdSet);
+        Map<Long, List<Long>> genreIdMap = songSliceJdbcRepository.findGenreIdMap(songIdList);
+        Map<Long, List<Long>> artistIdMap = songSliceJdbcRepository.findArtistIdMap(songIdList);
+
+        Map<Long, SongSlice> sliceMap = new HashMap<>(songIdList.size() * 2);
+        songIdList.forEach(songId -> sliceMap.put(songId, new SongSlice(genreIdMap.getOrDefault(songId, List.of()), artistIdMap.getOrDefault(songId, List.of()))));
+        return sliceMap;
+    }
+}
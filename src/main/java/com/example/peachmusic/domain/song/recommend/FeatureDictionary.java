@@ -0,0 +1,57 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feature 토큰(g:rock, t:happy ...) <-> 정수 id 사전
+ * - 한 번 발급된 id는 바뀌지 않음 (추가만 가능)
+ * - 장르 feature(g:) 여부를 id 단위로 기록
+ */
+public class FeatureDictionary {
+
+    private static final String GENRE_PREFIX = "g:";
+
+    private final Map<String, Integer> featureIdMap = new HashMap<>();
+    private final List<String> featureTokenList = new ArrayList<>();
+    private final BitSet genreFeatureSet = new BitSet();
+
+    // 토큰을 id로 변환, 처음 보는 토큰이면 새 id 발급
+    public synchronized int intern(String token) {
+        Integer featureId = featureIdMap.get(token);
+
+        if (featureId != null) {
+            return featureId;
+        }
+
+        int newFeatureId = featureTokenList.size();
+        featureIdMap.put(token, newFeatureId);
+        featureTokenList.add(token);
+
+        if (token.startsWith(GENRE_PREFIX)) {
+            genreFeatureSet.set(newFeatureId);
+        }
+        return newFeatureId;
+    }
+
+    // 발급된 적 없는 토큰이면 -1
+    public synchronized int findId(String token) {
+        return featureIdMap.getOrDefault(token, -1);
+    }
+
+    public synchronized String getToken(int featureId) {
+        return featureTokenList.get(featureId);
+    }
+
+    public synchronized int size() {
+        return featureTokenList.size();
+    }
+
+    // 스냅샷용 장르 feature 집합 복사본
+    public synchronized BitSet copyGenreFeatureSet() {
+        return (BitSet) genreFeatureSet.clone();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 추천 후보 전체 카탈로그의 불변 스냅샷
+ * - 음원별 희소 벡터 + feature별 역색인(posting list: slot, weight)
+ * - 요청 처리 중에는 DB 조회, 문자열 생성 없이 배열만 순회
+ * - 인덱스가 갱신되면 새 스냅샷으로 교체되므로 읽는 쪽은 락이 필요 없음
+ */
+public final class FeatureIndexSnapshot {
+
+    public static final FeatureIndexSnapshot EMPTY = new FeatureIndexSnapshot(new long[0], new SparseFeatureVector[0], new HashMap<>(), new int[0][], new float[0][], new BitSet(), false);
+
+    private final long[] songIds;
+    private final SparseFeatureVector[] vectors;
+    private final Map<Long, Integer> slotMap;
+    // postingSlots[featureId] = 해당 feature를 가진 음원 slot 목록, postingWeights[featureId] = 같은 순서의 가중치
+    private final int[][] postingSlots;
+    private final float[][] postingWeights;
+    private final BitSet genreFeatureSet;
+    private final boolean loaded;
+
+    private FeatureIndexSnapshot(long[] songIds, SparseFeatureVector[] vectors, Map<Long, Integer> slotMap, int[][] postingSlots, float[][] postingWeights, BitSet genreFeatureSet, boolean loaded) {
+        this.songIds = songIds;
+        this.vectors = vectors;
+        this.slotMap = slotMap;
+        this.postingSlots = postingSlots;
+        this.postingWeights = postingWeights;
+        this.genreFeatureSet = genreFeatureSet;
+        this.loaded = loaded;
+    }
+
+    public static FeatureIndexSnapshot of(Map<Long, SparseFeatureVector> vectorMap, FeatureDictionary featureDictionary) {
+        int size = vectorMap.size();
+
+        long[] songIds = new long[size];
+        SparseFeatureVector[] vectors = new SparseFeatureVector[size];
+        Map<Long, Integer> slotMap = new HashMap<>(size * 2);
+
+        int slot = 0;
+        for (Map.Entry<Long, SparseFeatureVector> entry : vectorMap.entrySet()) {
+            songIds[slot] = entry.getKey();
+            vectors[slot] = entry.getValue();
+            slotMap.put(entry.getKey(), slot);
+            slot++;
+        }
+
+        // 역색인 생성 - feature별 음원 수를 먼저 세고 배열을 한 번에 할당
+        int featureCount = featureDictionary.size();
+        int[] postingSizes = new int[featureCount];
+        for (SparseFeatureVector vector : vectors) {
+            for (int featureId : vector.featureIds()) {
+                postingSizes[featureId]++;
+            }
+        }
+
+        int[][] postingSlots = new int[featureCount][];
+        float[][] postingWeights = new float[featureCount][];
+        for (int featureId = 0; featureId < featureCount; featureId++) {
+            postingSlots[featureId] = new int[postingSizes[featureId]];
+            postingWeights[featureId] = new float[postingSizes[featureId]];
+        }
+
+        int[] filled = new int[featureCount];
+        for (int i = 0; i < size; i++) {
+            int[] featureIds = vectors[i].featureIds();
+            float[] weights = vectors[i].weights();
+            for (int j = 0; j < featureIds.length; j++) {
+                int featureId = featureIds[j];
+                postingSlots[featureId][filled[featureId]] = i;
+                postingWeights[featureId][filled[featureId]] = weights[j];
+                filled[featureId]++;
+            }
+        }
+
+        return new FeatureIndexSnapshot(songIds, vectors, slotMap, postingSlots, postingWeights, featureDictionary.copyGenreFeatureSet(), true);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return songIds.length;
+    }
+
+    public int getFeatureCount() {
+        return postingSlots.length;
+    }
+
+    public long getSongId(int slot) {
+        return songIds[slot];
+    }
+
+    // 인덱스에 없는 음원이면 -1
+    public int findSlot(Long songId) {
+        Integer slot = slotMap.get(songId);
+        return slot == null ? -1 : slot;
+    }
+
+    int[] getPostingSlots(int featureId) {
+        return postingSlots[featureId];
+    }
+
+    float[] getPostingWeights(int featureId) {
+        return postingWeights[featureId];
+    }
+
+    boolean isGenreFeature(int featureId) {
+        return genreFeatureSet.get(featureId);
+    }
+
+    // 인덱스에 없는 음원(스트리밍 불가, feature 누락)이면 null
+    public SparseFeatureVector getVector(Long songId) {
+        Integer slot = slotMap.get(songId);
+        return slot == null ? null : vectors[slot];
+    }
+}
@@ -72,6 +72,65 @@ public class FeatureVectorizer {
         return userVectorMap;
     }
 
+    // Seed 음원 벡터 목록(추가된 순서) -> 사용자 벡터, 뒤로 갈수록 growth배씩 커지는 지수 시간 가중치 (가장 최근 Seed = 1.0)
+    // UserProfileStore와 같은 감쇠를 순번 없이 처음부터 계산 -> 프로필 정합성 검증의 기준값
+    public Map<String, Double> vectorizeDecayedUserMap(List<Map<String, Double>> seedVectorMapList, double growth) {
+        Map<String, Double> userVectorMap = new HashMap<>();
+        int totalSongs = seedVectorMapList.size();
+
+        for (int i = 0; i < totalSongs; i++) {
+            double timeWeight = Math.pow(growth, i - (totalSongs - 1));
+            seedVectorMapList.get(i).forEach((key, value) -> userVectorMap.merge(key, value * timeWeight, Double::sum));
+        }
+
+        l2Normalize(userVectorMap);
+        return userVectorMap;
+    }
+
+    // Song -> 정수 id 희소 벡터 변환 (인덱스 적재 시점에만 호출, 요청 처리 중에는 사용하지 않음)
+    public SparseFeatureVector vectorizeSong(SongFeatureDto songFeatureDto, FeatureDictionary featureDictionary) {
+        Map<String, Double> songVectorMap = vectorizeSongMap(songFeatureDto);
+
+        int[] featureIds = new int[songVectorMap.size()];
+        float[] weights = new float[songVectorMap.size()];
+
+        int i = 0;
+        for (Map.Entry<String, Double> entry : songVectorMap.entrySet()) {
+            featureIds[i] = featureDictionary.intern(entry.getKey());
+            weights[i] = entry.getValue().floatValue();
+            i++;
+        }
+        return new SparseFeatureVector(featureIds, weights);
+    }
+
+    // 저장된 사용자 프로필(feature 토큰 -> 가중치) -> 사용자 벡터(feature id 기준 dense 배열, L2 정규화)
+    // 인덱스에 없는 토큰(삭제된 음원에만 있던 feature)은 무시, 남는 feature가 없으면 길이 0 배열 반환
+    public double[] vectorizeProfile(Map<String, Double> profileVectorMap, FeatureDictionary featureDictionary, int featureCount) {
+        double[] userVector = new double[featureCount];
+        double l2NormSquared = 0.0;
+
+        for (Map.Entry<String, Double> entry : profileVectorMap.entrySet()) {
+            int featureId = featureDictionary.findId(entry.getKey());
+            double value = entry.getValue();
+
+            if (featureId < 0 || featureId >= featureCount || value <= 0.0) {
+                continue;
+            }
+            userVector[featureId] = value;
+            l2NormSquared += value * value;
+        }
+
+        if (l2NormSquared == 0.0) {
+            return new double[0];
+        }
+
+        double vectorSize = Math.sqrt(l2NormSquared);
+        for (int i = 0; i < userVector.length; i++) {
+            userVector[i] /= vectorSize;
+        }
+        return userVector;
+    }
+
     // 장르 벡터화 -> 장르가 2개면 각 장르에 GENRE_WEIGHT / 2씩 분재
     private void addGenreList(Map<String, Double> vector, List<String> genreNameList) {
         // 장르 정보가 비어있으면 장르 feature 추가 안함
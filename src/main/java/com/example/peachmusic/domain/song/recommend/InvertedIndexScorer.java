@@ -0,0 +1,155 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 역색인 기반 추천 점수 계산
+ * - 사용자 벡터에서 0이 아닌 feature의 posting list만 순회 -> feature를 하나도 공유하지 않는 음원은 건드리지 않음
+ * - 점수 누적 배열은 카탈로그 크기만큼 필요하므로 요청마다 만들지 않고 풀에서 재사용
+ * - 두 벡터 모두 L2 정규화되어 있으므로 누적된 내적 = 코사인 유사도
+ */
+@Component
+public class InvertedIndexScorer {
+
+    public static final int RECOMMEND_LIMIT = 50;
+
+    // 계산은 CPU 바운드라 코어 수 이상 버퍼를 들고 있어도 이득이 없음
+    private final BlockingQueue<ScoreBuffer> bufferPool = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 추천 상위 음원 ID 목록 (점수 내림차순)
+     * - 1차: Seed와 장르가 하나 이상 겹치는 음원만 대상
+     * - 1차 결과가 없으면 장르 조건 없이 같은 누적 점수로 다시 선택
+     * @param userVector 사용자 벡터 (feature id 기준 dense 배열, 정규화 완료)
+     * @param excludeSongIdList 제외할 음원 (Seed)
+     */
+    public List<Long> findTopSongIdList(FeatureIndexSnapshot snapshot, double[] userVector, Collection<Long> excludeSongIdList, int limit) {
+        ScoreBuffer buffer = acquire(snapshot.size());
+        try {
+            accumulate(snapshot, userVector, buffer);
+
+            // Seed 음원은 점수를 지워서 후보에서 제외
+            for (Long songId : excludeSongIdList) {
+                int slot = snapshot.findSlot(songId);
+                if (slot >= 0) {
+                    buffer.scores[slot] = 0.0;
+                }
+            }
+
+            List<Long> topSongIdList = select(snapshot, buffer, true, limit);
+            if (topSongIdList.isEmpty()) {
+                topSongIdList = select(snapshot, buffer, false, limit);
+            }
+            return topSongIdList;
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private void accumulate(FeatureIndexSnapshot snapshot, double[] userVector, ScoreBuffer buffer) {
+        // 사용자 벡터 생성 이후에 스냅샷이 교체됐을 수 있으므로 짧은 쪽 기준
+        int featureCount = Math.min(userVector.length, snapshot.getFeatureCount());
+
+        for (int featureId = 0; featureId < featureCount; featureId++) {
+            double userWeight = userVector[featureId];
+            if (userWeight == 0.0) {
+                continue;
+            }
+
+            int[] postingSlots = snapshot.getPostingSlots(featureId);
+            float[] postingWeights = snapshot.getPostingWeights(featureId);
+            boolean genreFeature = snapshot.isGenreFeature(featureId);
+
+            for (int i = 0; i < postingSlots.length; i++) {
+                int slot = postingSlots[i];
+                // 가중치가 모두 양수라 0이면 처음 만난 음원
+                if (buffer.scores[slot] == 0.0) {
+                    buffer.touched[buffer.touchedCount++] = slot;
+                }
+                buffer.scores[slot] += userWeight * postingWeights[i];
+                if (genreFeature) {
+                    buffer.genreMatched[slot] = true;
+                }
+            }
+        }
+    }
+
+    private List<Long> select(FeatureIndexSnapshot snapshot, ScoreBuffer buffer, boolean sameGenreOnly, int limit) {
+        TopKSelector selector = buffer.selector(limit);
+
+        for (int i = 0; i < buffer.touchedCount; i++) {
+            int slot = buffer.touched[i];
+            double score = buffer.scores[slot];
+            if (score <= 0 || (sameGenreOnly && !buffer.genreMatched[slot])) {
+                continue;
+            }
+            selector.offer(slot, score);
+        }
+
+        int[] topSlots = selector.drainDescending();
+        List<Long> topSongIdList = new ArrayList<>(topSlots.length);
+        for (int slot : topSlots) {
+            topSongIdList.add(snapshot.getSongId(slot));
+        }
+        return topSongIdList;
+    }
+
+    private ScoreBuffer acquire(int catalogSize) {
+        ScoreBuffer buffer = bufferPool.poll();
+        if (buffer == null || buffer.capacity() < catalogSize) {
+            // 풀이 비었거나 카탈로그가 커졌으면 새로 할당 (반납 시 작은 버퍼는 교체됨)
+            return new ScoreBuffer(catalogSize);
+        }
+        return buffer;
+    }
+
+    private void release(ScoreBuffer buffer) {
+        buffer.reset();
+        bufferPool.offer(buffer);
+    }
+
+    /**
+     * 요청 1건의 점수 누적 공간
+     * - 건드린 slot만 기록해두고 반납 시 그 slot만 초기화 (전체 배열 clear 비용 없음)
+     */
+    private static final class ScoreBuffer {
+
+        private final double[] scores;
+        private final boolean[] genreMatched;
+        private final int[] touched;
+        private int touchedCount;
+        private TopKSelector selector;
+
+        private ScoreBuffer(int capacity) {
+            this.scores = new double[capacity];
+            this.genreMatched = new boolean[capacity];
+            this.touched = new int[capacity];
+        }
+
+        private int capacity() {
+            return scores.length;
+        }
+
+        private TopKSelector selector(int limit) {
+            if (selector == null || selector.capacity() != limit) {
+                selector = new TopKSelector(limit);
+            }
+            selector.clear();
+            return selector;
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                scores[slot] = 0.0;
+                genreMatched[slot] = false;
+            }
+            touchedCount = 0;
+        }
+    }
+}
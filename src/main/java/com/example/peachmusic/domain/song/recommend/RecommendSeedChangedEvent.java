@@ -0,0 +1,20 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import java.util.List;
+
+/**
+ * 사용자의 추천 Seed(좋아요, 플레이리스트 음원)가 바뀌었을 때 발행
+ * - 트랜잭션 커밋 이후에 처리되어야 하므로 @TransactionalEventListener로 수신
+ * @param addedSongIdList 새로 추가된 음원
+ * @param removedSongIdList 제거된 음원
+ */
+public record RecommendSeedChangedEvent(Long userId, List<Long> addedSongIdList, List<Long> removedSongIdList) {
+
+    public static RecommendSeedChangedEvent added(Long userId, List<Long> songIdList) {
+        return new RecommendSeedChangedEvent(userId, songIdList, List.of());
+    }
+
+    public static RecommendSeedChangedEvent removed(Long userId, List<Long> songIdList) {
+        return new RecommendSeedChangedEvent(userId, List.of(), songIdList);
+    }
+}
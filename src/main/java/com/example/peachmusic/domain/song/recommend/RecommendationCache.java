@@ -0,0 +1,181 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import com.example.peachmusic.domain.song.dto.response.SongRecommendationResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 추천 결과 캐시
+ * - Redis: 추천 순위 음원 ID 목록 (서버 재시작, 다중 인스턴스에서도 유지)
+ * - 로컬: 최종 응답 목록을 짧게 보관 -> 같은 사용자의 반복 조회는 Redis 왕복도 없이 반환
+ * - 추천 Seed가 바뀌는 이벤트에서만 무효화되므로 계산 횟수는 페이지 조회수가 아니라 취향 변경 횟수에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCache {
+
+    private static final String USER_RECOMMEND_KEY = "recommend:user:";
+    // 추천 조회 사용자 (score = 마지막 조회 시각), 새벽 일괄 계산 대상
+    private static final String ACTIVE_USER_KEY = "recommend:user:active";
+    // Seed 변경 사용자 (score = 변경 시각), 일괄 계산 도중 바뀐 사용자의 결과를 덮어쓰지 않기 위해 기록
+    private static final String CHANGED_USER_KEY = "recommend:user:changed";
+    // Seed 변경 이벤트를 놓친 경우에도 결국 다시 계산되도록 TTL 설정
+    private static final Duration RANKED_TTL = Duration.ofHours(12);
+    // 새벽 일괄 계산 결과는 다음 일괄 계산까지 유지
+    private static final Duration PRECOMPUTED_TTL = Duration.ofHours(26);
+    // 다른 인스턴스에서 무효화된 경우 이 시간만큼 이전 결과가 보일 수 있음
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final long LOCAL_MAX_SIZE = 10_000L;
+    // Seed가 없어 cold-start 추천 대상인 사용자 표시
+    private static final String COLD_START_VALUE = "";
+
+    // KEYS: 추천 순위 키, Seed 변경 사용자 ZSET / ARGV: userId, 계산 시작 시각(ms), 저장할 값, TTL(초)
+    // 계산 시작 이후 Seed가 바뀌었으면 저장하지 않음 (무효화 이후 이전 결과로 덮어쓰지 않도록 확인과 저장을 한 번에 수행)
+    private static final RedisScript<Long> PUT_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            local changedAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if changedAt and tonumber(changedAt) >= tonumber(ARGV[2]) then return 0 end
+            redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, List<SongRecommendationResponseDto>> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    public Optional<List<SongRecommendationResponseDto>> findResult(Long userId) {
+        return Optional.ofNullable(localCache.getIfPresent(userId));
+    }
+
+    public void putResult(Long userId, List<SongRecommendationResponseDto> result) {
+        localCache.put(userId, result);
+    }
+
+    /**
+     * 추천 순위 음원 ID 목록 조회
+     * - 빈 목록이면 cold-start 대상
+     */
+    public Optional<List<Long>> findRankedSongIdList(Long userId) {
+        String value = redisTemplate.opsForValue().get(USER_RECOMMEND_KEY + userId);
+
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (value.equals(COLD_START_VALUE)) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(Arrays.stream(value.split(",")).map(Long::valueOf).toList());
+    }
+
+    /**
+     * 추천 순위 음원 ID 목록 저장 (계산 시작 이후 Seed가 바뀐 사용자는 저장하지 않음)
+     * @param startedAt 계산 시작 시각 (epoch ms)
+     * @return 저장 여부
+     */
+    public boolean putRankedSongIdListIfUnchanged(Long userId, List<Long> rankedSongIdList, long startedAt) {
+        Long stored = redisTemplate.execute(PUT_IF_UNCHANGED_SCRIPT, List.of(USER_RECOMMEND_KEY + userId, CHANGED_USER_KEY),
+                String.valueOf(userId), String.valueOf(startedAt), encode(rankedSongIdList), String.valueOf(RANKED_TTL.toSeconds()));
+        return stored != null && stored == 1L;
+    }
+
+    /**
+     * 일괄 계산 결과 저장 (한 번의 파이프라인으로 저장)
+     */
+    public void putPrecomputedRankedSongIdMap(Map<Long, List<Long>> rankedSongIdMap) {
+        if (rankedSongIdMap.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                rankedSongIdMap.forEach((userId, rankedSongIdList) ->
+                        ops.opsForValue().set(USER_RECOMMEND_KEY + userId, encode(rankedSongIdList), PRECOMPUTED_TTL));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 변경 시각을 먼저 기록한 뒤 삭제 -> 기록 전에 저장된 이전 결과는 삭제되고, 기록 후의 저장은 거부됨
+     */
+    public void evict(Long userId) {
+        localCache.invalidate(userId);
+        redisTemplate.opsForZSet().add(CHANGED_USER_KEY, String.valueOf(userId), System.currentTimeMillis());
+        redisTemplate.delete(USER_RECOMMEND_KEY + userId);
+    }
+
+    public void markActive(Long userId) {
+        redisTemplate.opsForZSet().add(ACTIVE_USER_KEY, String.valueOf(userId), System.currentTimeMillis());
+    }
+
+    /**
+     * 최근 추천을 조회한 사용자 목록 (기간이 지난 사용자는 함께 정리)
+     */
+    public List<Long> findActiveUserIdList(Duration within) {
+        long since = System.currentTimeMillis() - within.toMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(ACTIVE_USER_KEY, 0, since - 1);
+        redisTemplate.opsForZSet().removeRangeByScore(CHANGED_USER_KEY, 0, since - 1);
+
+        Set<String> userIdSet = redisTemplate.opsForZSet().rangeByScore(ACTIVE_USER_KEY, since, Double.POSITIVE_INFINITY);
+        if (userIdSet == null) {
+            return List.of();
+        }
+        return userIdSet.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 주어진 시각 이후 Seed가 바뀐 사용자
+     */
+    public Set<Long> findChangedUserIdSet(long sinceEpochMilli) {
+        Set<String> userIdSet = redisTemplate.opsForZSet().rangeByScore(CHANGED_USER_KEY, sinceEpochMilli, Double.POSITIVE_INFINITY);
+        if (userIdSet == null) {
+            return Set.of();
+        }
+        return userIdSet.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    private String encode(List<Long> rankedSongIdList) {
+        return rankedSongIdList.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 좋아요, 플레이리스트 변경이 커밋된 뒤 해당 사용자 캐시 무효화
+     * - 사용자 프로필 갱신 이후에 실행
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeedChanged(RecommendSeedChangedEvent event) {
+        try {
+            evict(event.userId());
+        } catch (DataAccessException e) {
+            // 무효화 실패 시 TTL 만료까지 이전 추천이 유지됨
+            log.warn("추천 캐시 무효화 실패 - userId: {}", event.userId(), e);
+        }
+    }
+}
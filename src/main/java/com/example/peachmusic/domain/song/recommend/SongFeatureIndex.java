@@ -0,0 +1,169 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import com.example.peachmusic.domain.song.dto.SongFeatureDto;
+import com.example.peachmusic.domain.song.event.SongChangedEvent;
+import com.example.peachmusic.domain.song.repository.SongRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천용 Feature Vector 메모리 인덱스
+ * 1. 서버 시작 시 스트리밍 가능한 전체 음원의 벡터를 적재
+ * 2. content_modified_at 기준 변경분 + 관리자 수정으로 표시된 음원만 주기적으로 갱신 (Jamendo 적재, Worker 상태 변경 포함)
+ *    - 좋아요 수, 재생 수 갱신은 content_modified_at을 바꾸지 않으므로 변경분에 섞이지 않음
+ * 3. 추천 요청은 불변 스냅샷만 읽으므로 DB 조회, 문자열 생성이 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SongFeatureIndex {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+    // 앱 서버와 DB 서버의 시각 차이, 같은 초에 수정된 행을 놓치지 않기 위한 여유 시간
+    private static final long MODIFIED_AT_OVERLAP_SECONDS = 60;
+
+    private final SongRepository songRepository;
+    private final FeatureVectorizer featureVectorizer;
+
+    private final FeatureDictionary featureDictionary = new FeatureDictionary();
+    private final Map<Long, SparseFeatureVector> vectorMap = new HashMap<>(); // 갱신 스레드에서만 접근
+    private final Set<Long> dirtySongIdSet = ConcurrentHashMap.newKeySet();
+
+    private volatile FeatureIndexSnapshot snapshot = FeatureIndexSnapshot.EMPTY;
+    private LocalDateTime lastRefreshedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    public FeatureIndexSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public FeatureDictionary getFeatureDictionary() {
+        return featureDictionary;
+    }
+
+    /**
+     * 음원 벡터를 feature 토큰 기준 Map으로 조회 (사용자 프로필 저장용, 인덱스 id는 서버마다 다를 수 있음)
+     * - 인덱스에 없는 음원이면 빈 Map
+     */
+    public Map<String, Double> findTokenVectorMap(Long songId) {
+        SparseFeatureVector vector = snapshot.getVector(songId);
+
+        if (vector == null) {
+            return Map.of();
+        }
+
+        int[] featureIds = vector.featureIds();
+        float[] weights = vector.weights();
+        Map<String, Double> tokenVectorMap = new HashMap<>(featureIds.length * 2);
+        for (int i = 0; i < featureIds.length; i++) {
+            tokenVectorMap.put(featureDictionary.getToken(featureIds[i]), (double) weights[i]);
+        }
+        return tokenVectorMap;
+    }
+
+    /**
+     * 관리자 수정 등 content_modified_at만으로 감지되지 않는 변경(장르 교체 등)을 다음 갱신에 반영
+     */
+    public void markDirty(Long songId) {
+        dirtySongIdSet.add(songId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSongChanged(SongChangedEvent event) {
+        markDirty(event.songId());
+    }
+
+    /**
+     * 전체 재적재
+     */
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+
+        vectorMap.clear();
+        dirtySongIdSet.clear();
+
+        Long lastSongId = 0L;
+        while (true) {
+            List<Long> songIdList = songRepository.findFeatureSongIdListAfter(lastSongId, LOAD_PAGE_SIZE);
+
+            if (songIdList.isEmpty()) {
+                break;
+            }
+
+            putVectorList(songIdList);
+            lastSongId = songIdList.get(songIdList.size() - 1);
+
+            if (songIdList.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        snapshot = FeatureIndexSnapshot.of(vectorMap, featureDictionary);
+        lastRefreshedAt = startedAt;
+
+        log.info("추천 Feature 인덱스 적재 완료 - songs={}, features={}, {}ms", snapshot.size(), snapshot.getFeatureCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 변경분 갱신
+     */
+    @Scheduled(fixedDelay = 30, timeUnit = TimeUnit.SECONDS)
+    public synchronized void refresh() {
+        // 초기 적재 전
+        if (lastRefreshedAt == null) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        Set<Long> changedSongIdSet = new HashSet<>(songRepository.findSongIdListModifiedAfter(lastRefreshedAt.minusSeconds(MODIFIED_AT_OVERLAP_SECONDS)));
+
+        Iterator<Long> dirtyIterator = dirtySongIdSet.iterator();
+        while (dirtyIterator.hasNext()) {
+            changedSongIdSet.add(dirtyIterator.next());
+            dirtyIterator.remove();
+        }
+
+        if (!changedSongIdSet.isEmpty()) {
+            List<Long> changedSongIdList = new ArrayList<>(changedSongIdSet);
+
+            for (int from = 0; from < changedSongIdList.size(); from += LOAD_PAGE_SIZE) {
+                List<Long> chunk = changedSongIdList.subList(from, Math.min(from + LOAD_PAGE_SIZE, changedSongIdList.size()));
+                // 조회되지 않은 음원(삭제, 스트리밍 불가, feature 누락)은 인덱스에서 제거
+                chunk.forEach(vectorMap::remove);
+                putVectorList(chunk);
+            }
+
+            snapshot = FeatureIndexSnapshot.of(vectorMap, featureDictionary);
+        }
+
+        lastRefreshedAt = startedAt;
+    }
+
+    private void putVectorList(List<Long> songIdList) {
+        Map<Long, SongFeatureDto> featureMap = songRepository.findFeatureBySongIdMap(songIdList);
+
+        for (SongFeatureDto songFeatureDto : featureMap.values()) {
+            SparseFeatureVector vector = featureVectorizer.vectorizeSong(songFeatureDto, featureDictionary);
+            if (vector.size() > 0) {
+                vectorMap.put(songFeatureDto.getSongId(), vector);
+            }
+        }
+    }
+}
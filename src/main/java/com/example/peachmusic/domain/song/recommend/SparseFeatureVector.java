@@ -0,0 +1,12 @@
+package com.example.peachmusic.domain.song.recommend;
+
+/**
+ * 정수 feature id 기반 희소 벡터
+ * - featureIds[i]의 가중치가 weights[i] (L2 정규화된 값)
+ */
+public record SparseFeatureVector(int[] featureIds, float[] weights) {
+
+    public int size() {
+        return featureIds.length;
+    }
+}
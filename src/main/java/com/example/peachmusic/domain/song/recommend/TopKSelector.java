@@ -0,0 +1,106 @@
+package com.example.peachmusic.domain.song.recommend;
+
+/**
+ * 점수 상위 K개 slot 선택용 고정 크기 Min-Heap
+ * - (score, slot)을 primitive 배열로 보관해 후보마다 객체를 만들지 않음
+ * - 힙이 가득 차면 루트(현재 K번째 점수)보다 큰 후보만 교체
+ */
+public final class TopKSelector {
+
+    private final double[] scores;
+    private final int[] slots;
+    private int size;
+
+    public TopKSelector(int limit) {
+        this.scores = new double[limit];
+        this.slots = new int[limit];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return scores.length;
+    }
+
+    public void offer(int slot, double score) {
+        if (scores.length == 0) {
+            return;
+        }
+
+        if (size < scores.length) {
+            scores[size] = score;
+            slots[size] = slot;
+            siftUp(size++);
+            return;
+        }
+
+        // 현재 K번째 점수 이하면 버림
+        if (score <= scores[0]) {
+            return;
+        }
+        scores[0] = score;
+        slots[0] = slot;
+        siftDown(0);
+    }
+
+    /**
+     * 점수 내림차순 slot 배열 반환 (힙은 비워짐)
+     */
+    public int[] drainDescending() {
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = slots[0];
+            size--;
+            scores[0] = scores[size];
+            slots[0] = slots[size];
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = (index << 1) + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+
+        int slot = slots[i];
+        slots[i] = slots[j];
+        slots[j] = slot;
+    }
+}
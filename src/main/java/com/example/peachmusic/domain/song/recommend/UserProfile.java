@@ -0,0 +1,16 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저장된 사용자 추천 프로필
+ * @param vectorMap feature 토큰별 가중치 (정규화 전, 읽는 쪽에서 정규화)
+ * @param seedSongIdSet 현재 Seed 음원 (추천 결과에서 제외)
+ */
+public record UserProfile(Map<String, Double> vectorMap, Set<Long> seedSongIdSet) {
+
+    public boolean hasSeed() {
+        return !seedSongIdSet.isEmpty();
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import com.example.peachmusic.common.redis.RedisLockService;
+import com.example.peachmusic.domain.song.dto.response.UserProfileConsistencyResponseDto;
+import com.example.peachmusic.domain.song.jdbc.UserSeedJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자 추천 프로필 관리
+ * 1. 좋아요, 플레이리스트 변경 이벤트마다 해당 음원 벡터만 더하거나 빼서 갱신 (Seed 수와 무관한 비용)
+ * 2. 프로필이 없는 사용자는 조회 시점에 DB의 Seed로 한 번 계산
+ * 3. 매일 새벽 전체 재계산으로 누적 오차, 누락 이벤트, 음원 feature 변경을 정리
+ * - 재계산 중 델타가 반영되면 재계산 결과를 저장하지 않음 (델타가 반영된 프로필 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProfileService {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final String REBUILD_LOCK_KEY = "lock:recommend:profile:rebuild";
+    private static final long REBUILD_LOCK_SECONDS = 60 * 60;
+    // DB 기준 재계산 결과와 이 값 미만의 코사인 유사도면 불일치로 판단
+    // DB에는 좋아요와 플레이리스트 사이의 추가 순서, 제거된 Seed의 순번이 없어 정상 프로필도 1보다 조금 낮을 수 있음
+    private static final double CONSISTENCY_THRESHOLD = 0.99;
+
+    private final UserProfileStore userProfileStore;
+    private final UserSeedJdbcRepository userSeedJdbcRepository;
+    private final SongFeatureIndex songFeatureIndex;
+    private final FeatureVectorizer featureVectorizer;
+    private final RedisLockService redisLockService;
+
+    /**
+     * 프로필 조회, 없으면 DB의 Seed로 계산 후 저장
+     */
+    public UserProfile getOrBuild(Long userId) {
+        UserProfile profile = userProfileStore.find(userId);
+
+        if (profile != null) {
+            return profile;
+        }
+        return rebuild(userId);
+    }
+
+    /**
+     * Seed 변경 델타 반영
+     * - 추천 결과 캐시 무효화보다 먼저 실행되어야 무효화 직후 요청이 이전 프로필로 다시 캐시하지 않음
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeedChanged(RecommendSeedChangedEvent event) {
+        Long userId = event.userId();
+
+        try {
+            for (Long songId : event.addedSongIdList()) {
+                userProfileStore.applyAdd(userId, songId, songFeatureIndex.findTokenVectorMap(songId));
+            }
+            for (Long songId : event.removedSongIdList()) {
+                userProfileStore.applyRemove(userId, songId, songFeatureIndex.findTokenVectorMap(songId));
+            }
+        } catch (DataAccessException e) {
+            // 반영 실패분은 새벽 전체 재계산에서 복구
+            log.warn("추천 프로필 갱신 실패 - userId: {}", userId, e);
+        }
+    }
+
+    /**
+     * 단일 사용자 프로필 재계산
+     * - 저장된 Seed 상태(버전)를 DB의 Seed보다 먼저 조회
+     */
+    public UserProfile rebuild(Long userId) {
+        UserProfileStore.SeedSnapshot seedSnapshot = userProfileStore.findSeedSnapshotMap(List.of(userId)).get(userId);
+        List<Long> seedSongIdList = userSeedJdbcRepository.findSeedSongIdMap(List.of(userId)).get(userId);
+        ProfileCalculation calculation = calculate(seedSongIdList, seedSnapshot.seedStateMap());
+        save(userId, seedSnapshot.version(), calculation);
+        // 저장하지 못해도 이번 요청은 계산 결과로 응답 (저장된 프로필은 다음 조회부터 사용)
+        return new UserProfile(calculation.vectorMap(), calculation.seedStateMap().keySet());
+    }
+
+    /**
+     * 전체 사용자 프로필 재계산 (매일 4시)
+     * - 여러 서버 중 한 곳에서만 실행
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void rebuildAll() {
+        // 음원 벡터가 없으면 빈 프로필로 덮어쓰게 되므로 인덱스 적재 전에는 실행하지 않음
+        if (!songFeatureIndex.getSnapshot().isLoaded()) {
+            return;
+        }
+
+        String lockValue = UUID.randomUUID().toString();
+
+        if (!redisLockService.tryLock(REBUILD_LOCK_KEY, lockValue, REBUILD_LOCK_SECONDS)) {
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            int userCount = 0;
+            int retryCount = 0;
+            Long lastUserId = 0L;
+
+            while (true) {
+                List<Long> userIdList = userSeedJdbcRepository.findUserIdListAfter(lastUserId, REBUILD_PAGE_SIZE);
+
+                if (userIdList.isEmpty()) {
+                    break;
+                }
+
+                Map<Long, UserProfileStore.SeedSnapshot> seedSnapshotMap = userProfileStore.findSeedSnapshotMap(userIdList);
+                List<Long> conflictUserIdList = new ArrayList<>();
+                userSeedJdbcRepository.findSeedSongIdMap(userIdList).forEach((userId, seedSongIdList) -> {
+                    UserProfileStore.SeedSnapshot seedSnapshot = seedSnapshotMap.get(userId);
+                    if (!save(userId, seedSnapshot.version(), calculate(seedSongIdList, seedSnapshot.seedStateMap()))) {
+                        conflictUserIdList.add(userId);
+                    }
+                });
+
+                // 재계산 중 델타가 반영된 사용자는 한 번만 다시 계산 (또 충돌하면 델타가 반영된 프로필 유지)
+                conflictUserIdList.forEach(this::rebuild);
+                retryCount += conflictUserIdList.size();
+
+                userCount += userIdList.size();
+                lastUserId = userIdList.get(userIdList.size() - 1);
+            }
+
+            log.info("추천 프로필 전체 재계산 완료 - users={}, retried={}, {}ms", userCount, retryCount, System.currentTimeMillis() - start);
+        } finally {
+            redisLockService.unlock(REBUILD_LOCK_KEY, lockValue);
+        }
+    }
+
+    /**
+     * 저장된 프로필과 DB 기준 전체 재계산 결과 비교 (Redis의 순번, 증분 갱신 결과는 기준값에 사용하지 않음)
+     * - Seed: DB의 Seed별 참조 수, 추천 인덱스 포함 여부와 저장된 Seed 상태 비교
+     * - 벡터: DB 순서(좋아요 -> 플레이리스트)로 FeatureVectorizer가 같은 감쇠로 다시 계산한 벡터와 코사인 유사도 비교
+     */
+    public UserProfileConsistencyResponseDto checkConsistency(int sampleSize) {
+        List<Long> userIdList = userSeedJdbcRepository.findSampleUserIdList(sampleSize);
+        Map<Long, List<Long>> seedSongIdMap = userSeedJdbcRepository.findSeedSongIdMap(userIdList);
+        Map<Long, UserProfileStore.SeedSnapshot> seedSnapshotMap = userProfileStore.findSeedSnapshotMap(userIdList);
+
+        int notBuiltCount = 0;
+        int seedMismatchCount = 0;
+        int vectorMismatchCount = 0;
+        double minCosine = 1.0;
+
+        for (Map.Entry<Long, List<Long>> entry : seedSongIdMap.entrySet()) {
+            UserProfile stored = userProfileStore.find(entry.getKey());
+
+            if (stored == null) {
+                notBuiltCount++;
+                continue;
+            }
+
+            Map<Long, Integer> refCountMap = new LinkedHashMap<>();
+            entry.getValue().forEach(songId -> refCountMap.merge(songId, 1, Integer::sum));
+
+            Map<Long, UserProfileStore.SeedState> storedSeedStateMap = seedSnapshotMap.get(entry.getKey()).seedStateMap();
+            boolean seedMatched = storedSeedStateMap.keySet().equals(refCountMap.keySet());
+            List<Map<String, Double>> seedVectorMapList = new ArrayList<>(refCountMap.size());
+
+            for (Map.Entry<Long, Integer> seed : refCountMap.entrySet()) {
+                Map<String, Double> songVector = songFeatureIndex.findTokenVectorMap(seed.getKey());
+                seedVectorMapList.add(songVector);
+
+                UserProfileStore.SeedState storedSeedState = storedSeedStateMap.get(seed.getKey());
+                if (storedSeedState == null || storedSeedState.refCount() != seed.getValue() || storedSeedState.applied() == songVector.isEmpty()) {
+                    seedMatched = false;
+                }
+            }
+
+            if (!seedMatched) {
+                seedMismatchCount++;
+            }
+
+            Map<String, Double> expected = featureVectorizer.vectorizeDecayedUserMap(seedVectorMapList, UserProfileStore.GROWTH);
+            // 둘 다 빈 벡터면 일치
+            double cosine = stored.vectorMap().isEmpty() && expected.isEmpty()
+                    ? 1.0
+                    : CosineSimilarity.compute(normalize(stored.vectorMap()), expected);
+
+            minCosine = Math.min(minCosine, cosine);
+            if (cosine < CONSISTENCY_THRESHOLD) {
+                vectorMismatchCount++;
+            }
+        }
+
+        return UserProfileConsistencyResponseDto.of(seedSongIdMap.size(), notBuiltCount, seedMismatchCount, vectorMismatchCount, minCosine);
+    }
+
+    /**
+     * Seed 목록 전체로 프로필 계산 - 이벤트를 순서대로 반영한 결과와 같은 값
+     * - 이미 저장된 Seed는 기존 추가 순번 유지 (DB에는 추가 시각이 없으므로 순번은 프로필에만 존재)
+     * - 새로 발견된 Seed(누락 이벤트, 최초 계산)는 DB 순서(좋아요 -> 플레이리스트)대로 뒤에 추가
+     * @param seedSongIdList 좋아요, 플레이리스트 Seed (중복 포함)
+     * @param storedSeedStateMap 저장된 Seed 상태 (없으면 빈 Map)
+     */
+    private ProfileCalculation calculate(List<Long> seedSongIdList, Map<Long, UserProfileStore.SeedState> storedSeedStateMap) {
+        Map<Long, Integer> refCountMap = new LinkedHashMap<>();
+        seedSongIdList.forEach(songId -> refCountMap.merge(songId, 1, Integer::sum));
+
+        long seq = storedSeedStateMap.values().stream().mapToLong(UserProfileStore.SeedState::seq).max().orElse(0L);
+
+        Map<Long, UserProfileStore.SeedState> seedStateMap = new LinkedHashMap<>();
+        Map<Long, Map<String, Double>> songVectorMap = new HashMap<>();
+
+        for (Map.Entry<Long, Integer> entry : refCountMap.entrySet()) {
+            Long songId = entry.getKey();
+            UserProfileStore.SeedState stored = storedSeedStateMap.get(songId);
+            long seedSeq = stored != null ? stored.seq() : ++seq;
+
+            Map<String, Double> songVector = songFeatureIndex.findTokenVectorMap(songId);
+            seedStateMap.put(songId, new UserProfileStore.SeedState(seedSeq, entry.getValue(), !songVector.isEmpty()));
+            songVectorMap.put(songId, songVector);
+        }
+
+        // 마지막 순번 기준 가중치 (가장 최근 Seed = 1.0)
+        Map<String, Double> vectorMap = new HashMap<>();
+        for (Map.Entry<Long, UserProfileStore.SeedState> entry : seedStateMap.entrySet()) {
+            double factor = Math.pow(UserProfileStore.GROWTH, entry.getValue().seq() - seq);
+            songVectorMap.get(entry.getKey()).forEach((token, weight) -> vectorMap.merge(token, weight * factor, Double::sum));
+        }
+
+        return new ProfileCalculation(vectorMap, seedStateMap, seq);
+    }
+
+    private boolean save(Long userId, long version, ProfileCalculation calculation) {
+        return userProfileStore.replace(userId, version, calculation.vectorMap(), calculation.seedStateMap(), calculation.seq());
+    }
+
+    private Map<String, Double> normalize(Map<String, Double> vectorMap) {
+        double l2NormSquared = 0.0;
+        for (double value : vectorMap.values()) {
+            l2NormSquared += value * value;
+        }
+
+        double vectorSize = Math.sqrt(l2NormSquared);
+        Map<String, Double> normalized = new HashMap<>(vectorMap.size() * 2);
+        if (vectorSize > 0.0) {
+            vectorMap.forEach((token, value) -> normalized.put(token, value / vectorSize));
+        }
+        return normalized;
+    }
+
+    private record ProfileCalculation(Map<String, Double> vectorMap, Map<Long, UserProfileStore.SeedState> seedStateMap, long seq) {
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.peachmusic.domain.song.recommend;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 추천 프로필 Redis 저장소
+ * - recommend:profile:{userId}:vector  feature 토큰 -> 가중치
+ * - recommend:profile:{userId}:seed    Seed 음원 ID -> "추가 순번:참조 수:벡터 반영 여부"
+ * - recommend:profile:{userId}:meta    seq(마지막 추가 순번), base(가중치 기준 순번), ver(변경 버전)
+ *
+ * 시간 감쇠: 순번 seq로 추가된 Seed의 가중치 = 음원 벡터 * GROWTH^(seq - base)
+ * - 새 Seed일수록 가중치가 커지고, 정규화 후에는 오래된 Seed의 비중이 HALF_LIFE_SEEDS개마다 절반이 됨
+ * - 기존 값을 다시 계산하지 않고 더하기/빼기만으로 갱신 가능
+ *
+ * 재계산 교체는 Seed 상태를 읽은 시점의 ver가 그대로일 때만 반영 -> 재계산 중에 반영된 델타를 덮어쓰지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileStore {
+
+    public static final int HALF_LIFE_SEEDS = 50;
+    public static final double GROWTH = Math.pow(2.0, 1.0 / HALF_LIFE_SEEDS);
+    // seq - base가 이 값을 넘으면 전체 가중치를 축소해 double 범위 초과 방지
+    private static final int RESCALE_SPAN = 2000;
+    private static final long PROFILE_TTL_DAYS = 30;
+
+    private static final String PROFILE_KEY = "recommend:profile:";
+    private static final String VER_FIELD = "ver";
+
+    /**
+     * Seed 추가/제거 델타 반영
+     * KEYS: vector, seed, meta / ARGV: op, songId, growth, rescaleSpan, ttlSeconds, (token, weight)...
+     * 반환: 1 벡터 반영, 0 참조 수만 변경, -1 프로필 없음
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 0 then return -1 end
+            redis.call('HINCRBY', KEYS[3], 'ver', 1)
+            local growth = tonumber(ARGV[3])
+            local base = tonumber(redis.call('HGET', KEYS[3], 'base'))
+            local seed = redis.call('HGET', KEYS[2], ARGV[2])
+            local seq, sign
+            if ARGV[1] == 'add' then
+              if seed then
+                local s, ref, applied = string.match(seed, '(%-?%d+):(%d+):(%d)')
+                redis.call('HSET', KEYS[2], ARGV[2], s .. ':' .. (tonumber(ref) + 1) .. ':' .. applied)
+                return 0
+              end
+              seq = redis.call('HINCRBY', KEYS[3], 'seq', 1)
+              if seq - base > tonumber(ARGV[4]) then
+                local scale = growth ^ (base - seq)
+                local fields = redis.call('HGETALL', KEYS[1])
+                for i = 1, #fields, 2 do
+                  redis.call('HSET', KEYS[1], fields[i], string.format('%.17g', tonumber(fields[i + 1]) * scale))
+                end
+                base = seq
+                redis.call('HSET', KEYS[3], 'base', base)
+              end
+              redis.call('HSET', KEYS[2], ARGV[2], seq .. ':1:' .. (#ARGV > 5 and 1 or 0))
+              sign = 1
+            else
+              if not seed then return 0 end
+              local s, ref, applied = string.match(seed, '(%-?%d+):(%d+):(%d)')
+              if tonumber(ref) > 1 then
+                redis.call('HSET', KEYS[2], ARGV[2], s .. ':' .. (tonumber(ref) - 1) .. ':' .. applied)
+                return 0
+              end
+              redis.call('HDEL', KEYS[2], ARGV[2])
+              if applied == '0' then return 0 end
+              seq = tonumber(s)
+              sign = -1
+            end
+            local factor = growth ^ (seq - base)
+            for i = 6, #ARGV, 2 do
+              local value = tonumber(redis.call('HINCRBYFLOAT', KEYS[1], ARGV[i], string.format('%.17g', sign * tonumber(ARGV[i + 1]) * factor)))
+              if sign < 0 and math.abs(value) < 1e-9 then
+                redis.call('HDEL', KEYS[1], ARGV[i])
+              end
+            end
+            for i = 1, 3 do
+              redis.call('EXPIRE', KEYS[i], ARGV[5])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 전체 재계산 결과로 교체 (조회 시점 이후 델타가 반영되었으면 교체하지 않음)
+     * KEYS: vector, seed, meta / ARGV: ver, seq, ttlSeconds, vectorCount, (token, weight)..., (songId, state)...
+     * 반환: 1 교체, 0 버전 불일치
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            local ver = tonumber(redis.call('HGET', KEYS[3], 'ver') or '0')
+            if ver ~= tonumber(ARGV[1]) then return 0 end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            redis.call('HSET', KEYS[3], 'seq', ARGV[2], 'base', ARGV[2], 'ver', ver + 1)
+            local vectorEnd = 4 + tonumber(ARGV[4]) * 2
+            for i = 5, vectorEnd, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            for i = vectorEnd + 1, #ARGV, 2 do
+              redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+            end
+            for i = 1, 3 do
+              redis.call('EXPIRE', KEYS[i], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Seed 상태
+     * @param seq 추가 순번
+     * @param refCount 좋아요, 플레이리스트 중복 참조 수 (0이 되면 제거)
+     * @param applied 추가 시점에 음원 벡터가 반영되었는지 (추천 인덱스에 없던 음원은 제거 시에도 빼지 않음)
+     */
+    public record SeedState(long seq, int refCount, boolean applied) {
+
+        private String encode() {
+            return seq + ":" + refCount + ":" + (applied ? 1 : 0);
+        }
+
+        private static SeedState decode(String value) {
+            String[] parts = value.split(":");
+            return new SeedState(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), "1".equals(parts[2]));
+        }
+    }
+
+    /**
+     * 저장된 프로필 조회 (vector, seed를 한 번의 왕복으로 조회)
+     * @return 프로필이 아직 만들어지지 않았으면 null
+     */
+    public UserProfile find(Long userId) {
+        return findProfileMap(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자의 프로필을 한 번의 파이프라인으로 조회
+     * - 프로필이 없는 사용자는 결과에서 제외
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, UserProfile> findProfileMap(List<Long> userIdList) {
+        List<Object> resultList = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long userId : userIdList) {
+                    ops.hasKey(metaKey(userId));
+                    ops.opsForHash().entries(vectorKey(userId));
+                    ops.opsForHash().keys(seedKey(userId));
+                }
+                return null;
+            }
+        });
+
+        Map<Long, UserProfile> profileMap = new HashMap<>(userIdList.size() * 2);
+        for (int i = 0; i < userIdList.size(); i++) {
+            if (!Boolean.TRUE.equals(resultList.get(i * 3))) {
+                continue;
+            }
+
+            Map<Object, Object> vectorEntries = (Map<Object, Object>) resultList.get(i * 3 + 1);
+            Set<Object> seedKeys = (Set<Object>) resultList.get(i * 3 + 2);
+
+            Map<String, Double> vectorMap = new HashMap<>(vectorEntries.size() * 2);
+            vectorEntries.forEach((token, weight) -> vectorMap.put((String) token, Double.parseDouble((String) weight)));
+
+            Set<Long> seedSongIdSet = new HashSet<>(seedKeys.size() * 2);
+            seedKeys.forEach(songId -> seedSongIdSet.add(Long.valueOf((String) songId)));
+
+            profileMap.put(userIdList.get(i), new UserProfile(vectorMap, seedSongIdSet));
+        }
+        return profileMap;
+    }
+
+    /**
+     * 재계산 기준 상태
+     * @param version 조회 시점의 프로필 버전 (프로필이 없으면 0) -> replace에 그대로 전달
+     * @param seedStateMap 저장된 Seed 상태 (프로필이 없으면 빈 Map)
+     */
+    public record SeedSnapshot(long version, Map<Long, SeedState> seedStateMap) {
+    }
+
+    /**
+     * 사용자별 저장된 Seed 상태 조회 (재계산 시 기존 추가 순번 유지용, 한 번의 파이프라인으로 조회)
+     * - 버전을 Seed 상태보다 먼저 읽음 -> 그 사이 델타가 반영되면 replace에서 버전 불일치
+     * - DB의 Seed보다 먼저 조회해야 DB 조회 이후 커밋된 변경의 델타를 놓치지 않음
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, SeedSnapshot> findSeedSnapshotMap(List<Long> userIdList) {
+        List<Object> resultList = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long userId : userIdList) {
+                    ops.opsForHash().get(metaKey(userId), VER_FIELD);
+                    ops.opsForHash().entries(seedKey(userId));
+                }
+                return null;
+            }
+        });
+
+        Map<Long, SeedSnapshot> seedSnapshotMap = new HashMap<>(userIdList.size() * 2);
+        for (int i = 0; i < userIdList.size(); i++) {
+            String version = (String) resultList.get(i * 2);
+            Map<Object, Object> seedEntries = (Map<Object, Object>) resultList.get(i * 2 + 1);
+            Map<Long, SeedState> userSeedStateMap = new HashMap<>(seedEntries.size() * 2);
+            seedEntries.forEach((songId, value) -> userSeedStateMap.put(Long.valueOf((String) songId), SeedState.decode((String) value)));
+            seedSnapshotMap.put(userIdList.get(i), new SeedSnapshot(version == null ? 0L : Long.parseLong(version), userSeedStateMap));
+        }
+        return seedSnapshotMap;
+    }
+
+    /**
+     * Seed 추가 반영
+     * @param songVectorMap 음원 벡터 (추천 인덱스에 없는 음원이면 빈 Map)
+     * @return 프로필이 없어 반영하지 못했으면 false (다음 조회 시 DB에서 새로 계산)
+     */
+    public boolean applyAdd(Long userId, Long songId, Map<String, Double> songVectorMap) {
+        return apply("add", userId, songId, songVectorMap);
+    }
+
+    public boolean applyRemove(Long userId, Long songId, Map<String, Double> songVectorMap) {
+        return apply("remove", userId, songId, songVectorMap);
+    }
+
+    /**
+     * 전체 재계산 결과로 교체 (스크립트로 원자적 교체)
+     * @param version findSeedSnapshotMap으로 읽은 버전
+     * @return 조회 이후 델타가 반영되어 교체하지 않았으면 false
+     */
+    public boolean replace(Long userId, long version, Map<String, Double> vectorMap, Map<Long, SeedState> seedStateMap, long seq) {
+        List<String> args = new ArrayList<>(4 + (vectorMap.size() + seedStateMap.size()) * 2);
+        args.add(String.valueOf(version));
+        // 재계산 시점의 마지막 순번을 기준으로 가중치 저장 -> 모든 가중치가 1 이하
+        args.add(String.valueOf(seq));
+        args.add(String.valueOf(TimeUnit.DAYS.toSeconds(PROFILE_TTL_DAYS)));
+        args.add(String.valueOf(vectorMap.size()));
+        vectorMap.forEach((token, weight) -> {
+            args.add(token);
+            args.add(String.valueOf(weight));
+        });
+        seedStateMap.forEach((songId, state) -> {
+            args.add(String.valueOf(songId));
+            args.add(state.encode());
+        });
+
+        Long result = redisTemplate.execute(REPLACE_SCRIPT, List.of(vectorKey(userId), seedKey(userId), metaKey(userId)), args.toArray());
+        return result != null && result == 1;
+    }
+
+    private boolean apply(String op, Long userId, Long songId, Map<String, Double> songVectorMap) {
+        List<String> args = new ArrayList<>(5 + songVectorMap.size() * 2);
+        args.add(op);
+        args.add(String.valueOf(songId));
+        args.add(String.valueOf(GROWTH));
+        args.add(String.valueOf(RESCALE_SPAN));
+        args.add(String.valueOf(TimeUnit.DAYS.toSeconds(PROFILE_TTL_DAYS)));
+        songVectorMap.forEach((token, weight) -> {
+            args.add(token);
+            args.add(String.valueOf(weight));
+        });
+
+        Long result = redisTemplate.execute(APPLY_SCRIPT, List.of(vectorKey(userId), seedKey(userId), metaKey(userId)), args.toArray());
+        return result != null && result >= 0;
+    }
+
+    private static String vectorKey(Long userId) {
+        return PROFILE_KEY + userId + ":vector";
+    }
+
+    private static String seedKey(Long userId) {
+        return PROFILE_KEY + userId + ":seed";
+    }
+
+    private static String metaKey(Long userId) {
+        return PROFILE_KEY + userId + ":meta";
+    }
+}
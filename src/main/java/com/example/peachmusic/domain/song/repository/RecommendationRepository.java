@@ -2,14 +2,14 @@ package com.example.peachmusic.domain.song.repository;
 
 import com.example.peachmusic.domain.song.dto.SongFeatureDto;
 import com.example.peachmusic.domain.song.dto.response.SongRecommendationResponseDto;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 public interface RecommendationRepository {
     Map<Long, SongFeatureDto> findFeatureBySongIdMap(List<Long> songIdList);
-    Map<Long, SongFeatureDto> findRecommendFeatureMap(List<Long> songIdList, List<Long> genreIdList);
+    List<Long> findFeatureSongIdListAfter(Long lastSongId, int size);
+    List<Long> findSongIdListModifiedAfter(LocalDateTime modifiedAt);
     List<SongRecommendationResponseDto> findRecommendedSongList(List<Long> orderBySongIdList);
     List<SongRecommendationResponseDto> findRecommendedSongListForColdStart();
-    List<Long> findSeedGenreList(List<Long> mergedSongIdList);
-    Map<Long, SongFeatureDto> findRecommendFeatureMapWithoutGenre(List<Long> mergedSongIdList);
 }
@@ -7,6 +7,7 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 import static com.example.peachmusic.domain.album.entity.QAlbum.album;
@@ -44,25 +45,26 @@ public class RecommendationRepositoryImpl implements RecommendationRepository {
         return convertMap(result);
     }
 
-    // 추천 후보군 500개
+    // 추천 인덱스 적재 대상(스트리밍 가능 + feature 보유) 음원 id를 songId 순으로 조회
     @Override
-    public Map<Long, SongFeatureDto> findRecommendFeatureMap(List<Long> songIdList, List<Long> genreIdList) {
-        // Seed 데이터가 없으면 종료
-        if(songIdList == null || songIdList.isEmpty() || genreIdList == null || genreIdList.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        List<Tuple> result = queryFactory
-                .select(song.songId, genre.genreName, song.speed, song.vartags, song.instruments)
+    public List<Long> findFeatureSongIdListAfter(Long lastSongId, int size) {
+        return queryFactory
+                .select(song.songId)
                 .from(song)
-                .leftJoin(songGenre).on(songGenre.song.eq(song))
-                .leftJoin(genre).on(songGenre.genre.eq(genre))
-                .where(song.songId.notIn(songIdList), hasAllFeature(), genre.genreId.in(genreIdList), isStreamingSuccessStatus())
-                .orderBy(song.likeCount.desc())
-                .limit(500)
+                .where(song.songId.gt(lastSongId), hasAllFeature(), isStreamingSuccessStatus())
+                .orderBy(song.songId.asc())
+                .limit(size)
                 .fetch();
+    }
 
-        return convertMap(result);
+    // 특정 시점 이후 내용이 수정된 음원 id 조회 (추천 인덱스 변경분 갱신용, 상태와 무관하게 조회, idx_songs_content_modified_at)
+    @Override
+    public List<Long> findSongIdListModifiedAfter(LocalDateTime modifiedAt) {
+        return queryFactory
+                .select(song.songId)
+                .from(song)
+                .where(song.contentModifiedAt.goe(modifiedAt))
+                .fetch();
     }
 
     /**
@@ -109,49 +111,8 @@ public class RecommendationRepositoryImpl implements RecommendationRepository {
                 .fetch();
     }
 
-    @Override
-    public List<Long> findSeedGenreList(List<Long> mergedSongIdList) {
-        // Seed 데이터가 없으면 종료
-        if(mergedSongIdList == null || mergedSongIdList.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return queryFactory
-                .select(genre.genreId).distinct()
-                .from(song)
-                .join(songGenre).on(songGenre.song.eq(song))
-                .join(genre).on(songGenre.genre.eq(genre))
-                .where(song.songId.in(mergedSongIdList), isStreamingSuccessStatus())
-                .fetch();
-    }
-
-    @Override
-    public Map<Long, SongFeatureDto> findRecommendFeatureMapWithoutGenre(List<Long> mergedSongIdList) {
-
-        // Seed 데이터가 없으면 종료
-        if (mergedSongIdList == null || mergedSongIdList.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        List<Tuple> result = queryFactory
-                .select(song.songId, genre.genreName, song.speed, song.vartags, song.instruments)
-                .from(song)
-                .leftJoin(songGenre).on(songGenre.song.eq(song))
-                .leftJoin(genre).on(songGenre.genre.eq(genre))
-                .where(
-                        song.songId.notIn(mergedSongIdList),
-                        hasAllFeature(),
-                        isStreamingSuccessStatus()
-                )
-                .orderBy(song.likeCount.desc())
-                .limit(500)
-                .fetch();
-
-        return convertMap(result);
-    }
-
-    // Tuple -> SongFeatureDto Map으로 변환(.transfrom 사용시 오류 발생)
-    private Map<Long, SongFeatureDto> convertMap(List<Tuple> result) {
+    // Tuple -> SongFeatureDto Map으로 변환(.transfrom 사용시 오류 발생), 벤치마크에서 직접 호출하므로 package-private
+    static Map<Long, SongFeatureDto> convertMap(List<Tuple> result) {
         // 결과를 저장할 Map -> Key : songId, Value : 해당 곡의 FeatureDto
         Map<Long, SongFeatureDto> resultMap = new LinkedHashMap<>();
 
@@ -7,6 +7,7 @@ import com.example.peachmusic.common.model.CursorParam;
 import com.example.peachmusic.domain.album.dto.response.SongSummaryDto;
 import com.example.peachmusic.domain.song.dto.response.SongArtistDetailResponseDto;
 import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
+import com.example.peachmusic.domain.song.ranking.SongMeta;
 import java.util.List;
 
 public interface SongCustomRepository {
@@ -17,5 +18,7 @@ public interface SongCustomRepository {
     List<SongArtistDetailResponseDto> findSongByArtistKeyset(AuthUser authUser, Long artistId, SortType sortType, SortDirection sortDirection, CursorParam cursor, int size);
 
     List<SongSummaryDto> findSongSummaryListByAlbumId(Long albumId, Long userId);
+
+    List<SongMeta> findSongMetaList(List<Long> songIdList);
 }
 
@@ -9,6 +9,7 @@ import com.example.peachmusic.common.repository.KeysetPolicy;
 import com.example.peachmusic.domain.album.dto.response.SongSummaryDto;
 import com.example.peachmusic.domain.song.dto.response.SongArtistDetailResponseDto;
 import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
+import com.example.peachmusic.domain.song.ranking.SongMeta;
 import com.example.peachmusic.domain.songlike.entity.QSongLike;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
@@ -79,6 +80,25 @@ public class SongCustomRepositoryImpl implements SongCustomRepository {
                 .fetch();
     }
 
+    /**
+     * 차트 표시용 메타데이터 (음원 ID 목록 한 번에 조회)
+     */
+    @Override
+    public List<SongMeta> findSongMetaList(List<Long> songIdList) {
+
+        StringTemplate artistNames = Expressions.stringTemplate("GROUP_CONCAT({0})", artist.artistName);
+
+        return queryFactory
+                .select(Projections.constructor(SongMeta.class, song.songId, song.name, artistNames, album.albumImage))
+                .from(song)
+                .leftJoin(artistSong).on(artistSong.song.eq(song))
+                .leftJoin(artist).on(artistSong.artist.eq(artist))
+                .join(song.album, album)
+                .where(song.songId.in(songIdList))
+                .groupBy(song.songId)
+                .fetch();
+    }
+
     /**
      * 기본 쿼리
      */
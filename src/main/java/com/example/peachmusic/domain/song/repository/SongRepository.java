@@ -34,6 +34,13 @@ public interface SongRepository extends JpaRepository<Song, Long>, SongCustomRep
             """)
     Long findSongs_AlbumIdBySongId(Song song);
 
+    // 재생용 파일 키만 조회 (SongAudioCache)
+    @Query("""
+            select s.audio from Song s
+            where s.songId = :songId
+            """)
+    Optional<String> findAudioBySongId(@Param("songId") Long songId);
+
     boolean existsByAlbumAndName(Album album, String name);
 
     boolean existsSongByAlbumAndPositionAndSongIdNot(Album album, Long position, Long songId);
@@ -57,7 +64,7 @@ public interface SongRepository extends JpaRepository<Song, Long>, SongCustomRep
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update Song s
-        set s.isDeleted = true
+        set s.isDeleted = true, s.contentModifiedAt = local datetime
         where s.isDeleted = false
         and s.album.albumId in :albumIdList
         """)
@@ -66,7 +73,7 @@ public interface SongRepository extends JpaRepository<Song, Long>, SongCustomRep
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update Song s
-        set s.isDeleted = false
+        set s.isDeleted = false, s.contentModifiedAt = local datetime
         where s.isDeleted = true
         and s.album.albumId in :albumIdList
         """)
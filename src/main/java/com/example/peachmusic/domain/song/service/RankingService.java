@@ -1,65 +1,138 @@
 package com.example.peachmusic.domain.song.service;
 
+import com.example.peachmusic.common.enums.ChartWindow;
+import com.example.peachmusic.common.redis.SlicedWindowAggregator;
+import com.example.peachmusic.common.redis.SlidingWindowAggregator;
 import com.example.peachmusic.domain.song.dto.response.RankingResponseDto;
-import lombok.RequiredArgsConstructor;
+import com.example.peachmusic.domain.song.ranking.SongMeta;
+import com.example.peachmusic.domain.song.ranking.SongMetaCache;
+import com.example.peachmusic.domain.song.ranking.SongSlice;
+import com.example.peachmusic.domain.song.ranking.SongSliceCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import static com.example.peachmusic.domain.song.service.SongService.MUSIC_DAILY_KEY;
 
+/**
+ * 인기차트
+ * - 재생 시 1시간 버킷 + 24시간/7일/30일 누적 ZSET에 함께 기록 (조회는 항상 최신)
+ * - 1분마다 윈도우 밖으로 밀려난 버킷만 누적 ZSET에서 차감
+ * - ZSET 멤버는 음원 ID만 저장, 표시 정보는 SongMetaCache에서 조회
+ * - 장르별, 아티스트별 차트는 재생 수 반영 주기마다 모인 증가분을 조각별 버킷에 나눠 기록
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RankingService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private static final String SONG_RANK_KEY = "music_rank:last1weeks";
+    private static final String MUSIC_HOURLY_KEY = "chart:hour:";
+    private static final String SONG_RANK_KEY = "chart:rank:";
+    private static final String SLICE_HOURLY_KEY = "chart:slice:hour:";
+    private static final String SLICE_RANK_KEY = "chart:slice:rank:";
+    private static final String GENRE_SLICE = "genre:";
+    private static final String ARTIST_SLICE = "artist:";
+    private static final int TOP_SIZE = 100;
+    private static final int GENRE_TOP_SIZE = 50;
+    private static final int ARTIST_TOP_SIZE = 10;
+
+    private final SlidingWindowAggregator chartAggregator;
+    private final SlicedWindowAggregator slicedChartAggregator;
+    private final SongMetaCache songMetaCache;
+    private final SongSliceCache songSliceCache;
+
+    public RankingService(RedisTemplate<String, String> redisTemplate, SongMetaCache songMetaCache, SongSliceCache songSliceCache) {
+        this.songMetaCache = songMetaCache;
+        this.songSliceCache = songSliceCache;
+        Map<String, Integer> windowHoursMap = new LinkedHashMap<>();
+        Arrays.stream(ChartWindow.values()).forEach(window -> windowHoursMap.put(window.getKey(), window.getHours()));
+        this.chartAggregator = new SlidingWindowAggregator(redisTemplate, MUSIC_HOURLY_KEY, SONG_RANK_KEY, windowHoursMap);
+        this.slicedChartAggregator = new SlicedWindowAggregator(redisTemplate, SLICE_HOURLY_KEY, SLICE_RANK_KEY, windowHoursMap);
+    }
 
     /**
-     * 인기차트 TOP 100
+     * 재생 기록 (재생 요청의 파이프라인 안에서 호출)
      */
-    public List<RankingResponseDto> findMusicTop100() {
+    public void recordPlay(RedisOperations<String, String> ops, Long songId, LocalDateTime now) {
+        chartAggregator.increment(ops, String.valueOf(songId), 1, now);
+    }
 
-        // 1주간의 데이터를 합친것 중 상위 Top 100 뽑아냄
-        Set<TypedTuple<String>> result = redisTemplate.opsForZSet().reverseRangeWithScores(SONG_RANK_KEY, 0, 99);
+    /**
+     * 장르별, 아티스트별 차트 기록 (PlayCountBuffer에서 꺼낸 증가분을 한 번만 소비)
+     * @param playCountMap 음원 ID -> 재생 수 증가분
+     */
+    public void recordSlicedPlays(Map<Long, Long> playCountMap, LocalDateTime now) {
+        Map<Long, SongSlice> songSliceMap = songSliceCache.findAll(playCountMap.keySet());
+        Map<String, Map<String, Long>> sliceDeltaMap = new HashMap<>();
 
-        // 결과가 빈값이면 빈리스트 반환
-        if (result == null || result.isEmpty()) {
-            return Collections.emptyList();
-        }
+        playCountMap.forEach((songId, count) -> {
+            SongSlice songSlice = songSliceMap.get(songId);
+            if (songSlice == null) {
+                return;
+            }
+            String member = String.valueOf(songId);
+            songSlice.genreIdList().forEach(genreId -> sliceDeltaMap.computeIfAbsent(GENRE_SLICE + genreId, slice -> new HashMap<>()).put(member, count));
+            songSlice.artistIdList().forEach(artistId -> sliceDeltaMap.computeIfAbsent(ARTIST_SLICE + artistId, slice -> new HashMap<>()).put(member, count));
+        });
 
-        // Set<typedTuple<String>> -> List<RankingDto> 변환
-        return result.stream().map(RankingResponseDto::of).toList();
+        slicedChartAggregator.incrementAll(sliceDeltaMap, now);
     }
 
-    @Scheduled(fixedRate = 60, timeUnit = TimeUnit.MINUTES) // 1시간마다 스케줄러 실행
-    public void updateLast7daysSongRank() {
-
-        List<String> keyList = getLast7daysSongRankKeyList();
+    /**
+     * 인기차트 TOP 100
+     */
+    public List<RankingResponseDto> findMusicTop100(ChartWindow window) {
+        // 기간 내 재생 수 상위 Top 100
+        return toResponseList(chartAggregator.findTop(window.getKey(), TOP_SIZE));
+    }
 
-        redisTemplate.opsForZSet().unionAndStore(keyList.get(0), keyList.subList(1, keyList.size()), SONG_RANK_KEY);
-        redisTemplate.expire(SONG_RANK_KEY, 65, TimeUnit.MINUTES);
+    /**
+     * 장르별 인기차트 TOP 50
+     */
+    public List<RankingResponseDto> findGenreTop50(Long genreId, ChartWindow window) {
+        return toResponseList(slicedChartAggregator.findTop(GENRE_SLICE + genreId, window.getKey(), GENRE_TOP_SIZE));
     }
 
     /**
-     * 현재일로부터 1주의 데이터를 리스트로 만들어 나열
+     * 아티스트별 인기곡
      */
-    private List<String> getLast7daysSongRankKeyList() {
+    public List<RankingResponseDto> findArtistTopSongs(Long artistId, ChartWindow window) {
+        return toResponseList(slicedChartAggregator.findTop(ARTIST_SLICE + artistId, window.getKey(), ARTIST_TOP_SIZE));
+    }
 
-        List<String> keyList = new ArrayList<>();
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES) // 1분마다 만료 버킷 차감
+    public void expireChartBuckets() {
+        LocalDateTime now = LocalDateTime.now();
+        long subtracted = chartAggregator.expireBuckets(now) + slicedChartAggregator.expireBuckets(now);
 
-        LocalDate currentDate = LocalDate.now();
+        if (subtracted > 0) {
+            log.info("인기차트 만료 버킷 차감 - members={}", subtracted);
+        }
+    }
 
-        for (int i = 0; i < 7; i++) {
-            String key = MUSIC_DAILY_KEY + currentDate.minusDays(i);
-            keyList.add(key);
+    private List<RankingResponseDto> toResponseList(Set<TypedTuple<String>> result) {
+
+        // 결과가 빈값이면 빈리스트 반환
+        if (result == null || result.isEmpty()) {
+            return Collections.emptyList();
         }
-        return keyList;
+
+        List<Long> songIdList = result.stream().map(tuple -> Long.valueOf(tuple.getValue())).toList();
+        Map<Long, SongMeta> songMetaMap = songMetaCache.findAll(songIdList);
+
+        // Set<typedTuple<String>> -> List<RankingDto> 변환 (DB에서 사라진 음원은 제외)
+        return result.stream()
+                .filter(tuple -> songMetaMap.containsKey(Long.valueOf(tuple.getValue())))
+                .map(tuple -> RankingResponseDto.of(songMetaMap.get(Long.valueOf(tuple.getValue())), tuple.getScore()))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package com.example.peachmusic.domain.song.service;
+
+import com.example.peachmusic.common.redis.RedisLockService;
+import com.example.peachmusic.domain.song.recommend.FeatureIndexSnapshot;
+import com.example.peachmusic.domain.song.recommend.RecommendationCache;
+import com.example.peachmusic.domain.song.recommend.SongFeatureIndex;
+import com.example.peachmusic.domain.song.recommend.UserProfile;
+import com.example.peachmusic.domain.song.recommend.UserProfileStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추천 결과 새벽 일괄 계산
+ * 1. 최근 7일 내 추천을 조회한 사용자를 ForkJoinPool로 분할 처리
+ * 2. 메모리 인덱스 + Redis 프로필만 사용 (MySQL 커넥션 사용 없음)
+ * 3. 결과는 사용자별 추천 캐시에 일괄 저장 -> 낮 시간에는 Seed가 바뀐 사용자, 신규 사용자만 실시간 계산
+ */
+@Slf4j
+@Service
+public class RecommendationPrecomputeService {
+
+    private static final Duration ACTIVE_WITHIN = Duration.ofDays(7);
+    // 한 작업 단위에서 처리할 사용자 수 (프로필 조회, 결과 저장이 이 단위로 파이프라인 처리됨)
+    private static final int PARTITION_SIZE = 256;
+    private static final String PRECOMPUTE_LOCK_KEY = "lock:recommend:precompute";
+    private static final long PRECOMPUTE_LOCK_SECONDS = 60 * 60;
+
+    private final RecommendationService recommendationService;
+    private final RecommendationCache recommendationCache;
+    private final UserProfileStore userProfileStore;
+    private final SongFeatureIndex songFeatureIndex;
+    private final RedisLockService redisLockService;
+
+    private final Timer userScoringTimer;
+    private final Counter precomputedUserCounter;
+    private final AtomicLong lastUsersPerSecond = new AtomicLong();
+
+    public RecommendationPrecomputeService(RecommendationService recommendationService, RecommendationCache recommendationCache,
+                                           UserProfileStore userProfileStore, SongFeatureIndex songFeatureIndex,
+                                           RedisLockService redisLockService, MeterRegistry meterRegistry) {
+        this.recommendationService = recommendationService;
+        this.recommendationCache = recommendationCache;
+        this.userProfileStore = userProfileStore;
+        this.songFeatureIndex = songFeatureIndex;
+        this.redisLockService = redisLockService;
+
+        this.userScoringTimer = Timer.builder("recommend.precompute.user.duration")
+                .description("사용자 1명 추천 점수 계산 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.precomputedUserCounter = Counter.builder("recommend.precompute.users")
+                .description("일괄 계산된 사용자 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("recommend.precompute.users.per.second", lastUsersPerSecond);
+    }
+
+    /**
+     * 매일 5시 추천 일괄 계산 (4시 프로필 재계산 이후)
+     * - 여러 서버 중 한 곳에서만 실행
+     */
+    @Scheduled(cron = "0 0 5 * * ?")
+    public void precomputeActiveUsers() {
+        FeatureIndexSnapshot snapshot = songFeatureIndex.getSnapshot();
+        if (!snapshot.isLoaded()) {
+            return;
+        }
+
+        String lockValue = UUID.randomUUID().toString();
+        if (!redisLockService.tryLock(PRECOMPUTE_LOCK_KEY, lockValue, PRECOMPUTE_LOCK_SECONDS)) {
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<Long> userIdList = recommendationCache.findActiveUserIdList(ACTIVE_WITHIN);
+
+            AtomicLong precomputedCount = new AtomicLong();
+            pool.invoke(new PrecomputeTask(snapshot, userIdList, startedAt, precomputedCount));
+
+            long elapsedMillis = Math.max(System.currentTimeMillis() - startedAt, 1);
+            long usersPerSecond = precomputedCount.get() * 1000 / elapsedMillis;
+            lastUsersPerSecond.set(usersPerSecond);
+
+            log.info("추천 일괄 계산 완료 - activeUsers={}, precomputed={}, {}ms, {} users/sec, p99={}ms",
+                    userIdList.size(), precomputedCount.get(), elapsedMillis, usersPerSecond, getP99Millis());
+        } finally {
+            pool.shutdown();
+            redisLockService.unlock(PRECOMPUTE_LOCK_KEY, lockValue);
+        }
+    }
+
+    private double getP99Millis() {
+        for (ValueAtPercentile percentile : userScoringTimer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * 사용자 목록을 PARTITION_SIZE 이하가 될 때까지 반으로 나눠 병렬 처리
+     */
+    private class PrecomputeTask extends RecursiveAction {
+
+        private final FeatureIndexSnapshot snapshot;
+        private final List<Long> userIdList;
+        private final long startedAt;
+        private final AtomicLong precomputedCount;
+
+        private PrecomputeTask(FeatureIndexSnapshot snapshot, List<Long> userIdList, long startedAt, AtomicLong precomputedCount) {
+            this.snapshot = snapshot;
+            this.userIdList = userIdList;
+            this.startedAt = startedAt;
+            this.precomputedCount = precomputedCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (userIdList.size() > PARTITION_SIZE) {
+                int middle = userIdList.size() / 2;
+                invokeAll(new PrecomputeTask(snapshot, userIdList.subList(0, middle), startedAt, precomputedCount),
+                        new PrecomputeTask(snapshot, userIdList.subList(middle, userIdList.size()), startedAt, precomputedCount));
+                return;
+            }
+            precomputePartition();
+        }
+
+        private void precomputePartition() {
+            // 프로필이 없는 사용자는 다음 조회 시 실시간 계산
+            Map<Long, UserProfile> profileMap = userProfileStore.findProfileMap(userIdList);
+            Map<Long, List<Long>> rankedSongIdMap = new HashMap<>(profileMap.size() * 2);
+
+            profileMap.forEach((userId, profile) -> {
+                List<Long> rankedSongIdList = userScoringTimer.record(() -> recommendationService.rankSongIdList(snapshot, profile));
+                rankedSongIdMap.put(userId, rankedSongIdList);
+            });
+
+            // 계산 도중 Seed가 바뀐 사용자는 이미 무효화된 캐시를 이전 결과로 덮어쓰지 않도록 제외
+            Set<Long> changedUserIdSet = recommendationCache.findChangedUserIdSet(startedAt);
+            rankedSongIdMap.keySet().removeAll(changedUserIdSet);
+
+            recommendationCache.putPrecomputedRankedSongIdMap(rankedSongIdMap);
+            precomputedUserCounter.increment(rankedSongIdMap.size());
+            precomputedCount.addAndGet(rankedSongIdMap.size());
+        }
+    }
+}
@@ -1,175 +1,110 @@
 package com.example.peachmusic.domain.song.service;
 
 import com.example.peachmusic.common.model.AuthUser;
-import com.example.peachmusic.domain.playlistsong.repository.PlaylistSongRepository;
-import com.example.peachmusic.domain.song.dto.SongFeatureDto;
-import com.example.peachmusic.domain.song.dto.SongRecommendationScoreDto;
 import com.example.peachmusic.domain.song.dto.response.SongRecommendationResponseDto;
-import com.example.peachmusic.domain.song.recommend.CosineSimilarity;
+import com.example.peachmusic.domain.song.recommend.FeatureIndexSnapshot;
 import com.example.peachmusic.domain.song.recommend.FeatureVectorizer;
+import com.example.peachmusic.domain.song.recommend.InvertedIndexScorer;
+import com.example.peachmusic.domain.song.recommend.RecommendationCache;
+import com.example.peachmusic.domain.song.recommend.SongFeatureIndex;
+import com.example.peachmusic.domain.song.recommend.UserProfile;
+import com.example.peachmusic.domain.song.recommend.UserProfileService;
 import com.example.peachmusic.domain.song.repository.SongRepository;
-import com.example.peachmusic.domain.songlike.repository.SongLikeRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.*;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class RecommendationService {
 
     private final SongRepository songRepository;
-    private final SongLikeRepository songLikeRepository;
-    private final PlaylistSongRepository playlistSongRepository;
+    private final UserProfileService userProfileService;
     private final FeatureVectorizer featureVectorizer;
+    private final SongFeatureIndex songFeatureIndex;
+    private final InvertedIndexScorer invertedIndexScorer;
     private final RecommendColdStartService recommendColdStartService;
+    private final RecommendationCache recommendationCache;
 
     /**
      * 음원 추천 기능 메인 메서드
+     * - 로컬 캐시 -> Redis 추천 순위 캐시 -> 추천 계산 순으로 조회
      */
     @Transactional(readOnly = true)
     public List<SongRecommendationResponseDto> getRecommendedSongList(AuthUser authUser) {
-        // 사용자의 좋아요 / 플레이리스트 음원 ID 병합
-        List<Long> mergedSongIdList = mergeLikeAndPlaylistSongIdList(authUser.getUserId());
+        Long userId = authUser.getUserId();
 
-        // 신규 회원이거나 Seed 데이터가 없으면 추천 likeCount가 높은 음원부터 50건 반환
-        if (mergedSongIdList.isEmpty()) {
-            return recommendColdStartService.getTop50();
+        Optional<List<SongRecommendationResponseDto>> cachedResult = recommendationCache.findResult(userId);
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
         }
 
-        // songId, 장르, 스피드, 태그, 악기 등 음원 기반 User Profile Vector 생성
-        Map<String, Double> userVectorMap = createUserVector(mergedSongIdList);
-
-        if(userVectorMap == null || userVectorMap.isEmpty()) {
-            return recommendColdStartService.getTop50();
-        }
+        // 새벽 일괄 계산 대상으로 기록 (로컬 캐시 만료 주기마다 최대 1회)
+        recommendationCache.markActive(userId);
 
-        // 사용자의 좋아요 / 플레이리스트 음원의 장르 아이디 조회
-        List<Long> seedGenreIdList = songRepository.findSeedGenreList(mergedSongIdList);
+        List<Long> rankedSongIdList = recommendationCache.findRankedSongIdList(userId).orElse(null);
+        boolean cacheable = true;
 
-        // 1차 장르기반 추천
-        // 후보곡과 User Vector 간 유사도 계산
-        List<SongRecommendationScoreDto> scoredSongList = rankRecommendSongList(mergedSongIdList, userVectorMap, seedGenreIdList);
+        if (rankedSongIdList == null) {
+            long startedAt = System.currentTimeMillis();
+            rankedSongIdList = calculateRankedSongIdList(userId);
 
-        // 점수 기준 상위 50곡 ID 추출
-        List<Long> orderBySongIdList = getTopSongIdList(scoredSongList);
-
-        // 추천 결과 DB 조회
-        if(!orderBySongIdList.isEmpty()) {
-            return songRepository.findRecommendedSongList(orderBySongIdList);
+            // 추천 인덱스 적재 전이면 계산 결과가 없으므로 캐시하지 않고 cold-start
+            if (rankedSongIdList == null) {
+                return recommendColdStartService.getTop50();
+            }
+            // 계산 도중 Seed가 바뀌었으면 이미 무효화된 캐시를 이전 결과로 채우지 않음
+            cacheable = recommendationCache.putRankedSongIdListIfUnchanged(userId, rankedSongIdList, startedAt);
         }
 
-        // 2차 장르 필터 제거 후 재시도
-        List<SongRecommendationScoreDto> fallbackScoreList = rankRecommendSongListWithoutGenre(mergedSongIdList, userVectorMap);
+        // 빈 목록이면 Seed가 없거나 추천 후보가 없는 사용자 -> cold-start
+        List<SongRecommendationResponseDto> result = rankedSongIdList.isEmpty()
+                ? recommendColdStartService.getTop50()
+                : songRepository.findRecommendedSongList(rankedSongIdList);
 
-        List<Long> fallbackSongIdList = getTopSongIdList(fallbackScoreList);
-
-        if (!fallbackSongIdList.isEmpty()) {
-            return songRepository.findRecommendedSongList(fallbackSongIdList);
+        if (cacheable) {
+            recommendationCache.putResult(userId, result);
         }
-        return recommendColdStartService.getTop50();
-    }
-
-    /**
-     * Seed 음원 병합
-     */
-    private List<Long> mergeLikeAndPlaylistSongIdList(Long userId) {
-        // 좋아요한 음원 목록 조회
-        List<Long> likeSongIdList = songLikeRepository.findSongsLikedByUser(userId);
-        // 플레이리스트 음원 목록 조회
-        List<Long> playlistSongIdList = playlistSongRepository.findSongsPlaylistByUser(userId);
-
-        // 중복 제거
-        Set<Long> seedSongIdSet = new LinkedHashSet<>(likeSongIdList);
-        seedSongIdSet.addAll(playlistSongIdList);
-        return new ArrayList<>(seedSongIdSet);
+        return result;
     }
 
     /**
-     * User Vector 생성
+     * 추천 순위 음원 ID 목록 계산
+     * - 빈 목록: cold-start 대상, null: 추천 인덱스 적재 전
      */
-    private Map<String, Double> createUserVector(List<Long> mergedSongIdList) {
-        // Seed 음원의 Feature 정보 조회
-        Map<Long, SongFeatureDto> seedFeatureMap = songRepository.findFeatureBySongIdMap(mergedSongIdList);
-
-        // FeatureVectorizer를 통해서 User Vector 생성
-        return featureVectorizer.vectorizeUserMap(new ArrayList<>(seedFeatureMap.values()));
-    }
-
-    /**
-     * 후보곡 랭킹 계산
-     */
-    private List<SongRecommendationScoreDto> rankRecommendSongList(List<Long> mergedSongIdList, Map<String, Double> userVector, List<Long> genreIdList) {
-        // seed에 포함되지 않은 후보곡 Feature 조회
-        Map<Long, SongFeatureDto> recommendFeatureMap = songRepository.findRecommendFeatureMap(mergedSongIdList, genreIdList);
-
-        List<SongRecommendationScoreDto> scoredSongList = new ArrayList<>();
-
-        for (SongFeatureDto songFeatureDto : recommendFeatureMap.values()) {
-            // 후보곡 Feature -> Vector 변환
-            Map<String, Double> recommendVectorMap = featureVectorizer.vectorizeSongMap(songFeatureDto);
-
-            // 코사인 유사도 계산 (두 벡터가 이미 정규화되었으므로 단순 내적만 수행)
-            double score = CosineSimilarity.compute(userVector, recommendVectorMap);
-
-            // 점수가 0 초과인 후보곡만 저장
-            if (score > 0) {
-                scoredSongList.add(new SongRecommendationScoreDto(songFeatureDto, score));
-            }
-        }
-        return scoredSongList;
-    }
-
-    /**
-     * 장르 제외 후보곡 랭킹 계산
-     */
-    private List<SongRecommendationScoreDto> rankRecommendSongListWithoutGenre(List<Long> mergedSongIdList, Map<String, Double> userVectorMap) {
-
-        Map<Long, SongFeatureDto> recommendFeatureMap = songRepository.findRecommendFeatureMapWithoutGenre(mergedSongIdList);
-
-        List<SongRecommendationScoreDto> scoredSongList = new ArrayList<>();
-
-        for (SongFeatureDto songFeatureDto : recommendFeatureMap.values()) {
-
-            Map<String, Double> recommendVectorMap =
-                    featureVectorizer.vectorizeSongMap(songFeatureDto);
-
-            double score = CosineSimilarity.compute(userVectorMap, recommendVectorMap);
-
-            if (score > 0) {
-                scoredSongList.add(new SongRecommendationScoreDto(songFeatureDto, score));
-            }
+    private List<Long> calculateRankedSongIdList(Long userId) {
+        // 추천 인덱스 스냅샷 (서버 시작 직후 적재 전이면 cold-start)
+        FeatureIndexSnapshot snapshot = songFeatureIndex.getSnapshot();
+        if (!snapshot.isLoaded()) {
+            return null;
         }
 
-        return scoredSongList;
+        // 좋아요 / 플레이리스트 변경 시마다 갱신된 User Profile Vector 조회 (Seed 수와 무관하게 벡터 1개만 읽음)
+        UserProfile profile = userProfileService.getOrBuild(userId);
 
+        return rankSongIdList(snapshot, profile);
     }
 
     /**
-     * 추천 상위 50곡 추출 (PriorityQueue 적용)
+     * 사용자 프로필 -> 추천 순위 음원 ID 목록 (DB 조회 없음, 새벽 일괄 계산에서도 사용)
+     * - 빈 목록: cold-start 대상
      */
-    private List<Long> getTopSongIdList(List<SongRecommendationScoreDto> scoredSongList) {
-
-        final int LIMIT = 50;
-
-        // score 기준 오름차순 Min-Heap
-        PriorityQueue<SongRecommendationScoreDto> heap = new PriorityQueue<>(Comparator.comparingDouble(SongRecommendationScoreDto::getScore));
+    public List<Long> rankSongIdList(FeatureIndexSnapshot snapshot, UserProfile profile) {
+        // 신규 회원이거나 Seed 데이터가 없으면 추천 likeCount가 높은 음원부터 50건 반환
+        if (!profile.hasSeed()) {
+            return List.of();
+        }
 
-        // 모든 후보 순회
-        for (SongRecommendationScoreDto dto : scoredSongList) {
-            // 일단 추가
-            heap.offer(dto);
+        double[] userVector = featureVectorizer.vectorizeProfile(profile.vectorMap(), songFeatureIndex.getFeatureDictionary(), snapshot.getFeatureCount());
 
-            // 50개 초과하면 가장 작은 점수 제거
-            if (heap.size() > LIMIT) {
-                heap.poll();
-            }
+        if (userVector.length == 0) {
+            return List.of();
         }
 
-        // heap → 정렬 → songId 추출
-        return heap.stream()
-                .sorted(Comparator.comparingDouble(SongRecommendationScoreDto::getScore).reversed())
-                .map(dto -> dto.getSongFeatureDto().getSongId())
-                .toList();
+        // 역색인으로 Seed와 feature를 공유하는 음원만 점수 계산 후 상위 50곡 ID 추출
+        // 1차 장르기반 추천, 결과가 없으면 장르 필터 제거 후 재선택
+        return invertedIndexScorer.findTopSongIdList(snapshot, userVector, profile.seedSongIdSet(), InvertedIndexScorer.RECOMMEND_LIMIT);
     }
-}
\ No newline at end of file
+}
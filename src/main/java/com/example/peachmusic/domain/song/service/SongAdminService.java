@@ -3,6 +3,7 @@ package com.example.peachmusic.domain.song.service;
 import com.example.peachmusic.common.enums.ErrorCode;
 import com.example.peachmusic.common.enums.FileType;
 import com.example.peachmusic.common.enums.ProgressingStatus;
+import com.example.peachmusic.common.enums.WorkerJobType;
 import com.example.peachmusic.common.exception.CustomException;
 import com.example.peachmusic.common.model.CursorParam;
 import com.example.peachmusic.common.model.NextCursor;
@@ -23,13 +24,16 @@ import com.example.peachmusic.domain.song.dto.response.AdminSongCreateResponseDt
 import com.example.peachmusic.domain.song.dto.response.AdminSongUpdateResponseDto;
 import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
 import com.example.peachmusic.domain.song.entity.Song;
+import com.example.peachmusic.domain.song.event.SongChangedEvent;
 import com.example.peachmusic.domain.song.repository.SongRepository;
 import com.example.peachmusic.domain.songgenre.entity.SongGenre;
 import com.example.peachmusic.domain.songgenre.repository.SongGenreRepository;
 import com.example.peachmusic.domain.songprogressingstatus.entity.SongProgressingStatus;
 import com.example.peachmusic.domain.songprogressingstatus.repository.SongProgressingStatusRepository;
+import com.example.peachmusic.domain.worker.jdbc.WorkerOutboxJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -51,6 +55,8 @@ public class SongAdminService {
     private final ArtistAlbumRepository artistAlbumRepository;
     private final FileStorageService fileStorageService;
     private final SongProgressingStatusRepository streamingJobRepository;
+    private final WorkerOutboxJdbcRepository workerOutboxJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 음원 생성
@@ -105,6 +111,11 @@ public class SongAdminService {
 
             streamingJobRepository.save(streamingJob);
 
+            // 업로드된 mp3 형 변환 요청 (음원과 같은 트랜잭션으로 outbox에 적재)
+            workerOutboxJdbcRepository.enqueue(WorkerJobType.TRANSCODE, List.of(saveSong.getSongId()));
+
+            eventPublisher.publishEvent(new SongChangedEvent(saveSong.getSongId())); // 추천 인덱스 갱신 대상
+
             return AdminSongCreateResponseDto.from(saveSong, genreNameList, findAlbum);
 
         } catch (RuntimeException e) {
@@ -157,6 +168,8 @@ public class SongAdminService {
 
         songGenreRepository.saveAll(songGenreList);
 
+        eventPublisher.publishEvent(new SongChangedEvent(songId)); // 추천 인덱스, 차트 표시 정보, 장르 매핑 갱신 (장르 교체는 content_modified_at에 반영되지 않음)
+
         List<String> genreNameList = findGenreList.stream()
                 .map(Genre::getGenreName)
                 .toList();
@@ -185,6 +198,8 @@ public class SongAdminService {
             fileStorageService.deleteFileByPath(oldPath);
         }
 
+        eventPublisher.publishEvent(new SongChangedEvent(songId)); // 재생용 파일 키 캐시 갱신
+
         return AdminSongAudioUpdateResponseDto.from(findSong);
     }
 
@@ -202,6 +217,7 @@ public class SongAdminService {
         }
 
         findSong.deleteSong();
+        eventPublisher.publishEvent(new SongChangedEvent(songId));
 
     }
 
@@ -219,6 +235,7 @@ public class SongAdminService {
         }
 
         findSong.restoreSong();
+        eventPublisher.publishEvent(new SongChangedEvent(songId));
 
     }
 
@@ -1,7 +1,5 @@
 package com.example.peachmusic.domain.song.service;
 
-import com.example.peachmusic.common.annotation.RedisLock;
-import com.example.peachmusic.common.constants.RedisResetTime;
 import com.example.peachmusic.common.enums.ErrorCode;
 import com.example.peachmusic.common.enums.SortDirection;
 import com.example.peachmusic.common.enums.SortType;
@@ -18,6 +16,8 @@ import com.example.peachmusic.domain.song.dto.response.SongGetDetailResponseDto;
 import com.example.peachmusic.domain.song.dto.response.SongPlayResponseDto;
 import com.example.peachmusic.domain.song.dto.response.SongSearchResponseDto;
 import com.example.peachmusic.domain.song.entity.Song;
+import com.example.peachmusic.domain.song.playcount.PlayCountBuffer;
+import com.example.peachmusic.domain.song.playcount.SongAudioCache;
 import com.example.peachmusic.domain.song.repository.SongRepository;
 import com.example.peachmusic.domain.songgenre.entity.SongGenre;
 import com.example.peachmusic.domain.songgenre.repository.SongGenreRepository;
@@ -26,13 +26,14 @@ import com.example.peachmusic.domain.user.entity.User;
 import com.example.peachmusic.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.example.peachmusic.common.constants.SearchViewSize.DETAIL_SIZE;
@@ -52,11 +53,12 @@ public class SongService {
     private final ArtistRepository artistRepository;
     private final UserService userService;
     private final ArtistSongRepository artistSongRepository;
+    private final PlayCountBuffer playCountBuffer;
+    private final SongAudioCache songAudioCache;
+    private final RankingService rankingService;
 
     private final RedisTemplate<String,String> redisTemplate;
 
-    public static final String MUSIC_DAILY_KEY = "music";
-
     @Value("${r2.public-streaming-base}")
     private String streamingBaseUrl;
 
@@ -141,33 +143,39 @@ public class SongService {
     /**
      * 음원 검색 - 미리보기
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = "${search.query.db-timeout-seconds:1}")
     public List<SongSearchResponseDto> searchSongList(String word) {
         return songRepository.findSongListByWord(null, word, PREVIEW_SIZE, PUBLIC_VIEW, LIKE, DESC); // 좋아요 많은 순
     }
 
     /**
      * 음원 재생
+     * - 파일 키는 SongAudioCache에서 조회 -> 캐시된 음원은 DB 조회와 트랜잭션 없이 처리
+     * - 재생 수는 PlayCountBuffer에 누적 후 PlayCountFlusher가 일괄 반영 (분산락, 엔티티 저장 없음)
+     * - 랭킹 기록은 파이프라인으로 Redis 왕복 1회
      */
-    @RedisLock(key = "song")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public SongPlayResponseDto playSong(Long songId) {
 
-        Song song = songRepository.findById(songId).orElseThrow(() -> new CustomException(ErrorCode.SONG_NOT_FOUND));
+        String audio = songAudioCache.find(songId).orElseThrow(() -> new CustomException(ErrorCode.SONG_NOT_FOUND));
 
-        String streamingUrl = streamingBaseUrl + "/" + song.getAudio();
+        String streamingUrl = streamingBaseUrl + "/" + audio;
 
-        String key =  MUSIC_DAILY_KEY + LocalDate.now(); // 키에 날짜 반영
-        String value = song.getName() + ":" + songId; // 레디스에 이름과 id 동시 저장을 위해 조합
+        LocalDateTime now = LocalDateTime.now();
 
-        // Redis에 저장
-        redisTemplate.opsForZSet().incrementScore(key, value ,1);
-        redisTemplate.expire(key, Duration.ofDays(RedisResetTime.RESET_DATE));
+        // Redis에 저장 (시간 버킷 + 기간별 차트 점수 증가를 한 번에 전송)
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                rankingService.recordPlay(ops, songId, now);
+                return null;
+            }
+        });
 
-        // DB에 저장
-        song.addPlayCount();
-        songRepository.save(song);
+        // 재생 수 누적
+        playCountBuffer.record(songId);
 
         return SongPlayResponseDto.from(streamingUrl);
     }
-}
\ No newline at end of file
+}
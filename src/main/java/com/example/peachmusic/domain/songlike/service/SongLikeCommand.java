@@ -4,19 +4,24 @@ import com.example.peachmusic.common.enums.ErrorCode;
 import com.example.peachmusic.common.exception.CustomException;
 import com.example.peachmusic.common.model.AuthUser;
 import com.example.peachmusic.domain.song.entity.Song;
+import com.example.peachmusic.domain.song.recommend.RecommendSeedChangedEvent;
 import com.example.peachmusic.domain.song.repository.SongRepository;
 import com.example.peachmusic.domain.songlike.dto.response.SongLikeResponseDto;
 import com.example.peachmusic.domain.songlike.repository.SongLikeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class SongLikeCommand {
 
     private final SongLikeRepository songLikeRepository;
     private final SongRepository songRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 음원 좋아요/좋아요 취소 기능
@@ -35,12 +40,14 @@ public class SongLikeCommand {
 
         if (deleted == 1) {
             songRepository.decrementLikeCount(songId);
+            eventPublisher.publishEvent(RecommendSeedChangedEvent.removed(userId, List.of(songId)));
             liked = false;
         } else {
             int inserted = songLikeRepository.insertIgnore(userId, songId);
 
             if (inserted == 1) {
                 songRepository.incrementLikeCount(songId);
+                eventPublisher.publishEvent(RecommendSeedChangedEvent.added(userId, List.of(songId)));
             }
             liked = true;
         }
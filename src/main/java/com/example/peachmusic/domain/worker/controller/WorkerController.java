@@ -1,8 +1,14 @@
 package com.example.peachmusic.domain.worker.controller;
 
+import com.example.peachmusic.common.model.CommonResponse;
+import com.example.peachmusic.domain.worker.dto.request.WorkerResultRequestDto;
 import com.example.peachmusic.domain.worker.dto.request.WorkerTryRequestDto;
-import com.example.peachmusic.domain.worker.service.WorkerService;
+import com.example.peachmusic.domain.worker.dto.response.WorkerResultResponseDto;
+import com.example.peachmusic.domain.worker.service.WorkerOutboxService;
+import com.example.peachmusic.domain.worker.service.WorkerResultService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -10,7 +16,8 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api")
 public class WorkerController {
 
-    private final WorkerService streamingJobService;
+    private final WorkerOutboxService workerOutboxService;
+    private final WorkerResultService workerResultService;
 
     /**
      * (Worker) 음원 다운로드 재시도
@@ -19,7 +26,7 @@ public class WorkerController {
     public void tryDownloadSong(
             @RequestBody WorkerTryRequestDto requestDto
     ) {
-        streamingJobService.tryDownloadSong(requestDto);
+        workerOutboxService.tryDownloadSong(requestDto);
     }
 
     /**
@@ -29,6 +36,19 @@ public class WorkerController {
     public void tryTranscodeSong(
             @RequestBody WorkerTryRequestDto requestDto
     ) {
-        streamingJobService.tryTranscodeSong(requestDto);
+        workerOutboxService.tryTranscodeSong(requestDto);
+    }
+
+    /**
+     * (Worker) 다운로드, 형 변환 결과 일괄 반영
+     */
+    @PostMapping("/worker/songs/results")
+    public ResponseEntity<CommonResponse<WorkerResultResponseDto>> applyResults(
+            @RequestHeader(value = "X-Worker-Token", required = false) String workerToken,
+            @Valid @RequestBody WorkerResultRequestDto requestDto
+    ) {
+        WorkerResultResponseDto responseDto = workerResultService.applyResults(workerToken, requestDto);
+
+        return ResponseEntity.ok(CommonResponse.success("처리 결과 반영 성공", responseDto));
     }
 }
@@ -0,0 +1,43 @@
+package com.example.peachmusic.domain.worker.dto.request;
+
+import com.example.peachmusic.common.enums.ProgressingStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class WorkerResultRequestDto {
+
+    @NotNull(message = "처리 결과 입력은 필수입니다.")
+    @Size(min = 1, max = 5000, message = "처리 결과는 한 번에 1개 이상 5000개 이하로 전송해야 합니다.")
+    private List<@Valid @NotNull ResultDto> resultList;
+
+    public WorkerResultRequestDto(List<ResultDto> resultList) {
+        this.resultList = resultList;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class ResultDto {
+
+        @NotNull(message = "음원 ID 입력은 필수입니다.")
+        private Long songId;
+
+        @NotNull(message = "처리 상태 입력은 필수입니다.")
+        private ProgressingStatus status;
+
+        // SUCCESS일 때 필수, 스트리밍 URL 경로 (songs.audio)
+        private String streamingKey;
+
+        public ResultDto(Long songId, ProgressingStatus status, String streamingKey) {
+            this.songId = songId;
+            this.status = status;
+            this.streamingKey = streamingKey;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.peachmusic.domain.worker.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class WorkerResultResponseDto {
+
+    // 반영된 결과 수 (존재하지 않는 음원 제외)
+    private final int appliedCount;
+    // 이번 요청으로 재생 가능해진 음원 수
+    private final int streamingCount;
+}
@@ -0,0 +1,58 @@
+package com.example.peachmusic.domain.worker.entity;
+
+import com.example.peachmusic.common.enums.WorkerJobType;
+import com.example.peachmusic.common.enums.WorkerOutboxStatus;
+import com.example.peachmusic.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Worker 요청 outbox
+ * - 음원 저장과 같은 트랜잭션에서 적재 -> 커밋된 음원의 요청은 Worker가 내려가 있어도 유실되지 않음
+ * - 전송 성공 시 삭제, 실패 시 next_attempt_at까지 대기 후 재전송
+ * - claim_token: 전송 중인 묶음 식별 (next_attempt_at이 전송 임대 만료 시각)
+ * - 적재, 전송은 WorkerOutboxJdbcRepository에서 처리하고 엔티티는 테이블 정의용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "worker_outbox",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"song_id", "job_type"}),
+        indexes = {
+                @Index(name = "idx_worker_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_worker_outbox_claim_token", columnList = "claim_token")
+        })
+public class WorkerOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "worker_outbox_id")
+    private Long outboxId;
+
+    @Column(name = "song_id", nullable = false)
+    private Long songId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private WorkerJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WorkerOutboxStatus status = WorkerOutboxStatus.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,138 @@
+package com.example.peachmusic.domain.worker.jdbc;
+
+import com.example.peachmusic.common.enums.WorkerJobType;
+import com.example.peachmusic.common.enums.WorkerOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Worker 요청 outbox 적재, 전송 상태 변경
+ * - 전송할 행은 claim_token을 거는 UPDATE로 가져감 -> 여러 서버가 동시에 전송해도 같은 행을 중복 전송하지 않음
+ * - 가져간 행의 next_attempt_at은 임대 만료 시각 -> 전송 중 서버가 중단되면 만료 후 다른 서버가 다시 가져감
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkerOutboxJdbcRepository {
+
+    // 다중 행 INSERT 한 문장의 최대 행 수
+    private static final int MULTI_ROW_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 요청 적재 (호출한 쪽 트랜잭션에서 실행)
+     * - 이미 있는 요청은 대기 상태로 되돌리고 재시도 횟수 초기화 (전송 중이던 요청은 한 번 더 전송될 수 있음)
+     */
+    public void enqueue(WorkerJobType jobType, Collection<Long> songIds) {
+        List<Long> songIdList = songIds.stream().distinct().sorted().toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < songIdList.size(); from += MULTI_ROW_CHUNK_SIZE) {
+            List<Long> chunk = songIdList.subList(from, Math.min(from + MULTI_ROW_CHUNK_SIZE, songIdList.size()));
+            String values = String.join(",", Collections.nCopies(chunk.size(), "(?, ?, ?, 0, ?, ?, ?)"));
+
+            List<Object> args = new ArrayList<>(chunk.size() * 6);
+            for (Long songId : chunk) {
+                args.add(songId);
+                args.add(jobType.name());
+                args.add(WorkerOutboxStatus.PENDING.name());
+                args.add(now);
+                args.add(now);
+                args.add(now);
+            }
+
+            jdbcTemplate.update("""
+                        INSERT INTO worker_outbox (song_id, job_type, status, attempt_count, next_attempt_at, created_at, modified_at)
+                        VALUES %s
+                        ON DUPLICATE KEY UPDATE
+                        status = VALUES(status), attempt_count = 0, next_attempt_at = VALUES(next_attempt_at),
+                        claim_token = NULL, last_error = NULL, modified_at = VALUES(modified_at)
+                    """.formatted(values), args.toArray());
+        }
+    }
+
+    /**
+     * 전송 시각이 된 대기 요청을 limit개까지 가져감 (오래된 요청부터)
+     * @param leaseUntil 이 시각까지 다른 서버가 가져가지 않음
+     * @return 가져간 요청 수
+     */
+    public int claim(String claimToken, LocalDateTime leaseUntil, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update("""
+                    UPDATE worker_outbox
+                    SET claim_token = ?, next_attempt_at = ?, modified_at = ?
+                    WHERE status = ? AND next_attempt_at <= ?
+                    ORDER BY worker_outbox_id
+                    LIMIT ?
+                """, claimToken, leaseUntil, now, WorkerOutboxStatus.PENDING.name(), now, limit);
+    }
+
+    /**
+     * claim으로 가져간 요청 조회 (idx_worker_outbox_claim_token -> 쌓인 요청이 많아도 가져간 행만 읽음)
+     */
+    public List<WorkerOutboxRow> findClaimed(String claimToken) {
+        return jdbcTemplate.query("""
+                    SELECT worker_outbox_id, song_id, job_type, attempt_count
+                    FROM worker_outbox
+                    WHERE claim_token = ?
+                    ORDER BY worker_outbox_id
+                """, (rs, rowNum) -> new WorkerOutboxRow(
+                rs.getLong("worker_outbox_id"),
+                rs.getLong("song_id"),
+                WorkerJobType.valueOf(rs.getString("job_type")),
+                rs.getInt("attempt_count")), claimToken);
+    }
+
+    /**
+     * 전송 성공 -> 삭제 (그 사이 다시 적재되어 claim_token이 바뀐 요청은 유지)
+     */
+    public int deleteSent(String claimToken, List<Long> outboxIdList) {
+        if (outboxIdList.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(outboxIdList.size(), "?"));
+        List<Object> args = new ArrayList<>(outboxIdList.size() + 1);
+        args.add(claimToken);
+        args.addAll(outboxIdList);
+
+        return jdbcTemplate.update(
+                "DELETE FROM worker_outbox WHERE claim_token = ? AND worker_outbox_id IN (" + placeholders + ")", args.toArray());
+    }
+
+    /**
+     * 전송 실패 -> nextAttemptAt 이후 재전송, 재시도 횟수가 maxAttempts에 도달하면 DEAD
+     * - MySQL은 SET을 왼쪽부터 적용하므로 status를 attempt_count 증가 전에 계산
+     */
+    public int reschedule(String claimToken, List<Long> outboxIdList, LocalDateTime nextAttemptAt, int maxAttempts, String lastError) {
+        if (outboxIdList.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(outboxIdList.size(), "?"));
+        List<Object> args = new ArrayList<>(outboxIdList.size() + 8);
+        args.add(maxAttempts);
+        args.add(WorkerOutboxStatus.DEAD.name());
+        args.add(WorkerOutboxStatus.PENDING.name());
+        args.add(nextAttemptAt);
+        args.add(lastError);
+        args.add(LocalDateTime.now());
+        args.add(claimToken);
+        args.addAll(outboxIdList);
+
+        return jdbcTemplate.update("""
+                    UPDATE worker_outbox
+                    SET status = CASE WHEN attempt_count + 1 >= ? THEN ? ELSE ? END,
+                        attempt_count = attempt_count + 1,
+                        next_attempt_at = ?, last_error = ?, claim_token = NULL, modified_at = ?
+                    WHERE claim_token = ? AND worker_outbox_id IN (%s)
+                """.formatted(placeholders), args.toArray());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.peachmusic.domain.worker.jdbc;
+
+import com.example.peachmusic.common.enums.WorkerJobType;
+
+/**
+ * 전송 대상으로 가져온 outbox 행
+ */
+public record WorkerOutboxRow(
+        long outboxId,
+        long songId,
+        WorkerJobType jobType,
+        int attemptCount
+) {
+}
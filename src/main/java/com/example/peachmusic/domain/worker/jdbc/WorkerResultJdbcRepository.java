@@ -0,0 +1,114 @@
+package com.example.peachmusic.domain.worker.jdbc;
+
+import com.example.peachmusic.common.enums.ProgressingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Worker 처리 결과 반영
+ * - 음원마다 UPDATE하지 않고 CASE + IN으로 묶어 최대 CHUNK_SIZE개씩 한 문장에 반영
+ * - 음원 ID 오름차순으로 잠금 -> 동시에 들어온 결과끼리 서로 반대 순서로 잠가 교착되지 않음
+ * - Jamendo 적재와 같은 순서(songs -> song_progressing_status)로 테이블을 수정
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkerResultJdbcRepository {
+
+    // IN 절 한 문장의 최대 행 수
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 존재하는 음원의 앨범 ID 조회 (잠금 없음)
+     * @return 음원 ID -> 앨범 ID
+     */
+    public Map<Long, Long> findAlbumIdMap(Collection<Long> songIds) {
+        List<Long> songIdList = songIds.stream().distinct().sorted().toList();
+        Map<Long, Long> albumIdMap = new HashMap<>(songIdList.size() * 2);
+
+        for (int from = 0; from < songIdList.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = songIdList.subList(from, Math.min(from + CHUNK_SIZE, songIdList.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            jdbcTemplate.query("SELECT song_id, album_id FROM songs WHERE song_id IN (" + placeholders + ")",
+                    rs -> {
+                        albumIdMap.put(rs.getLong("song_id"), rs.getLong("album_id"));
+                    }, chunk.toArray());
+        }
+        return albumIdMap;
+    }
+
+    /**
+     * 변환 완료 -> 스트리밍 키 저장, 재생 가능 처리
+     * - content_modified_at을 갱신하므로 검색, 추천 인덱스의 변경분 갱신에 반영됨
+     * @param streamingKeyMap 음원 ID -> 스트리밍 키 (ID 오름차순)
+     */
+    public int updateStreaming(SortedMap<Long, String> streamingKeyMap) {
+        List<Map.Entry<Long, String>> entryList = new ArrayList<>(streamingKeyMap.entrySet());
+        LocalDateTime now = LocalDateTime.now();
+        int updatedCount = 0;
+
+        for (int from = 0; from < entryList.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, String>> chunk = entryList.subList(from, Math.min(from + CHUNK_SIZE, entryList.size()));
+            String cases = String.join(" ", Collections.nCopies(chunk.size(), "WHEN ? THEN ?"));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> args = new ArrayList<>(chunk.size() * 3 + 2);
+            for (Map.Entry<Long, String> entry : chunk) {
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+            }
+            args.add(now);
+            args.add(now);
+            chunk.forEach(entry -> args.add(entry.getKey()));
+
+            updatedCount += jdbcTemplate.update("""
+                        UPDATE songs
+                        SET audio = CASE song_id %s END, streaming_status = 1, modified_at = ?, content_modified_at = ?
+                        WHERE song_id IN (%s)
+                    """.formatted(cases, placeholders), args.toArray());
+        }
+        return updatedCount;
+    }
+
+    /**
+     * 처리 상태 변경
+     * - 상태별로 나누어 UPDATE하면 문장마다 잠그는 순서가 달라지므로 CASE로 묶어 ID 오름차순으로 한 번에 변경
+     * @param statusMap 음원 ID -> 처리 상태 (ID 오름차순)
+     */
+    public int updateProgressingStatus(SortedMap<Long, ProgressingStatus> statusMap) {
+        List<Map.Entry<Long, ProgressingStatus>> entryList = new ArrayList<>(statusMap.entrySet());
+        int updatedCount = 0;
+
+        for (int from = 0; from < entryList.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, ProgressingStatus>> chunk = entryList.subList(from, Math.min(from + CHUNK_SIZE, entryList.size()));
+            String cases = String.join(" ", Collections.nCopies(chunk.size(), "WHEN ? THEN ?"));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<Long, ProgressingStatus> entry : chunk) {
+                args.add(entry.getKey());
+                args.add(entry.getValue().name());
+            }
+            chunk.forEach(entry -> args.add(entry.getKey()));
+
+            updatedCount += jdbcTemplate.update("""
+                        UPDATE song_progressing_status
+                        SET progressing_status = CASE song_id %s END
+                        WHERE song_id IN (%s)
+                    """.formatted(cases, placeholders), args.toArray());
+        }
+        return updatedCount;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.peachmusic.domain.worker.service;
+
+import com.example.peachmusic.common.enums.WorkerJobType;
+import com.example.peachmusic.domain.worker.jdbc.WorkerOutboxJdbcRepository;
+import com.example.peachmusic.domain.worker.jdbc.WorkerOutboxRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Worker 요청 outbox 전송
+ * 1. 전송 시각이 된 요청을 (batch-size * concurrency)개까지 가져와 작업 종류별로 batch-size개씩 묶음
+ * 2. 묶음을 최대 concurrency개까지 동시에 전송 -> 모두 끝나야 다음 묶음을 가져옴 (Worker가 느리면 가져오는 속도도 느려짐)
+ * 3. 성공한 묶음은 삭제, 실패한 묶음은 지수 백오프 + jitter 뒤 재전송 (max-attempts 도달 시 DEAD)
+ * 4. 가득 찬 묶음을 모두 보냈으면 바로 다음 묶음, 실패가 있거나 남은 요청이 없으면 다음 주기까지 대기
+ * - Jamendo 적재로 쌓인 대량 요청도 음원마다 호출하지 않고 batch-size개씩 한 번에 전송
+ */
+@Slf4j
+@Component
+public class WorkerOutboxDispatcher {
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    private final WorkerOutboxJdbcRepository workerOutboxJdbcRepository;
+    private final WorkerService workerService;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    // 전송 임대 시간, 그동안 끝나지 않으면 다른 서버가 다시 가져감
+    private final Duration lease;
+
+    public WorkerOutboxDispatcher(WorkerOutboxJdbcRepository workerOutboxJdbcRepository, WorkerService workerService,
+                                  @Value("${worker.outbox.batch-size:500}") int batchSize,
+                                  @Value("${worker.outbox.concurrency:4}") int concurrency,
+                                  @Value("${worker.outbox.max-attempts:20}") int maxAttempts,
+                                  @Value("${worker.outbox.lease-seconds:60}") long leaseSeconds) {
+        this.workerOutboxJdbcRepository = workerOutboxJdbcRepository;
+        this.workerService = workerService;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${worker.outbox.poll-millis:1000}")
+    public void dispatch() {
+        try {
+            // 가득 찬 묶음을 모두 보냈으면 남은 요청이 있을 수 있으므로 바로 이어서 전송
+            boolean hasMore = true;
+            while (hasMore) {
+                hasMore = dispatchOnce();
+            }
+        } catch (RuntimeException e) {
+            // DB 오류 등, 가져간 요청은 임대 만료 후 다시 전송
+            log.error("Worker outbox 전송 실패", e);
+        }
+    }
+
+    /**
+     * 한 번 가져와서 전송
+     * @return 가져온 요청이 가득 찼고 모두 성공했으면 true (남은 요청이 있을 수 있음)
+     */
+    boolean dispatchOnce() {
+        int limit = batchSize * concurrency;
+        String claimToken = UUID.randomUUID().toString();
+
+        int claimedCount = workerOutboxJdbcRepository.claim(claimToken, LocalDateTime.now().plus(lease), limit);
+        if (claimedCount == 0) {
+            return false;
+        }
+
+        List<Batch> batchList = toBatchList(workerOutboxJdbcRepository.findClaimed(claimToken));
+
+        List<BatchResult> resultList = Flux.fromIterable(batchList)
+                .flatMap(batch -> workerService.send(batch.jobType(), batch.songIdList())
+                        .thenReturn(new BatchResult(batch, null))
+                        .onErrorResume(e -> Mono.just(new BatchResult(batch, e))), concurrency)
+                .collectList()
+                // 임대 만료 전에 결과를 반영하도록 여유를 둠
+                .block(lease.dividedBy(2));
+
+        boolean allSent = true;
+        for (BatchResult result : resultList == null ? List.<BatchResult>of() : resultList) {
+            if (result.error() == null) {
+                workerOutboxJdbcRepository.deleteSent(claimToken, result.batch().outboxIdList());
+                continue;
+            }
+
+            allSent = false;
+            Batch batch = result.batch();
+            log.warn("Worker 요청 전송 실패 - type={}, songs={}, attempt={}: {}",
+                    batch.jobType(), batch.songIdList().size(), batch.attemptCount() + 1, result.error().toString());
+            workerOutboxJdbcRepository.reschedule(claimToken, batch.outboxIdList(),
+                    LocalDateTime.now().plus(backoff(batch.attemptCount())), maxAttempts, abbreviate(result.error().toString()));
+        }
+        return allSent && claimedCount == limit;
+    }
+
+    /**
+     * 작업 종류별로 batch-size개씩 묶음
+     */
+    private List<Batch> toBatchList(List<WorkerOutboxRow> rowList) {
+        Map<WorkerJobType, List<WorkerOutboxRow>> rowMap = new EnumMap<>(WorkerJobType.class);
+        for (WorkerOutboxRow row : rowList) {
+            rowMap.computeIfAbsent(row.jobType(), jobType -> new ArrayList<>()).add(row);
+        }
+
+        List<Batch> batchList = new ArrayList<>();
+        rowMap.forEach((jobType, rows) -> {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                batchList.add(Batch.of(jobType, rows.subList(from, Math.min(from + batchSize, rows.size()))));
+            }
+        });
+        return batchList;
+    }
+
+    /**
+     * full jitter 지수 백오프 (0 ~ min(MAX_BACKOFF, BASE_BACKOFF * 2^attempt))
+     * - 같은 시각에 실패한 요청이 같은 시각에 다시 몰리지 않도록 분산
+     */
+    static Duration backoff(int attemptCount) {
+        long capMillis = BASE_BACKOFF.toMillis() << Math.min(attemptCount, 20);
+        long maxMillis = Math.min(MAX_BACKOFF.toMillis(), capMillis);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(maxMillis + 1));
+    }
+
+    private String abbreviate(String message) {
+        return message.length() <= ERROR_MESSAGE_LENGTH ? message : message.substring(0, ERROR_MESSAGE_LENGTH);
+    }
+
+    /**
+     * @param attemptCount 묶음 안에서 가장 많이 실패한 요청 기준
+     */
+    private record Batch(WorkerJobType jobType, List<Long> outboxIdList, List<Long> songIdList, int attemptCount) {
+
+        private static Batch of(WorkerJobType jobType, List<WorkerOutboxRow> rows) {
+            return new Batch(jobType,
+                    rows.stream().map(WorkerOutboxRow::outboxId).toList(),
+                    rows.stream().map(WorkerOutboxRow::songId).toList(),
+                    rows.stream().mapToInt(WorkerOutboxRow::attemptCount).max().orElse(0));
+        }
+    }
+
+    private record BatchResult(Batch batch, Throwable error) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.peachmusic.domain.worker.service;
+
+import com.example.peachmusic.common.enums.WorkerJobType;
+import com.example.peachmusic.domain.worker.dto.request.WorkerTryRequestDto;
+import com.example.peachmusic.domain.worker.jdbc.WorkerOutboxJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 관리자 Worker 재요청 -> outbox 적재 (전송은 WorkerOutboxDispatcher)
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkerOutboxService {
+
+    private final WorkerOutboxJdbcRepository workerOutboxJdbcRepository;
+
+    /**
+     * (Worker) 다운로드 재시도 요청
+     */
+    @Transactional
+    public void tryDownloadSong(WorkerTryRequestDto requestDto) {
+        workerOutboxJdbcRepository.enqueue(WorkerJobType.DOWNLOAD, requestDto.getSongIdList());
+    }
+
+    /**
+     * (Worker) 형변환 재시도 요청
+     */
+    @Transactional
+    public void tryTranscodeSong(WorkerTryRequestDto requestDto) {
+        workerOutboxJdbcRepository.enqueue(WorkerJobType.TRANSCODE, requestDto.getSongIdList());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.peachmusic.domain.worker.service;
+
+import com.example.peachmusic.common.enums.ErrorCode;
+import com.example.peachmusic.common.enums.ProgressingStatus;
+import com.example.peachmusic.common.exception.CustomException;
+import com.example.peachmusic.domain.search.index.SearchIndexDirtyEvent;
+import com.example.peachmusic.domain.worker.dto.request.WorkerResultRequestDto;
+import com.example.peachmusic.domain.worker.dto.response.WorkerResultResponseDto;
+import com.example.peachmusic.domain.worker.jdbc.WorkerResultJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Worker 처리 결과 일괄 반영
+ * - 한 요청의 결과를 한 트랜잭션에서 묶음 UPDATE로 반영하고, 캐시와 인덱스 무효화도 요청마다 한 번만 수행
+ * - 처리 상태만 바뀌는 결과는 songs를 건드리지 않음 -> 재생, 좋아요 등 songs 행 잠금과 경합하지 않음
+ */
+@Service
+public class WorkerResultService {
+
+    private final WorkerResultJdbcRepository workerResultJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final byte[] callbackToken;
+
+    public WorkerResultService(WorkerResultJdbcRepository workerResultJdbcRepository, ApplicationEventPublisher eventPublisher,
+                               @Value("${worker.callback-token:}") String callbackToken) {
+        this.workerResultJdbcRepository = workerResultJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.callbackToken = callbackToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * (Worker) 다운로드, 형 변환 결과 반영
+     * - 같은 음원의 결과가 여러 개면 마지막 결과만 반영, 존재하지 않는 음원은 무시
+     * - SUCCESS가 아닌 결과는 기존 스트리밍 키와 재생 가능 여부를 유지 (재변환 실패 시 기존 음원으로 계속 재생)
+     */
+    @Transactional
+    public WorkerResultResponseDto applyResults(String workerToken, WorkerResultRequestDto requestDto) {
+
+        verifyToken(workerToken);
+
+        SortedMap<Long, ProgressingStatus> statusMap = new TreeMap<>();
+        SortedMap<Long, String> streamingKeyMap = new TreeMap<>();
+
+        for (WorkerResultRequestDto.ResultDto result : requestDto.getResultList()) {
+            statusMap.put(result.getSongId(), result.getStatus());
+
+            if (result.getStatus() != ProgressingStatus.SUCCESS) {
+                streamingKeyMap.remove(result.getSongId());
+                continue;
+            }
+            if (result.getStreamingKey() == null || result.getStreamingKey().isBlank()) {
+                throw new CustomException(ErrorCode.WORKER_RESULT_STREAMING_KEY_REQUIRED);
+            }
+            streamingKeyMap.put(result.getSongId(), result.getStreamingKey());
+        }
+
+        Map<Long, Long> albumIdMap = workerResultJdbcRepository.findAlbumIdMap(statusMap.keySet());
+        statusMap.keySet().retainAll(albumIdMap.keySet());
+        streamingKeyMap.keySet().retainAll(albumIdMap.keySet());
+
+        if (statusMap.isEmpty()) {
+            return new WorkerResultResponseDto(0, 0);
+        }
+
+        int streamingCount = streamingKeyMap.isEmpty() ? 0 : workerResultJdbcRepository.updateStreaming(streamingKeyMap);
+        workerResultJdbcRepository.updateProgressingStatus(statusMap);
+
+        // 검색 결과의 처리 상태는 songs.content_modified_at 변경 없이도 바뀌고,
+        // 첫 재생 가능 음원이 생긴 앨범은 albums.content_modified_at이 바뀌지 않으므로 직접 표시
+        List<Long> albumIdList = streamingKeyMap.keySet().stream()
+                .map(albumIdMap::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        eventPublisher.publishEvent(new SearchIndexDirtyEvent(albumIdList, List.copyOf(statusMap.keySet())));
+
+        return new WorkerResultResponseDto(statusMap.size(), streamingCount);
+    }
+
+    /**
+     * Worker 공유 토큰 확인 (설정이 비어 있으면 모든 요청 거부)
+     */
+    private void verifyToken(String workerToken) {
+        if (callbackToken.length == 0 || workerToken == null
+                || !MessageDigest.isEqual(callbackToken, workerToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(ErrorCode.WORKER_CALLBACK_UNAUTHORIZED);
+        }
+    }
+}
@@ -1,18 +1,20 @@
 package com.example.peachmusic.domain.worker.service;
 
+import com.example.peachmusic.common.enums.WorkerJobType;
 import com.example.peachmusic.domain.worker.dto.request.WorkerTryRequestDto;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 
-@Slf4j
+/**
+ * Worker 요청 전송 (WorkerOutboxDispatcher에서만 호출)
+ * - 다운로드, 형 변환 요청은 음원 ID 목록을 받으므로 outbox 요청을 묶어서 한 번에 전송
+ */
 @Service
 @RequiredArgsConstructor
 public class WorkerService {
@@ -22,30 +24,24 @@ public class WorkerService {
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(6);
 
     /**
-     * (Worker) 다운로드 재시도 요청
+     * (Worker) 음원 목록 다운로드, 형 변환 요청
+     * - 실패(연결 실패, 4xx, 5xx, 시간 초과)는 Mono 오류로 전달 -> 호출한 쪽에서 재시도 예약
      */
-    public void tryDownloadSong(WorkerTryRequestDto requestDto) {
+    public Mono<Void> send(WorkerJobType jobType, List<Long> songIdList) {
 
-        webClient.method(HttpMethod.POST)
-                .uri("/worker/songs/download-request")
-                .bodyValue(requestDto)
+        return webClient.method(HttpMethod.POST)
+                .uri(requestPath(jobType))
+                .bodyValue(new WorkerTryRequestDto(songIdList))
                 .retrieve()
                 .toBodilessEntity()
-                .doOnError(exception -> log.error("Worker 불러오기 실패 : {}", exception.getMessage()))
-                .subscribe();
+                .timeout(REQUEST_TIMEOUT)
+                .then();
     }
 
-    /**
-     * (Worker) 형변환 재시도 요청
-     */
-    public void tryTranscodeSong(WorkerTryRequestDto requestDto) {
-
-        webClient.method(HttpMethod.POST)
-                .uri("/worker/songs/transcode-request")
-                .bodyValue(requestDto)
-                .retrieve()
-                .toBodilessEntity()
-                .doOnError(exception -> log.error("Worker 불러오기 실패 : {}", exception.getMessage()))
-                .subscribe();
+    private String requestPath(WorkerJobType jobType) {
+        return switch (jobType) {
+            case DOWNLOAD -> "/worker/songs/download-request";
+            case TRANSCODE -> "/worker/songs/transcode-request";
+        };
     }
 }
@@ -51,6 +51,41 @@ document.addEventListener("DOMContentLoaded", () => {
         }
     });
 
+    /* =========================
+       자동완성 (입력 중에는 /api/search 대신 호출)
+    ========================= */
+    const suggestionList = document.createElement("datalist");
+    suggestionList.id = "searchSuggestionList";
+    input.after(suggestionList);
+    input.setAttribute("list", suggestionList.id);
+
+    let suggestTimer = null;
+    input.addEventListener("input", () => {
+        clearTimeout(suggestTimer);
+        const word = input.value.trim();
+        if (!word) {
+            suggestionList.replaceChildren();
+            return;
+        }
+        suggestTimer = setTimeout(() => loadSuggestions(word), 150);
+    });
+
+    async function loadSuggestions(word) {
+        try {
+            const res = await fetch(`/api/search/autocomplete?word=${encodeURIComponent(word)}&size=8`);
+            const response = await res.json();
+            if (!response?.success || input.value.trim() !== word) return;
+
+            suggestionList.replaceChildren(...(response.data || []).map((item) => {
+                const option = document.createElement("option");
+                option.value = item.text;
+                return option;
+            }));
+        } catch (e) {
+            console.error(e);
+        }
+    }
+
     loadPopular();
 
     if (typeof initialWord !== "undefined" && initialWord && String(initialWord).trim() !== "") {
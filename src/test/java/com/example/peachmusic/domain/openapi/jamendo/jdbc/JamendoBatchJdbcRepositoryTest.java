@@ -0,0 +1,245 @@
+package com.example.peachmusic.domain.openapi.jamendo.jdbc;
+
+import com.example.peachmusic.common.enums.JamendoImportJobType;
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJob;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.JamendoPageBuffer;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoPage;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoTrackParser;
+import com.example.peachmusic.domain.openapi.jamendo.repository.JamendoImportJobRepository;
+import com.example.peachmusic.domain.openapi.jamendo.service.JamendoSongService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Jamendo 페이지 일괄 저장 (Testcontainers MySQL)
+ * - 원본 해시가 같은 행은 쓰기 생략, 바뀐 행만 upsert, 관계는 저장된 음원만 저장
+ * - 같은 페이지를 다시 저장할 때는 커밋 후 캐시에 반영된 상태로 비교
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JamendoBatchJdbcRepositoryTest {
+
+    private static final LocalDate RELEASE_DATE = LocalDate.of(2026, 1, 1);
+    private static final String DATE_BETWEEN = RELEASE_DATE + "_" + RELEASE_DATE;
+
+    private static final MySQLContainer<?> mysql;
+    private static final GenericContainer<?> redis;
+
+    static {
+        mysql = new MySQLContainer<>("mysql:8.0").withDatabaseName("peachmusic");
+        redis = new GenericContainer<>("redis:7.2").withExposedPorts(6379);
+        mysql.start();
+        redis.start();
+    }
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.jpa.show-sql", () -> false);
+        registry.add("worker.outbox.poll-millis", () -> Long.MAX_VALUE);
+    }
+
+    private final JamendoTrackParser parser = new JamendoTrackParser();
+
+    @Autowired
+    private JamendoBatchJdbcRepository batchJdbcRepository;
+
+    @Autowired
+    private JamendoSongService jamendoSongService;
+
+    @Autowired
+    private JamendoImportJobRepository importJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("성공 - 같은 페이지를 다시 저장하면 모두 건너뛰고, 제목, 장르가 바뀐 음원만 갱신")
+    void upsertSongs_writeChangedRowsOnly() {
+        // given
+        String page = page(
+                track(101L, 11L, 21L, "Song A", "rock"),
+                track(102L, 11L, 21L, "Song B", "rock"),
+                track(103L, 11L, 21L, "Song C", "rock"));
+        String changedPage = page(
+                track(101L, 11L, 21L, "Song A (Remastered)", "rock"),
+                track(102L, 11L, 21L, "Song B", "jazz"),
+                track(103L, 11L, 21L, "Song C", "rock"));
+
+        // when
+        JamendoUpsertResult first = upsertSongs(page);
+        JamendoUpsertResult second = upsertSongs(page);
+        JamendoUpsertResult changed = upsertSongs(changedPage);
+
+        // then
+        assertThat(first.count()).isEqualTo(new JamendoUpsertCount(3, 0, 0));
+        assertThat(first.insertedIdSet()).containsExactlyInAnyOrder(101L, 102L, 103L);
+
+        assertThat(second.count()).isEqualTo(new JamendoUpsertCount(0, 0, 3));
+        assertThat(second.writtenIdSet()).isEmpty();
+        // 쓰기를 생략해도 관계 저장에 쓸 내부 ID는 반환
+        assertThat(second.idMap()).isEqualTo(first.idMap());
+
+        assertThat(changed.count()).isEqualTo(new JamendoUpsertCount(0, 2, 1));
+        assertThat(changed.writtenIdSet()).containsExactlyInAnyOrder(101L, 102L);
+        assertThat(changed.insertedIdSet()).isEmpty();
+        assertThat(findSongName(101L)).isEqualTo("Song A (Remastered)");
+        assertThat(findContentHash(102L)).isEqualTo(parseContentHash(changedPage, 102L));
+        assertThat(findContentHash(103L)).isEqualTo(parseContentHash(page, 103L));
+    }
+
+    @Test
+    @DisplayName("성공 - 페이지 저장은 새로 저장되거나 바뀐 음원의 관계만 저장")
+    void savePage_writeRelationsOfWrittenSongsOnly() {
+        // given
+        Long jobId = importJobRepository.save(new JamendoImportJob(JamendoImportJobType.INIT, RELEASE_DATE, RELEASE_DATE, 10)).getJobId();
+        String page = page(
+                track(201L, 12L, 22L, "Song A", "rock"),
+                track(202L, 12L, 22L, "Song B", "rock"),
+                track(203L, 12L, 22L, "Song C", "rock"));
+        String changedPage = page(
+                track(201L, 12L, 22L, "Song A (Remastered)", "rock"),
+                track(202L, 12L, 22L, "Song B", "jazz"),
+                track(203L, 12L, 22L, "Song C", "rock"));
+
+        // when 첫 저장: 아티스트 1, 앨범 1, 음원 3
+        jamendoSongService.savePage(jobId, jamendoPage(page, 1));
+
+        // then
+        assertThat(findRowCounts(jobId)).containsExactly(5L, 0L, 0L);
+        assertThat(findArtistSongIds()).containsExactlyInAnyOrder(201L, 202L, 203L);
+        assertThat(findGenreNames(202L)).containsExactly("rock");
+        assertThat(countOutbox(201L, 202L, 203L)).isEqualTo(3L);
+
+        // when 같은 페이지 재저장 (관계가 지워져 있어도 건너뛴 음원의 관계는 다시 저장하지 않음)
+        jdbcTemplate.update("DELETE FROM artist_songs WHERE song_id IN (SELECT song_id FROM songs WHERE jamendo_song_id BETWEEN 201 AND 203)");
+        jamendoSongService.savePage(jobId, jamendoPage(page, 2));
+
+        // then
+        assertThat(findRowCounts(jobId)).containsExactly(5L, 0L, 5L);
+        assertThat(findArtistSongIds()).isEmpty();
+
+        // when 제목, 장르가 바뀐 페이지
+        jamendoSongService.savePage(jobId, jamendoPage(changedPage, 3));
+
+        // then 바뀐 음원 2곡만 갱신하고 그 음원의 관계만 저장, 새 음원이 없으므로 다운로드 요청도 추가되지 않음
+        assertThat(findRowCounts(jobId)).containsExactly(5L, 2L, 8L);
+        assertThat(findArtistSongIds()).containsExactlyInAnyOrder(201L, 202L);
+        assertThat(findGenreNames(202L)).contains("jazz");
+        assertThat(findGenreNames(203L)).containsExactly("rock");
+        assertThat(countOutbox(201L, 202L, 203L)).isEqualTo(3L);
+    }
+
+    private JamendoUpsertResult upsertSongs(String body) {
+        JamendoPageBuffer buffer = parse(body);
+        return transactionTemplate.execute(status -> {
+            batchJdbcRepository.upsertArtists(buffer.getArtistRows());
+            JamendoUpsertResult albumResult = batchJdbcRepository.upsertAlbums(buffer.getAlbumRows());
+            return batchJdbcRepository.upsertSongs(buffer.getSongRows(), albumResult.idMap());
+        });
+    }
+
+    private JamendoPage jamendoPage(String body, int pageNumber) {
+        return new JamendoPage(DATE_BETWEEN, pageNumber, parse(body), false);
+    }
+
+    private JamendoPageBuffer parse(String body) {
+        JamendoPageBuffer buffer = new JamendoPageBuffer(10);
+        try {
+            parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer;
+    }
+
+    private List<Long> findRowCounts(Long jobId) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT inserted_row_count, updated_row_count, skipped_row_count FROM jamendo_import_jobs WHERE jamendo_import_job_id = ?", jobId);
+        return List.of(((Number) row.get("inserted_row_count")).longValue(),
+                ((Number) row.get("updated_row_count")).longValue(),
+                ((Number) row.get("skipped_row_count")).longValue());
+    }
+
+    private List<Long> findArtistSongIds() {
+        return jdbcTemplate.queryForList("""
+                    SELECT s.jamendo_song_id FROM artist_songs a JOIN songs s ON s.song_id = a.song_id
+                    WHERE s.jamendo_song_id BETWEEN 201 AND 203
+                """, Long.class);
+    }
+
+    private List<String> findGenreNames(Long jamendoSongId) {
+        return jdbcTemplate.queryForList("""
+                    SELECT g.genre_name FROM song_genres sg
+                    JOIN songs s ON s.song_id = sg.song_id
+                    JOIN genres g ON g.genre_id = sg.genre_id
+                    WHERE s.jamendo_song_id = ?
+                """, String.class, jamendoSongId);
+    }
+
+    private long countOutbox(Long... jamendoSongIds) {
+        String placeholders = String.join(",", Collections.nCopies(jamendoSongIds.length, "?"));
+        return jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM worker_outbox o JOIN songs s ON s.song_id = o.song_id
+                    WHERE s.jamendo_song_id IN (%s)
+                """.formatted(placeholders), Long.class, (Object[]) jamendoSongIds);
+    }
+
+    private String findSongName(Long jamendoSongId) {
+        return jdbcTemplate.queryForObject("SELECT name FROM songs WHERE jamendo_song_id = ?", String.class, jamendoSongId);
+    }
+
+    private Long findContentHash(Long jamendoSongId) {
+        return jdbcTemplate.queryForObject("SELECT content_hash FROM songs WHERE jamendo_song_id = ?", Long.class, jamendoSongId);
+    }
+
+    private Long parseContentHash(String body, Long jamendoSongId) {
+        return parse(body).getSongRows().stream()
+                .filter(row -> row.jamendoSongId().equals(jamendoSongId))
+                .findFirst().orElseThrow()
+                .contentHash();
+    }
+
+    private String page(String... tracks) {
+        return """
+                {"headers": {"status": "success", "code": 0, "results_count": %d}, "results": [%s]}
+                """.formatted(tracks.length, String.join(",", tracks));
+    }
+
+    private String track(long songId, long artistId, long albumId, String name, String genre) {
+        return """
+                {"id": "%d", "name": "%s", "duration": 180, "position": "%d", "releasedate": "%s",
+                 "audio": "https://audio.test/%d", "artist_id": "%d", "artist_name": "Artist %d",
+                 "album_id": "%d", "album_name": "Album %d", "album_image": "https://image.test/%d",
+                 "musicinfo": {"vocalinstrumental": "vocal", "lang": "en", "speed": "medium",
+                               "tags": {"genres": ["%s"], "instruments": ["guitar"], "vartags": ["calm"]}}}
+                """.formatted(songId, name, songId % 100, RELEASE_DATE, songId, artistId, artistId, albumId, albumId, albumId, genre);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+import com.example.peachmusic.domain.openapi.jamendo.service.JamendoApiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JamendoFetchPipelineTest {
+
+    private static final int PAGE_SIZE = 2;
+    // 기간마다 음원 5곡 -> 2, 2, 1곡 페이지
+    private static final int SONGS_PER_RANGE = 5;
+    private static final LocalDate START_DATE = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2026, 1, 21);
+
+    private MockWebServer mockWebServer;
+    private JamendoApiService jamendoApiService;
+    private final Set<String> requestedRangeSet = ConcurrentHashMap.newKeySet();
+    private volatile String failingRange;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                HttpUrl url = request.getRequestUrl();
+                String dateBetween = url.queryParameter("datebetween");
+                int offset = Integer.parseInt(url.queryParameter("offset"));
+                requestedRangeSet.add(dateBetween);
+
+                if (dateBetween.equals(failingRange)) {
+                    return new MockResponse().setResponseCode(500);
+                }
+                return new MockResponse()
+                        .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .setBody(pageBody(dateBetween, offset));
+            }
+        });
+        mockWebServer.start();
+
+        jamendoApiService = new JamendoApiService(RestClient.builder().baseUrl(mockWebServer.url("/").toString()).build(), new JamendoTrackParser());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void 기간을_나눠_동시에_수집하고_모든_페이지를_한번씩_저장한다() {
+        JamendoFetchPipeline pipeline = new JamendoFetchPipeline(jamendoApiService, new SimpleMeterRegistry(), 3, 2, 7, PAGE_SIZE, 100);
+        List<Long> savedSongIdList = new ArrayList<>();
+        List<String> saveThreadList = new ArrayList<>();
+        List<JamendoPage> lastPageList = new ArrayList<>();
+
+        int pageCount = pipeline.run(rangeList(1), 100, page -> {
+            page.rows().getSongRows().forEach(row -> savedSongIdList.add(row.jamendoSongId()));
+            saveThreadList.add(Thread.currentThread().getName());
+            if (page.lastPage()) {
+                lastPageList.add(page);
+            }
+        });
+
+        assertThat(requestedRangeSet).containsExactlyInAnyOrder("2026-01-01_2026-01-07", "2026-01-08_2026-01-14", "2026-01-15_2026-01-21");
+        assertThat(pageCount).isEqualTo(9);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(9);
+        assertThat(savedSongIdList).hasSize(15).doesNotHaveDuplicates();
+        // 저장은 호출 스레드(트랜잭션)에서만 실행
+        assertThat(saveThreadList).containsOnly(Thread.currentThread().getName());
+        // 기간마다 마지막 페이지(3페이지)에서 종료
+        assertThat(lastPageList).extracting(JamendoPage::page).containsExactly(3, 3, 3);
+    }
+
+    @Test
+    void 체크포인트_다음_페이지부터_이어서_수집한다() {
+        JamendoFetchPipeline pipeline = new JamendoFetchPipeline(jamendoApiService, new SimpleMeterRegistry(), 3, 2, 7, PAGE_SIZE, 100);
+        List<Long> savedSongIdList = new ArrayList<>();
+
+        int pageCount = pipeline.run(rangeList(2), 100, page -> page.rows().getSongRows().forEach(row -> savedSongIdList.add(row.jamendoSongId())));
+
+        assertThat(pageCount).isEqualTo(6);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(6);
+        assertThat(savedSongIdList).hasSize(9).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 마지막_페이지가_꽉_차면_빈_페이지로_기간_종료를_알린다() {
+        JamendoFetchPipeline pipeline = new JamendoFetchPipeline(jamendoApiService, new SimpleMeterRegistry(), 1, 2, 7, PAGE_SIZE, 100);
+        List<JamendoPage> pageList = new ArrayList<>();
+
+        // 5곡 기간을 4페이지부터 조회 -> 빈 결과, 마지막으로 받은 페이지(3)로 종료 알림
+        pipeline.run(List.of(new JamendoFetchRange("2026-01-01_2026-01-07", 4)), 100, pageList::add);
+
+        assertThat(pageList).containsExactly(new JamendoPage("2026-01-01_2026-01-07", 3, null, true));
+    }
+
+    @Test
+    void 최대_페이지_수를_넘겨_조회하지_않는다() {
+        JamendoFetchPipeline pipeline = new JamendoFetchPipeline(jamendoApiService, new SimpleMeterRegistry(), 3, 2, 7, PAGE_SIZE, 100);
+
+        int pageCount = pipeline.run(rangeList(1), 4, page -> {
+        });
+
+        assertThat(pageCount).isEqualTo(4);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(4);
+    }
+
+    @Test
+    void 수집_실패시_예외를_호출_스레드로_전달한다() {
+        failingRange = "2026-01-08_2026-01-14";
+        JamendoFetchPipeline pipeline = new JamendoFetchPipeline(jamendoApiService, new SimpleMeterRegistry(), 3, 2, 7, PAGE_SIZE, 100);
+
+        assertThatThrownBy(() -> pipeline.run(rangeList(1), 100, page -> {
+        })).isInstanceOf(RestClientException.class);
+    }
+
+    @Test
+    void 기간은_겹치지_않게_나누고_마지막_기간은_종료일까지() {
+        assertThat(JamendoFetchPipeline.splitDateRange(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 10), 7))
+                .containsExactly("2026-01-01_2026-01-07", "2026-01-08_2026-01-10");
+    }
+
+    private List<JamendoFetchRange> rangeList(int startPage) {
+        return JamendoFetchPipeline.splitDateRange(START_DATE, END_DATE, 7).stream()
+                .map(dateBetween -> new JamendoFetchRange(dateBetween, startPage))
+                .toList();
+    }
+
+    /**
+     * 기간마다 다른 음원 ID (기간 시작일 기준), offset부터 최대 PAGE_SIZE곡
+     */
+    private String pageBody(String dateBetween, int offset) {
+        long base = LocalDate.parse(dateBetween.substring(0, 10)).toEpochDay() * 100;
+        String results = IntStream.range(offset, Math.min(offset + PAGE_SIZE, SONGS_PER_RANGE))
+                .mapToObj(i -> "{\"id\": \"" + (base + i) + "\", \"name\": \"song-" + i + "\", \"album_id\": \"1\", \"artist_id\": \"1\","
+                        + " \"musicinfo\": {\"lang\": \"en\", \"speed\": \"medium\", \"tags\": {\"instruments\": [\"piano\"], \"vartags\": [\"calm\"]}}}")
+                .collect(Collectors.joining(","));
+        return "{\"results\": [" + results + "]}";
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.peachmusic.domain.openapi.jamendo.pipeline;
+
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.JamendoPageBuffer;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.OrphanSongRow;
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.SongRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JamendoTrackParserTest {
+
+    private final JamendoTrackParser parser = new JamendoTrackParser();
+
+    @Test
+    void orphan과_영어가_아닌_음원은_음원_행을_만들지_않는다() throws IOException {
+        String body = """
+                {
+                  "headers": {"status": "success", "results_count": 3},
+                  "results": [
+                    {"id": "10", "name": "song", "duration": 180, "position": "2", "releasedate": "2026-01-02",
+                     "audio": "https://audio/10", "artist_id": "1", "artist_name": "artist", "album_id": "100",
+                     "album_name": "album", "album_image": "https://image/100", "shareurl": "ignored",
+                     "musicinfo": {"vocalinstrumental": "vocal", "lang": "en", "gender": "male", "speed": "high",
+                                   "acousticelectric": "electric",
+                                   "tags": {"genres": ["rock", " ", "pop"], "instruments": ["guitar", "drums"], "vartags": ["energetic"]}}},
+                    {"id": "11", "name": "orphan", "artist_id": "1", "album_id": "", "musicinfo": null},
+                    {"id": "12", "name": "french", "artist_id": "2", "artist_name": "artiste", "album_id": "200",
+                     "musicinfo": {"lang": "fr", "speed": "low", "tags": {"instruments": ["piano"], "vartags": ["calm"]}}}
+                  ]
+                }
+                """;
+        JamendoPageBuffer buffer = new JamendoPageBuffer(200);
+
+        int trackCount = parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), buffer);
+
+        assertThat(trackCount).isEqualTo(3);
+        assertThat(buffer.getOrphanSkipCount()).isEqualTo(1);
+        assertThat(buffer.getOrphanSamples()).containsExactly(new OrphanSongRow(11L, null, 1L));
+        // 영어가 아닌 음원도 아티스트, 앨범은 저장
+        assertThat(buffer.getArtistRows()).hasSize(2);
+        assertThat(buffer.getAlbumRows()).hasSize(2);
+        assertThat(buffer.getSongRows()).hasSize(1);
+
+        SongRow song = buffer.getSongRows().get(0);
+        assertThat(song.jamendoSongId()).isEqualTo(10L);
+        assertThat(song.jamendoAlbumId()).isEqualTo(100L);
+        assertThat(song.duration()).isEqualTo(180L);
+        assertThat(song.position()).isEqualTo(2L);
+        assertThat(song.releaseDate()).isEqualTo(LocalDate.of(2026, 1, 2));
+        assertThat(song.instruments()).isEqualTo("guitar,drums");
+        assertThat(song.vartags()).isEqualTo("energetic");
+        assertThat(buffer.getSongGenreRows()).extracting(r -> r.genreName()).containsExactly("rock", "pop");
+    }
+
+    @Test
+    void 버퍼를_비우고_재사용해도_이전_페이지_행이_남지_않는다() throws IOException {
+        JamendoPageBuffer buffer = new JamendoPageBuffer(200);
+        String body = "{\"results\": [{\"id\": 1, \"album_id\": 2, \"artist_id\": 3}]}";
+
+        parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), buffer);
+        buffer.clear();
+        int trackCount = parser.parse(new ByteArrayInputStream("{\"results\": []}".getBytes(StandardCharsets.UTF_8)), buffer);
+
+        assertThat(trackCount).isZero();
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.getArtistRows()).isEmpty();
+    }
+
+    @Test
+    void HTTP_200이어도_headers_status가_실패면_예외를_던진다() {
+        JamendoPageBuffer buffer = new JamendoPageBuffer(200);
+        String body = """
+                {"headers": {"status": "failed", "code": 5, "error_message": "Your credential is not authorized.", "results_count": 0},
+                 "results": []}
+                """;
+
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), buffer))
+                .isInstanceOf(JamendoApiErrorException.class)
+                .hasMessageContaining("code=5");
+    }
+}
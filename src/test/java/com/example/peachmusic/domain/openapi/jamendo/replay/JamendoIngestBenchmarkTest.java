@@ -0,0 +1,253 @@
+package com.example.peachmusic.domain.openapi.jamendo.replay;
+
+import com.example.peachmusic.common.enums.JamendoImportJobStatus;
+import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoImportJobResponseDto;
+import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoInitRequestDto;
+import com.example.peachmusic.domain.openapi.jamendo.service.JamendoImportJobService;
+import com.example.peachmusic.domain.search.index.SearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Jamendo 적재 처리량 벤치마크 (녹화 응답 재생 -> 적재 작업 전체 실행 -> Testcontainers MySQL)
+ * - 실행: ./gradlew jamendoBenchmark -Pjamendo.benchmark.tracks=100000 (10000, 100000, 1000000)
+ * - 실제 녹화로 실행: -Pjamendo.replay.dir=build/jamendo-recordings/live-...
+ * - 1회차는 빈 DB에 적재, 2회차는 같은 데이터 재적재(변경 없는 행 건너뜀)
+ * - 결과는 콘솔과 build/jamendo-benchmark/results.csv에 누적 -> 적재 코드 변경 전후 비교
+ * - 조회 시간은 수집 스레드 합계라 실제 경과 시간보다 클 수 있음, 저장 시간은 저장 스레드 하나의 합계
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JamendoIngestBenchmarkTest {
+
+    private static final long DEFAULT_TRACK_COUNT = 10_000L;
+    private static final long SYNTHETIC_SEED = 20260101L;
+    private static final long TIMEOUT_MINUTES = 180;
+    private static final Path RESULT_FILE = Path.of("build/jamendo-benchmark/results.csv");
+    private static final List<String> TABLES = List.of(
+            "artists", "albums", "songs", "genres", "artist_songs", "artist_albums", "song_genres", "song_progressing_status", "worker_outbox");
+
+    private static final MySQLContainer<?> mysql;
+    private static final GenericContainer<?> redis;
+    private static final MockWebServer replayServer;
+    private static final JamendoRecording recording;
+
+    static {
+        mysql = new MySQLContainer<>("mysql:8.0").withDatabaseName("peachmusic");
+        redis = new GenericContainer<>("redis:7.2").withExposedPorts(6379);
+        mysql.start();
+        redis.start();
+
+        recording = loadRecording();
+        replayServer = new MockWebServer();
+        replayServer.setDispatcher(new JamendoReplayDispatcher(recording));
+        try {
+            replayServer.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void benchmarkProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.jpa.show-sql", () -> false);
+
+        registry.add("jamendo.api.url", () -> replayServer.url("/").toString());
+        registry.add("jamendo.api.key", () -> "replay");
+        // 녹화와 같은 기간 분할, 페이지 크기로 요청해야 녹화된 페이지를 찾음
+        registry.add("jamendo.import.range-days", () -> recording.manifest().rangeDays());
+        registry.add("jamendo.import.page-size", () -> recording.manifest().pageSize());
+        // 재생은 API 한도가 없으므로 요청 속도 제한을 사실상 해제
+        registry.add("jamendo.import.rate-per-second", () -> System.getProperty("jamendo.benchmark.rate-per-second", "100000"));
+        // 적재된 Worker 요청 수를 집계하도록 시작 직후 한 번만 전송 시도 (그때는 outbox가 비어 있음)
+        registry.add("worker.outbox.poll-millis", () -> Long.MAX_VALUE);
+    }
+
+    // 적재 완료 이벤트의 검색 인덱스 전체 재적재가 다음 회차 작업을 지연시키지 않도록 제외
+    @MockitoBean
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private JamendoImportJobService jamendoImportJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterAll
+    void tearDown() throws IOException {
+        replayServer.shutdown();
+    }
+
+    @Test
+    void 녹화된_응답으로_적재_처리량을_측정한다() {
+        JamendoRecording.Manifest manifest = recording.manifest();
+        System.out.printf("%n[Jamendo Benchmark] dataset=%s, source=%s, tracks=%d, pageSize=%d, rangeDays=%d%n",
+                recording.dir().getFileName(), manifest.source(), manifest.trackCount(), manifest.pageSize(), manifest.rangeDays());
+
+        BenchmarkResult first = runImport("insert");
+        BenchmarkResult second = runImport("reimport");
+
+        assertThat(first.job().getStatus()).isEqualTo(JamendoImportJobStatus.COMPLETED);
+        assertThat(second.job().getStatus()).isEqualTo(JamendoImportJobStatus.COMPLETED);
+        // 같은 데이터 재적재 -> 음원 행 수 변화 없음
+        assertThat(second.rowCountMap().get("songs")).isEqualTo(first.rowCountMap().get("songs"));
+    }
+
+    private BenchmarkResult runImport(String run) {
+        Timer fetchTimer = meterRegistry.get("jamendo.import.fetch.duration").timer();
+        Timer saveTimer = meterRegistry.get("jamendo.import.save.duration").timer();
+        double fetchStartMillis = fetchTimer.totalTime(TimeUnit.MILLISECONDS);
+        double saveStartMillis = saveTimer.totalTime(TimeUnit.MILLISECONDS);
+        long fetchStartCount = fetchTimer.count();
+
+        JamendoInitRequestDto request = new JamendoInitRequestDto();
+        ReflectionTestUtils.setField(request, "startDate", recording.manifest().startDate());
+        ReflectionTestUtils.setField(request, "endDate", recording.manifest().endDate());
+
+        long start = System.nanoTime();
+        Long jobId = jamendoImportJobService.startInitImport(request);
+        JamendoImportJobResponseDto job = awaitFinished(jobId);
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        double fetchMillis = fetchTimer.totalTime(TimeUnit.MILLISECONDS) - fetchStartMillis;
+        double saveMillis = saveTimer.totalTime(TimeUnit.MILLISECONDS) - saveStartMillis;
+        long fetchedPageCount = fetchTimer.count() - fetchStartCount;
+        Map<String, Long> rowCountMap = countRows();
+
+        BenchmarkResult result = new BenchmarkResult(run, job, wallMillis, fetchMillis, saveMillis, fetchedPageCount, rowCountMap);
+        print(result);
+        append(result);
+        return result;
+    }
+
+    private JamendoImportJobResponseDto awaitFinished(Long jobId) {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(TIMEOUT_MINUTES);
+        while (System.nanoTime() < deadline) {
+            JamendoImportJobResponseDto job = jamendoImportJobService.getImportJob(jobId);
+            if (job.getStatus() != JamendoImportJobStatus.RUNNING) {
+                return job;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalStateException("Jamendo 적재가 " + TIMEOUT_MINUTES + "분 안에 끝나지 않았습니다. jobId=" + jobId);
+    }
+
+    private Map<String, Long> countRows() {
+        Map<String, Long> rowCountMap = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            rowCountMap.put(table, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class));
+        }
+        return rowCountMap;
+    }
+
+    private void print(BenchmarkResult result) {
+        JamendoImportJobResponseDto job = result.job();
+        System.out.println("==============================");
+        System.out.printf("[%s] status=%s, pages=%d, songs=%d, %dms -> %.1f tracks/sec%n",
+                result.run(), job.getStatus(), job.getPageCount(), job.getSongCount(), result.wallMillis(), result.tracksPerSecond());
+        System.out.printf("[%s] fetch=%.0fms (%d pages, %.1fms/page, 수집 스레드 합계), save=%.0fms (%.1f%% of wall)%n",
+                result.run(), result.fetchMillis(), result.fetchedPageCount(),
+                result.fetchedPageCount() == 0 ? 0.0 : result.fetchMillis() / result.fetchedPageCount(),
+                result.saveMillis(), result.wallMillis() == 0 ? 0.0 : result.saveMillis() * 100 / result.wallMillis());
+        System.out.printf("[%s] inserted=%d, updated=%d, skipped=%d%n",
+                result.run(), job.getInsertedRowCount(), job.getUpdatedRowCount(), job.getSkippedRowCount());
+        System.out.printf("[%s] rows %s%n", result.run(), result.rowCountMap());
+        System.out.println("==============================");
+    }
+
+    private void append(BenchmarkResult result) {
+        try {
+            Files.createDirectories(RESULT_FILE.getParent());
+            if (!Files.exists(RESULT_FILE)) {
+                Files.writeString(RESULT_FILE, "executed_at,dataset,source,tracks,run,status,pages,songs,wall_ms,tracks_per_sec,fetch_ms,save_ms,inserted,updated,skipped,"
+                        + String.join(",", TABLES) + System.lineSeparator(), StandardCharsets.UTF_8);
+            }
+
+            JamendoImportJobResponseDto job = result.job();
+            String line = String.join(",",
+                    LocalDateTime.now().toString(),
+                    recording.dir().getFileName().toString(),
+                    recording.manifest().source(),
+                    String.valueOf(recording.manifest().trackCount()),
+                    result.run(),
+                    job.getStatus().name(),
+                    String.valueOf(job.getPageCount()),
+                    String.valueOf(job.getSongCount()),
+                    String.valueOf(result.wallMillis()),
+                    String.format("%.1f", result.tracksPerSecond()),
+                    String.format("%.0f", result.fetchMillis()),
+                    String.format("%.0f", result.saveMillis()),
+                    String.valueOf(job.getInsertedRowCount()),
+                    String.valueOf(job.getUpdatedRowCount()),
+                    String.valueOf(job.getSkippedRowCount()),
+                    result.rowCountMap().values().stream().map(String::valueOf).collect(Collectors.joining(",")));
+            Files.writeString(RESULT_FILE, line + System.lineSeparator(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * -Djamendo.replay.dir가 있으면 그 녹화를, 없으면 jamendo.benchmark.tracks곡 합성 녹화를 사용
+     */
+    private static JamendoRecording loadRecording() {
+        String replayDir = System.getProperty("jamendo.replay.dir");
+        if (replayDir != null && !replayDir.isBlank()) {
+            return JamendoRecording.open(Path.of(replayDir));
+        }
+
+        long trackCount = Long.getLong("jamendo.benchmark.tracks", DEFAULT_TRACK_COUNT);
+        Path dir = Path.of("build/jamendo-recordings/synthetic-" + trackCount);
+        return JamendoSyntheticRecording.createOrOpen(dir, trackCount, SYNTHETIC_SEED);
+    }
+
+    private record BenchmarkResult(String run, JamendoImportJobResponseDto job, long wallMillis,
+                                   double fetchMillis, double saveMillis, long fetchedPageCount, Map<String, Long> rowCountMap) {
+
+        private double tracksPerSecond() {
+            return wallMillis == 0 ? 0.0 : job.getSongCount() * 1000.0 / wallMillis;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.peachmusic.domain.openapi.jamendo.replay;
+
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoFetchPipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 녹화된 Jamendo /tracks 응답 (기간, 페이지별 gzip 파일)
+ * - dir/manifest.properties: 녹화 기간, 기간 분할 일수, 페이지 크기, 음원 수
+ * - dir/pages/{datebetween}/{page}.json.gz: 응답 본문 그대로
+ * - 재생할 때도 같은 기간 분할, 페이지 크기로 조회해야 같은 응답을 받음
+ */
+public class JamendoRecording {
+
+    private static final String MANIFEST_FILE = "manifest.properties";
+    private static final String PAGE_DIR = "pages";
+
+    private final Path dir;
+    private final Manifest manifest;
+
+    private JamendoRecording(Path dir, Manifest manifest) {
+        this.dir = dir;
+        this.manifest = manifest;
+    }
+
+    /**
+     * 새 녹화 (기존 파일이 있으면 페이지 단위로 덮어씀)
+     */
+    public static JamendoRecording create(Path dir, Manifest manifest) {
+        try {
+            Files.createDirectories(dir.resolve(PAGE_DIR));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        JamendoRecording recording = new JamendoRecording(dir, manifest);
+        recording.writeManifest(manifest);
+        return recording;
+    }
+
+    public static JamendoRecording open(Path dir) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(dir.resolve(MANIFEST_FILE), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("녹화 파일을 읽을 수 없습니다: " + dir, e);
+        }
+        return new JamendoRecording(dir, Manifest.from(properties));
+    }
+
+    public static boolean exists(Path dir) {
+        return Files.isRegularFile(dir.resolve(MANIFEST_FILE));
+    }
+
+    public Manifest manifest() {
+        return manifest;
+    }
+
+    public Path dir() {
+        return dir;
+    }
+
+    /**
+     * 재생 대상 기간 목록 (적재 작업이 요청하는 datebetween과 같음)
+     */
+    public List<String> dateBetweenList() {
+        return JamendoFetchPipeline.splitDateRange(manifest.startDate(), manifest.endDate(), manifest.rangeDays());
+    }
+
+    public void writePage(String dateBetween, int page, byte[] body) {
+        Path file = pageFile(dateBetween, page);
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return 녹화된 응답 본문, 없으면 null (녹화된 마지막 페이지 이후)
+     */
+    public byte[] readPage(String dateBetween, int page) {
+        Path file = pageFile(dateBetween, page);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 음원 수 갱신 (녹화가 끝난 뒤)
+     */
+    public JamendoRecording withTrackCount(long trackCount) {
+        Manifest updated = new Manifest(manifest.startDate(), manifest.endDate(), manifest.rangeDays(), manifest.pageSize(), trackCount, manifest.source());
+        writeManifest(updated);
+        return new JamendoRecording(dir, updated);
+    }
+
+    private void writeManifest(Manifest manifest) {
+        try (Writer writer = Files.newBufferedWriter(dir.resolve(MANIFEST_FILE), StandardCharsets.UTF_8)) {
+            manifest.toProperties().store(writer, "Jamendo /tracks recording");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pageFile(String dateBetween, int page) {
+        return dir.resolve(PAGE_DIR).resolve(dateBetween).resolve(page + ".json.gz");
+    }
+
+    /**
+     * @param source live(실제 API 녹화) 또는 synthetic-{seed}
+     */
+    public record Manifest(LocalDate startDate, LocalDate endDate, int rangeDays, int pageSize, long trackCount, String source) {
+
+        private static Manifest from(Properties properties) {
+            return new Manifest(
+                    LocalDate.parse(properties.getProperty("start-date")),
+                    LocalDate.parse(properties.getProperty("end-date")),
+                    Integer.parseInt(properties.getProperty("range-days")),
+                    Integer.parseInt(properties.getProperty("page-size")),
+                    Long.parseLong(properties.getProperty("track-count", "0")),
+                    properties.getProperty("source", "unknown"));
+        }
+
+        private Properties toProperties() {
+            Properties properties = new Properties();
+            properties.setProperty("start-date", startDate.toString());
+            properties.setProperty("end-date", endDate.toString());
+            properties.setProperty("range-days", String.valueOf(rangeDays));
+            properties.setProperty("page-size", String.valueOf(pageSize));
+            properties.setProperty("track-count", String.valueOf(trackCount));
+            properties.setProperty("source", source);
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.peachmusic.domain.openapi.jamendo.replay;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 녹화된 응답을 돌려주는 Jamendo API 대역 (MockWebServer)
+ * - /tracks 요청의 datebetween, offset으로 녹화 페이지를 찾아 그대로 응답
+ * - 녹화된 마지막 페이지 이후는 빈 결과 (실제 API와 같음)
+ */
+public class JamendoReplayDispatcher extends Dispatcher {
+
+    private static final byte[] EMPTY_BODY = "{\"headers\":{\"status\":\"success\",\"results_count\":0},\"results\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private final JamendoRecording recording;
+    private final AtomicLong servedBytes = new AtomicLong();
+
+    public JamendoReplayDispatcher(JamendoRecording recording) {
+        this.recording = recording;
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        if (url == null || !url.encodedPath().endsWith("/tracks")) {
+            return new MockResponse().setResponseCode(404);
+        }
+
+        int limit = Integer.parseInt(url.queryParameter("limit"));
+        int offset = Integer.parseInt(url.queryParameter("offset"));
+        // 페이지 크기가 다르면 녹화된 페이지 경계와 맞지 않음
+        if (limit != recording.manifest().pageSize()) {
+            return new MockResponse().setResponseCode(400)
+                    .setBody("recorded page size is " + recording.manifest().pageSize() + ", requested " + limit);
+        }
+
+        byte[] body = recording.readPage(url.queryParameter("datebetween"), offset / limit + 1);
+        if (body == null) {
+            body = EMPTY_BODY;
+        }
+        servedBytes.addAndGet(body.length);
+
+        return new MockResponse()
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody(new Buffer().write(body));
+    }
+
+    public long getServedBytes() {
+        return servedBytes.get();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.peachmusic.domain.openapi.jamendo.replay;
+
+import com.example.peachmusic.domain.openapi.jamendo.jdbc.row.JamendoPageBuffer;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.JamendoTrackParser;
+import com.example.peachmusic.domain.openapi.jamendo.pipeline.TokenBucketRateLimiter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 실제 Jamendo API의 /tracks 응답 녹화 (벤치마크, 재현 테스트용)
+ * - 실행: ./gradlew jamendoRecord -Pjamendo.record.start-date=2025-01-01 -Pjamendo.record.end-date=2025-03-31
+ * - JAMENDO_API_BASE_URL, JAMENDO_CLIENT_ID 환경 변수가 없으면 건너뜀
+ * - 적재 작업과 같은 쿼리(include=musicinfo, order=id_desc)로 기간별 마지막 페이지까지 조회
+ */
+@Tag("jamendo-record")
+class JamendoResponseRecorder {
+
+    private static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int DEFAULT_RANGE_DAYS = 7;
+    // Jamendo 무료 키 한도보다 낮게
+    private static final double DEFAULT_RATE_PER_SECOND = 4;
+
+    @Test
+    void record() throws Exception {
+        String baseUrl = System.getenv("JAMENDO_API_BASE_URL");
+        String clientId = System.getenv("JAMENDO_CLIENT_ID");
+        assumeTrue(baseUrl != null && clientId != null, "JAMENDO_API_BASE_URL, JAMENDO_CLIENT_ID 필요");
+
+        LocalDate startDate = LocalDate.parse(System.getProperty("jamendo.record.start-date"));
+        LocalDate endDate = LocalDate.parse(System.getProperty("jamendo.record.end-date"));
+        int pageSize = Integer.getInteger("jamendo.record.page-size", DEFAULT_PAGE_SIZE);
+        int rangeDays = Integer.getInteger("jamendo.record.range-days", DEFAULT_RANGE_DAYS);
+        Path dir = Path.of(System.getProperty("jamendo.record.dir", "build/jamendo-recordings/live-" + startDate + "_" + endDate));
+
+        JamendoRecording recording = JamendoRecording.create(dir,
+                new JamendoRecording.Manifest(startDate, endDate, rangeDays, pageSize, 0, "live"));
+        RestClient restClient = RestClient.builder().baseUrl(baseUrl).build();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(DEFAULT_RATE_PER_SECOND);
+        JamendoTrackParser parser = new JamendoTrackParser();
+        JamendoPageBuffer buffer = new JamendoPageBuffer(pageSize);
+
+        long trackCount = 0;
+        for (String dateBetween : recording.dateBetweenList()) {
+            for (int page = 1; ; page++) {
+                rateLimiter.acquire();
+                byte[] body = fetchPage(restClient, clientId, dateBetween, page, pageSize);
+
+                buffer.clear();
+                int pageTrackCount = parser.parse(new ByteArrayInputStream(body), buffer);
+                if (pageTrackCount == 0) {
+                    break;
+                }
+                recording.writePage(dateBetween, page, body);
+                trackCount += pageTrackCount;
+
+                if (pageTrackCount < pageSize) {
+                    break;
+                }
+            }
+            System.out.printf("[Jamendo Record] %s 완료 - 누적 음원 %d곡%n", dateBetween, trackCount);
+        }
+
+        recording.withTrackCount(trackCount);
+        System.out.printf("[Jamendo Record] %s -> %d곡 녹화%n", dir.toAbsolutePath(), trackCount);
+    }
+
+    private byte[] fetchPage(RestClient restClient, String clientId, String dateBetween, int page, int pageSize) {
+        return restClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/tracks")
+                        .queryParam("client_id", clientId)
+                        .queryParam("format", "json")
+                        .queryParam("include", "musicinfo")
+                        .queryParam("order", "id_desc")
+                        .queryParam("limit", pageSize)
+                        .queryParam("offset", (page - 1) * pageSize)
+                        .queryParam("datebetween", dateBetween)
+                        .build())
+                .retrieve()
+                .body(byte[].class);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.peachmusic.domain.openapi.jamendo.replay;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 실제 응답과 같은 형식의 합성 녹화 생성 (실제 API로 모으기 어려운 10만, 100만 곡 규모 벤치마크용)
+ * - 같은 seed면 항상 같은 파일 -> 적재 코드 변경 전후를 같은 입력으로 비교
+ * - 기간마다 TRACKS_PER_RANGE곡, 앨범마다 약 8곡, 아티스트마다 약 20곡
+ * - 실제 응답처럼 orphan(앨범 없음), 영어가 아닌 음원, 사용하지 않는 필드를 섞음
+ * - 기간 배치가 같으므로 작은 데이터셋은 큰 데이터셋의 앞부분과 같음
+ */
+public final class JamendoSyntheticRecording {
+
+    public static final int PAGE_SIZE = 200;
+    private static final int RANGE_DAYS = 7;
+    private static final int TRACKS_PER_RANGE = PAGE_SIZE * 25;
+    private static final int TRACKS_PER_ALBUM = 8;
+    private static final int TRACKS_PER_ARTIST = 20;
+    private static final LocalDate START_DATE = LocalDate.of(2000, 1, 1);
+
+    private static final List<String> LANGS = List.of("en", "en", "en", "en", "en", "en", "fr", "de", "es");
+    private static final List<String> SPEEDS = List.of("verylow", "low", "medium", "high", "veryhigh");
+    private static final List<String> GENRES = List.of(
+            "rock", "pop", "electronic", "jazz", "classical", "hiphop", "ambient", "folk", "metal", "blues",
+            "country", "reggae", "funk", "soul", "punk", "house", "techno", "trance", "dubstep", "lounge",
+            "soundtrack", "world", "latin", "indie", "alternative", "experimental", "chillout", "dance", "rnb", "newage",
+            "acoustic", "instrumental", "orchestral", "piano", "celtic", "gospel", "disco", "grunge", "ska", "triphop");
+    private static final List<String> INSTRUMENTS = List.of(
+            "piano", "guitar", "drums", "bass", "violin", "synthesizer", "strings", "saxophone", "trumpet", "flute", "cello", "voice");
+    private static final List<String> VARTAGS = List.of(
+            "calm", "energetic", "happy", "sad", "dark", "bright", "epic", "relaxing", "romantic", "groovy",
+            "dreamy", "peaceful", "uplifting", "melancholic", "powerful");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JamendoSyntheticRecording() {
+    }
+
+    /**
+     * trackCount곡 녹화 (dir에 같은 녹화가 있으면 재사용)
+     */
+    public static JamendoRecording createOrOpen(Path dir, long trackCount, long seed) {
+        if (JamendoRecording.exists(dir)) {
+            JamendoRecording recording = JamendoRecording.open(dir);
+            if (recording.manifest().trackCount() == trackCount && recording.manifest().source().equals(source(seed))) {
+                return recording;
+            }
+        }
+
+        long rangeCount = Math.max(1, (trackCount + TRACKS_PER_RANGE - 1) / TRACKS_PER_RANGE);
+        LocalDate endDate = START_DATE.plusDays(rangeCount * RANGE_DAYS - 1);
+        JamendoRecording recording = JamendoRecording.create(dir,
+                new JamendoRecording.Manifest(START_DATE, endDate, RANGE_DAYS, PAGE_SIZE, 0, source(seed)));
+
+        Random random = new Random(seed);
+        long trackIndex = 0;
+        for (String dateBetween : recording.dateBetweenList()) {
+            LocalDate releaseDate = LocalDate.parse(dateBetween.substring(0, 10));
+            long rangeEnd = Math.min(trackCount, trackIndex + TRACKS_PER_RANGE);
+
+            for (int page = 1; trackIndex < rangeEnd; page++) {
+                int pageTrackCount = (int) Math.min(PAGE_SIZE, rangeEnd - trackIndex);
+                recording.writePage(dateBetween, page, pageBody(random, trackIndex, pageTrackCount, releaseDate));
+                trackIndex += pageTrackCount;
+            }
+        }
+        return recording.withTrackCount(trackCount);
+    }
+
+    private static String source(long seed) {
+        return "synthetic-" + seed;
+    }
+
+    private static byte[] pageBody(Random random, long firstTrackIndex, int trackCount, LocalDate releaseDate) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(trackCount * 1024);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("headers");
+            generator.writeStringField("status", "success");
+            generator.writeNumberField("code", 0);
+            generator.writeNumberField("results_count", trackCount);
+            generator.writeEndObject();
+
+            generator.writeArrayFieldStart("results");
+            for (int i = 0; i < trackCount; i++) {
+                writeTrack(generator, random, firstTrackIndex + i, releaseDate);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeTrack(JsonGenerator generator, Random random, long trackIndex, LocalDate releaseDate) throws IOException {
+        long songId = trackIndex + 1;
+        long albumId = trackIndex / TRACKS_PER_ALBUM + 1;
+        long artistId = trackIndex / TRACKS_PER_ARTIST + 1;
+        // 약 1%는 앨범 없는 음원
+        boolean orphan = random.nextInt(100) == 0;
+
+        generator.writeStartObject();
+        generator.writeStringField("id", String.valueOf(songId));
+        generator.writeStringField("name", "Track " + songId);
+        generator.writeNumberField("duration", 60 + random.nextInt(300));
+        generator.writeStringField("artist_id", String.valueOf(artistId));
+        generator.writeStringField("artist_name", "Artist " + artistId);
+        generator.writeStringField("artist_idstr", "artist" + artistId);
+        generator.writeStringField("album_name", orphan ? "" : "Album " + albumId);
+        generator.writeStringField("album_id", orphan ? "" : String.valueOf(albumId));
+        generator.writeStringField("license_ccurl", "http://creativecommons.org/licenses/by-nc-sa/3.0/");
+        generator.writeNumberField("position", trackIndex % TRACKS_PER_ALBUM + 1);
+        generator.writeStringField("releasedate", releaseDate.toString());
+        generator.writeStringField("album_image", "https://usercontent.jamendo.com?type=album&id=" + albumId + "&width=300");
+        generator.writeStringField("audio", "https://prod-1.storage.jamendo.com/?trackid=" + songId + "&format=mp31");
+        generator.writeStringField("audiodownload", "https://prod-1.storage.jamendo.com/download/track/" + songId + "/mp32/");
+        generator.writeStringField("shorturl", "https://jamen.do/t/" + songId);
+        generator.writeStringField("shareurl", "https://www.jamendo.com/track/" + songId);
+        generator.writeStringField("image", "https://usercontent.jamendo.com?type=album&id=" + albumId + "&width=300&trackid=" + songId);
+        generator.writeBooleanField("audiodownload_allowed", true);
+
+        generator.writeObjectFieldStart("musicinfo");
+        generator.writeStringField("vocalinstrumental", random.nextBoolean() ? "vocal" : "instrumental");
+        generator.writeStringField("lang", pick(random, LANGS));
+        generator.writeStringField("gender", random.nextBoolean() ? "male" : "female");
+        generator.writeStringField("acousticelectric", random.nextBoolean() ? "acoustic" : "electric");
+        generator.writeStringField("speed", pick(random, SPEEDS));
+        generator.writeObjectFieldStart("tags");
+        writeTextArray(generator, "genres", random, GENRES, 1 + random.nextInt(2));
+        writeTextArray(generator, "instruments", random, INSTRUMENTS, 1 + random.nextInt(3));
+        writeTextArray(generator, "vartags", random, VARTAGS, 1 + random.nextInt(2));
+        generator.writeEndObject();
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+    private static void writeTextArray(JsonGenerator generator, String fieldName, Random random, List<String> values, int count) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        int offset = random.nextInt(values.size());
+        for (int i = 0; i < count; i++) {
+            generator.writeString(values.get((offset + i) % values.size()));
+        }
+        generator.writeEndArray();
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
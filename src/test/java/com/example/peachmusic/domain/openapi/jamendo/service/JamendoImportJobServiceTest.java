@@ -0,0 +1,344 @@
+package com.example.peachmusic.domain.openapi.jamendo.service;
+
+import com.example.peachmusic.common.enums.ErrorCode;
+import com.example.peachmusic.common.enums.JamendoImportJobStatus;
+import com.example.peachmusic.common.enums.JamendoImportJobType;
+import com.example.peachmusic.common.exception.CustomException;
+import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoImportJobResponseDto;
+import com.example.peachmusic.domain.openapi.jamendo.dto.JamendoInitRequestDto;
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJob;
+import com.example.peachmusic.domain.openapi.jamendo.entity.JamendoImportJobRange;
+import com.example.peachmusic.domain.openapi.jamendo.repository.JamendoImportJobRangeRepository;
+import com.example.peachmusic.domain.openapi.jamendo.repository.JamendoImportJobRepository;
+import com.example.peachmusic.domain.search.index.SearchIndex;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Jamendo 적재 작업 상태 전이 (Testcontainers MySQL + MockWebServer)
+ * - 취소 요청 후 페이지 저장 롤백, 서버 중단으로 남은 RUNNING 작업의 취소, 재개, 시작 잠금
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JamendoImportJobServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDate IMPORT_DATE = LocalDate.of(2026, 1, 1);
+    // range-days 7 -> 하루짜리 작업은 기간 하나
+    private static final String DATE_BETWEEN = IMPORT_DATE + "_" + IMPORT_DATE;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private static final MySQLContainer<?> mysql;
+    private static final GenericContainer<?> redis;
+    private static final MockWebServer jamendoServer;
+    private static final JamendoDispatcher dispatcher = new JamendoDispatcher();
+
+    static {
+        mysql = new MySQLContainer<>("mysql:8.0").withDatabaseName("peachmusic");
+        redis = new GenericContainer<>("redis:7.2").withExposedPorts(6379);
+        mysql.start();
+        redis.start();
+
+        jamendoServer = new MockWebServer();
+        jamendoServer.setDispatcher(dispatcher);
+        try {
+            jamendoServer.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void importProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.jpa.show-sql", () -> false);
+
+        registry.add("jamendo.api.url", () -> jamendoServer.url("/").toString());
+        registry.add("jamendo.api.key", () -> "test");
+        registry.add("jamendo.import.range-days", () -> 7);
+        registry.add("jamendo.import.page-size", () -> PAGE_SIZE);
+        registry.add("jamendo.import.rate-per-second", () -> 100000);
+        registry.add("worker.outbox.poll-millis", () -> Long.MAX_VALUE);
+    }
+
+    // 적재 완료 이벤트의 검색 인덱스 전체 재적재 제외
+    @MockitoBean
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private JamendoImportJobService jamendoImportJobService;
+
+    @Autowired
+    private JamendoImportJobRepository importJobRepository;
+
+    @Autowired
+    private JamendoImportJobRangeRepository importJobRangeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterAll
+    void tearDown() throws IOException {
+        jamendoServer.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.reset();
+    }
+
+    @Test
+    @DisplayName("성공 - 실행 중 취소하면 CANCEL_REQUESTED가 되고, 다음 페이지 저장은 롤백된 뒤 CANCELED로 종료")
+    void cancelImportJob_rollbackPageAndCancel() throws InterruptedException {
+        // given 첫 페이지 응답을 붙잡아 둔 채 작업 시작
+        dispatcher.fullPageCount = 1;
+        dispatcher.idBase = 1_000L;
+        dispatcher.hold();
+        Long jobId = jamendoImportJobService.startInitImport(initRequest());
+        assertThat(dispatcher.arrived.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        jamendoImportJobService.cancelImportJob(jobId);
+
+        // then 실행 스레드가 저장하기 전까지는 취소 요청 상태
+        assertThat(jamendoImportJobService.getImportJob(jobId).getStatus()).isEqualTo(JamendoImportJobStatus.CANCEL_REQUESTED);
+
+        // when 붙잡아 둔 첫 페이지 응답
+        dispatcher.release.countDown();
+        JamendoImportJobResponseDto job = awaitFinished(jobId);
+
+        // then 첫 페이지의 음원, 체크포인트 모두 롤백
+        assertThat(job.getStatus()).isEqualTo(JamendoImportJobStatus.CANCELED);
+        assertThat(job.getPageCount()).isZero();
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(findLastPage(jobId)).isZero();
+        assertThat(countSongs(1_001L, 1_002L)).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 - 진행 상황이 오래 갱신되지 않은 RUNNING 작업은 취소 요청 없이 바로 CANCELED")
+    void cancelImportJob_staleRunningJob() {
+        // given 서버가 중단되어 RUNNING으로 남은 작업
+        Long jobId = createStaleJob(3, 1);
+
+        // when
+        jamendoImportJobService.cancelImportJob(jobId);
+
+        // then 실행 스레드 없이 바로 종료, 외부 API 호출 없음
+        JamendoImportJobResponseDto job = jamendoImportJobService.getImportJob(jobId);
+        assertThat(job.getStatus()).isEqualTo(JamendoImportJobStatus.CANCELED);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(dispatcher.requestedPageList).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 - 오래 갱신되지 않은 RUNNING 작업을 재개하면 마지막 커밋 페이지 다음부터 남은 페이지 수만큼 수집")
+    void resumeImportJob_staleRunningJobFromNextPage() {
+        // given 최대 3페이지 중 1페이지까지 커밋된 뒤 중단된 작업, 외부 API는 계속 가득 찬 페이지 응답
+        Long jobId = createStaleJob(3, 1);
+        dispatcher.fullPageCount = Integer.MAX_VALUE;
+        dispatcher.idBase = 2_000L;
+
+        // when
+        jamendoImportJobService.resumeImportJob(jobId);
+        JamendoImportJobResponseDto job = awaitFinished(jobId);
+
+        // then 2, 3페이지만 조회하고 남은 페이지 수(2)에서 중단
+        assertThat(job.getStatus()).isEqualTo(JamendoImportJobStatus.COMPLETED);
+        assertThat(dispatcher.requestedPageList).containsExactly(2, 3);
+        assertThat(job.getPageCount()).isEqualTo(3);
+        assertThat(job.getSongCount()).isEqualTo(2L * PAGE_SIZE);
+        assertThat(findLastPage(jobId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패 - 동시에 작업을 시작하면 시작 잠금 이후 확인에서 하나만 시작")
+    void startInitImport_concurrentStartRejected() throws Exception {
+        // given 먼저 시작한 작업이 끝나지 않도록 첫 페이지 응답을 붙잡아 둠
+        dispatcher.fullPageCount = 0;
+        dispatcher.hold();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        // when
+        List<Future<Long>> futureList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            futureList.add(executor.submit(() -> {
+                startGate.await();
+                return jamendoImportJobService.startInitImport(initRequest());
+            }));
+        }
+        startGate.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        List<Long> startedJobIdList = new ArrayList<>();
+        List<Throwable> failureList = new ArrayList<>();
+        for (Future<Long> future : futureList) {
+            try {
+                startedJobIdList.add(future.get());
+            } catch (ExecutionException e) {
+                failureList.add(e.getCause());
+            }
+        }
+        assertThat(startedJobIdList).hasSize(1);
+        assertThat(failureList).singleElement()
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.JAMENDO_IMPORT_JOB_ALREADY_RUNNING));
+
+        // 진행 중인 작업이 끝나기 전까지는 이후 시작도 거부
+        assertThatThrownBy(() -> jamendoImportJobService.startInitImport(initRequest()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.JAMENDO_IMPORT_JOB_ALREADY_RUNNING));
+
+        dispatcher.release.countDown();
+        assertThat(awaitFinished(startedJobIdList.get(0)).getStatus()).isEqualTo(JamendoImportJobStatus.COMPLETED);
+    }
+
+    private JamendoInitRequestDto initRequest() {
+        JamendoInitRequestDto request = new JamendoInitRequestDto();
+        ReflectionTestUtils.setField(request, "startDate", IMPORT_DATE);
+        ReflectionTestUtils.setField(request, "endDate", IMPORT_DATE);
+        return request;
+    }
+
+    /**
+     * lastPage까지 커밋된 뒤 STALE_AFTER(10분) 넘게 진행 상황이 갱신되지 않은 RUNNING 작업
+     */
+    private Long createStaleJob(int maxPage, int lastPage) {
+        Long jobId = importJobRepository.save(new JamendoImportJob(JamendoImportJobType.INIT, IMPORT_DATE, IMPORT_DATE, maxPage)).getJobId();
+        importJobRangeRepository.save(new JamendoImportJobRange(jobId, DATE_BETWEEN));
+
+        jdbcTemplate.update("UPDATE jamendo_import_jobs SET page_count = ?, modified_at = ? WHERE jamendo_import_job_id = ?",
+                lastPage, LocalDateTime.now().minusMinutes(11), jobId);
+        jdbcTemplate.update("UPDATE jamendo_import_job_ranges SET last_page = ? WHERE jamendo_import_job_id = ?", lastPage, jobId);
+        return jobId;
+    }
+
+    private JamendoImportJobResponseDto awaitFinished(Long jobId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            JamendoImportJobResponseDto job = jamendoImportJobService.getImportJob(jobId);
+            if (job.getStatus() != JamendoImportJobStatus.RUNNING && job.getStatus() != JamendoImportJobStatus.CANCEL_REQUESTED) {
+                return job;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalStateException("Jamendo 적재가 " + TIMEOUT_SECONDS + "초 안에 끝나지 않았습니다. jobId=" + jobId);
+    }
+
+    private int findLastPage(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT last_page FROM jamendo_import_job_ranges WHERE jamendo_import_job_id = ?", Integer.class, jobId);
+    }
+
+    private long countSongs(Long... jamendoSongIds) {
+        String placeholders = String.join(",", Collections.nCopies(jamendoSongIds.length, "?"));
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM songs WHERE jamendo_song_id IN (" + placeholders + ")", Long.class, (Object[]) jamendoSongIds);
+    }
+
+    /**
+     * 페이지 번호(offset / limit + 1)가 fullPageCount 이하면 가득 찬 페이지, 이후는 빈 페이지
+     * - hold() 후에는 요청이 도착했음을 알리고 release될 때까지 응답을 보류
+     */
+    private static class JamendoDispatcher extends Dispatcher {
+
+        private final List<Integer> requestedPageList = new CopyOnWriteArrayList<>();
+        private volatile int fullPageCount;
+        private volatile long idBase;
+        private volatile CountDownLatch arrived;
+        private volatile CountDownLatch release;
+
+        private void reset() {
+            requestedPageList.clear();
+            fullPageCount = 0;
+            idBase = 0L;
+            arrived = new CountDownLatch(0);
+            release = new CountDownLatch(0);
+        }
+
+        private void hold() {
+            arrived = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+            int page = offset / PAGE_SIZE + 1;
+            requestedPageList.add(page);
+
+            arrived.countDown();
+            if (!release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return new MockResponse().setResponseCode(503);
+            }
+
+            int trackCount = page <= fullPageCount ? PAGE_SIZE : 0;
+            return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBody(pageBody(idBase + offset, trackCount));
+        }
+
+        private String pageBody(long firstSongId, int trackCount) {
+            List<String> trackList = new ArrayList<>();
+            for (int i = 1; i <= trackCount; i++) {
+                long songId = firstSongId + i;
+                trackList.add("""
+                        {"id": "%d", "name": "Track %d", "duration": 180, "position": "%d", "releasedate": "%s",
+                         "audio": "https://audio.test/%d", "artist_id": "%d", "artist_name": "Artist %d",
+                         "album_id": "%d", "album_name": "Album %d", "album_image": "https://image.test/%d",
+                         "musicinfo": {"vocalinstrumental": "vocal", "lang": "en", "speed": "medium",
+                                       "tags": {"genres": ["rock"], "instruments": ["guitar"], "vartags": ["calm"]}}}
+                        """.formatted(songId, songId, i, IMPORT_DATE, songId, songId, songId, songId, songId, songId));
+            }
+            return """
+                    {"headers": {"status": "success", "code": 0, "results_count": %d}, "results": [%s]}
+                    """.formatted(trackCount, String.join(",", trackList));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.peachmusic.domain.search.index;
+
+import com.example.peachmusic.common.enums.SearchSuggestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AutocompleteIndexTest {
+
+    @Test
+    @DisplayName("성공 - 같은 문자열 후보는 가중치를 합치고 prefix 후보를 가중치 순으로 조회")
+    void suggest_mergesAndOrdersByWeight() {
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteIndex.Candidate("Love Story", SearchSuggestionType.SONG, 1.0),
+                new AutocompleteIndex.Candidate("Lovely", SearchSuggestionType.SONG, 2.5),
+                new AutocompleteIndex.Candidate("love story", SearchSuggestionType.KEYWORD, 2.0),
+                new AutocompleteIndex.Candidate("Loud", SearchSuggestionType.ARTIST, 0.5),
+                new AutocompleteIndex.Candidate("Jazz", SearchSuggestionType.ALBUM, 9.0)
+        ));
+
+        List<AutocompleteIndex.Suggestion> result = index.suggest("  LO", 10);
+
+        assertEquals(List.of(
+                new AutocompleteIndex.Suggestion("love story", SearchSuggestionType.KEYWORD),
+                new AutocompleteIndex.Suggestion("Lovely", SearchSuggestionType.SONG),
+                new AutocompleteIndex.Suggestion("Loud", SearchSuggestionType.ARTIST)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("성공 - 구간 최댓값 트리 결과가 전체 정렬 결과와 동일")
+    void suggest_sameAsFullSort() {
+        Random random = new Random(7);
+        List<AutocompleteIndex.Candidate> candidateList = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String text = "" + (char) ('a' + random.nextInt(3)) + (char) ('a' + random.nextInt(26)) + i;
+            candidateList.add(new AutocompleteIndex.Candidate(text, SearchSuggestionType.SONG, random.nextDouble()));
+        }
+        AutocompleteIndex index = AutocompleteIndex.of(candidateList);
+
+        for (String prefix : List.of("a", "b", "ca", "bz1")) {
+            List<String> expected = candidateList.stream()
+                    .filter(candidate -> candidate.text().startsWith(prefix))
+                    .sorted(Comparator.comparingDouble(AutocompleteIndex.Candidate::weight).reversed())
+                    .limit(10)
+                    .map(AutocompleteIndex.Candidate::text)
+                    .toList();
+
+            List<String> actual = index.suggest(prefix, 10).stream().map(AutocompleteIndex.Suggestion::text).toList();
+            assertEquals(expected, actual, prefix);
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 나눠 만든 인덱스를 합친 결과가 한 번에 만든 인덱스와 동일")
+    void suggest_mergedIndexListSameAsSingleIndex() {
+        Random random = new Random(11);
+        List<List<AutocompleteIndex.Candidate>> candidateListList = new ArrayList<>();
+        List<AutocompleteIndex.Candidate> allCandidateList = new ArrayList<>();
+        for (SearchSuggestionType type : List.of(SearchSuggestionType.ARTIST, SearchSuggestionType.SONG, SearchSuggestionType.KEYWORD)) {
+            List<AutocompleteIndex.Candidate> candidateList = new ArrayList<>();
+            Set<String> textSet = new HashSet<>();
+            for (int i = 0; i < 2000; i++) {
+                // 카테고리 사이에 같은 문자열이 자주 겹치도록 짧은 문자열 사용 (카테고리 안에서는 중복 없음)
+                String text = "" + (char) ('a' + random.nextInt(3)) + (char) ('a' + random.nextInt(5)) + random.nextInt(50);
+                if (textSet.add(text)) {
+                    candidateList.add(new AutocompleteIndex.Candidate(text, type, random.nextDouble()));
+                }
+            }
+            candidateListList.add(candidateList);
+            allCandidateList.addAll(candidateList);
+        }
+
+        AutocompleteIndex single = AutocompleteIndex.of(allCandidateList);
+        List<AutocompleteIndex> indexList = candidateListList.stream().map(AutocompleteIndex::of).toList();
+
+        for (String prefix : List.of("a", "b", "ca", "bd1")) {
+            assertEquals(single.suggest(prefix, 5), AutocompleteIndex.suggest(indexList, prefix, 5), prefix);
+        }
+    }
+}
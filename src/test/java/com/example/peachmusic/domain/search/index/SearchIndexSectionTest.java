@@ -0,0 +1,50 @@
+package com.example.peachmusic.domain.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchIndexSectionTest {
+
+    private final SearchIndexSection<String> section = SearchIndexSection.of(List.of(
+            new SearchEntry<>(1L, 10L, "Love Story Taylor", "love-story"),
+            new SearchEntry<>(2L, 50L, "Lovely Day Bill", "lovely-day"),
+            new SearchEntry<>(3L, 30L, "Glove Box Taylor", "glove-box"),
+            new SearchEntry<>(4L, 50L, "Love, Again! Dua", "love-again"),
+            new SearchEntry<>(5L, 0L, "Day One", "day-one")
+    ));
+
+    @Test
+    @DisplayName("성공 - 검색 단어로 시작하는 토큰을 가진 문서만 좋아요 많은 순(같으면 id 역순)으로 조회")
+    void search_prefixOrderedByLikeCount() {
+        List<String> result = section.search(SearchTokenizer.tokenize("lo"), 10);
+
+        assertEquals(List.of("love-again", "lovely-day", "love-story"), result);
+    }
+
+    @Test
+    @DisplayName("성공 - 여러 단어는 모두 포함하는 문서만 조회, limit 적용")
+    void search_allWordsAndLimit() {
+        assertEquals(List.of("love-story"), section.search(SearchTokenizer.tokenize("TAYLOR lov"), 10));
+        assertEquals(List.of("lovely-day"), section.search(SearchTokenizer.tokenize("day"), 1));
+        assertEquals(List.of(), section.search(SearchTokenizer.tokenize("rock"), 10));
+    }
+
+    @Test
+    @DisplayName("성공 - 시작하는 토큰이 많은 짧은 단어도 전체 병합과 같은 결과 (미리 병합한 상위 문서로 모자라면 전체 병합)")
+    void search_shortPrefixWithManyTokens() {
+        // 좋아요 순 = id 역순, 모든 문서에 k<id>, 짝수 id에 m<id>, 100 이하 id에 z<id>
+        SearchIndexSection<Long> manyTokenSection = SearchIndexSection.of(LongStream.rangeClosed(1, 300)
+                .mapToObj(id -> new SearchEntry<>(id, id, "k" + id + (id % 2 == 0 ? " m" + id : "") + (id <= 100 ? " z" + id : ""), id))
+                .toList());
+
+        assertEquals(List.of(300L, 299L, 298L), manyTokenSection.search(SearchTokenizer.tokenize("k"), 3));
+        assertEquals(List.of(298L, 296L), manyTokenSection.search(SearchTokenizer.tokenize("k2 m"), 2));
+        // z로 시작하는 상위 문서 중 k1로 시작하는 토큰이 있는 문서는 100뿐 -> 나머지는 전체 병합으로 조회
+        assertEquals(List.of(100L, 19L, 18L), manyTokenSection.search(SearchTokenizer.tokenize("z k1"), 3));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.peachmusic.domain.search.rank;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeavyHitterFilterTest {
+
+    private static final int POPULAR_TERM_COUNT = 200;
+    private static final int POPULAR_QUERY_COUNT = 200_000;
+    private static final int ONE_OFF_QUERY_COUNT = 100_000;
+    private static final int FLUSH_SIZE = 1_000;
+    private static final int CAPACITY = 1_000;
+    private static final int TOP_SIZE = 10;
+
+    @Test
+    @DisplayName("성공 - 검색 로그 재생 시 TOP 10은 정확한 집계와 같고 횟수 오차는 1% 이내, 한 번뿐인 검색어는 거의 기록되지 않음")
+    void offer_matchesExactCounterOnReplayedLog() {
+        List<String> queryLog = createQueryLog(new Random(42));
+        HeavyHitterFilter filter = new HeavyHitterFilter(CAPACITY);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 30);
+
+        Map<String, Long> exactMap = new HashMap<>();
+        Map<String, Long> writtenMap = new HashMap<>();
+
+        // 1초마다 버퍼를 비우는 것처럼 FLUSH_SIZE개씩 묶어서 반영
+        for (int from = 0; from < queryLog.size(); from += FLUSH_SIZE) {
+            Map<String, Long> termCountMap = new HashMap<>();
+            queryLog.subList(from, Math.min(from + FLUSH_SIZE, queryLog.size()))
+                    .forEach(term -> termCountMap.merge(term, 1L, Long::sum));
+
+            termCountMap.forEach((term, count) -> exactMap.merge(term, count, Long::sum));
+            filter.offer(termCountMap, now).forEach((term, delta) -> writtenMap.merge(term, delta, Long::sum));
+        }
+
+        List<String> exactTop = top(exactMap);
+        assertEquals(Set.copyOf(exactTop), Set.copyOf(top(writtenMap)));
+
+        for (String term : exactTop) {
+            long exact = exactMap.get(term);
+            long written = writtenMap.get(term);
+            assertTrue(written >= exact, term + " 과소 집계: " + written + " < " + exact);
+            assertTrue(written - exact <= exact / 100, term + " 오차 초과: " + written + " vs " + exact);
+        }
+
+        // 기록된 검색어 수는 전체 검색어 종류(약 10만)가 아니라 후보 수준
+        assertTrue(writtenMap.size() < CAPACITY * 2, "기록된 검색어 수: " + writtenMap.size());
+    }
+
+    /**
+     * Zipf 분포 인기 검색어 + 한 번뿐인 검색어(오타 등)를 섞은 검색 로그
+     */
+    private List<String> createQueryLog(Random random) {
+        double[] cumulative = new double[POPULAR_TERM_COUNT];
+        double sum = 0;
+        for (int rank = 1; rank <= POPULAR_TERM_COUNT; rank++) {
+            sum += 1.0 / rank;
+            cumulative[rank - 1] = sum;
+        }
+
+        List<String> queryLog = new ArrayList<>(POPULAR_QUERY_COUNT + ONE_OFF_QUERY_COUNT);
+        for (int i = 0; i < POPULAR_QUERY_COUNT; i++) {
+            double target = random.nextDouble() * sum;
+            int index = 0;
+            while (cumulative[index] < target) {
+                index++;
+            }
+            queryLog.add("popular-" + index);
+        }
+        for (int i = 0; i < ONE_OFF_QUERY_COUNT; i++) {
+            queryLog.add("typo-" + i + "-" + random.nextInt(1_000_000));
+        }
+
+        Collections.shuffle(queryLog, random);
+        return queryLog;
+    }
+
+    private List<String> top(Map<String, Long> countMap) {
+        return countMap.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(TOP_SIZE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
@@ -4,14 +4,13 @@ import com.example.peachmusic.domain.search.dto.SearchPopularResponseDto;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.connection.RedisServer;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import static org.assertj.core.api.AssertionsForClassTypes.tuple;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -38,11 +37,6 @@ class SearchHistoryServiceTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
-    private RedisServer redisServer;
-
-    private static final String SEARCH_KEY = "searchWord:";
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH");
-
     @BeforeEach
     void clearRedis() {
         redisTemplate.getConnectionFactory().getConnection().flushAll();
@@ -56,18 +50,14 @@ class SearchHistoryServiceTest {
 
         // given
         LocalDateTime now = LocalDateTime.now();
+        searchHistoryService.refreshLast24HourSearchRank(now.minusHours(25)); // 25시간 전부터 집계 시작
 
-        String keyNow = SEARCH_KEY + now.format(FORMATTER); // 현재 시간
-        redisTemplate.opsForZSet().add(keyNow, "아이유", 1);
-        redisTemplate.opsForZSet().add(keyNow, "로이킴", 1);
-
-        String key11HourAgo = SEARCH_KEY + now.minusHours(23).format(FORMATTER); // 23시간 전
-        redisTemplate.opsForZSet().add(key11HourAgo, "아이유", 1);
-
-        String key12HourAgo = SEARCH_KEY + now.minusHours(24).format(FORMATTER); // 24시간 전
-        redisTemplate.opsForZSet().add(key12HourAgo, "로이킴", 1);
+        searchHistoryService.addSearchCountMap(Map.of("아이유", 1L, "로이킴", 1L), now); // 현재 시간
+        searchHistoryService.addSearchCountMap(Map.of("아이유", 1L), now.minusHours(23)); // 23시간 전
+        searchHistoryService.addSearchCountMap(Map.of("로이킴", 1L), now.minusHours(24)); // 24시간 전
 
         // when
+        searchHistoryService.refreshLast24HourSearchRank(now);
         List<SearchPopularResponseDto> result = searchHistoryService.searchPopular();
 
         // then
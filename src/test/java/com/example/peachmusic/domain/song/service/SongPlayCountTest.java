@@ -3,23 +3,33 @@ package com.example.peachmusic.domain.song.service;
 import com.example.peachmusic.domain.album.entity.Album;
 import com.example.peachmusic.domain.album.repository.AlbumRepository;
 import com.example.peachmusic.domain.song.entity.Song;
+import com.example.peachmusic.domain.song.playcount.PlayCountFlusher;
 import com.example.peachmusic.domain.song.repository.SongRepository;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+/**
+ * 동시 재생 -> PlayCountBuffer 누적 -> PlayCountFlusher 일괄 반영
+ */
 @ActiveProfiles("test")
 @SpringBootTest()
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-public class DistributeLockTest {
+public class SongPlayCountTest {
 
     @Autowired
     private SongRepository songRepository;
@@ -27,11 +37,15 @@ public class DistributeLockTest {
     private SongService songService;
     @Autowired
     private AlbumRepository albumRepository;
+    @Autowired
+    private PlayCountFlusher playCountFlusher;
 
     @Test
-    void redis_분산락_테스트() throws InterruptedException {
+    @DisplayName("성공 - 동시 재생 수가 버퍼에 누적된 뒤 한 번에 반영")
+    void playSong_concurrentPlayCountFlushed() throws Exception {
 
-        Album album = albumRepository.save(new Album( "테스트 앨범", LocalDate.of(2024, 1, 1)));
+        // given
+        Album album = albumRepository.save(new Album("테스트 앨범", LocalDate.of(2024, 1, 1)));
         Song song = songRepository.save(new Song(album, "Test Song Title", 210L, "https://license.test", 1L, "https://audio.test/" + UUID.randomUUID() + ".mp3", "VOCAL", "en", "120", "guitar, drums", "pop, test"));
 
         int num = 5;
@@ -39,23 +53,24 @@ public class DistributeLockTest {
         // 여러명이 동시에 접근할 수 있도록 설정
         ExecutorService executor = Executors.newFixedThreadPool(num);
 
-        Runnable task = () -> {
-            try {
-                songService.playSong(song.getSongId());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        };
-
+        // when
+        List<Future<?>> futureList = new ArrayList<>();
         for (int i = 0; i < num; i++) {
-            executor.submit(task);
+            futureList.add(executor.submit(() -> songService.playSong(song.getSongId())));
         }
 
         executor.shutdown();
-        Thread.sleep(5000);
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        // 재생 중 예외가 있으면 여기서 실패
+        for (Future<?> future : futureList) {
+            future.get();
+        }
+
+        // 버퍼에 누적된 재생 수를 즉시 반영
+        playCountFlusher.flush();
+
+        // then
         Song result = songRepository.findById(song.getSongId()).orElseThrow();
         assertThat(result.getPlayCount()).isEqualTo(num);
-
-        System.out.println("최종 결과 : " + result.getPlayCount());
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FeatureVectorizerTest {
@@ -121,4 +122,24 @@ class FeatureVectorizerTest {
         // then
         assertTrue(userVector.containsKey("g:pop"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("성공 - 지수 감쇠 사용자 벡터는 최근 Seed일수록 growth배 큰 가중치")
+    void vectorizeDecayedUserMap_success() {
+        // given
+        double growth = 2.0;
+        List<Map<String, Double>> seedVectorMapList = List.of(
+                Map.of("g:rock", 1.0),
+                Map.of("g:pop", 1.0),
+                Map.of("g:pop", 1.0, "s:high", 1.0)
+        );
+
+        // when
+        Map<String, Double> userVector = featureVectorizer.vectorizeDecayedUserMap(seedVectorMapList, growth);
+
+        // then 정규화 전 rock 0.25, pop 0.5 + 1.0, high 1.0
+        assertEquals(0.25 / 1.5, userVector.get("g:rock") / userVector.get("g:pop"), 1e-12);
+        assertEquals(1.0 / 1.5, userVector.get("s:high") / userVector.get("g:pop"), 1e-12);
+        assertEquals(1.0, userVector.values().stream().mapToDouble(value -> value * value).sum(), 1e-12);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.peachmusic.domain.song.service.recommend;
+
+import com.example.peachmusic.domain.song.dto.SongFeatureDto;
+import com.example.peachmusic.domain.song.recommend.CosineSimilarity;
+import com.example.peachmusic.domain.song.recommend.FeatureDictionary;
+import com.example.peachmusic.domain.song.recommend.FeatureIndexSnapshot;
+import com.example.peachmusic.domain.song.recommend.FeatureVectorizer;
+import com.example.peachmusic.domain.song.recommend.InvertedIndexScorer;
+import com.example.peachmusic.domain.song.recommend.SparseFeatureVector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InvertedIndexScorerTest {
+
+    private static final String[] GENRES = {"pop", "rock", "jazz", "electronic", "hiphop"};
+    private static final String[] SPEEDS = {"verylow", "low", "normal", "high", "veryhigh"};
+    private static final String[] TAGS = {"happy", "sad", "summer", "night", "chill", "party"};
+
+    private final FeatureVectorizer featureVectorizer = new FeatureVectorizer();
+    private final InvertedIndexScorer invertedIndexScorer = new InvertedIndexScorer();
+
+    @Test
+    @DisplayName("성공 - 역색인 top-K 결과가 전체 코사인 유사도 계산 결과와 동일")
+    void findTopSongIdList_sameAsFullScan() {
+        // given 무작위 카탈로그 2,000곡
+        Random random = new Random(42);
+        List<SongFeatureDto> catalog = new ArrayList<>();
+        for (long songId = 1; songId <= 2000; songId++) {
+            catalog.add(new SongFeatureDto(songId,
+                    List.of(GENRES[random.nextInt(GENRES.length)]),
+                    SPEEDS[random.nextInt(SPEEDS.length)],
+                    TAGS[random.nextInt(TAGS.length)] + "," + TAGS[random.nextInt(TAGS.length)],
+                    null));
+        }
+
+        FeatureDictionary featureDictionary = new FeatureDictionary();
+        Map<Long, SparseFeatureVector> vectorMap = new LinkedHashMap<>();
+        for (SongFeatureDto songFeatureDto : catalog) {
+            vectorMap.put(songFeatureDto.getSongId(), featureVectorizer.vectorizeSong(songFeatureDto, featureDictionary));
+        }
+        FeatureIndexSnapshot snapshot = FeatureIndexSnapshot.of(vectorMap, featureDictionary);
+
+        List<Long> seedSongIdList = List.of(10L, 20L, 30L);
+        List<SongFeatureDto> seedFeatureList = catalog.stream().filter(dto -> seedSongIdList.contains(dto.getSongId())).toList();
+        Map<String, Double> userVectorMap = featureVectorizer.vectorizeUserMap(seedFeatureList);
+        double[] userVector = featureVectorizer.vectorizeProfile(userVectorMap, featureDictionary, snapshot.getFeatureCount());
+
+        // 기존 방식 - 문자열 Map 벡터로 전체 카탈로그 코사인 유사도 계산 (장르 조건 없는 점수만 비교)
+        Map<Long, Double> expectedScoreMap = new LinkedHashMap<>();
+        for (SongFeatureDto songFeatureDto : catalog) {
+            if (!seedSongIdList.contains(songFeatureDto.getSongId())) {
+                expectedScoreMap.put(songFeatureDto.getSongId(), CosineSimilarity.compute(userVectorMap, featureVectorizer.vectorizeSongMap(songFeatureDto)));
+            }
+        }
+
+        // when
+        List<Long> result = invertedIndexScorer.findTopSongIdList(snapshot, userVector, seedSongIdList, 50);
+
+        // then 점수 내림차순 50곡, 각 순위의 점수가 전체 계산 결과와 일치 (float 저장 오차 허용)
+        List<Double> expectedTopScoreList = expectedScoreMap.values().stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(50)
+                .toList();
+
+        assertEquals(50, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(expectedTopScoreList.get(i), expectedScoreMap.get(result.get(i)), 1e-5);
+        }
+    }
+
+    @Test
+    @DisplayName("성공 - 장르가 겹치는 후보가 없으면 장르 조건 없이 선택")
+    void findTopSongIdList_genreFallback() {
+        // given
+        FeatureDictionary featureDictionary = new FeatureDictionary();
+        Map<Long, SparseFeatureVector> vectorMap = new LinkedHashMap<>();
+        vectorMap.put(1L, featureVectorizer.vectorizeSong(new SongFeatureDto(1L, List.of("pop"), "high", null, null), featureDictionary));
+        vectorMap.put(2L, featureVectorizer.vectorizeSong(new SongFeatureDto(2L, List.of("rock"), "high", null, null), featureDictionary));
+        vectorMap.put(3L, featureVectorizer.vectorizeSong(new SongFeatureDto(3L, List.of("jazz"), "low", null, null), featureDictionary));
+        FeatureIndexSnapshot snapshot = FeatureIndexSnapshot.of(vectorMap, featureDictionary);
+
+        Map<String, Double> userVectorMap = featureVectorizer.vectorizeUserMap(List.of(new SongFeatureDto(1L, List.of("pop"), "high", null, null)));
+        double[] userVector = featureVectorizer.vectorizeProfile(userVectorMap, featureDictionary, snapshot.getFeatureCount());
+
+        // when
+        List<Long> result = invertedIndexScorer.findTopSongIdList(snapshot, userVector, List.of(1L), 50);
+
+        // then speed만 겹치는 2번 곡, feature를 공유하지 않는 3번 곡은 제외
+        assertEquals(List.of(2L), result);
+    }
+}
@@ -3,6 +3,9 @@ package com.example.peachmusic.domain.song.service.recommend;
 import com.example.peachmusic.common.enums.UserRole;
 import com.example.peachmusic.common.model.AuthUser;
 import com.example.peachmusic.domain.song.dto.response.SongRecommendationResponseDto;
+import com.example.peachmusic.domain.song.recommend.RecommendationCache;
+import com.example.peachmusic.domain.song.recommend.SongFeatureIndex;
+import com.example.peachmusic.domain.song.recommend.UserProfileService;
 import com.example.peachmusic.domain.song.service.RecommendationService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +33,12 @@ class RecommendationScaleTest {
     RecommendationService recommendationService;
     @Autowired
     JdbcTemplate jdbcTemplate;
+    @Autowired
+    SongFeatureIndex songFeatureIndex;
+    @Autowired
+    RecommendationCache recommendationCache;
+    @Autowired
+    UserProfileService userProfileService;
 
     @Test
     @Order(1)
@@ -105,6 +114,12 @@ class RecommendationScaleTest {
                         """, uid, gid, 300 / gids.size());
             }
         }
+
+        // JDBC로 직접 넣은 데이터를 추천 인덱스에 적재
+        songFeatureIndex.rebuild();
+        // 이벤트 없이 넣은 좋아요이므로 프로필 재계산, 이전 케이스의 추천 결과가 캐시에 남지 않도록 무효화
+        preferenceMap.keySet().forEach(userProfileService::rebuild);
+        preferenceMap.keySet().forEach(recommendationCache::evict);
     }
 
     private void insertUsers() {
@@ -150,8 +165,8 @@ class RecommendationScaleTest {
         String[] inst = {"piano", "guitar", "drum", "violin"};
 
         String sql = """
-                    INSERT INTO songs (song_id, album_id, name, duration, position, audio, speed, vartags, instruments, like_count, is_deleted, play_count, streaming_status)
-                    VALUES (?, 1, ?, 200, 1, ?, ?, ?, ?, ?, 0, 0, 1)
+                    INSERT INTO songs (song_id, album_id, name, duration, position, audio, speed, vartags, instruments, like_count, is_deleted, play_count, streaming_status, content_modified_at)
+                    VALUES (?, 1, ?, 200, 1, ?, ?, ?, ?, ?, 0, 0, 1, NOW())
                 """;
 
         for (int i = 1; i <= DATA_SIZE; i += 1000) {
@@ -2,26 +2,41 @@ package com.example.peachmusic.domain.song.service.recommend;
 
 import com.example.peachmusic.common.enums.UserRole;
 import com.example.peachmusic.common.model.AuthUser;
-import com.example.peachmusic.domain.playlistsong.repository.PlaylistSongRepository;
 import com.example.peachmusic.domain.song.dto.SongFeatureDto;
 import com.example.peachmusic.domain.song.dto.response.SongRecommendationResponseDto;
+import com.example.peachmusic.domain.song.recommend.FeatureDictionary;
+import com.example.peachmusic.domain.song.recommend.FeatureIndexSnapshot;
 import com.example.peachmusic.domain.song.recommend.FeatureVectorizer;
+import com.example.peachmusic.domain.song.recommend.InvertedIndexScorer;
+import com.example.peachmusic.domain.song.recommend.RecommendationCache;
+import com.example.peachmusic.domain.song.recommend.SongFeatureIndex;
+import com.example.peachmusic.domain.song.recommend.SparseFeatureVector;
+import com.example.peachmusic.domain.song.recommend.UserProfile;
+import com.example.peachmusic.domain.song.recommend.UserProfileService;
 import com.example.peachmusic.domain.song.repository.SongRepository;
+import com.example.peachmusic.domain.song.service.RecommendColdStartService;
 import com.example.peachmusic.domain.song.service.RecommendationService;
-import com.example.peachmusic.domain.songlike.repository.SongLikeRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,13 +46,22 @@ class RecommendationServiceTest {
     private SongRepository songRepository;
 
     @Mock
-    private SongLikeRepository songLikeRepository;
+    private UserProfileService userProfileService;
+
+    @Spy
+    private FeatureVectorizer featureVectorizer = new FeatureVectorizer();
+
+    @Mock
+    private SongFeatureIndex songFeatureIndex;
+
+    @Spy
+    private InvertedIndexScorer invertedIndexScorer = new InvertedIndexScorer();
 
     @Mock
-    private PlaylistSongRepository playlistSongRepository;
+    private RecommendColdStartService recommendColdStartService;
 
     @Mock
-    private FeatureVectorizer featureVectorizer;
+    private RecommendationCache recommendationCache;
 
     @InjectMocks
     private RecommendationService recommendationService;
@@ -46,6 +70,18 @@ class RecommendationServiceTest {
         return new SongRecommendationResponseDto(songId, "song-" + songId, 100L, "artist", 200L, "album", "album.jpg", 50L);
     }
 
+    private final FeatureDictionary featureDictionary = new FeatureDictionary();
+
+    // 테스트용 추천 인덱스 스냅샷 생성
+    private FeatureIndexSnapshot createSnapshot(SongFeatureDto... songFeatureDtos) {
+        Map<Long, SparseFeatureVector> vectorMap = new LinkedHashMap<>();
+
+        for (SongFeatureDto songFeatureDto : songFeatureDtos) {
+            vectorMap.put(songFeatureDto.getSongId(), featureVectorizer.vectorizeSong(songFeatureDto, featureDictionary));
+        }
+        return FeatureIndexSnapshot.of(vectorMap, featureDictionary);
+    }
+
     @Test
     @DisplayName("추천 조회 성공 - Seed가 없으면 Cold Start 추천을 반환")
     void success_getRecommendedSongList_coldStart() {
@@ -53,13 +89,13 @@ class RecommendationServiceTest {
         AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER, 1L);
 
         // 사용자가 좋아요/플레이리스트에 아무 음원도 없을 때
-        given(songLikeRepository.findSongsLikedByUser(authUser.getUserId())).willReturn(Collections.emptyList());
-        given(playlistSongRepository.findSongsPlaylistByUser(authUser.getUserId())).willReturn(Collections.emptyList());
+        given(songFeatureIndex.getSnapshot()).willReturn(createSnapshot());
+        given(userProfileService.getOrBuild(authUser.getUserId())).willReturn(new UserProfile(Collections.emptyMap(), Collections.emptySet()));
 
         // cold-start 추천 결과
         SongRecommendationResponseDto dto = createDummyDto(1L);
         List<SongRecommendationResponseDto> list = List.of(dto);
-        given(songRepository.findRecommendedSongListForColdStart()).willReturn(list);
+        given(recommendColdStartService.getTop50()).willReturn(list);
 
         // when
         List<SongRecommendationResponseDto> result = recommendationService.getRecommendedSongList(authUser);
@@ -68,7 +104,7 @@ class RecommendationServiceTest {
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getSongId());
 
-        verify(songRepository).findRecommendedSongListForColdStart();
+        verify(recommendColdStartService).getTop50();
     }
 
 
@@ -78,25 +114,16 @@ class RecommendationServiceTest {
         // given
         AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER, 1L);
 
-        // 좋아요한 곡이 1번 곡 하나 있다고 가정
-        given(songLikeRepository.findSongsLikedByUser(authUser.getUserId())).willReturn(List.of(1L));
-        given(playlistSongRepository.findSongsPlaylistByUser(authUser.getUserId())).willReturn(Collections.emptyList());
-
-        // 장르 ID
-        List<Long> genreIdList = List.of(10L);
-
-        // Seed Genre 조회 mock
-        given(songRepository.findSeedGenreList(List.of(1L))).willReturn(genreIdList);
-
-        // Seed 곡 feature 정보
+        // Seed 곡과 추천 후보 곡이 적재된 인덱스
         SongFeatureDto seedFeature = new SongFeatureDto(1L, List.of("Pop"), "high", null, null);
-        given(songRepository.findFeatureBySongIdMap(List.of(1L))).willReturn(Map.of(1L, seedFeature));
-        given(featureVectorizer.vectorizeUserMap(List.of(seedFeature))).willReturn(Map.of("g:pop", 1.0));
-
-        // 추천 후보 곡 feature
         SongFeatureDto recommendFeature = new SongFeatureDto(2L, List.of("Pop"), "high", null, null);
-        given(songRepository.findRecommendFeatureMap(List.of(1L), genreIdList)).willReturn(Map.of(2L, recommendFeature));
-        given(featureVectorizer.vectorizeSongMap(recommendFeature)).willReturn(Map.of("g:pop", 1.0));
+        SongFeatureDto otherGenreFeature = new SongFeatureDto(3L, List.of("Rock"), "low", null, null);
+        given(songFeatureIndex.getSnapshot()).willReturn(createSnapshot(seedFeature, recommendFeature, otherGenreFeature));
+        given(songFeatureIndex.getFeatureDictionary()).willReturn(featureDictionary);
+
+        // 좋아요한 곡이 1번 곡 하나인 사용자 프로필
+        UserProfile profile = new UserProfile(featureVectorizer.vectorizeSongMap(seedFeature), Set.of(1L));
+        given(userProfileService.getOrBuild(authUser.getUserId())).willReturn(profile);
 
         // 최종 추천 결과
         SongRecommendationResponseDto dto = createDummyDto(2L);
@@ -110,10 +137,34 @@ class RecommendationServiceTest {
         assertEquals(1, result.size());
         assertEquals(2L, result.get(0).getSongId());
 
-        verify(songRepository).findSeedGenreList(List.of(1L));
         verify(songRepository).findRecommendedSongList(List.of(2L));
     }
 
+    @Test
+    @DisplayName("추천 조회 성공 - 계산 도중 Seed가 바뀌어 순위 저장이 거부되면 결과를 캐시하지 않음")
+    void success_getRecommendedSongList_seedChangedDuringCalculation() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER, 1L);
+
+        SongFeatureDto seedFeature = new SongFeatureDto(1L, List.of("Pop"), "high", null, null);
+        SongFeatureDto recommendFeature = new SongFeatureDto(2L, List.of("Pop"), "high", null, null);
+        given(songFeatureIndex.getSnapshot()).willReturn(createSnapshot(seedFeature, recommendFeature));
+        given(songFeatureIndex.getFeatureDictionary()).willReturn(featureDictionary);
+        UserProfile profile = new UserProfile(featureVectorizer.vectorizeSongMap(seedFeature), Set.of(1L));
+        given(userProfileService.getOrBuild(authUser.getUserId())).willReturn(profile);
+        given(recommendationCache.putRankedSongIdListIfUnchanged(eq(authUser.getUserId()), eq(List.of(2L)), anyLong())).willReturn(false);
+
+        List<SongRecommendationResponseDto> list = List.of(createDummyDto(2L));
+        given(songRepository.findRecommendedSongList(List.of(2L))).willReturn(list);
+
+        // when
+        List<SongRecommendationResponseDto> result = recommendationService.getRecommendedSongList(authUser);
+
+        // then
+        assertEquals(1, result.size());
+        verify(recommendationCache, never()).putResult(authUser.getUserId(), list);
+    }
+
 
     @Test
     @DisplayName("실패 - 추천 후보가 없으면 빈 추천 결과를 반환")
@@ -121,27 +172,40 @@ class RecommendationServiceTest {
         // given
         AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER, 1L);
 
-        given(songLikeRepository.findSongsLikedByUser(authUser.getUserId())).willReturn(List.of(1L));
+        // 추천 후보가 없는 상황 (인덱스에 Seed 곡만 존재)
+        SongFeatureDto seedFeature = new SongFeatureDto(1L, List.of("Pop"), "high", null, null);
+        given(songFeatureIndex.getSnapshot()).willReturn(createSnapshot(seedFeature));
+        given(songFeatureIndex.getFeatureDictionary()).willReturn(featureDictionary);
+        UserProfile profile = new UserProfile(featureVectorizer.vectorizeSongMap(seedFeature), Set.of(1L));
+        given(userProfileService.getOrBuild(authUser.getUserId())).willReturn(profile);
+        given(recommendColdStartService.getTop50()).willReturn(Collections.emptyList());
+
+        // when
+        List<SongRecommendationResponseDto> result = recommendationService.getRecommendedSongList(authUser);
 
-        given(playlistSongRepository.findSongsPlaylistByUser(authUser.getUserId())).willReturn(Collections.emptyList());
+        // then
+        assertTrue(result.isEmpty());
+        verify(songRepository, never()).findRecommendedSongList(anyList());
+    }
 
-        // 장르 ID
-        List<Long> genreIdList = List.of(10L);
+    @Test
+    @DisplayName("추천 조회 성공 - 캐시된 추천 순위가 있으면 추천 계산 없이 상세 조회만 수행")
+    void success_getRecommendedSongList_rankedCacheHit() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER, 1L);
 
-        // Seed Genre 조회 mock
-        given(songRepository.findSeedGenreList(List.of(1L))).willReturn(genreIdList);
-        SongFeatureDto seedFeature = new SongFeatureDto(1L, List.of("Pop"), "high", null, null);
-        given(songRepository.findFeatureBySongIdMap(List.of(1L))).willReturn(Map.of(1L, seedFeature));
-        given(featureVectorizer.vectorizeUserMap(List.of(seedFeature))).willReturn(Map.of("g:pop", 1.0));
+        given(recommendationCache.findRankedSongIdList(authUser.getUserId())).willReturn(Optional.of(List.of(2L, 3L)));
 
-        // 추천 후보가 없는 상황
-        given(songRepository.findRecommendFeatureMap(List.of(1L), genreIdList)).willReturn(Collections.emptyMap());
+        List<SongRecommendationResponseDto> list = List.of(createDummyDto(2L), createDummyDto(3L));
+        given(songRepository.findRecommendedSongList(List.of(2L, 3L))).willReturn(list);
 
         // when
         List<SongRecommendationResponseDto> result = recommendationService.getRecommendedSongList(authUser);
 
         // then
-        assertTrue(result.isEmpty());
-        verify(songRepository).findRecommendFeatureMap(List.of(1L), genreIdList);
+        assertEquals(2, result.size());
+        verify(userProfileService, never()).getOrBuild(authUser.getUserId());
+        verify(songFeatureIndex, never()).getSnapshot();
+        verify(recommendationCache).putResult(authUser.getUserId(), list);
     }
-}
\ No newline at end of file
+}
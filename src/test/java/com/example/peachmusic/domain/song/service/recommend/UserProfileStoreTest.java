@@ -0,0 +1,192 @@
+package com.example.peachmusic.domain.song.service.recommend;
+
+import com.example.peachmusic.domain.song.recommend.UserProfile;
+import com.example.peachmusic.domain.song.recommend.UserProfileStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UserProfileStore의 Lua 스크립트(델타 반영, 버전 조건 교체)를 실제 Redis로 검증
+ */
+class UserProfileStoreTest {
+
+    private static final Long USER_ID = 1L;
+    // UserProfileStore.RESCALE_SPAN
+    private static final int RESCALE_SPAN = 2000;
+    private static final double GROWTH = UserProfileStore.GROWTH;
+
+    private static final GenericContainer<?> redis;
+    private static final LettuceConnectionFactory connectionFactory;
+    private static final StringRedisTemplate redisTemplate;
+
+    static {
+        redis = new GenericContainer<>("redis:7.2").withExposedPorts(6379);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    private final UserProfileStore userProfileStore = new UserProfileStore(redisTemplate);
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        // 빈 프로필 생성 (델타는 프로필이 있을 때만 반영)
+        assertTrue(userProfileStore.replace(USER_ID, 0L, Map.of(), Map.of(), 0L));
+    }
+
+    @Test
+    @DisplayName("성공 - Seed 추가는 순번 가중치로 벡터에 더하고, 같은 음원의 중복 추가는 참조 수만 증가")
+    void applyAdd_addAndDuplicateReference() {
+        // when
+        assertTrue(userProfileStore.applyAdd(USER_ID, 10L, Map.of("g:pop", 0.5)));
+        assertTrue(userProfileStore.applyAdd(USER_ID, 10L, Map.of("g:pop", 0.5)));
+
+        // then 순번 1, 기준 순번 0 -> 가중치 0.5 * GROWTH^1, 두 번째 추가는 벡터 변경 없음
+        assertEquals(0.5 * GROWTH, findProfile().vectorMap().get("g:pop"), 1e-12);
+        assertEquals(new UserProfileStore.SeedState(1L, 2, true), findSeedStateMap().get(10L));
+    }
+
+    @Test
+    @DisplayName("성공 - 마지막 참조가 제거될 때만 Seed와 벡터 값을 제거")
+    void applyRemove_lastReference() {
+        // given
+        userProfileStore.applyAdd(USER_ID, 10L, Map.of("g:pop", 0.5));
+        userProfileStore.applyAdd(USER_ID, 10L, Map.of("g:pop", 0.5));
+        userProfileStore.applyAdd(USER_ID, 20L, Map.of("g:rock", 1.0));
+
+        // when 참조 수 2 -> 1
+        userProfileStore.applyRemove(USER_ID, 10L, Map.of("g:pop", 0.5));
+
+        // then
+        assertEquals(new UserProfileStore.SeedState(1L, 1, true), findSeedStateMap().get(10L));
+        assertEquals(0.5 * GROWTH, findProfile().vectorMap().get("g:pop"), 1e-12);
+
+        // when 참조 수 1 -> 0
+        userProfileStore.applyRemove(USER_ID, 10L, Map.of("g:pop", 0.5));
+
+        // then 추가할 때 더한 값을 그대로 빼고 0이 된 feature는 삭제
+        UserProfile profile = findProfile();
+        assertEquals(Set.of(20L), profile.seedSongIdSet());
+        assertEquals(Set.of("g:rock"), profile.vectorMap().keySet());
+        assertEquals(GROWTH * GROWTH, profile.vectorMap().get("g:rock"), 1e-12);
+    }
+
+    @Test
+    @DisplayName("성공 - 벡터 없이 추가된 Seed는 제거할 때도 벡터에서 빼지 않음")
+    void applyRemove_notAppliedSeed() {
+        // given 추천 인덱스에 없던 음원
+        userProfileStore.applyAdd(USER_ID, 10L, Map.of());
+        userProfileStore.applyAdd(USER_ID, 20L, Map.of("g:rock", 1.0));
+        assertEquals(new UserProfileStore.SeedState(1L, 1, false), findSeedStateMap().get(10L));
+
+        // when 제거 시점에는 인덱스에 들어와 벡터가 있음
+        userProfileStore.applyRemove(USER_ID, 10L, Map.of("g:rock", 1.0));
+
+        // then
+        UserProfile profile = findProfile();
+        assertEquals(Set.of(20L), profile.seedSongIdSet());
+        assertEquals(GROWTH * GROWTH, profile.vectorMap().get("g:rock"), 1e-12);
+    }
+
+    @Test
+    @DisplayName("성공 - 순번이 RESCALE_SPAN을 넘으면 전체 가중치를 축소하고, 이후 제거도 추가한 값과 정확히 상쇄")
+    void applyAdd_rescale() {
+        // when 순번 RESCALE_SPAN + 1에서 축소 (기준 순번 0 -> RESCALE_SPAN + 1)
+        int seedCount = RESCALE_SPAN + 1;
+        for (long songId = 1; songId <= seedCount; songId++) {
+            userProfileStore.applyAdd(USER_ID, songId, Map.of("t:" + songId, 1.0));
+        }
+
+        // then 모든 가중치가 새 기준 순번 기준 GROWTH^(seq - base)
+        assertEquals(String.valueOf(seedCount), redisTemplate.opsForHash().get("recommend:profile:" + USER_ID + ":meta", "base"));
+        Map<String, Double> vectorMap = findProfile().vectorMap();
+        for (long songId : List.of(1L, 1000L, 2000L, (long) seedCount)) {
+            double expected = Math.pow(GROWTH, songId - seedCount);
+            assertEquals(expected, vectorMap.get("t:" + songId), expected * 1e-9);
+        }
+
+        // when 축소 전에 추가된 Seed 제거
+        userProfileStore.applyRemove(USER_ID, 1000L, Map.of("t:1000", 1.0));
+
+        // then
+        UserProfile profile = findProfile();
+        assertFalse(profile.vectorMap().containsKey("t:1000"));
+        assertFalse(profile.seedSongIdSet().contains(1000L));
+        assertEquals(seedCount - 1, profile.seedSongIdSet().size());
+    }
+
+    @Test
+    @DisplayName("실패 - Seed 상태 조회 이후 델타가 반영되면 재계산 결과로 교체하지 않음")
+    void replace_rejectedAfterConcurrentDelta() {
+        // given 재계산 시작 시점의 상태
+        UserProfileStore.SeedSnapshot seedSnapshot = userProfileStore.findSeedSnapshotMap(List.of(USER_ID)).get(USER_ID);
+
+        // 재계산 중 좋아요 반영
+        userProfileStore.applyAdd(USER_ID, 10L, Map.of("g:pop", 1.0));
+
+        // when
+        boolean replaced = userProfileStore.replace(USER_ID, seedSnapshot.version(), Map.of("g:rock", 1.0),
+                Map.of(20L, new UserProfileStore.SeedState(1L, 1, true)), 1L);
+
+        // then 델타가 반영된 프로필 유지
+        assertFalse(replaced);
+        assertEquals(Set.of(10L), findProfile().seedSongIdSet());
+
+        // when 새로 읽은 버전으로는 교체
+        UserProfileStore.SeedSnapshot latest = userProfileStore.findSeedSnapshotMap(List.of(USER_ID)).get(USER_ID);
+        assertTrue(userProfileStore.replace(USER_ID, latest.version(), Map.of("g:rock", 1.0),
+                Map.of(20L, new UserProfileStore.SeedState(1L, 1, true)), 1L));
+
+        // then
+        UserProfile profile = findProfile();
+        assertEquals(Set.of(20L), profile.seedSongIdSet());
+        assertEquals(Map.of("g:rock", 1.0), profile.vectorMap());
+        // 교체도 버전을 올리므로 같은 버전으로 한 번 더 교체할 수 없음
+        assertFalse(userProfileStore.replace(USER_ID, latest.version(), Map.of(), Map.of(), 0L));
+    }
+
+    @Test
+    @DisplayName("실패 - 프로필이 없으면 델타를 반영하지 않음")
+    void applyAdd_profileNotFound() {
+        // given
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        // when
+        boolean applied = userProfileStore.applyAdd(USER_ID, 10L, Map.of("g:pop", 1.0));
+
+        // then
+        assertFalse(applied);
+        assertNull(userProfileStore.find(USER_ID));
+    }
+
+    private UserProfile findProfile() {
+        return userProfileStore.find(USER_ID);
+    }
+
+    private Map<Long, UserProfileStore.SeedState> findSeedStateMap() {
+        return userProfileStore.findSeedSnapshotMap(List.of(USER_ID)).get(USER_ID).seedStateMap();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.peachmusic.domain.worker.service;
+
+import com.example.peachmusic.common.enums.WorkerJobType;
+import com.example.peachmusic.domain.worker.jdbc.WorkerOutboxJdbcRepository;
+import com.example.peachmusic.domain.worker.jdbc.WorkerOutboxRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WorkerOutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int CONCURRENCY = 3;
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Mock
+    private WorkerOutboxJdbcRepository workerOutboxJdbcRepository;
+
+    @Mock
+    private WorkerService workerService;
+
+    private WorkerOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new WorkerOutboxDispatcher(workerOutboxJdbcRepository, workerService, BATCH_SIZE, CONCURRENCY, MAX_ATTEMPTS, 60);
+    }
+
+    @Test
+    void 작업_종류별로_batch_size씩_묶어_전송하고_성공한_요청은_삭제한다() {
+        givenClaimed(List.of(
+                new WorkerOutboxRow(1L, 101L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(2L, 102L, WorkerJobType.TRANSCODE, 0),
+                new WorkerOutboxRow(3L, 103L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(4L, 104L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(5L, 105L, WorkerJobType.TRANSCODE, 0)));
+        given(workerService.send(any(), any())).willReturn(Mono.empty());
+
+        boolean hasMore = dispatcher.dispatchOnce();
+
+        // 5건 < batch-size * concurrency -> 남은 요청 없음
+        assertThat(hasMore).isFalse();
+        verify(workerService).send(WorkerJobType.DOWNLOAD, List.of(101L, 103L));
+        verify(workerService).send(WorkerJobType.DOWNLOAD, List.of(104L));
+        verify(workerService).send(WorkerJobType.TRANSCODE, List.of(102L, 105L));
+        verify(workerOutboxJdbcRepository).deleteSent(anyString(), eq(List.of(1L, 3L)));
+        verify(workerOutboxJdbcRepository).deleteSent(anyString(), eq(List.of(4L)));
+        verify(workerOutboxJdbcRepository).deleteSent(anyString(), eq(List.of(2L, 5L)));
+        verify(workerOutboxJdbcRepository, never()).reschedule(anyString(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void 전송에_실패한_묶음만_재시도를_예약하고_이번_주기는_멈춘다() {
+        givenClaimed(List.of(
+                new WorkerOutboxRow(1L, 101L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(2L, 102L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(3L, 103L, WorkerJobType.TRANSCODE, 2),
+                new WorkerOutboxRow(4L, 104L, WorkerJobType.TRANSCODE, 3),
+                new WorkerOutboxRow(5L, 105L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(6L, 106L, WorkerJobType.DOWNLOAD, 0)));
+        given(workerService.send(eq(WorkerJobType.DOWNLOAD), any())).willReturn(Mono.empty());
+        given(workerService.send(eq(WorkerJobType.TRANSCODE), any())).willReturn(Mono.error(new IllegalStateException("worker down")));
+
+        boolean hasMore = dispatcher.dispatchOnce();
+
+        // 가득 찼어도 실패가 있으면 다음 주기까지 대기
+        assertThat(hasMore).isFalse();
+        verify(workerOutboxJdbcRepository).deleteSent(anyString(), eq(List.of(1L, 2L)));
+        verify(workerOutboxJdbcRepository).deleteSent(anyString(), eq(List.of(5L, 6L)));
+        verify(workerOutboxJdbcRepository).reschedule(anyString(), eq(List.of(3L, 4L)), any(), eq(MAX_ATTEMPTS), anyString());
+    }
+
+    @Test
+    void 가져온_요청이_가득_차고_모두_성공하면_바로_이어서_전송한다() {
+        givenClaimed(List.of(
+                new WorkerOutboxRow(1L, 101L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(2L, 102L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(3L, 103L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(4L, 104L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(5L, 105L, WorkerJobType.DOWNLOAD, 0),
+                new WorkerOutboxRow(6L, 106L, WorkerJobType.DOWNLOAD, 0)));
+        given(workerService.send(any(), any())).willReturn(Mono.empty());
+
+        assertThat(dispatcher.dispatchOnce()).isTrue();
+    }
+
+    @Test
+    void 재시도_간격은_지수적으로_늘어나되_최대값을_넘지_않는다() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(WorkerOutboxDispatcher.backoff(0)).isBetween(Duration.ZERO, Duration.ofSeconds(2));
+            assertThat(WorkerOutboxDispatcher.backoff(3)).isBetween(Duration.ZERO, Duration.ofSeconds(16));
+            assertThat(WorkerOutboxDispatcher.backoff(30)).isBetween(Duration.ZERO, Duration.ofMinutes(10));
+        }
+    }
+
+    private void givenClaimed(List<WorkerOutboxRow> rows) {
+        given(workerOutboxJdbcRepository.claim(anyString(), any(), eq(BATCH_SIZE * CONCURRENCY))).willReturn(rows.size());
+        given(workerOutboxJdbcRepository.findClaimed(anyString())).willReturn(rows);
+    }
+}
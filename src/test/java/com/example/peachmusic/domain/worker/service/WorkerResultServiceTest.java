@@ -0,0 +1,117 @@
+package com.example.peachmusic.domain.worker.service;
+
+import com.example.peachmusic.common.enums.ErrorCode;
+import com.example.peachmusic.common.enums.ProgressingStatus;
+import com.example.peachmusic.common.exception.CustomException;
+import com.example.peachmusic.domain.search.index.SearchIndexDirtyEvent;
+import com.example.peachmusic.domain.worker.dto.request.WorkerResultRequestDto;
+import com.example.peachmusic.domain.worker.dto.request.WorkerResultRequestDto.ResultDto;
+import com.example.peachmusic.domain.worker.dto.response.WorkerResultResponseDto;
+import com.example.peachmusic.domain.worker.jdbc.WorkerResultJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class WorkerResultServiceTest {
+
+    private static final String TOKEN = "worker-token";
+
+    @Mock
+    private WorkerResultJdbcRepository workerResultJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private WorkerResultService workerResultService;
+
+    @BeforeEach
+    void setUp() {
+        workerResultService = new WorkerResultService(workerResultJdbcRepository, eventPublisher, TOKEN);
+    }
+
+    @Test
+    void 결과를_음원_ID_순으로_묶어_반영하고_무효화는_한_번만_한다() {
+        given(workerResultJdbcRepository.findAlbumIdMap(any())).willReturn(Map.of(1L, 10L, 2L, 10L, 3L, 20L));
+        given(workerResultJdbcRepository.updateStreaming(any())).willReturn(2);
+
+        WorkerResultResponseDto responseDto = workerResultService.applyResults(TOKEN, new WorkerResultRequestDto(List.of(
+                new ResultDto(3L, ProgressingStatus.TRANSCODING, null),
+                new ResultDto(2L, ProgressingStatus.SUCCESS, "songs/2.m3u8"),
+                new ResultDto(1L, ProgressingStatus.SUCCESS, "songs/1.m3u8"),
+                new ResultDto(3L, ProgressingStatus.TRANSCODE_FAILED, null),
+                // 존재하지 않는 음원
+                new ResultDto(99L, ProgressingStatus.SUCCESS, "songs/99.m3u8"))));
+
+        assertThat(responseDto.getAppliedCount()).isEqualTo(3);
+        assertThat(responseDto.getStreamingCount()).isEqualTo(2);
+        verify(workerResultJdbcRepository).updateStreaming(new TreeMap<>(Map.of(1L, "songs/1.m3u8", 2L, "songs/2.m3u8")));
+        verify(workerResultJdbcRepository).updateProgressingStatus(new TreeMap<>(Map.of(
+                1L, ProgressingStatus.SUCCESS, 2L, ProgressingStatus.SUCCESS, 3L, ProgressingStatus.TRANSCODE_FAILED)));
+        SearchIndexDirtyEvent dirtyEvent = captureDirtyEvent();
+        assertThat(dirtyEvent.songIdList()).containsExactly(1L, 2L, 3L);
+        // 재생 가능해진 음원의 앨범만, 중복 없이
+        assertThat(dirtyEvent.albumIdList()).containsExactly(10L);
+    }
+
+    @Test
+    void 같은_음원의_마지막_결과가_SUCCESS가_아니면_스트리밍_정보는_바꾸지_않는다() {
+        given(workerResultJdbcRepository.findAlbumIdMap(any())).willReturn(Map.of(1L, 10L));
+
+        workerResultService.applyResults(TOKEN, new WorkerResultRequestDto(List.of(
+                new ResultDto(1L, ProgressingStatus.SUCCESS, "songs/1.m3u8"),
+                new ResultDto(1L, ProgressingStatus.TRANSCODING, null))));
+
+        verify(workerResultJdbcRepository, never()).updateStreaming(any());
+        verify(workerResultJdbcRepository).updateProgressingStatus(new TreeMap<>(Map.of(1L, ProgressingStatus.TRANSCODING)));
+        assertThat(captureDirtyEvent().albumIdList()).isEmpty();
+    }
+
+    @Test
+    void 스트리밍_키_없는_SUCCESS_결과가_있으면_아무것도_반영하지_않는다() {
+        assertThatThrownBy(() -> workerResultService.applyResults(TOKEN, new WorkerResultRequestDto(List.of(
+                new ResultDto(1L, ProgressingStatus.DOWNLOADING, null),
+                new ResultDto(2L, ProgressingStatus.SUCCESS, " ")))))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.WORKER_RESULT_STREAMING_KEY_REQUIRED);
+
+        verifyNoInteractions(workerResultJdbcRepository, eventPublisher);
+    }
+
+    @Test
+    void 토큰이_다르면_거부한다() {
+        WorkerResultRequestDto requestDto = new WorkerResultRequestDto(List.of(new ResultDto(1L, ProgressingStatus.READY, null)));
+
+        assertThatThrownBy(() -> workerResultService.applyResults("wrong-token", requestDto))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.WORKER_CALLBACK_UNAUTHORIZED);
+        assertThatThrownBy(() -> workerResultService.applyResults(null, requestDto))
+                .isInstanceOf(CustomException.class);
+
+        verifyNoInteractions(workerResultJdbcRepository);
+    }
+
+    private SearchIndexDirtyEvent captureDirtyEvent() {
+        ArgumentCaptor<SearchIndexDirtyEvent> captor = ArgumentCaptor.forClass(SearchIndexDirtyEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.peachmusic.domain.worker.service;
 
+import com.example.peachmusic.common.enums.WorkerJobType;
 import com.example.peachmusic.domain.worker.dto.request.WorkerTryRequestDto;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,21 +9,22 @@ import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import okhttp3.mockwebserver.SocketPolicy;
 import org.junit.jupiter.api.*;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.springframework.boot.test.system.CapturedOutput;
-import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@ExtendWith(OutputCaptureExtension.class)
 class WorkerServiceTest {
 
+    private static final List<Long> SONG_ID_LIST = List.of(1L, 2L, 3L);
+
     private MockWebServer mockWebServer;
     private WorkerService workerService;
 
@@ -49,12 +51,10 @@ class WorkerServiceTest {
     }
 
     @Test
-    void tryDownloadSong_정상요청_POST_경로와바디검증() throws Exception {
+    void send_다운로드요청_POST_경로와바디검증() throws Exception {
         mockWebServer.enqueue(new MockResponse().setResponseCode(200));
 
-        WorkerTryRequestDto dto = buildDto();
-
-        workerService.tryDownloadSong(dto);
+        workerService.send(WorkerJobType.DOWNLOAD, SONG_ID_LIST).block();
 
         RecordedRequest req = mockWebServer.takeRequest(2, TimeUnit.SECONDS);
         assertThat(req).isNotNull();
@@ -62,18 +62,16 @@ class WorkerServiceTest {
         assertThat(req.getPath()).isEqualTo("/worker/songs/download-request");
         assertThat(req.getHeader(HttpHeaders.CONTENT_TYPE)).contains(MediaType.APPLICATION_JSON_VALUE);
 
-        JsonNode expected = om.readTree(om.writeValueAsString(dto));
+        JsonNode expected = om.readTree(om.writeValueAsString(buildDto()));
         JsonNode actual = om.readTree(req.getBody().readUtf8());
         assertThat(actual).isEqualTo(expected);
     }
 
     @Test
-    void tryTranscodeSong_정상요청_POST_경로와바디검증() throws Exception {
+    void send_형변환요청_POST_경로와바디검증() throws Exception {
         mockWebServer.enqueue(new MockResponse().setResponseCode(200));
 
-        WorkerTryRequestDto dto = buildDto();
-
-        workerService.tryTranscodeSong(dto);
+        workerService.send(WorkerJobType.TRANSCODE, SONG_ID_LIST).block();
 
         RecordedRequest req = mockWebServer.takeRequest(2, TimeUnit.SECONDS);
         assertThat(req).isNotNull();
@@ -81,45 +79,30 @@ class WorkerServiceTest {
         assertThat(req.getPath()).isEqualTo("/worker/songs/transcode-request");
         assertThat(req.getHeader(HttpHeaders.CONTENT_TYPE)).contains(MediaType.APPLICATION_JSON_VALUE);
 
-        JsonNode expected = om.readTree(om.writeValueAsString(dto));
+        JsonNode expected = om.readTree(om.writeValueAsString(buildDto()));
         JsonNode actual = om.readTree(req.getBody().readUtf8());
         assertThat(actual).isEqualTo(expected);
     }
 
     @Test
-    void worker가_끊기면_doOnError_로그가찍힌다(CapturedOutput output) throws Exception {
+    void worker가_끊기면_오류를_호출한쪽에_전달한다() {
         mockWebServer.enqueue(
                 new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START)
         );
 
-        WorkerTryRequestDto dto = buildDto();
-
-        workerService.tryDownloadSong(dto);
-
-        boolean logged = waitUntil(() ->
-                        output.getOut().contains("Worker 불러오기 실패")
-                                || output.getErr().contains("Worker 불러오기 실패"),
-                1500
-        );
-
-        assertThat(logged).isTrue();
+        assertThatThrownBy(() -> workerService.send(WorkerJobType.DOWNLOAD, SONG_ID_LIST).block())
+                .isInstanceOf(WebClientRequestException.class);
     }
 
-    private WorkerTryRequestDto buildDto() {
-         return new WorkerTryRequestDto(List.of(1L, 2L, 3L));
-    }
+    @Test
+    void worker가_5xx를_응답하면_오류를_호출한쪽에_전달한다() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
 
-    private boolean waitUntil(Check cond, long timeoutMs) throws InterruptedException {
-        long start = System.currentTimeMillis();
-        while (System.currentTimeMillis() - start < timeoutMs) {
-            if (cond.ok()) return true;
-            Thread.sleep(50);
-        }
-        return false;
+        assertThatThrownBy(() -> workerService.send(WorkerJobType.TRANSCODE, SONG_ID_LIST).block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
     }
 
-    @FunctionalInterface
-    interface Check {
-        boolean ok();
+    private WorkerTryRequestDto buildDto() {
+         return new WorkerTryRequestDto(SONG_ID_LIST);
     }
 }